@@ -0,0 +1,33 @@
+package com.nashtech.rookies.oam.config;
+
+import com.nashtech.rookies.oam.util.RequestDbTimer;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds JDBC execution time to {@link RequestDbTimer} so the access log can report DB time per request.
+ * Hibernate creates one instance per session, so the start timestamps need no synchronization.
+ */
+public class DbTimeSessionEventListener implements SessionEventListener {
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestDbTimer.add(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestDbTimer.add(System.nanoTime() - batchStart);
+    }
+}
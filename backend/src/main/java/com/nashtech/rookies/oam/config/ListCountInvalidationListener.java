@@ -0,0 +1,39 @@
+package com.nashtech.rookies.oam.config;
+
+import com.nashtech.rookies.oam.model.Asset;
+import com.nashtech.rookies.oam.model.AssetReturn;
+import com.nashtech.rookies.oam.model.Assignment;
+import com.nashtech.rookies.oam.model.User;
+import com.nashtech.rookies.oam.service.ListCountService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Invalidates cached list totals when an entity is written. Lists that filter on joined
+ * entities (e.g. assignments searched by asset name) are invalidated along with the owner.
+ */
+public class ListCountInvalidationListener {
+    private static final Map<Class<?>, List<Class<?>>> AFFECTED_LISTS = Map.of(
+            Asset.class, List.of(Asset.class, Assignment.class, AssetReturn.class),
+            User.class, List.of(User.class, Assignment.class, AssetReturn.class),
+            Assignment.class, List.of(Assignment.class, AssetReturn.class),
+            AssetReturn.class, List.of(AssetReturn.class)
+    );
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object target) {
+        List<Class<?>> affected = AFFECTED_LISTS.get(Hibernate.getClass(target));
+        if (affected == null) {
+            return;
+        }
+        SpringContext.findBean(ListCountService.class)
+                .ifPresent(service -> affected.forEach(service::invalidate));
+    }
+}
@@ -0,0 +1,20 @@
+package com.nashtech.rookies.oam.config;
+
+import com.nashtech.rookies.oam.service.ReportViewService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Marks the materialized asset report stale when an asset is written through the entity manager.
+ * Bulk updates bypass this listener and mark it themselves.
+ */
+public class ReportViewInvalidationListener {
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object target) {
+        SpringContext.findBean(ReportViewService.class).ifPresent(ReportViewService::markDirty);
+    }
+}
@@ -0,0 +1,28 @@
+package com.nashtech.rookies.oam.config;
+
+import com.nashtech.rookies.oam.util.AsyncLogChannel;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends every n-th SQL statement to the SQL log channel instead of printing each one synchronously.
+ */
+public class SampledSqlStatementInspector implements StatementInspector {
+    private final AsyncLogChannel<String> sqlLogChannel;
+    private final long sampleEvery;
+    private final AtomicLong statementCount = new AtomicLong();
+
+    public SampledSqlStatementInspector(AsyncLogChannel<String> sqlLogChannel, long sampleEvery) {
+        this.sqlLogChannel = sqlLogChannel;
+        this.sampleEvery = Math.max(1, sampleEvery);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (statementCount.getAndIncrement() % sampleEvery == 0) {
+            sqlLogChannel.offer(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,36 @@
+package com.nashtech.rookies.oam.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the HQL/criteria functions used by free-text search.
+ *
+ * <p>On PostgreSQL they render exactly the expressions indexed by the trigram GIN indexes
+ * (see {@code V16__add_trigram_search_indexes.sql}), so {@code LIKE '%x%'} can use them.
+ * Other dialects (H2 in tests) fall back to a plain {@code lower(...)}.</p>
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+    public static final String SEARCH_NORMALIZE = "search_normalize";
+    public static final String SEARCH_NORMALIZE_FULL_NAME = "search_normalize_full_name";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<String> stringType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.STRING);
+        boolean postgres = functionContributions.getDialect() instanceof PostgreSQLDialect;
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                SEARCH_NORMALIZE,
+                postgres ? "lower(f_unaccent(?1))" : "lower(?1)",
+                stringType);
+        functionContributions.getFunctionRegistry().registerPattern(
+                SEARCH_NORMALIZE_FULL_NAME,
+                postgres ? "lower(f_unaccent(?1 || ' ' || ?2))" : "lower(?1 || ' ' || ?2)",
+                stringType);
+    }
+}
@@ -4,8 +4,10 @@ import com.nashtech.rookies.oam.constant.AdminApiPaths;
 import com.nashtech.rookies.oam.exception.handler.AuthEntryPoint;
 import com.nashtech.rookies.oam.filter.FirstLoginFilter;
 import com.nashtech.rookies.oam.filter.JwtAuthFilter;
+import com.nashtech.rookies.oam.filter.RequestPathClassifier;
 import com.nashtech.rookies.oam.model.enums.RoleName;
 import com.nashtech.rookies.oam.service.impl.CustomUserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -24,9 +26,11 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -43,11 +47,12 @@ public class SecurityConfig {
 
     private final FirstLoginFilter firstLoginFilter;
 
-    private static final String AUTH_PATHS = "/api/v1/auth/**";
+    private final RequestPathClassifier requestPathClassifier;
+
     private static final String GET_ME_PATHS = "/api/v1/users/me";
     private static final String PUT_ASSIGNMENT_PATH = "api/v1/assignments/{id}/status";
+    private static final String PUT_ASSIGNMENTS_STATUS_PATH = "/api/v1/assignments/status";
     private static final String GET_ASSIGNMENT_PATH= "api/v1/assignments";
-    private static final String HEALTH_CHECK_PATH = "/actuator/health";
 
     private AuthEntryPoint unauthorizedHandler;
 
@@ -56,6 +61,8 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        RequestMatcher permitAllPaths = requestPathClassifier::isPermitAll;
+
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configure(http))
@@ -68,16 +75,16 @@ public class SecurityConfig {
                         .accessDeniedHandler(accessDeniedHandler)
                 )
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(SwaggerConfig.SWAGGER_API_URLS).permitAll()
-                        .requestMatchers(AUTH_PATHS).permitAll()
-                        .requestMatchers(HEALTH_CHECK_PATH).permitAll()
+                        .requestMatchers(permitAllPaths).permitAll()
                         .requestMatchers(HttpMethod.GET, GET_ME_PATHS).authenticated()
                         .requestMatchers(HttpMethod.GET, GET_ASSIGNMENT_PATH).authenticated()
                         .requestMatchers(HttpMethod.PUT, PUT_ASSIGNMENT_PATH).authenticated()
+                        .requestMatchers(HttpMethod.PUT, PUT_ASSIGNMENTS_STATUS_PATH).authenticated()
                         .requestMatchers(HttpMethod.POST, AdminApiPaths.ADMIN_POST_ENDPOINTS).hasRole(RoleName.ADMIN.getName())
                         .requestMatchers(HttpMethod.PATCH, AdminApiPaths.ADMIN_PATCH_ENDPOINTS).hasRole(RoleName.ADMIN.getName())
                         .requestMatchers(HttpMethod.GET, AdminApiPaths.ADMIN_GET_ENDPOINTS).hasRole(RoleName.ADMIN.getName())
                         .requestMatchers(HttpMethod.PUT, AdminApiPaths.ADMIN_PUT_ENDPOINTS).hasRole(RoleName.ADMIN.getName())
+                        .requestMatchers(HttpMethod.DELETE, AdminApiPaths.ADMIN_DELETE_ENDPOINTS).hasRole(RoleName.ADMIN.getName())
                         .anyRequest().authenticated()
                 )
                 .build();
@@ -98,9 +105,21 @@ public class SecurityConfig {
         };
     }
 
-    @Bean
-    BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    BoundedPasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hashing.target-ms:250}") long targetMs,
+            @Value("${security.password-hashing.min-strength:10}") int minStrength,
+            @Value("${security.password-hashing.max-strength:14}") int maxStrength,
+            MeterRegistry meterRegistry) {
+        int strength = targetMs > 0
+                ? BoundedPasswordEncoder.calibrateBCryptStrength(targetMs, minStrength, maxStrength)
+                : minStrength;
+        // By default hashing may use at most half the cores, so a login burst cannot starve other requests
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity, meterRegistry);
     }
 
     @Bean
@@ -109,10 +128,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
 
         return authProvider;
     }
@@ -4,6 +4,8 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
 public class SpringContext implements ApplicationContextAware {
 
@@ -13,6 +15,17 @@ public class SpringContext implements ApplicationContextAware {
         return context.getBean(requiredType);
     }
 
+    /**
+     * Like {@link #getBean} but empty when the context is not ready or has no such bean,
+     * e.g. in sliced tests that only load part of the application.
+     */
+    public static <T> Optional<T> findBean(Class<T> requiredType) {
+        if (context == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(context.getBeanProvider(requiredType).getIfAvailable());
+    }
+
     @Override
     public void setApplicationContext(ApplicationContext ctx) {
         SpringContext.context = ctx;
@@ -0,0 +1,39 @@
+package com.nashtech.rookies.oam.config;
+
+import com.nashtech.rookies.oam.util.AsyncLogChannel;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Routes Hibernate SQL logging through a sampled, asynchronous channel (logger {@code sql.sampled})
+ * and registers the listener that measures DB time for the access log.
+ */
+@Configuration
+public class SqlLoggingConfig {
+    private static final Logger SQL_LOG = LoggerFactory.getLogger("sql.sampled");
+
+    @Bean(destroyMethod = "close")
+    public AsyncLogChannel<String> sqlLogChannel(@Value("${app.sql-log.buffer-size:1024}") int bufferSize) {
+        return new AsyncLogChannel<>("sql", bufferSize, sql -> SQL_LOG.info("sql=\"{}\"", sql));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlLoggingHibernateCustomizer(
+            AsyncLogChannel<String> sqlLogChannel,
+            @Value("${app.sql-log.enabled:true}") boolean enabled,
+            @Value("${app.sql-log.sample-every:100}") long sampleEvery
+    ) {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, DbTimeSessionEventListener.class.getName());
+            if (enabled) {
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                        new SampledSqlStatementInspector(sqlLogChannel, sampleEvery));
+            }
+        };
+    }
+}
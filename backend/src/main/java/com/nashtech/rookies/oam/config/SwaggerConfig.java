@@ -10,13 +10,6 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class SwaggerConfig {
-    protected static final String[] SWAGGER_API_URLS = {
-            "/v3/api-docs/**",
-            "/v3/api-docs.yaml",
-            "/swagger-ui/**",
-            "/swagger-ui.html"
-    };
-
     @Bean
     public OpenAPI customOpenAPI() {
 
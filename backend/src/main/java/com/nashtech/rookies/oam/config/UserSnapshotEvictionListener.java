@@ -0,0 +1,20 @@
+package com.nashtech.rookies.oam.config;
+
+import com.nashtech.rookies.oam.model.User;
+import com.nashtech.rookies.oam.service.UserSnapshotService;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+public class UserSnapshotEvictionListener {
+    private UserSnapshotService getUserSnapshotService() {
+        return SpringContext.getBean(UserSnapshotService.class);
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object target) {
+        if (target instanceof User user) {
+            getUserSnapshotService().evict(user.getUsername());
+        }
+    }
+}
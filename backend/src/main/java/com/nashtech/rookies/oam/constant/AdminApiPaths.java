@@ -6,6 +6,8 @@ public final class AdminApiPaths {
             "/api/v1/categories",
             "/api/v1/assets",
             "/api/v1/assignments",
+            "/api/v1/assignments/bulk",
+            "/api/v1/asset-returns/claims",
     };
     public static final String[] ADMIN_PATCH_ENDPOINTS = {
             "/api/v1/users/**",
@@ -18,12 +20,18 @@ public final class AdminApiPaths {
             "/api/v1/assignments/**",
     };
 
+    public static final String[] ADMIN_DELETE_ENDPOINTS = {
+            "/api/v1/assets/**",
+            "/api/v1/assignments/**",
+    };
+
     public static final String[] ADMIN_GET_ENDPOINTS = {
             "/api/v1/users/{id}",
             "/api/v1/users",
             "/api/v1/categories",
             "/api/v1/assets/**",
             "/api/v1/assignments/*/edit-view",
+            "/api/v1/assignments/*/status-history",
             "/api/v1/reports",
             "/api/v1/reports/**",
     };
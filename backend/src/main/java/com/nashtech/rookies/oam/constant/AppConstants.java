@@ -7,4 +7,6 @@ public class AppConstants {
     public static final String DEFAULT_PAGE = "0";
     public static final String DEFAULT_PAGE_SIZE = "20";
     public static final String DEFAULT_DATE_FORMAT = "ddMMyyyy";
+    public static final String DEFAULT_RETURN_CLAIM_SIZE = "10";
+    public static final int MAX_RETURN_CLAIM_SIZE = 50;
 }
@@ -6,7 +6,6 @@ import lombok.Getter;
 public enum ErrorCode {
     ACCESS_DENIED("Access denied"),
     ROLE_NOT_FOUND("Role not found"),
-    STAFF_CODE_COUNT_NOT_FOUND("Staff code count not found"),
     USER_NOT_FOUND("User not found"),
     AUTHENTICATION_NOT_FOUND("Authentication not found"),
     LOCATION_NOT_FOUND("Location not found"),
@@ -15,12 +14,15 @@ public enum ErrorCode {
     RESOURCE_NOT_FOUND("Resource not found"),
     BAD_CREDENTIALS("Bad credentials"),
     SYSTEM_INTERNAL_ERROR("System internal error"),
+    SERVICE_BUSY("Service busy"),
+    TOO_MANY_REQUESTS("Too many requests"),
     AUTH_CREDENTIALS_NOT_FOUND("Authentication credentials not found"),
     AUTH_PRINCIPAL_TYPE_MISMATCH("Authenticated principal type mismatch"),
     UNAUTHORIZED("Unauthorized"),
     FORBIDDEN("Forbidden"),
     ACCOUNT_DISABLED("Account disabled"),
     TOKEN_EXPIRED("Token expired"),
+    TOKEN_REVOKED("Token revoked"),
     OLD_PASSWORD_NOT_MATCH ("PASSWORD_DOES_NOT_MATCH"),
     NEW_PASSWORD_MUST_BE_DIFFERENT("NEW_PASSWORD_MUST_BE_DIFFERENT"),
     OLD_PASSWORD_NULL("OLD_PASSWORD_NULL"),
@@ -40,6 +42,7 @@ public enum ErrorCode {
     ASSET_NOT_AVAILABLE("Asset not available for assignment"),
     ASSET_NOT_DELETABLE("Asset cannot be deleted because it is currently assigned or has been assigned in the past"),
     ASSIGNMENT_NOT_UPDATABLE("The assignment cannot be updated due to its current status or the user is not allowed to update it"),
+    ASSIGNMENT_STATUS_TRANSITION_INVALID("Assignment status can only be changed to ACCEPTED or DECLINED"),
     USER_AND_ASSET_LOCATION_MISMATCH("User and asset location mismatch"),
     ASSIGNMENT_NOT_DELETABLE("The assignment cannot be deleted due to its current status"),
     ASSIGNMENT_BEING_MODIFIED("Assignment is currently being modified by another user"),
@@ -0,0 +1,23 @@
+package com.nashtech.rookies.oam.constant;
+
+public final class SecurityPaths {
+    public static final String[] PUBLIC_RESOURCE_PATHS = {
+            "/v3/api-docs/**",
+            "/v3/api-docs.yaml",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/actuator/health",
+    };
+
+    public static final String[] AUTH_PATHS = {
+            "/api/v1/auth/**",
+    };
+
+    public static final String[] FIRST_LOGIN_EXEMPT_PATHS = {
+            "/api/v1/users/me",
+    };
+
+    private SecurityPaths() {
+        // Prevent instantiation
+    }
+}
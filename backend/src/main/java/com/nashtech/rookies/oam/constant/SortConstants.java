@@ -17,6 +17,7 @@ public class SortConstants {
     public static final String SORT_FIELD_USER_ID_PATH = "user.username";
     public static final String SORT_FIELD_CATEGORY_NAME = "category";
     public static final String SORT_FIELD_CATEGORY_NAME_PATH = "asset.category.name";
+    public static final String SORT_FIELD_ID = "id";
     public static final String DEFAULT_EXPORT_TYPE = "standard";
     public static final String DEFAULT_USER_REPORT_EXPORT_SORT_FIELD = "username";
     public static final String DEFAULT_ASSIGNMENT_REPORT_EXPORT_SORT_FIELD = "id";
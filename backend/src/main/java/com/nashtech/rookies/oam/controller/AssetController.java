@@ -3,6 +3,7 @@ package com.nashtech.rookies.oam.controller;
 import com.nashtech.rookies.oam.dto.api.ApiGenericResponse;
 import com.nashtech.rookies.oam.dto.api.ApiResult;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.pagination.CountMode;
 import com.nashtech.rookies.oam.dto.request.AssetRequest;
 import com.nashtech.rookies.oam.dto.request.UpdateAssetRequest;
 import com.nashtech.rookies.oam.dto.response.AssetPageResponse;
@@ -123,11 +124,14 @@ public class AssetController {
             @RequestParam(defaultValue = DEFAULT_ASSET_LIST_SORT_FIELD, name = "sort") String sortField,
             @RequestParam(defaultValue = ASC, name = "sortOrder") String sortOrder,
             @RequestParam(name = "categories", required = false) List<String> categories,
-            @RequestParam(name = "states", required = false) List<String> states
+            @RequestParam(name = "states", required = false) List<String> states,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", required = false) String count
     ) {
         return ResponseUtil.success(
                 "Asset list retrieved successfully",
-                assetService.getAssets(pageNo, pageSize, search, sortField, sortOrder, categories, states)
+                assetService.getAssets(pageNo, pageSize, search, sortField, sortOrder, categories, states, cursor,
+                        CountMode.from(count))
         );
     }
 
@@ -5,12 +5,17 @@ import com.nashtech.rookies.oam.dto.api.ApiResult;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
 import com.nashtech.rookies.oam.dto.request.AssetReturnPageRequest;
 import com.nashtech.rookies.oam.dto.request.AssetReturnRequest;
+import com.nashtech.rookies.oam.dto.request.BulkUpdateAssetReturnRequest;
+import com.nashtech.rookies.oam.dto.response.AssetReturnClaimResponse;
 import com.nashtech.rookies.oam.dto.response.AssetReturnPageResponse;
 import com.nashtech.rookies.oam.dto.response.AssetReturnResponse;
+import com.nashtech.rookies.oam.dto.response.BulkAssetReturnResponse;
 import com.nashtech.rookies.oam.service.AssetReturnService;
 import com.nashtech.rookies.oam.util.ResponseUtil;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -20,6 +25,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
 
+import static com.nashtech.rookies.oam.constant.AppConstants.DEFAULT_RETURN_CLAIM_SIZE;
+import static com.nashtech.rookies.oam.constant.AppConstants.MAX_RETURN_CLAIM_SIZE;
 import static com.nashtech.rookies.oam.constant.SortConstants.DEFAULT_ASSET_REPORT_LIST_SORT_FIELD;
 
 @RestController
@@ -40,6 +47,26 @@ public class AssetReturnController {
         ApiGenericResponse<AssetReturnResponse> body = ApiResult.success("Return request updated", response);
         return ResponseEntity.ok().body(body);
     }
+
+    @PatchMapping
+    public ResponseEntity<ApiGenericResponse<BulkAssetReturnResponse>> updateReturnRequests(
+            @RequestBody @Valid BulkUpdateAssetReturnRequest request
+    ) {
+        BulkAssetReturnResponse response = assetReturnService.updateAssetReturns(request.getItems());
+        return ResponseUtil.success(
+                response.getSucceeded() + " of " + request.getItems().size() + " return requests updated",
+                response);
+    }
+
+    @PostMapping("/claims")
+    public ResponseEntity<ApiGenericResponse<AssetReturnClaimResponse>> claimReturns(
+            @RequestParam(defaultValue = DEFAULT_RETURN_CLAIM_SIZE) @Min(1) @Max(MAX_RETURN_CLAIM_SIZE) int limit
+    ) {
+        return ResponseUtil.success(
+                "Return requests claimed successfully",
+                assetReturnService.claimAssetReturns(limit)
+        );
+    }
     @GetMapping()
     public ResponseEntity<ApiGenericResponse<APIPageableResponseDTO<AssetReturnPageResponse>>> getReturns(
             @Valid @ModelAttribute AssetReturnPageRequest request
@@ -6,16 +6,20 @@ import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
 import com.nashtech.rookies.oam.dto.request.AssignmentPageRequest;
 import com.nashtech.rookies.oam.dto.request.AssignmentRequest;
 import com.nashtech.rookies.oam.dto.request.AssignmentUpdateRequest;
+import com.nashtech.rookies.oam.dto.request.BulkAssignmentRequest;
+import com.nashtech.rookies.oam.dto.request.BulkUpdateAssignmentStatusRequest;
 import com.nashtech.rookies.oam.dto.request.UpdateAssignmentStatusRequest;
 import com.nashtech.rookies.oam.dto.response.*;
 import com.nashtech.rookies.oam.model.AssignmentStatus;
 import com.nashtech.rookies.oam.service.AssetReturnService;
 import com.nashtech.rookies.oam.service.AssignmentService;
+import com.nashtech.rookies.oam.service.AssignmentStatusHistoryService;
 import com.nashtech.rookies.oam.util.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -29,6 +33,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
+import static com.nashtech.rookies.oam.constant.AppConstants.DEFAULT_PAGE_SIZE;
 import static com.nashtech.rookies.oam.constant.SortConstants.DEFAULT_ASSIGNMENT_LIST_SORT_FIELD;
 
 @RestController
@@ -39,6 +44,7 @@ import static com.nashtech.rookies.oam.constant.SortConstants.DEFAULT_ASSIGNMENT
 public class AssignmentController {
     private final AssignmentService assignmentService;
     private final AssetReturnService assetReturnService;
+    private final AssignmentStatusHistoryService assignmentStatusHistoryService;
 
     @PostMapping
     @Operation(summary = "Create a new assignment", responses = {
@@ -64,6 +70,23 @@ public class AssignmentController {
         return ResponseEntity.created(location).body(body);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create several assignments at once", responses = {
+            @ApiResponse(responseCode = "200", description = "Request processed; see per-item results"),
+            @ApiResponse(responseCode = "400", description = "Invalid request body or Validation failed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<ApiGenericResponse<BulkAssignmentResponse>> createAssignments(
+            @RequestBody @Valid BulkAssignmentRequest request) {
+        BulkAssignmentResponse response = assignmentService.createAssignments(request.getItems());
+
+        return ResponseUtil.success(
+                response.getSucceeded() + " of " + request.getItems().size() + " assignments created",
+                response);
+    }
+
     @GetMapping("/{id}/edit-view")
     @Operation(summary = "Get assignment edit view", responses = {
             @ApiResponse(responseCode = "200", description = "Assignment retrieved successfully"),
@@ -117,6 +140,22 @@ public class AssignmentController {
         return ResponseEntity.ok(body);
     }
 
+    @PutMapping("/status")
+    @Operation(summary = "Accept or decline several of the current user's assignments at once", responses = {
+            @ApiResponse(responseCode = "200", description = "Request processed; see per-item results"),
+            @ApiResponse(responseCode = "400", description = "Invalid request body or Validation failed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<ApiGenericResponse<BulkAssignmentResponse>> updateAssignmentStatuses(
+            @RequestBody @Valid BulkUpdateAssignmentStatusRequest request) {
+        BulkAssignmentResponse response = assignmentService.updateAssignmentStatuses(request.getItems());
+
+        return ResponseUtil.success(
+                response.getSucceeded() + " of " + request.getItems().size() + " assignment statuses updated",
+                response);
+    }
+
     @GetMapping
     public ResponseEntity<ApiGenericResponse<APIPageableResponseDTO<AssignmentPageResponse>>> getAssignments(
             @Valid @ModelAttribute AssignmentPageRequest request) {
@@ -150,6 +189,23 @@ public class AssignmentController {
         return ResponseEntity.ok(ApiResult.success("Assignment deleted successfully", null));
     }
 
+    @GetMapping("/{id}/status-history")
+    @Operation(summary = "Get the status history of an assignment, newest first", responses = {
+            @ApiResponse(responseCode = "200", description = "Assignment status history retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<ApiGenericResponse<APIPageableResponseDTO<AssignmentStatusHistoryResponse>>> getStatusHistory(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) @Min(1) int size) {
+        return ResponseUtil.success(
+                "Assignment status history retrieved successfully",
+                assignmentStatusHistoryService.getStatusHistory(id, cursor, size));
+    }
+
     @PostMapping("/{assignmentId}/asset-returns")
     @Operation(summary = "Create a return request for an assignment")
     public ResponseEntity<ApiGenericResponse<AssetReturnResponse>> createReturnRequest(
@@ -176,11 +232,9 @@ public class AssignmentController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<ApiGenericResponse<List<AssignmentStatus>>> getAllAssignmentStatuses() {
-        List<AssignmentStatus> assignmentStatuses = assignmentService.getAllAssignmentStatus();
-        ApiGenericResponse<List<AssignmentStatus>> body = ApiResult.success(
+        return ResponseUtil.referenceData(
                 "Assignment statuses retrieved successfully",
-                assignmentStatuses);
-        return ResponseEntity.ok(body);
+                assignmentService.getAllAssignmentStatus());
     }
 
 }
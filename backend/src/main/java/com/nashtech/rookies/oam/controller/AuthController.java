@@ -7,9 +7,11 @@ import com.nashtech.rookies.oam.dto.request.LoginRequest;
 import com.nashtech.rookies.oam.dto.response.LoginResponse;
 import com.nashtech.rookies.oam.dto.response.RefreshAccessTokenResponse;
 import com.nashtech.rookies.oam.model.CustomUserDetails;
+import com.nashtech.rookies.oam.model.RefreshedTokens;
 import com.nashtech.rookies.oam.service.AuthService;
 import com.nashtech.rookies.oam.service.ChangePasswordService;
 import com.nashtech.rookies.oam.service.JwtService;
+import com.nashtech.rookies.oam.service.LoginThrottleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -28,10 +30,14 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
     private final AuthService authService;
     private final JwtService jwtService;
+    private final LoginThrottleService loginThrottleService;
 
 
     @PostMapping("/login")
-    public ResponseEntity<ApiGenericResponse<LoginResponse>> login(@RequestBody @Valid LoginRequest loginRequest) {
+    public ResponseEntity<ApiGenericResponse<LoginResponse>> login(@RequestBody @Valid LoginRequest loginRequest,
+                                                                   HttpServletRequest request) {
+        // Resolved from X-Forwarded-For by Tomcat's RemoteIpValve when the peer is a trusted proxy
+        loginThrottleService.acquire(loginRequest.getUsername(), request.getRemoteAddr());
         LoginResponse response = authService.login(loginRequest);
 
         ResponseCookie refreshTokenCookie = jwtService.generateRefreshTokenCookie(
@@ -43,12 +49,14 @@ public class AuthController {
         );
 
         return ResponseEntity.ok()
-                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString(),
+                        jwtService.revokeLegacyRefreshTokenCookie().toString())
                 .body(body);
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ApiGenericResponse<Void>> logout() {
+    public ResponseEntity<ApiGenericResponse<Void>> logout(HttpServletRequest request) {
+        jwtService.revokeRefreshTokenFromCookie(request);
         ResponseCookie refreshTokenCookie = jwtService.revokeRefreshTokenCookie();
 
         ApiGenericResponse<Void> body = ApiResult.success(
@@ -56,13 +64,15 @@ public class AuthController {
         );
 
         return ResponseEntity.ok()
-                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString(),
+                        jwtService.revokeLegacyRefreshTokenCookie().toString())
                 .body(body);
     }
 
     @PostMapping("/token/refresh")
     public ResponseEntity<ApiGenericResponse<RefreshAccessTokenResponse>> refreshToken(HttpServletRequest request) {
-        RefreshAccessTokenResponse response = new RefreshAccessTokenResponse(jwtService.generateAccessTokenFromCookie(request));
+        RefreshedTokens tokens = jwtService.refreshTokensFromCookie(request);
+        RefreshAccessTokenResponse response = new RefreshAccessTokenResponse(tokens.accessToken());
 
         ApiGenericResponse<RefreshAccessTokenResponse> body = ApiResult.success(
                 "Refresh access token successfully",
@@ -70,6 +80,8 @@ public class AuthController {
         );
 
         return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, tokens.refreshTokenCookie().toString(),
+                        jwtService.revokeLegacyRefreshTokenCookie().toString())
                 .body(body);
     }
 
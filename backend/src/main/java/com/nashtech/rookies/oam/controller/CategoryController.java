@@ -5,6 +5,7 @@ import com.nashtech.rookies.oam.dto.api.ApiResult;
 import com.nashtech.rookies.oam.dto.request.CategoryRequest;
 import com.nashtech.rookies.oam.dto.response.CategoryResponse;
 import com.nashtech.rookies.oam.service.CategoryService;
+import com.nashtech.rookies.oam.util.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -30,12 +31,10 @@ public class CategoryController {
     @GetMapping
     @Operation(summary = "Get all categories")
     public ResponseEntity<ApiGenericResponse<List<CategoryResponse>>> getAllCategories() {
-        List<CategoryResponse> categories = categoryService.getAllCategories();
-        ApiGenericResponse<List<CategoryResponse>> body = ApiResult.success(
+        return ResponseUtil.referenceData(
                 "Retrieved category list successfully",
-                categories
+                categoryService.getAllCategories()
         );
-        return ResponseEntity.ok(body);
     }
 
     @PostMapping
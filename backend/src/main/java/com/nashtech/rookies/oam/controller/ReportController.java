@@ -1,9 +1,8 @@
 package com.nashtech.rookies.oam.controller;
 
 import com.nashtech.rookies.oam.dto.api.ApiGenericResponse;
-import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.response.AssetReportPageResponse;
 import com.nashtech.rookies.oam.dto.response.ExportResponse;
-import com.nashtech.rookies.oam.model.Report;
 import com.nashtech.rookies.oam.service.ReportService;
 import com.nashtech.rookies.oam.util.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -44,14 +43,15 @@ public class ReportController {
     ReportService reportService;
 
     @GetMapping("/assets")
-    @Operation(summary = "Get report data with pagination", description = "Retrieves paginated report data showing asset statistics by category", responses = {
+    @Operation(summary = "Get report data with pagination", description = "Retrieves paginated report data showing asset statistics by category. "
+            + "Counts come from a periodically refreshed snapshot; asOf is when it was taken", responses = {
             @ApiResponse(responseCode = "200", description = "Report data retrieved successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<ApiGenericResponse<APIPageableResponseDTO<Report>>> getReport(
+    public ResponseEntity<ApiGenericResponse<AssetReportPageResponse>> getReport(
             @RequestParam(defaultValue = DEFAULT_PAGE, name = "page") Integer pageNo,
             @RequestParam(defaultValue = DEFAULT_PAGE_SIZE, name = "size") Integer pageSize,
             @RequestParam(defaultValue = DEFAULT_REPORT_LIST_SORT_FIELD, name = "sort") String sortField,
@@ -3,6 +3,7 @@ package com.nashtech.rookies.oam.controller;
 import com.nashtech.rookies.oam.dto.api.ApiGenericResponse;
 import com.nashtech.rookies.oam.dto.api.ApiResult;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.pagination.CountMode;
 import com.nashtech.rookies.oam.dto.request.EditUserRequest;
 import com.nashtech.rookies.oam.dto.request.UserRequestDto;
 import com.nashtech.rookies.oam.dto.response.CurrentUserResponseDto;
@@ -92,11 +93,14 @@ public class UserController {
             @RequestParam(defaultValue = DEFAULT_USER_LIST_SORT_FIELD, name = "sort") String sortField,
             @RequestParam(defaultValue = ASC, name = "sortOrder") String sortOrder,
             @RequestParam(name = "roles", required = false) List<String> roles,
-            @RequestParam(name = "status", required = false) List<String> status) {
+            @RequestParam(name = "status", required = false) List<String> status,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", required = false) String count) {
 
         return success(
                 "User list retrieved successfully",
-                userService.getUsers(pageNo, pageSize, search, sortField, sortOrder, roles, status)
+                userService.getUsers(pageNo, pageSize, search, sortField, sortOrder, roles, status, cursor,
+                        CountMode.from(count))
         );
     }
 
@@ -3,6 +3,7 @@ package com.nashtech.rookies.oam.dto.pagination;
 import lombok.Data;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.io.Serializable;
 
@@ -18,6 +19,8 @@ public class APIPageableDTO implements Serializable {
     boolean first;
     boolean last;
     boolean empty;
+    boolean hasNext;
+    CountMode countMode;
 
     public <T> APIPageableDTO(Page<T> page) {
         Pageable pageable = page.getPageable();
@@ -30,7 +33,37 @@ public class APIPageableDTO implements Serializable {
         setFirst(page.isFirst());
         setLast(page.isLast());
         setEmpty(page.isEmpty());
+        setHasNext(page.hasNext());
+        setCountMode(CountMode.EXACT);
     }
 
+    /**
+     * Pageable metadata for a slice: no totals, only whether a next page exists.
+     */
+    public <T> APIPageableDTO(Slice<T> slice) {
+        Pageable pageable = slice.getPageable();
+        setPageNumber((pageable.isPaged()) ? pageable.getPageNumber() : 0);
+        setPageSize((pageable.isPaged()) ? pageable.getPageSize() : slice.getNumberOfElements());
+        setNumberOfElements(slice.getNumberOfElements());
+        setSorted(slice.getSort().isSorted());
+        setFirst(slice.isFirst());
+        setLast(slice.isLast());
+        setEmpty(slice.isEmpty());
+        setHasNext(slice.hasNext());
+        setCountMode(CountMode.NONE);
+    }
 
+    /**
+     * Pageable metadata for a cursor page. Totals are not computed in cursor mode.
+     */
+    public APIPageableDTO(int pageSize, int numberOfElements, boolean sorted, boolean first, boolean last) {
+        setPageSize(pageSize);
+        setNumberOfElements(numberOfElements);
+        setSorted(sorted);
+        setFirst(first);
+        setLast(last);
+        setEmpty(numberOfElements == 0);
+        setHasNext(!last);
+        setCountMode(CountMode.NONE);
+    }
 }
@@ -3,6 +3,7 @@ package com.nashtech.rookies.oam.dto.pagination;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.io.Serializable;
 import java.util.List;
@@ -12,10 +13,23 @@ import java.util.List;
 public class APIPageableResponseDTO<T> implements Serializable {
     public List<T> content;
     public APIPageableDTO pageable;
-
+    public String nextCursor;
+    public String prevCursor;
 
     public APIPageableResponseDTO(Page<T> page) {
         setContent(page.getContent());
         setPageable(new APIPageableDTO(page));
     }
+
+    public APIPageableResponseDTO(Slice<T> slice) {
+        setContent(slice.getContent());
+        setPageable(new APIPageableDTO(slice));
+    }
+
+    public APIPageableResponseDTO(List<T> content, APIPageableDTO pageable, String nextCursor, String prevCursor) {
+        setContent(content);
+        setPageable(pageable);
+        setNextCursor(nextCursor);
+        setPrevCursor(prevCursor);
+    }
 }
\ No newline at end of file
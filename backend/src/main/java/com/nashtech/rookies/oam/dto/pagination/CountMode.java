@@ -0,0 +1,28 @@
+package com.nashtech.rookies.oam.dto.pagination;
+
+import java.util.Locale;
+
+/**
+ * How a list endpoint reports its total.
+ * <ul>
+ *     <li>{@code EXACT}: runs a count query with every page (the default).</li>
+ *     <li>{@code CACHED}: reuses a recent count for the same filters; may lag behind writes on other instances.</li>
+ *     <li>{@code NONE}: no count; fetches one extra row to report whether a next page exists.</li>
+ * </ul>
+ */
+public enum CountMode {
+    EXACT,
+    CACHED,
+    NONE;
+
+    public static CountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid count mode: " + value);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.nashtech.rookies.oam.dto.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Position of a row in a keyset-paginated list: the sort key values of that row (ending with its id),
+ * the direction to seek in, and a signature of the sort so a cursor cannot be replayed under another sort.
+ *
+ * <p>Encoded as URL-safe Base64 so clients treat it as opaque.</p>
+ */
+public record KeysetCursor(List<String> values, boolean backward, int sortSignature) {
+    private static final String SEPARATOR = "\n";
+    private static final String NULL_MARKER = "-";
+    private static final String VALUE_MARKER = "+";
+    private static final String FORWARD = "f";
+    private static final String BACKWARD = "b";
+
+    public String encode() {
+        StringBuilder builder = new StringBuilder()
+                .append(backward ? BACKWARD : FORWARD)
+                .append(sortSignature);
+        for (String value : values) {
+            builder.append(SEPARATOR).append(value == null ? NULL_MARKER : VALUE_MARKER + value);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        String[] parts = raw.split(SEPARATOR, -1);
+        String header = parts[0];
+        if (header.length() < 2 || !(header.startsWith(FORWARD) || header.startsWith(BACKWARD))) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        int signature;
+        try {
+            signature = Integer.parseInt(header.substring(1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        List<String> values = new ArrayList<>(parts.length - 1);
+        for (int i = 1; i < parts.length; i++) {
+            String part = parts[i];
+            if (part.equals(NULL_MARKER)) {
+                values.add(null);
+            } else if (part.startsWith(VALUE_MARKER)) {
+                values.add(part.substring(VALUE_MARKER.length()));
+            } else {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        return new KeysetCursor(values, header.startsWith(BACKWARD), signature);
+    }
+}
@@ -25,4 +25,18 @@ public class PageableRequest {
 
     @Schema(description = "Search keyword", example = "", defaultValue = "")
     private String search = "";
+
+    @Schema(description = "Opaque cursor from a previous page. Send it empty to start cursor pagination; omit it for page mode")
+    private String cursor;
+
+    @Schema(description = "Total count mode: exact, cached or none", example = "exact", defaultValue = "exact")
+    private String count;
+
+    public CountMode getCountMode() {
+        return CountMode.from(count);
+    }
+
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
 }
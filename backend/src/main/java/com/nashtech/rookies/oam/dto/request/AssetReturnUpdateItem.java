@@ -0,0 +1,17 @@
+package com.nashtech.rookies.oam.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+public class AssetReturnUpdateItem extends AssetReturnRequest {
+    @NotNull(message = "id is required")
+    private UUID id;
+
+    /** Version the caller last saw; when set, the update is rejected if the return has changed since. */
+    private Long version;
+}
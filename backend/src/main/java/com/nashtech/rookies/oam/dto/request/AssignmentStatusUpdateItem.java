@@ -0,0 +1,14 @@
+package com.nashtech.rookies.oam.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+public class AssignmentStatusUpdateItem extends UpdateAssignmentStatusRequest {
+    @NotNull(message = "id is required")
+    private UUID id;
+}
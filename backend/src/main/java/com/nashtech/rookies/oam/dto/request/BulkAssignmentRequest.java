@@ -0,0 +1,19 @@
+package com.nashtech.rookies.oam.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkAssignmentRequest {
+    public static final int MAX_ITEMS = 200;
+
+    @NotEmpty(message = "items must not be empty")
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " assignments can be created at once")
+    private List<@Valid AssignmentRequest> items;
+}
@@ -0,0 +1,19 @@
+package com.nashtech.rookies.oam.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkUpdateAssignmentStatusRequest {
+    public static final int MAX_ITEMS = 200;
+
+    @NotEmpty(message = "items must not be empty")
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " assignment statuses can be updated at once")
+    private List<@Valid AssignmentStatusUpdateItem> items;
+}
@@ -0,0 +1,28 @@
+package com.nashtech.rookies.oam.dto.response;
+
+import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.model.Report;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+
+/**
+ * A page of the asset report together with the time its numbers were computed. The report is served
+ * from a materialized view, so writes made after {@code asOf} may not be counted yet.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class AssetReportPageResponse extends APIPageableResponseDTO<Report> {
+    private LocalDateTime asOf;
+
+    public AssetReportPageResponse(Page<Report> page, LocalDateTime asOf) {
+        super(page);
+        this.asOf = asOf;
+    }
+}
@@ -0,0 +1,16 @@
+package com.nashtech.rookies.oam.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AssetReturnClaimResponse {
+    private LocalDateTime claimedUntil;
+    private List<AssetReturnPageResponse> items;
+}
@@ -18,4 +18,5 @@ public class AssetReturnPageResponse {
     private String updatedBy;
     private LocalDate returnedDate;
     private ReturnState state;
+    private Long version;
 }
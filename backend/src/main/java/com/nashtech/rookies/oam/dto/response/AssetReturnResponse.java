@@ -16,4 +16,5 @@ public class AssetReturnResponse {
     private UUID assignmentId;
     private ReturnState state;
     private LocalDate returnedDate;
+    private Long version;
 }
@@ -0,0 +1,18 @@
+package com.nashtech.rookies.oam.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AssignmentStatusHistoryResponse {
+    private UUID id;
+    private String status;
+    private LocalDateTime changedAt;
+    private String changedBy;
+}
@@ -0,0 +1,18 @@
+package com.nashtech.rookies.oam.dto.response;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkAssetReturnItemResult {
+    private int index;
+    private UUID returnId;
+    private boolean success;
+    private AssetReturnResponse assetReturn;
+    private String error;
+}
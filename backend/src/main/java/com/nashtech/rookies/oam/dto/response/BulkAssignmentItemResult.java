@@ -0,0 +1,20 @@
+package com.nashtech.rookies.oam.dto.response;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkAssignmentItemResult {
+    private int index;
+    private UUID assignmentId;
+    private UUID userId;
+    private UUID assetId;
+    private boolean success;
+    private AssignmentResponse assignment;
+    private String error;
+}
@@ -0,0 +1,16 @@
+package com.nashtech.rookies.oam.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkAssignmentResponse {
+    private int succeeded;
+    private int failed;
+    private List<BulkAssignmentItemResult> results;
+}
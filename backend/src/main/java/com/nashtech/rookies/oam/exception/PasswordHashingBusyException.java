@@ -0,0 +1,7 @@
+package com.nashtech.rookies.oam.exception;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.nashtech.rookies.oam.exception;
+
+public class TokenRevokedException extends RuntimeException {
+    public TokenRevokedException(String message) {
+        super(message);
+    }
+}
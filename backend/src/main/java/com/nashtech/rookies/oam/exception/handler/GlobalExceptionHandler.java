@@ -9,6 +9,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -109,6 +110,32 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
 
+    @ExceptionHandler(TokenRevokedException.class)
+    public ResponseEntity<ApiErrorResponse> handleTokenRevokedException(TokenRevokedException e) {
+        ApiErrorResponse response = ApiResult.error(ErrorCode.TOKEN_REVOKED, e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.UNAUTHORIZED)
+                .body(response);
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ApiErrorResponse> handlePasswordHashingBusyException(PasswordHashingBusyException e) {
+        ApiErrorResponse response = ApiResult.error(ErrorCode.SERVICE_BUSY, e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ApiErrorResponse> handleTooManyLoginAttemptsException(TooManyLoginAttemptsException e) {
+        ApiErrorResponse response = ApiResult.error(ErrorCode.TOO_MANY_REQUESTS, e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     @ExceptionHandler(CategoryNameAlreadyExistsException.class)
     public ResponseEntity<ApiErrorResponse> handleCategoryNameAlreadyExistsException(CategoryNameAlreadyExistsException e) {
         ApiErrorResponse response = ApiResult.error(ErrorCode.CATEGORY_NAME_ALREADY_EXISTS, e.getMessage());
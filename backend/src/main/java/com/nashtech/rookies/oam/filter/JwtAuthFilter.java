@@ -1,33 +1,44 @@
 package com.nashtech.rookies.oam.filter;
 
+import com.nashtech.rookies.oam.model.CustomUserDetails;
+import com.nashtech.rookies.oam.model.UserSnapshot;
+import com.nashtech.rookies.oam.model.VerifiedToken;
 import com.nashtech.rookies.oam.service.JwtService;
-import com.nashtech.rookies.oam.service.impl.CustomUserDetailsServiceImpl;
+import com.nashtech.rookies.oam.service.UserSnapshotService;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
-    private final CustomUserDetailsServiceImpl userService;
+    private final UserSnapshotService userSnapshotService;
+    private final RequestPathClassifier requestPathClassifier;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_TOKEN_PREFIX = "Bearer ";
-    private static final String CLAIM_ROLE = "role";
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !requestPathClassifier.classify(request).requiresTokenProcessing();
+    }
 
     @Override
     protected void doFilterInternal(
@@ -36,37 +47,46 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         String authHeader = request.getHeader(AUTHORIZATION_HEADER);
-        String jwt;
-        String username;
 
-        if (authHeader == null || !authHeader.startsWith(BEARER_TOKEN_PREFIX)) {
+        if (authHeader == null || !authHeader.startsWith(BEARER_TOKEN_PREFIX)
+                || SecurityContextHolder.getContext().getAuthentication() != null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(BEARER_TOKEN_PREFIX.length());
-        username = jwtService.extractUsername(jwt);
+        VerifiedToken token;
+        try {
+            token = jwtService.verifyAccessToken(authHeader.substring(BEARER_TOKEN_PREFIX.length()));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected access token: {}", e.getMessage());
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails user = userService.loadUserByUsername(username);
-            if (jwtService.isTokenExpired(jwt)) {
-                var claims = jwtService.extractAllClaims(jwt);
-                var roleList = (List<String>) claims.get(CLAIM_ROLE);
+        if (token.subject() != null) {
+            Optional<UserSnapshot> snapshot = userSnapshotService.findByUsername(token.subject());
+            if (snapshot.isEmpty()) {
+                log.debug("No user found for access token subject '{}'", token.subject());
+                filterChain.doFilter(request, response);
+                return;
+            }
 
-                List<SimpleGrantedAuthority> authorities = roleList.stream()
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                        .toList();
+            UserSnapshot userSnapshot = snapshot.get();
+            CustomUserDetails user = new CustomUserDetails(userSnapshot,
+                    () -> userSnapshotService.loadUser(userSnapshot));
 
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(user, null, authorities);
+            List<SimpleGrantedAuthority> authorities = userSnapshot.roles().stream()
+                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                    .toList();
 
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(user, null, authorities);
+
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            request.setAttribute(LoggingFilter.USER_ID_ATTRIBUTE, userSnapshot.id());
         }
 
         filterChain.doFilter(request, response);
-
-
     }
 }
@@ -1,26 +1,121 @@
 package com.nashtech.rookies.oam.filter;
 
+import com.nashtech.rookies.oam.model.AccessLogEvent;
+import com.nashtech.rookies.oam.util.AsyncLogChannel;
+import com.nashtech.rookies.oam.util.RequestDbTimer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Emits one structured access log event per request.
+ *
+ * <p>Events are handed to a background writer; the request thread never formats or writes log
+ * output. Once the buffer passes the high-water mark, only every n-th fast successful request is
+ * kept, while errors and slow requests are always offered. A full buffer drops the event.</p>
+ */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @Slf4j
 public class LoggingFilter extends OncePerRequestFilter {
+    public static final String USER_ID_ATTRIBUTE = LoggingFilter.class.getName() + ".USER_ID";
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    @Value("${app.access-log.enabled:true}")
+    private boolean ENABLED;
+
+    @Value("${app.access-log.buffer-size:8192}")
+    private int BUFFER_SIZE;
+
+    @Value("${app.access-log.high-water:0.75}")
+    private double HIGH_WATER;
+
+    @Value("${app.access-log.sample-every:10}")
+    private long SAMPLE_EVERY;
+
+    @Value("${app.access-log.slow-ms:500}")
+    private long SLOW_MS;
+
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private AsyncLogChannel<AccessLogEvent> channel;
+
+    @PostConstruct
+    public void init() {
+        channel = new AsyncLogChannel<>("access", BUFFER_SIZE, LoggingFilter::write);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channel.close();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !ENABLED;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        log.info("Incoming request: {} {}", request.getMethod(), request.getRequestURI());
-        filterChain.doFilter(request, response);
-        log.info("Outgoing response: status {}", response.getStatus());
+        long start = System.nanoTime();
+        RequestDbTimer.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            long dbTimeMs = TimeUnit.NANOSECONDS.toMillis(RequestDbTimer.elapsedNanos());
+            RequestDbTimer.clear();
+
+            AccessLogEvent event = new AccessLogEvent(
+                    request.getMethod(),
+                    routeOf(request),
+                    response.getStatus(),
+                    durationMs,
+                    dbTimeMs,
+                    request.getAttribute(USER_ID_ATTRIBUTE) instanceof UUID userId ? userId : null
+            );
+            if (shouldKeep(event)) {
+                channel.offer(event);
+            }
+        }
+    }
+
+    private boolean shouldKeep(AccessLogEvent event) {
+        if (event.status() >= 400 || event.durationMs() >= SLOW_MS || channel.fillRatio() < HIGH_WATER) {
+            return true;
+        }
+        return sampleCounter.getAndIncrement() % Math.max(1, SAMPLE_EVERY) == 0;
+    }
+
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+    }
+
+    private static void write(AccessLogEvent event) {
+        ACCESS_LOG.info("method={} route={} status={} durationMs={} dbMs={} userId={}",
+                event.method(), event.route(), event.status(), event.durationMs(), event.dbTimeMs(),
+                event.userId() != null ? event.userId() : "-");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.nashtech.rookies.oam.filter;
+
+public enum RequestPathCategory {
+    PUBLIC_RESOURCE,
+    AUTH,
+    FIRST_LOGIN_EXEMPT,
+    STANDARD;
+
+    public boolean isPermitAll() {
+        return this == PUBLIC_RESOURCE || this == AUTH;
+    }
+
+    public boolean requiresTokenProcessing() {
+        return this != PUBLIC_RESOURCE;
+    }
+
+    public boolean isFirstLoginExempt() {
+        return this != STANDARD;
+    }
+}
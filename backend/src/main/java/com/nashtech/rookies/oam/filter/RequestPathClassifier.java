@@ -0,0 +1,46 @@
+package com.nashtech.rookies.oam.filter;
+
+import com.nashtech.rookies.oam.constant.SecurityPaths;
+import com.nashtech.rookies.oam.util.PathLookup;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the {@link RequestPathCategory} of a request once and caches it as a request
+ * attribute, so the security filters and request matchers share a single path lookup.
+ */
+@Component
+public class RequestPathClassifier {
+    public static final String ATTRIBUTE = RequestPathClassifier.class.getName() + ".CATEGORY";
+
+    private final PathLookup publicResourcePaths = PathLookup.of(SecurityPaths.PUBLIC_RESOURCE_PATHS);
+    private final PathLookup authPaths = PathLookup.of(SecurityPaths.AUTH_PATHS);
+    private final PathLookup firstLoginExemptPaths = PathLookup.of(SecurityPaths.FIRST_LOGIN_EXEMPT_PATHS);
+
+    public RequestPathCategory classify(HttpServletRequest request) {
+        if (request.getAttribute(ATTRIBUTE) instanceof RequestPathCategory category) {
+            return category;
+        }
+
+        RequestPathCategory category = classify(request.getRequestURI());
+        request.setAttribute(ATTRIBUTE, category);
+        return category;
+    }
+
+    public RequestPathCategory classify(String path) {
+        if (authPaths.matches(path)) {
+            return RequestPathCategory.AUTH;
+        }
+        if (firstLoginExemptPaths.matches(path)) {
+            return RequestPathCategory.FIRST_LOGIN_EXEMPT;
+        }
+        if (publicResourcePaths.matches(path)) {
+            return RequestPathCategory.PUBLIC_RESOURCE;
+        }
+        return RequestPathCategory.STANDARD;
+    }
+
+    public boolean isPermitAll(HttpServletRequest request) {
+        return classify(request).isPermitAll();
+    }
+}
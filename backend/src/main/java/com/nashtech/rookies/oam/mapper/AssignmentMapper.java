@@ -5,6 +5,7 @@ import com.nashtech.rookies.oam.dto.response.*;
 import com.nashtech.rookies.oam.model.Asset;
 import com.nashtech.rookies.oam.model.Assignment;
 import com.nashtech.rookies.oam.model.AssignmentStatus;
+import com.nashtech.rookies.oam.model.AssignmentStatusHistory;
 import com.nashtech.rookies.oam.model.User;
 import com.nashtech.rookies.oam.model.enums.ReturnState;
 import com.nashtech.rookies.oam.projection.AssignmentEditViewProjection;
@@ -31,6 +32,9 @@ public interface AssignmentMapper {
     @Mapping(target = "status")
     @Mapping(target = "assignedDate")
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "currentReturnId", ignore = true)
+    @Mapping(target = "currentReturnState", ignore = true)
+    @Mapping(target = "currentReturnedDate", ignore = true)
     Assignment toEntity(
             AssignmentRequest request,
             User user,
@@ -87,4 +91,9 @@ public interface AssignmentMapper {
     @Mapping(target = "status", source = "status")
     @Mapping(target = "note", source = "note")
     AssignmentDetailResponse toDetailResponse(Assignment assignment);
+
+    @Mapping(target = "status", source = "status.name")
+    @Mapping(target = "changedAt", source = "createdAt")
+    @Mapping(target = "changedBy", source = "createdBy")
+    AssignmentStatusHistoryResponse toStatusHistoryResponse(AssignmentStatusHistory history);
 }
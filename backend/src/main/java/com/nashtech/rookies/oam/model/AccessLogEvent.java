@@ -0,0 +1,13 @@
+package com.nashtech.rookies.oam.model;
+
+import java.util.UUID;
+
+public record AccessLogEvent(
+        String method,
+        String route,
+        int status,
+        long durationMs,
+        long dbTimeMs,
+        UUID userId
+) {
+}
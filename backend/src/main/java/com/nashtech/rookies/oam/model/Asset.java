@@ -1,5 +1,7 @@
 package com.nashtech.rookies.oam.model;
 
+import com.nashtech.rookies.oam.config.ListCountInvalidationListener;
+import com.nashtech.rookies.oam.config.ReportViewInvalidationListener;
 import com.nashtech.rookies.oam.model.enums.AssetState;
 import jakarta.persistence.*;
 import lombok.*;
@@ -9,6 +11,7 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity(name = "assets")
+@EntityListeners({ListCountInvalidationListener.class, ReportViewInvalidationListener.class})
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
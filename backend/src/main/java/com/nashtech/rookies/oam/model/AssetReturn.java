@@ -1,14 +1,17 @@
 package com.nashtech.rookies.oam.model;
 
+import com.nashtech.rookies.oam.config.ListCountInvalidationListener;
 import com.nashtech.rookies.oam.model.enums.ReturnState;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity(name = "asset_returns")
+@EntityListeners(ListCountInvalidationListener.class)
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
@@ -33,4 +36,25 @@ public class AssetReturn extends AuditableEntity {
 
     @Column(columnDefinition = "bigint default 0")
     Long version;
+
+    /** Admin working on this return; the claim lapses at {@code claimedUntil} and the return goes back to the pool. */
+    @Column(name = "claimed_by")
+    String claimedBy;
+
+    @Column(name = "claimed_until")
+    LocalDateTime claimedUntil;
+
+    public boolean isClaimedByOtherThan(String username, LocalDateTime now) {
+        return isClaimedByOtherThan(claimedBy, claimedUntil, username, now);
+    }
+
+    public static boolean isClaimedByOtherThan(String claimedBy, LocalDateTime claimedUntil, String username,
+                                               LocalDateTime now) {
+        return claimedBy != null && claimedUntil != null && claimedUntil.isAfter(now) && !claimedBy.equals(username);
+    }
+
+    public void releaseClaim() {
+        this.claimedBy = null;
+        this.claimedUntil = null;
+    }
 }
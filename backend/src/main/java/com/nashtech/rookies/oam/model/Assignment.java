@@ -1,5 +1,7 @@
 package com.nashtech.rookies.oam.model;
 
+import com.nashtech.rookies.oam.config.ListCountInvalidationListener;
+import com.nashtech.rookies.oam.model.enums.ReturnState;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
@@ -10,6 +12,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity(name = "assignments")
+@EntityListeners(ListCountInvalidationListener.class)
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
@@ -41,10 +44,27 @@ public class Assignment extends AuditableEntity {
     @Column(length = 500)
     String note;
 
+    /** Latest return request for this assignment, kept in step with {@code asset_returns} by the return service. */
+    @Column(name = "current_return_id")
+    UUID currentReturnId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "current_return_state", length = 50)
+    ReturnState currentReturnState;
+
+    @Column(name = "current_returned_date")
+    LocalDate currentReturnedDate;
+
     @Version
     @Column(columnDefinition = "bigint default 0")
     Long version;
 
     @OneToMany(mappedBy = "assignment", fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     List<AssetReturn> assetReturns = new ArrayList<>();
+
+    public void trackCurrentReturn(AssetReturn assetReturn) {
+        this.currentReturnId = assetReturn.getId();
+        this.currentReturnState = assetReturn.getState();
+        this.currentReturnedDate = assetReturn.getReturnedDate();
+    }
 }
@@ -0,0 +1,13 @@
+package com.nashtech.rookies.oam.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AssignmentStatusChange(
+        UUID id,
+        UUID assignmentId,
+        Integer statusId,
+        LocalDateTime changedAt,
+        String changedBy
+) {
+}
@@ -1,23 +1,62 @@
 package com.nashtech.rookies.oam.model;
 
-import lombok.Data;
+import com.nashtech.rookies.oam.model.enums.UserStatus;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-@Data
+/**
+ * Authenticated principal. Built either from a loaded {@link User} (login) or from a cached
+ * {@link UserSnapshot} (bearer token requests), in which case the entity is only fetched
+ * the first time {@link #getUser()} is called.
+ */
 public class CustomUserDetails implements UserDetails {
 
-    final private User user;
+    private final UserSnapshot snapshot;
+    private final Supplier<User> userLoader;
+    private User user;
 
     public CustomUserDetails(User user) {
+        this.snapshot = null;
+        this.userLoader = null;
         this.user = user;
     }
 
+    public CustomUserDetails(UserSnapshot snapshot, Supplier<User> userLoader) {
+        this.snapshot = snapshot;
+        this.userLoader = userLoader;
+    }
+
+    public User getUser() {
+        if (user == null) {
+            user = userLoader.get();
+        }
+        return user;
+    }
+
+    public UserSnapshot getSnapshot() {
+        return snapshot != null ? snapshot : UserSnapshot.from(user);
+    }
+
+    public UUID getId() {
+        return snapshot != null ? snapshot.id() : user.getId();
+    }
+
+    public UserStatus getStatus() {
+        return snapshot != null ? snapshot.status() : user.getStatus();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
+        if (snapshot != null) {
+            return snapshot.roles().stream()
+                    .map(role -> (GrantedAuthority) () -> role)
+                    .collect(Collectors.toList());
+        }
         return user.getRoles().stream()
                 .map(role -> (GrantedAuthority) role::getName)
                 .collect(Collectors.toList());
@@ -25,12 +64,12 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public String getPassword() {
-        return user.getHashedPassword();
+        return user != null ? user.getHashedPassword() : null;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return snapshot != null ? snapshot.username() : user.getUsername();
     }
 
     @Override
@@ -50,8 +89,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return !user.getStatus().isInActive();
+        return !getStatus().isInActive();
     }
 
 }
-
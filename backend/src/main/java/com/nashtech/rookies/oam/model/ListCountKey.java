@@ -0,0 +1,40 @@
+package com.nashtech.rookies.oam.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Normalized list filters used as a total-count cache key: strings are trimmed and lower-cased and
+ * collections are sorted, so equivalent requests share one cached count.
+ */
+public record ListCountKey(UUID locationId, List<Object> filters) {
+
+    public static ListCountKey of(UUID locationId, Object... filters) {
+        List<Object> normalized = new ArrayList<>(filters.length);
+        for (Object filter : filters) {
+            normalized.add(normalize(filter));
+        }
+        return new ListCountKey(locationId, List.copyOf(normalized));
+    }
+
+    private static Object normalize(Object filter) {
+        if (filter == null) {
+            return "";
+        }
+        if (filter instanceof String value) {
+            return value.trim().toLowerCase(Locale.ROOT);
+        }
+        if (filter instanceof Collection<?> values) {
+            return values.stream()
+                    .map(ListCountKey::normalize)
+                    .map(String::valueOf)
+                    .sorted()
+                    .distinct()
+                    .toList();
+        }
+        return filter.toString();
+    }
+}
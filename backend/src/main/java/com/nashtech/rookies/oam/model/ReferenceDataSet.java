@@ -0,0 +1,15 @@
+package com.nashtech.rookies.oam.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * An immutable list of reference rows together with a strong ETag derived from their content, taken
+ * from the same registry snapshot so the tag always describes exactly these items.
+ */
+public record ReferenceDataSet<T>(List<T> items, String eTag) {
+
+    public <R> ReferenceDataSet<R> map(Function<List<T>, List<R>> mapper) {
+        return new ReferenceDataSet<>(mapper.apply(items), eTag);
+    }
+}
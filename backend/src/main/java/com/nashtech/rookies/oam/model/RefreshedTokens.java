@@ -0,0 +1,9 @@
+package com.nashtech.rookies.oam.model;
+
+import org.springframework.http.ResponseCookie;
+
+public record RefreshedTokens(
+        String accessToken,
+        ResponseCookie refreshTokenCookie
+) {
+}
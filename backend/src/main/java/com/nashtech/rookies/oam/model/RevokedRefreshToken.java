@@ -0,0 +1,30 @@
+package com.nashtech.rookies.oam.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+
+@Entity(name = "revoked_refresh_tokens")
+@Getter
+@Setter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedRefreshToken {
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(length = 64)
+    String jti;
+
+    @Column(nullable = false)
+    Instant expiresAt;
+
+    @Column(nullable = false)
+    Instant revokedAt;
+}
@@ -1,6 +1,8 @@
 package com.nashtech.rookies.oam.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.nashtech.rookies.oam.config.ListCountInvalidationListener;
+import com.nashtech.rookies.oam.config.UserSnapshotEvictionListener;
 import com.nashtech.rookies.oam.model.enums.Gender;
 import com.nashtech.rookies.oam.model.enums.UserStatus;
 import jakarta.persistence.*;
@@ -13,6 +15,7 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity(name = "users")
+@EntityListeners({UserSnapshotEvictionListener.class, ListCountInvalidationListener.class})
 @Getter
 @Setter
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
@@ -0,0 +1,40 @@
+package com.nashtech.rookies.oam.model;
+
+import com.nashtech.rookies.oam.model.enums.UserStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public record UserSnapshot(
+        UUID id,
+        String username,
+        UUID locationId,
+        UserStatus status,
+        List<String> roles,
+        Long version
+) {
+    public UserSnapshot {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+
+    public static UserSnapshot from(User user) {
+        List<String> roles = Optional.ofNullable(user.getRoles()).stream()
+                .flatMap(Collection::stream)
+                .map(Role::getName)
+                .toList();
+        UUID locationId = Optional.ofNullable(user.getLocation())
+                .map(Location::getId)
+                .orElse(null);
+
+        return new UserSnapshot(
+                user.getId(),
+                user.getUsername(),
+                locationId,
+                user.getStatus(),
+                roles,
+                user.getVersion()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.nashtech.rookies.oam.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Entity(name = "username_sequences")
+@Getter
+@Setter
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UsernameSequence {
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(length = 50)
+    String baseUsername;
+
+    @Column(nullable = false)
+    Integer lastSuffix;
+}
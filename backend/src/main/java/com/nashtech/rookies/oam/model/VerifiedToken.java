@@ -0,0 +1,22 @@
+package com.nashtech.rookies.oam.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record VerifiedToken(
+        String subject,
+        UUID userId,
+        List<String> roles,
+        String jti,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+    public VerifiedToken {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+
+    public boolean isExpiredAt(Instant instant) {
+        return expiresAt != null && !expiresAt.isAfter(instant);
+    }
+}
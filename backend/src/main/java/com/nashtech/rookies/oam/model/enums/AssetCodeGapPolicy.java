@@ -0,0 +1,13 @@
+package com.nashtech.rookies.oam.model.enums;
+
+/**
+ * What happens to asset codes reserved by a node but never handed out.
+ */
+public enum AssetCodeGapPolicy {
+    /** Unused codes of a block are skipped for good when the node stops. */
+    ALLOW,
+    /** On graceful shutdown the unused tail is given back if no other node reserved after it. */
+    RELEASE_ON_SHUTDOWN,
+    /** Codes are reserved one at a time, so no gaps are left behind. */
+    NONE
+}
@@ -3,6 +3,7 @@ package com.nashtech.rookies.oam.model.enums;
 import lombok.Getter;
 
 import java.util.Arrays;
+import java.util.Locale;
 import java.util.Optional;
 
 @Getter
@@ -24,5 +25,11 @@ public enum AssignmentStatusType {
                 .findFirst();
     }
 
-
+    /**
+     * Parses a status sent by a client. Requests are validated with {@code @CaseInsensitiveEnumMatch},
+     * so any letter case is accepted here too.
+     */
+    public static AssignmentStatusType fromName(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
 }
@@ -0,0 +1,22 @@
+package com.nashtech.rookies.oam.projection;
+
+import com.nashtech.rookies.oam.model.enums.ReturnState;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface AssetReturnTransitionTarget {
+    UUID getId();
+
+    Long getVersion();
+
+    ReturnState getState();
+
+    String getClaimedBy();
+
+    LocalDateTime getClaimedUntil();
+
+    UUID getAssignmentId();
+
+    UUID getAssetId();
+}
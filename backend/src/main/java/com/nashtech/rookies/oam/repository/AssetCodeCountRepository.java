@@ -1,17 +1,32 @@
 package com.nashtech.rookies.oam.repository;
 
 import com.nashtech.rookies.oam.model.AssetCodeCount;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
-
-import java.util.Optional;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface AssetCodeCountRepository extends JpaRepository<AssetCodeCount, String> {
-    @Lock(LockModeType.OPTIMISTIC)
-    @Query("SELECT s FROM asset_code_count s WHERE s.id = :id")
-    Optional<AssetCodeCount> findByIdForUpdate(String id);
+    /**
+     * Atomically advances the counter of a prefix by {@code blockSize} and returns the new last value.
+     * Runs in its own transaction so the row lock is released before the caller's transaction ends.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO asset_code_count (id, last_value, version) VALUES (:id, :blockSize, 0) " +
+            "ON CONFLICT (id) DO UPDATE SET last_value = asset_code_count.last_value + :blockSize, " +
+            "version = asset_code_count.version + 1 " +
+            "RETURNING last_value", nativeQuery = true)
+    int reserveBlock(String id, int blockSize);
+
+    /**
+     * Rolls the counter back to {@code releasedTo} only if nothing was reserved after {@code blockEnd}.
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "UPDATE asset_code_count SET last_value = :releasedTo, version = version + 1 " +
+            "WHERE id = :id AND last_value = :blockEnd", nativeQuery = true)
+    int releaseBlock(String id, int blockEnd, int releasedTo);
 }
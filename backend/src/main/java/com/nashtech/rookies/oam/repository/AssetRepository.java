@@ -1,6 +1,7 @@
 package com.nashtech.rookies.oam.repository;
 
 import com.nashtech.rookies.oam.model.Asset;
+import com.nashtech.rookies.oam.model.enums.AssetState;
 import com.nashtech.rookies.oam.projection.EditAssetProjection;
 import jakarta.persistence.LockModeType;
 import lombok.NonNull;
@@ -8,13 +9,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface AssetRepository extends JpaRepository<Asset, UUID>, JpaSpecificationExecutor<Asset> {
+public interface AssetRepository extends JpaRepository<Asset, UUID>, JpaSpecificationExecutor<Asset>,
+        SliceSpecificationExecutor<Asset>, AssetStateRepository {
 
     @Lock(LockModeType.OPTIMISTIC)
     @EntityGraph(attributePaths = {"category"})
@@ -31,6 +37,36 @@ public interface AssetRepository extends JpaRepository<Asset, UUID>, JpaSpecific
     @EntityGraph(attributePaths = {"category"})
     Page<Asset> findAll(Specification<Asset> spec, Pageable pageable);
 
+    /**
+     * Moves the asset from {@code from} to {@code to} in one statement. Returns 0 when the asset is
+     * missing or no longer in {@code from}; the version is bumped so concurrent optimistic edits fail.
+     * Loaded instances are not updated, see {@link #refreshLoaded}.
+     */
+    @Modifying
+    @Query("UPDATE assets a SET a.state = :to, a.version = a.version + 1 WHERE a.id = :id AND a.state = :from")
+    int transitionState(@Param("id") UUID id, @Param("from") AssetState from, @Param("to") AssetState to);
 
+    @Modifying
+    @Query("UPDATE assets a SET a.state = :to, a.version = a.version + 1 WHERE a.id IN :ids AND a.state = :from")
+    int transitionStates(@Param("ids") Collection<UUID> ids, @Param("from") AssetState from, @Param("to") AssetState to);
 
+    /**
+     * Claims every listed asset that is still available and returns the claimed ids. Rows are locked
+     * in id order so two overlapping bulk claims cannot deadlock.
+     */
+    @Transactional
+    @Query(value = """
+            WITH candidates AS (
+                SELECT id FROM assets
+                WHERE id IN (:ids) AND state = 'AVAILABLE'
+                ORDER BY id
+                FOR UPDATE
+            )
+            UPDATE assets a
+            SET state = 'ASSIGNED', version = a.version + 1
+            FROM candidates c
+            WHERE a.id = c.id
+            RETURNING a.id
+            """, nativeQuery = true)
+    List<UUID> claimAvailable(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,11 @@
+package com.nashtech.rookies.oam.repository;
+
+import com.nashtech.rookies.oam.model.Asset;
+
+import java.util.List;
+
+public class AssetRepositoryImpl extends SliceQuerySupport<Asset> {
+    public AssetRepositoryImpl() {
+        super(Asset.class, List.of("category"));
+    }
+}
@@ -2,21 +2,159 @@ package com.nashtech.rookies.oam.repository;
 
 import com.nashtech.rookies.oam.model.AssetReturn;
 import com.nashtech.rookies.oam.model.Assignment;
+import com.nashtech.rookies.oam.projection.AssetReturnTransitionTarget;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
-public interface AssetReturnRepository extends JpaRepository<AssetReturn, UUID> {
+public interface AssetReturnRepository extends JpaRepository<AssetReturn, UUID>, JpaSpecificationExecutor<AssetReturn>,
+        SliceSpecificationExecutor<AssetReturn> {
     boolean existsByAssignment(Assignment assignment);
-    Optional<AssetReturn> findTopByAssignmentOrderByCreatedAtDesc(Assignment assignment);
+
+    /**
+     * Assignments whose current return columns disagree with their newest {@code asset_returns} row.
+     */
+    @Query(value = """
+            WITH latest AS (
+                SELECT DISTINCT ON (r.assignment_id) r.assignment_id, r.id, r.state, r.returned_date
+                FROM asset_returns r
+                ORDER BY r.assignment_id, r.created_at DESC
+            )
+            SELECT a.id
+            FROM assignments a
+            LEFT JOIN latest l ON l.assignment_id = a.id
+            WHERE a.current_return_id IS DISTINCT FROM l.id
+               OR a.current_return_state IS DISTINCT FROM l.state
+               OR a.current_returned_date IS DISTINCT FROM l.returned_date
+            """, nativeQuery = true)
+    List<UUID> findAssignmentIdsWithStaleCurrentReturn();
+
+    @Modifying
+    @Query(value = """
+            WITH latest AS (
+                SELECT DISTINCT ON (r.assignment_id) r.assignment_id, r.id, r.state, r.returned_date
+                FROM asset_returns r
+                WHERE r.assignment_id IN (:assignmentIds)
+                ORDER BY r.assignment_id, r.created_at DESC
+            )
+            UPDATE assignments a
+            SET current_return_id     = l.id,
+                current_return_state  = l.state,
+                current_returned_date = l.returned_date,
+                version               = a.version + 1
+            FROM assignments target
+            LEFT JOIN latest l ON l.assignment_id = target.id
+            WHERE a.id = target.id
+              AND a.id IN (:assignmentIds)
+            """, nativeQuery = true)
+    int refreshCurrentReturn(Collection<UUID> assignmentIds);
 
     @EntityGraph(attributePaths = {
             "assignment", "assignment.asset", "assignment.user"
     })
     Page<AssetReturn> findAll(Specification<AssetReturn> spec, Pageable pageable);
+
+    /**
+     * Leases up to {@code limit} waiting returns in the location to {@code claimant}, oldest first, and
+     * returns their ids. Returns the claimant already holds are renewed; returns leased to someone else
+     * come back into the pool once their lease has lapsed. Rows another claim is taking right now are
+     * skipped, so concurrent claims never hand out the same return.
+     */
+    @Transactional
+    @Query(value = """
+            WITH next AS (
+                SELECT r.id
+                FROM asset_returns r
+                JOIN assignments a ON a.id = r.assignment_id
+                JOIN assets s ON s.id = a.asset_id
+                WHERE r.state = 'WAITING_FOR_RETURNING'
+                  AND s.location_id = :locationId
+                  AND (r.claimed_until IS NULL OR r.claimed_until < :now OR r.claimed_by = :claimant)
+                ORDER BY r.created_at, r.id
+                LIMIT :limit
+                FOR UPDATE OF r SKIP LOCKED
+            )
+            UPDATE asset_returns r
+            SET claimed_by    = :claimant,
+                claimed_until = :leaseUntil
+            FROM next
+            WHERE r.id = next.id
+            RETURNING r.id
+            """, nativeQuery = true)
+    List<UUID> claimWaiting(@Param("locationId") UUID locationId, @Param("claimant") String claimant,
+                            @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil,
+                            @Param("limit") int limit);
+
+    @EntityGraph(attributePaths = {
+            "assignment", "assignment.asset", "assignment.user"
+    })
+    List<AssetReturn> findAllByIdInOrderByCreatedAtAsc(Collection<UUID> ids);
+
+    @Query("""
+            SELECT r.id AS id, r.version AS version, r.state AS state, r.claimedBy AS claimedBy,
+                   r.claimedUntil AS claimedUntil, a.id AS assignmentId, a.asset.id AS assetId
+            FROM asset_returns r
+            JOIN r.assignment a
+            WHERE r.id IN :ids
+            """)
+    List<AssetReturnTransitionTarget> findTransitionTargets(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Completes the listed returns that are still waiting, still at {@code version} and not leased to anyone
+     * but {@code actor}, and returns the ids it changed. Ids missing from the result lost a race with another
+     * writer between the caller's read and this update.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE asset_returns r
+            SET state         = 'COMPLETED',
+                returned_date = :returnedDate,
+                claimed_by    = NULL,
+                claimed_until = NULL,
+                updated_at    = :now,
+                updated_by    = :actor,
+                version       = COALESCE(r.version, 0) + 1
+            WHERE r.id IN (:ids)
+              AND COALESCE(r.version, 0) = :version
+              AND r.state = 'WAITING_FOR_RETURNING'
+              AND (r.claimed_until IS NULL OR r.claimed_until <= :now OR r.claimed_by = :actor)
+            RETURNING r.id
+            """, nativeQuery = true)
+    List<UUID> completeWaiting(@Param("ids") Collection<UUID> ids, @Param("version") long version,
+                               @Param("returnedDate") LocalDate returnedDate, @Param("actor") String actor,
+                               @Param("now") LocalDateTime now);
+
+    /**
+     * Cancels the listed returns under the same conditions as {@link #completeWaiting}.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE asset_returns r
+            SET state         = 'CANCELED',
+                claimed_by    = NULL,
+                claimed_until = NULL,
+                updated_at    = :now,
+                updated_by    = :actor,
+                version       = COALESCE(r.version, 0) + 1
+            WHERE r.id IN (:ids)
+              AND COALESCE(r.version, 0) = :version
+              AND r.state = 'WAITING_FOR_RETURNING'
+              AND (r.claimed_until IS NULL OR r.claimed_until <= :now OR r.claimed_by = :actor)
+            RETURNING r.id
+            """, nativeQuery = true)
+    List<UUID> cancelWaiting(@Param("ids") Collection<UUID> ids, @Param("version") long version,
+                             @Param("actor") String actor, @Param("now") LocalDateTime now);
 }
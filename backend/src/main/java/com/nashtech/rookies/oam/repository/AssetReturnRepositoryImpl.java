@@ -0,0 +1,11 @@
+package com.nashtech.rookies.oam.repository;
+
+import com.nashtech.rookies.oam.model.AssetReturn;
+
+import java.util.List;
+
+public class AssetReturnRepositoryImpl extends SliceQuerySupport<AssetReturn> {
+    public AssetReturnRepositoryImpl() {
+        super(AssetReturn.class, List.of("assignment", "assignment.asset", "assignment.user"));
+    }
+}
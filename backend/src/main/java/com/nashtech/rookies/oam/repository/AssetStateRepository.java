@@ -0,0 +1,13 @@
+package com.nashtech.rookies.oam.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface AssetStateRepository {
+    /**
+     * Reloads the given assets that the persistence context already holds, so they see the state and
+     * version written by a bulk update instead of the values read before it. Assets not loaded yet
+     * are left alone.
+     */
+    void refreshLoaded(Collection<UUID> ids);
+}
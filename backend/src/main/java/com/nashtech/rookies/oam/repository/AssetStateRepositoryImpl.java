@@ -0,0 +1,24 @@
+package com.nashtech.rookies.oam.repository;
+
+import com.nashtech.rookies.oam.model.Asset;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public class AssetStateRepositoryImpl implements AssetStateRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void refreshLoaded(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            // Returns the managed instance when there is one, otherwise an uninitialized proxy
+            Asset asset = entityManager.getReference(Asset.class, id);
+            if (entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(asset)) {
+                entityManager.refresh(asset);
+            }
+        }
+    }
+}
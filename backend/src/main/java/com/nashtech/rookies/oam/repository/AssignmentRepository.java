@@ -2,9 +2,12 @@ package com.nashtech.rookies.oam.repository;
 
 import com.nashtech.rookies.oam.model.Asset;
 import com.nashtech.rookies.oam.model.Assignment;
+import com.nashtech.rookies.oam.model.AssignmentStatus;
+import com.nashtech.rookies.oam.model.enums.ReturnState;
 import com.nashtech.rookies.oam.projection.AssignmentEditViewProjection;
 import com.nashtech.rookies.oam.projection.AssignmentWithReturnDate;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -12,21 +15,24 @@ import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface AssignmentRepository extends JpaRepository<Assignment, UUID>, JpaSpecificationExecutor<Assignment> {
+public interface AssignmentRepository extends JpaRepository<Assignment, UUID>, JpaSpecificationExecutor<Assignment>,
+        SliceSpecificationExecutor<Assignment> {
     @Query("""
-            SELECT a AS assignment, ar.returnedDate AS returnedDate
+            SELECT a AS assignment, a.currentReturnedDate AS returnedDate
             FROM assignments a
             JOIN FETCH a.user
-            LEFT JOIN asset_returns ar ON ar.assignment = a
             WHERE a.asset.id = :assetId
-                 AND a.status.name IN :statuses
+                 AND a.status.id IN :statusIds
             """)
-    Page<AssignmentWithReturnDate> findAllWithReturnDateByAsset_Id(@Param("assetId") UUID assetId, List<String> statuses, Pageable pageable);
+    Page<AssignmentWithReturnDate> findAllWithReturnDateByAsset_Id(@Param("assetId") UUID assetId, List<Integer> statusIds, Pageable pageable);
 
     Boolean existsByAsset(Asset asset);
 
@@ -38,6 +44,12 @@ public interface AssignmentRepository extends JpaRepository<Assignment, UUID>, J
     @EntityGraph(attributePaths = {"asset", "user", "status"})
     Optional<Assignment> findWithAssetAndUserById(UUID id);
 
+    /**
+     * Loads the assignment only if it belongs to {@code userId}; ownership is checked on the foreign key
+     * column, so authorizing and loading take one query.
+     */
+    Optional<Assignment> findByIdAndUser_Id(UUID id, UUID userId);
+
     @Lock(LockModeType.OPTIMISTIC)
     @Query("""
             SELECT a
@@ -46,9 +58,68 @@ public interface AssignmentRepository extends JpaRepository<Assignment, UUID>, J
             """)
     Optional<Assignment> getAssignmentByIdForDelete(UUID id);
 
+    /**
+     * Loads and write-locks the listed assignments that belong to {@code userId}, in id order so that
+     * overlapping batches lock rows in the same sequence. Ids owned by someone else are simply absent.
+     * Assets are fetched in the same query for the responses, but only the assignment rows are locked:
+     * asset rows are locked in asset id order by the claims.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.lockMode.a", value = "PESSIMISTIC_WRITE"))
+    @Query("""
+            SELECT a
+            FROM assignments a
+            JOIN FETCH a.asset s
+            WHERE a.id IN :ids
+                 AND a.user.id = :userId
+            ORDER BY a.id
+            """)
+    List<Assignment> findAllOwnedByIdForUpdate(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
+    /**
+     * Applies the outcome of their current return to the listed assignments. The version is bumped so that
+     * anyone still holding one of these assignments fails its optimistic check instead of overwriting this.
+     */
+    @Modifying
+    @Query("""
+            UPDATE assignments a
+            SET a.status = :status,
+                a.currentReturnState = :returnState,
+                a.currentReturnedDate = :returnedDate,
+                a.updatedAt = :updatedAt,
+                a.updatedBy = :updatedBy,
+                a.version = a.version + 1
+            WHERE a.id IN :ids
+            """)
+    int applyReturnOutcome(@Param("ids") Collection<UUID> ids, @Param("status") AssignmentStatus status,
+                           @Param("returnState") ReturnState returnState,
+                           @Param("returnedDate") LocalDate returnedDate,
+                           @Param("updatedAt") LocalDateTime updatedAt,
+                           @Param("updatedBy") String updatedBy);
+
+    /**
+     * Locks up to {@code limit} assignments in {@code statusId} whose assigned date is before {@code cutoff},
+     * together with their assets. Rows another transaction holds are skipped rather than waited for, so
+     * several nodes can work through the backlog side by side without blocking interactive requests.
+     */
+    @Query(value = """
+            SELECT a.*
+            FROM assignments a
+            JOIN assets s ON s.id = a.asset_id
+            WHERE a.status_id = :statusId
+                 AND a.assigned_date < :cutoff
+            ORDER BY a.assigned_date, a.id
+            LIMIT :limit
+            FOR UPDATE OF a, s SKIP LOCKED
+            """, nativeQuery = true)
+    List<Assignment> lockStaleByStatus(@Param("statusId") Integer statusId, @Param("cutoff") LocalDate cutoff,
+                                       @Param("limit") int limit);
+
+    @Query("SELECT COUNT(a) FROM assignments a WHERE a.status.id = :statusId AND a.assignedDate < :cutoff")
+    long countStaleByStatus(@Param("statusId") Integer statusId, @Param("cutoff") LocalDate cutoff);
+
     @Query("""
     SELECT COUNT(a) > 0 FROM assignments a
-    WHERE a.user.id = :userId AND a.status.name IN :statuses
+    WHERE a.user.id = :userId AND a.status.id IN :statusIds
     """)
-    boolean hasAssignmentsWithStatuses(UUID userId, List<String> statuses);
+    boolean hasAssignmentsWithStatuses(UUID userId, List<Integer> statusIds);
 }
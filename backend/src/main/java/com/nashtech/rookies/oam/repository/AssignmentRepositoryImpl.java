@@ -0,0 +1,11 @@
+package com.nashtech.rookies.oam.repository;
+
+import com.nashtech.rookies.oam.model.Assignment;
+
+import java.util.List;
+
+public class AssignmentRepositoryImpl extends SliceQuerySupport<Assignment> {
+    public AssignmentRepositoryImpl() {
+        super(Assignment.class, List.of("asset", "user", "status", "asset.category"));
+    }
+}
@@ -0,0 +1,12 @@
+package com.nashtech.rookies.oam.repository;
+
+import com.nashtech.rookies.oam.model.AssignmentStatusChange;
+
+import java.util.List;
+
+public interface AssignmentStatusHistoryBatchRepository {
+    /**
+     * Inserts the changes as one JDBC batch, bypassing the persistence context.
+     */
+    void insertAll(List<AssignmentStatusChange> changes);
+}
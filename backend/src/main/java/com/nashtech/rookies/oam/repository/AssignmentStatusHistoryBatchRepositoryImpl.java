@@ -0,0 +1,36 @@
+package com.nashtech.rookies.oam.repository;
+
+import com.nashtech.rookies.oam.model.AssignmentStatusChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class AssignmentStatusHistoryBatchRepositoryImpl implements AssignmentStatusHistoryBatchRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO assignment_status_histories
+                (id, created_at, updated_at, created_by, updated_by, assignment_id, status_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<AssignmentStatusChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, changes.size(), (ps, change) -> {
+            Timestamp changedAt = Timestamp.valueOf(change.changedAt());
+            ps.setObject(1, change.id());
+            ps.setTimestamp(2, changedAt);
+            ps.setTimestamp(3, changedAt);
+            ps.setString(4, change.changedBy());
+            ps.setString(5, change.changedBy());
+            ps.setObject(6, change.assignmentId());
+            ps.setInt(7, change.statusId());
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.nashtech.rookies.oam.repository;
+
+import com.nashtech.rookies.oam.model.AssignmentStatusHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface AssignmentStatusHistoryRepository extends JpaRepository<AssignmentStatusHistory, UUID>,
+        JpaSpecificationExecutor<AssignmentStatusHistory>, AssignmentStatusHistoryBatchRepository {
+
+    /**
+     * Appends the current status of every assignment whose newest history row disagrees with it.
+     * Only assignments last touched before {@code settledBefore} are considered, so changes that are
+     * still on their way through the write buffer are not duplicated.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO assignment_status_histories
+                (id, created_at, updated_at, created_by, updated_by, assignment_id, status_id)
+            SELECT gen_random_uuid(),
+                   COALESCE(a.updated_at, a.created_at),
+                   COALESCE(a.updated_at, a.created_at),
+                   COALESCE(a.updated_by, a.created_by),
+                   COALESCE(a.updated_by, a.created_by),
+                   a.id,
+                   a.status_id
+            FROM assignments a
+            LEFT JOIN LATERAL (
+                SELECT h.status_id
+                FROM assignment_status_histories h
+                WHERE h.assignment_id = a.id
+                ORDER BY h.created_at DESC, h.id DESC
+                LIMIT 1
+            ) latest ON TRUE
+            WHERE latest.status_id IS DISTINCT FROM a.status_id
+              AND COALESCE(a.updated_at, a.created_at) < :settledBefore
+            """, nativeQuery = true)
+    int insertMissingLatestStatuses(@Param("settledBefore") LocalDateTime settledBefore);
+
+    @Modifying
+    @Query("DELETE FROM assignment_status_histories h WHERE h.assignment.id = :assignmentId")
+    int deleteByAssignmentId(@Param("assignmentId") UUID assignmentId);
+}
@@ -2,10 +2,34 @@ package com.nashtech.rookies.oam.repository;
 
 import com.nashtech.rookies.oam.model.Report;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Integer> {
 
-    
+    /**
+     * Recomputes the materialized view without blocking readers, who keep seeing the previous
+     * contents until the refresh commits.
+     */
+    @Modifying
+    @Query(value = "REFRESH MATERIALIZED VIEW CONCURRENTLY report_view", nativeQuery = true)
+    void refreshView();
+
+    @Modifying
+    @Query(value = """
+            UPDATE report_view_refreshes
+            SET refreshed_at = :refreshedAt
+            WHERE view_name = 'report_view'
+            """, nativeQuery = true)
+    int markRefreshed(@Param("refreshedAt") LocalDateTime refreshedAt);
+
+    @Query(value = "SELECT refreshed_at FROM report_view_refreshes WHERE view_name = 'report_view'",
+            nativeQuery = true)
+    Optional<LocalDateTime> findRefreshedAt();
 }
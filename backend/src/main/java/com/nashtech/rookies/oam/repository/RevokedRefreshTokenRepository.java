@@ -0,0 +1,25 @@
+package com.nashtech.rookies.oam.repository;
+
+import com.nashtech.rookies.oam.model.RevokedRefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedRefreshTokenRepository extends JpaRepository<RevokedRefreshToken, String> {
+    @Modifying
+    @Query(value = "INSERT INTO revoked_refresh_tokens (jti, expires_at, revoked_at) " +
+            "VALUES (:jti, :expiresAt, :revokedAt) ON CONFLICT (jti) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(String jti, Instant expiresAt, Instant revokedAt);
+
+    @Query("SELECT r.jti FROM revoked_refresh_tokens r WHERE r.expiresAt > :now")
+    List<String> findActiveJtis(Instant now);
+
+    @Modifying
+    @Query("DELETE FROM revoked_refresh_tokens r WHERE r.expiresAt <= :now")
+    int deleteExpired(Instant now);
+}
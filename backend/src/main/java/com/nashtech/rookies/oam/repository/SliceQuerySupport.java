@@ -0,0 +1,90 @@
+package com.nashtech.rookies.oam.repository;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base for the repository fragments implementing {@link SliceSpecificationExecutor}.
+ * The fetch paths mirror the {@code @EntityGraph} on the repository's paged {@code findAll}.
+ */
+public abstract class SliceQuerySupport<T> implements SliceSpecificationExecutor<T> {
+    private static final String LOAD_GRAPH_HINT = "jakarta.persistence.loadgraph";
+
+    private final Class<T> domainClass;
+    private final List<String> fetchPaths;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    protected SliceQuerySupport(Class<T> domainClass, List<String> fetchPaths) {
+        this.domainClass = domainClass;
+        this.fetchPaths = fetchPaths;
+    }
+
+    @Override
+    public Slice<T> findSlice(Specification<T> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(domainClass);
+        Root<T> root = query.from(domainClass);
+        query.select(root);
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<T> typedQuery = entityManager.createQuery(query);
+        if (!fetchPaths.isEmpty()) {
+            typedQuery.setHint(LOAD_GRAPH_HINT, buildFetchGraph());
+        }
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+
+        int pageSize = pageable.getPageSize();
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageSize + 1);
+
+        List<T> rows = typedQuery.getResultList();
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private EntityGraph<T> buildFetchGraph() {
+        EntityGraph<T> graph = entityManager.createEntityGraph(domainClass);
+        for (String path : fetchPaths) {
+            String[] segments = path.split("\\.");
+            if (segments.length == 1) {
+                graph.addAttributeNodes(segments[0]);
+                continue;
+            }
+            Subgraph<?> subgraph = graph.addSubgraph(segments[0]);
+            for (int i = 1; i < segments.length - 1; i++) {
+                subgraph = subgraph.addSubgraph(segments[i]);
+            }
+            subgraph.addAttributeNodes(segments[segments.length - 1]);
+        }
+        return graph;
+    }
+}
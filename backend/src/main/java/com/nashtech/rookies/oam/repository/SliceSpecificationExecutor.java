@@ -0,0 +1,12 @@
+package com.nashtech.rookies.oam.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface SliceSpecificationExecutor<T> {
+    /**
+     * Reads one page plus one extra row to tell whether a next page exists, without a count query.
+     */
+    Slice<T> findSlice(Specification<T> spec, Pageable pageable);
+}
@@ -3,14 +3,17 @@ package com.nashtech.rookies.oam.repository;
 import com.nashtech.rookies.oam.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
+public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User>,
+        SliceSpecificationExecutor<User> {
     Optional<User> findByUsername(String username);
-    Long countByUsernameStartingWith(String baseUsername);
 
+    @Query(value = "SELECT nextval('staff_code_seq')", nativeQuery = true)
+    long nextStaffCodeValue();
 }
@@ -0,0 +1,11 @@
+package com.nashtech.rookies.oam.repository;
+
+import com.nashtech.rookies.oam.model.User;
+
+import java.util.List;
+
+public class UserRepositoryImpl extends SliceQuerySupport<User> {
+    public UserRepositoryImpl() {
+        super(User.class, List.of());
+    }
+}
@@ -0,0 +1,20 @@
+package com.nashtech.rookies.oam.repository;
+
+import com.nashtech.rookies.oam.model.UsernameSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface UsernameSequenceRepository extends JpaRepository<UsernameSequence, String> {
+    /**
+     * Returns 0 the first time a base username is seen, then 1, 2, ... on each later call.
+     * The row stays locked until the caller's transaction ends, so a rolled back creation leaves no gap.
+     */
+    @Transactional
+    @Query(value = "INSERT INTO username_sequences (base_username, last_suffix) VALUES (:baseUsername, 0) " +
+            "ON CONFLICT (base_username) DO UPDATE SET last_suffix = username_sequences.last_suffix + 1 " +
+            "RETURNING last_suffix", nativeQuery = true)
+    int allocateSuffix(String baseUsername);
+}
@@ -3,9 +3,13 @@ package com.nashtech.rookies.oam.service;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
 import com.nashtech.rookies.oam.dto.request.AssetReturnPageRequest;
 import com.nashtech.rookies.oam.dto.request.AssetReturnRequest;
+import com.nashtech.rookies.oam.dto.request.AssetReturnUpdateItem;
+import com.nashtech.rookies.oam.dto.response.AssetReturnClaimResponse;
 import com.nashtech.rookies.oam.dto.response.AssetReturnPageResponse;
 import com.nashtech.rookies.oam.dto.response.AssetReturnResponse;
+import com.nashtech.rookies.oam.dto.response.BulkAssetReturnResponse;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface AssetReturnService {
@@ -14,4 +18,16 @@ public interface AssetReturnService {
     APIPageableResponseDTO<AssetReturnPageResponse> getAssetReturns(AssetReturnPageRequest request);
 
     AssetReturnResponse updateAssetReturn(UUID returnId, AssetReturnRequest assetReturnRequest);
+
+    /**
+     * Leases the next {@code limit} waiting returns of the current admin's location to them, so admins
+     * working the queue side by side get disjoint requests.
+     */
+    AssetReturnClaimResponse claimAssetReturns(int limit);
+
+    /**
+     * Completes or cancels the listed returns in one transaction and reports the outcome per item. A return
+     * that changed since it was read, or since the version an item names, is reported as being modified.
+     */
+    BulkAssetReturnResponse updateAssetReturns(List<AssetReturnUpdateItem> items);
 }
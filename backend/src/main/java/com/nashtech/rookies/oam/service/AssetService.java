@@ -1,15 +1,17 @@
 package com.nashtech.rookies.oam.service;
 
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.pagination.CountMode;
 import com.nashtech.rookies.oam.dto.request.AssetRequest;
 import com.nashtech.rookies.oam.dto.request.UpdateAssetRequest;
 import com.nashtech.rookies.oam.dto.response.AssetPageResponse;
 import com.nashtech.rookies.oam.dto.response.AssetResponse;
 import com.nashtech.rookies.oam.dto.response.AssignmentHistory;
 import com.nashtech.rookies.oam.model.Asset;
-import com.nashtech.rookies.oam.model.enums.AssetState;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface AssetService {
@@ -29,7 +31,9 @@ public interface AssetService {
             String sortField,
             String sortOrder,
             List<String> categories,
-            List<String> states
+            List<String> states,
+            String cursor,
+            CountMode countMode
     );
 
     Asset getAssetByIdForUpdate(UUID id);
@@ -38,5 +42,29 @@ public interface AssetService {
 
     boolean isAssetAvailable(Asset asset);
 
-    void updateAssetState(Asset asset, AssetState state);
+    /**
+     * Atomically moves an available asset to {@code ASSIGNED} and returns it.
+     *
+     * @throws com.nashtech.rookies.oam.exception.AssetNotAvailableException if another assignment holds it
+     */
+    Asset claimAsset(UUID id);
+
+    /**
+     * Moves an assigned asset back to {@code AVAILABLE}. Call only with an asset whose entity is not
+     * modified afterwards in the same transaction, since the loaded copy is not refreshed.
+     */
+    void releaseAsset(UUID id);
+
+    /**
+     * Bulk form of {@link #releaseAsset(UUID)}: one update statement for all listed assets.
+     */
+    void releaseAssets(Collection<UUID> ids);
+
+    /**
+     * Claims all listed assets that are still available in one statement and returns the claimed ids.
+     * Ids that are missing or already taken are left out.
+     */
+    Set<UUID> claimAssets(Collection<UUID> ids);
+
+    List<Asset> getAssetsByIds(Collection<UUID> ids);
 }
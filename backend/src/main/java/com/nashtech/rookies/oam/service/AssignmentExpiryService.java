@@ -0,0 +1,11 @@
+package com.nashtech.rookies.oam.service;
+
+public interface AssignmentExpiryService {
+    /**
+     * Declines assignments that have been waiting for acceptance past the configured age and makes
+     * their assets available again.
+     *
+     * @return number of assignments declined
+     */
+    int expireStaleAssignments();
+}
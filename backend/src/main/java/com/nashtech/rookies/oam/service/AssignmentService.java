@@ -3,14 +3,17 @@ package com.nashtech.rookies.oam.service;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
 import com.nashtech.rookies.oam.dto.request.AssignmentPageRequest;
 import com.nashtech.rookies.oam.dto.request.AssignmentRequest;
+import com.nashtech.rookies.oam.dto.request.AssignmentStatusUpdateItem;
 import com.nashtech.rookies.oam.dto.request.AssignmentUpdateRequest;
 import com.nashtech.rookies.oam.dto.request.UpdateAssignmentStatusRequest;
 import com.nashtech.rookies.oam.dto.response.AssignmentDetailResponse;
 import com.nashtech.rookies.oam.dto.response.AssignmentEditViewResponse;
 import com.nashtech.rookies.oam.dto.response.AssignmentPageResponse;
 import com.nashtech.rookies.oam.dto.response.AssignmentResponse;
+import com.nashtech.rookies.oam.dto.response.BulkAssignmentResponse;
 import com.nashtech.rookies.oam.model.Assignment;
 import com.nashtech.rookies.oam.model.AssignmentStatus;
+import com.nashtech.rookies.oam.model.ReferenceDataSet;
 import org.apache.coyote.BadRequestException;
 
 import java.util.List;
@@ -18,6 +21,12 @@ import java.util.UUID;
 
 public interface AssignmentService {
     AssignmentResponse createAssignment(AssignmentRequest request);
+
+    /**
+     * Creates one assignment per request. Items whose user or asset is missing, or whose asset is
+     * not available, are reported as failed without affecting the others.
+     */
+    BulkAssignmentResponse createAssignments(List<AssignmentRequest> requests);
     APIPageableResponseDTO<AssignmentPageResponse> getAssignments(AssignmentPageRequest request);
 
     AssignmentEditViewResponse getAssignmentEditView(UUID id);
@@ -25,11 +34,17 @@ public interface AssignmentService {
     AssignmentResponse updateAssignment(UUID id, AssignmentUpdateRequest assignmentRequest) throws BadRequestException;
     AssignmentResponse updateAssignmentStatus(UUID id, UpdateAssignmentStatusRequest request);
 
+    /**
+     * Accepts or declines several of the current user's assignments in one transaction. Items that are
+     * not owned by the user, not waiting for acceptance, or ask for another status are reported as failed.
+     */
+    BulkAssignmentResponse updateAssignmentStatuses(List<AssignmentStatusUpdateItem> items);
+
     AssignmentDetailResponse getAssignmentDetail(UUID id);
 
     Assignment getAssignmentById(UUID id);
 
     void deleteAssignment(UUID id);
 
-    List<AssignmentStatus> getAllAssignmentStatus();
+    ReferenceDataSet<AssignmentStatus> getAllAssignmentStatus();
 }
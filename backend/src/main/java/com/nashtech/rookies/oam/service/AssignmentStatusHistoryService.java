@@ -0,0 +1,43 @@
+package com.nashtech.rookies.oam.service;
+
+import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.response.AssignmentStatusHistoryResponse;
+import com.nashtech.rookies.oam.model.Assignment;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface AssignmentStatusHistoryService {
+    /**
+     * Appends the assignment's current status to its history once the surrounding transaction
+     * commits. Must be called after the assignment has an id.
+     */
+    void recordStatusChange(Assignment assignment);
+
+    /**
+     * Same as {@link #recordStatusChange(Assignment)} for several assignments changed in one transaction.
+     */
+    void recordStatusChanges(Collection<Assignment> assignments);
+
+    /**
+     * Same as {@link #recordStatusChanges(Collection)} for assignments moved to one status by a bulk
+     * update, without loading them.
+     */
+    void recordStatusChanges(Collection<UUID> assignmentIds, Integer statusId);
+
+    /**
+     * Removes the assignment's history so the assignment itself can be deleted. Rows still buffered
+     * for it are dropped by the writer.
+     */
+    void deleteStatusHistory(UUID assignmentId);
+
+    APIPageableResponseDTO<AssignmentStatusHistoryResponse> getStatusHistory(UUID assignmentId, String cursor, int size);
+
+    /**
+     * Appends the current status of assignments whose history does not end with it, covering
+     * changes that were still buffered when the process stopped.
+     *
+     * @return number of history rows written
+     */
+    int recoverMissingStatuses();
+}
@@ -2,10 +2,9 @@ package com.nashtech.rookies.oam.service;
 
 import com.nashtech.rookies.oam.dto.request.CategoryRequest;
 import com.nashtech.rookies.oam.dto.response.CategoryResponse;
-
-import java.util.List;
+import com.nashtech.rookies.oam.model.ReferenceDataSet;
 
 public interface CategoryService {
     CategoryResponse createCategory(CategoryRequest categoryRequest);
-    List<CategoryResponse> getAllCategories();
+    ReferenceDataSet<CategoryResponse> getAllCategories();
 }
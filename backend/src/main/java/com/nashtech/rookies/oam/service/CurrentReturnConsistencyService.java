@@ -0,0 +1,11 @@
+package com.nashtech.rookies.oam.service;
+
+public interface CurrentReturnConsistencyService {
+    /**
+     * Finds assignments whose current return columns drifted from {@code asset_returns}
+     * and, when repair is enabled, rewrites them.
+     *
+     * @return number of drifted assignments found
+     */
+    int reconcile();
+}
@@ -1,6 +1,8 @@
 package com.nashtech.rookies.oam.service;
 
 import com.nashtech.rookies.oam.model.CustomUserDetails;
+import com.nashtech.rookies.oam.model.RefreshedTokens;
+import com.nashtech.rookies.oam.model.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseCookie;
@@ -11,11 +13,18 @@ public interface JwtService {
     Claims extractAllClaims(String token);
     String extractUsername(String token);
     <T> T extractClaim(String token, Function<Claims, T> claimsResolver);
+    VerifiedToken verifyAccessToken(String token);
     String generateAccessToken(CustomUserDetails user);
     String generateRefreshToken(CustomUserDetails user);
     
     boolean isTokenExpired(String token);
-    String generateAccessTokenFromCookie(HttpServletRequest request);
+    RefreshedTokens refreshTokensFromCookie(HttpServletRequest request);
+    void revokeRefreshTokenFromCookie(HttpServletRequest request);
     ResponseCookie generateRefreshTokenCookie(CustomUserDetails userDetails);
     ResponseCookie revokeRefreshTokenCookie();
+
+    /**
+     * Expires the refresh cookie at the path used before token rotation.
+     */
+    ResponseCookie revokeLegacyRefreshTokenCookie();
 }
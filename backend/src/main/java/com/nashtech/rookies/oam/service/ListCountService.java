@@ -0,0 +1,11 @@
+package com.nashtech.rookies.oam.service;
+
+import com.nashtech.rookies.oam.model.ListCountKey;
+
+import java.util.function.LongSupplier;
+
+public interface ListCountService {
+    long count(Class<?> entityType, ListCountKey key, LongSupplier counter);
+
+    void invalidate(Class<?> entityType);
+}
@@ -0,0 +1,5 @@
+package com.nashtech.rookies.oam.service;
+
+public interface LoginThrottleService {
+    void acquire(String username, String clientIp);
+}
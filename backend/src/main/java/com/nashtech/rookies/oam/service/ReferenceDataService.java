@@ -0,0 +1,44 @@
+package com.nashtech.rookies.oam.service;
+
+import com.nashtech.rookies.oam.model.AssignmentStatus;
+import com.nashtech.rookies.oam.model.Category;
+import com.nashtech.rookies.oam.model.Location;
+import com.nashtech.rookies.oam.model.ReferenceDataSet;
+import com.nashtech.rookies.oam.model.Role;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory view of the small tables that almost never change: assignment statuses, roles, locations
+ * and categories. Returned entities are shared between requests and must be treated as read-only.
+ */
+public interface ReferenceDataService {
+    Optional<AssignmentStatus> findAssignmentStatusByName(String name);
+
+    ReferenceDataSet<AssignmentStatus> getAssignmentStatuses();
+
+    /**
+     * Resolves status names to ids so queries can filter on {@code assignments.status_id} directly.
+     * Unknown names are dropped.
+     */
+    List<Integer> findAssignmentStatusIds(Collection<String> names);
+
+    Optional<Role> findRoleByName(String name);
+
+    List<Role> getRoles();
+
+    Optional<Location> findLocationByCode(String code);
+
+    Optional<Category> findCategoryById(Integer id);
+
+    ReferenceDataSet<Category> getCategories();
+
+    void refresh();
+
+    /**
+     * Reloads once the surrounding transaction commits, or right away when there is none.
+     */
+    void refreshAfterCommit();
+}
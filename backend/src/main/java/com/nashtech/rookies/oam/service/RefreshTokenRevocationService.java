@@ -0,0 +1,9 @@
+package com.nashtech.rookies.oam.service;
+
+import java.time.Instant;
+
+public interface RefreshTokenRevocationService {
+    boolean isRevoked(String jti);
+    boolean revoke(String jti, Instant expiresAt);
+    void rebuild();
+}
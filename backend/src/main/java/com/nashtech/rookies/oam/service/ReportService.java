@@ -1,15 +1,14 @@
 package com.nashtech.rookies.oam.service;
 
-import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.response.AssetReportPageResponse;
 import com.nashtech.rookies.oam.dto.response.ExportResponse;
-import com.nashtech.rookies.oam.model.Report;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
 public interface ReportService {
-    APIPageableResponseDTO<Report> getReport(
+    AssetReportPageResponse getReport(
             int pageNo,
             int pageSize,
             String sortField,
@@ -0,0 +1,28 @@
+package com.nashtech.rookies.oam.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Keeps the materialized {@code report_view} reasonably fresh without recomputing it per request.
+ */
+public interface ReportViewService {
+    /**
+     * Records that asset data changed. Takes effect once the surrounding transaction commits, or right
+     * away when there is none.
+     */
+    void markDirty();
+
+    /**
+     * Refreshes the view if writes have settled for the debounce interval, or if it is older than the
+     * staleness bound.
+     *
+     * @return whether a refresh ran
+     */
+    boolean refreshIfDue();
+
+    /**
+     * @return when the view was last refreshed by any instance
+     */
+    Optional<LocalDateTime> getRefreshedAt();
+}
@@ -1,6 +1,7 @@
 package com.nashtech.rookies.oam.service;
 
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.pagination.CountMode;
 import com.nashtech.rookies.oam.dto.request.EditUserRequest;
 import com.nashtech.rookies.oam.dto.request.UserRequestDto;
 import com.nashtech.rookies.oam.dto.response.CurrentUserResponseDto;
@@ -10,6 +11,7 @@ import com.nashtech.rookies.oam.dto.response.UserResponseDto;
 import com.nashtech.rookies.oam.model.User;
 import com.nashtech.rookies.oam.model.enums.UserStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,7 +24,9 @@ public interface UserService {
             String sortField,
             String sortOrder,
             List<String> roles,
-            List<String> status
+            List<String> status,
+            String cursor,
+            CountMode countMode
     );
     UserDetailResponseDto getUserById(String id);
     CurrentUserResponseDto getCurrentUser();
@@ -30,4 +34,6 @@ public interface UserService {
 
     User getUserById(UUID id);
 
+    List<User> getUsersByIds(Collection<UUID> ids);
+
 }
@@ -0,0 +1,12 @@
+package com.nashtech.rookies.oam.service;
+
+import com.nashtech.rookies.oam.model.User;
+import com.nashtech.rookies.oam.model.UserSnapshot;
+
+import java.util.Optional;
+
+public interface UserSnapshotService {
+    Optional<UserSnapshot> findByUsername(String username);
+    User loadUser(UserSnapshot snapshot);
+    void evict(String username);
+}
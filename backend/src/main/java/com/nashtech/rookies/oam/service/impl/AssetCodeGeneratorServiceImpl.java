@@ -2,32 +2,53 @@ package com.nashtech.rookies.oam.service.impl;
 
 import com.nashtech.rookies.oam.constant.ErrorCode;
 import com.nashtech.rookies.oam.exception.CategoryEmptyException;
-import com.nashtech.rookies.oam.model.AssetCodeCount;
+import com.nashtech.rookies.oam.model.enums.AssetCodeGapPolicy;
 import com.nashtech.rookies.oam.repository.AssetCodeCountRepository;
 import com.nashtech.rookies.oam.service.AssetCodeGeneratorService;
-import jakarta.persistence.OptimisticLockException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Hands out asset codes from blocks reserved per category prefix.
+ *
+ * <p>A block is reserved with one atomic upsert on {@code asset_code_count}, so nodes never
+ * overlap. Codes inside a block are taken with a lock-free increment; only the thread that
+ * finds the block exhausted goes back to the database.</p>
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AssetCodeGeneratorServiceImpl implements AssetCodeGeneratorService {
     private static final String ASSET_CODE_FORMAT = "%s%06d";
-    private static final Integer ASSET_CODE_INCREMENT_BY = 1;
 
     private final AssetCodeCountRepository assetCodeCountRepository;
 
-    @Retryable(
-            retryFor = OptimisticLockException.class,
-            maxAttempts = 4,
-            backoff = @Backoff(delay = 100))
+    @Value("${app.asset-code.block-size:50}")
+    private int BLOCK_SIZE;
+
+    @Value("${app.asset-code.gap-policy:RELEASE_ON_SHUTDOWN}")
+    private AssetCodeGapPolicy GAP_POLICY;
+
+    private final Map<String, CodeBlock> blocks = new ConcurrentHashMap<>();
+    private final Map<String, Lock> refillLocks = new ConcurrentHashMap<>();
+    private int blockSize;
+
+    @PostConstruct
+    public void init() {
+        blockSize = GAP_POLICY == AssetCodeGapPolicy.NONE ? 1 : Math.max(1, BLOCK_SIZE);
+    }
+
     @Override
     public String generateAssetCode(String categoryPrefix) {
         if(StringUtils.isBlank(categoryPrefix)) {
@@ -35,20 +56,76 @@ public class AssetCodeGeneratorServiceImpl implements AssetCodeGeneratorService
             throw new CategoryEmptyException(ErrorCode.CATEGORY_EMPTY.getMessage());
         }
 
-        AssetCodeCount sequence = assetCodeCountRepository.findByIdForUpdate(categoryPrefix)
-                .orElseGet(() -> createNewAssetCodeCount(categoryPrefix));
+        return String.format(ASSET_CODE_FORMAT, categoryPrefix, nextValue(categoryPrefix));
+    }
 
-        Integer lastValue = Optional.ofNullable(sequence.getLastValue()).orElse(0);
-        Integer next = lastValue + ASSET_CODE_INCREMENT_BY;
+    @PreDestroy
+    public void releaseUnusedCodes() {
+        if (GAP_POLICY != AssetCodeGapPolicy.RELEASE_ON_SHUTDOWN) {
+            return;
+        }
+        blocks.forEach((prefix, block) -> {
+            int firstUnused = block.drain();
+            if (firstUnused > block.end) {
+                return;
+            }
+            int released = assetCodeCountRepository.releaseBlock(prefix, block.end, firstUnused - 1);
+            log.info("Asset codes {}..{} for prefix {} {}", firstUnused, block.end, prefix,
+                    released > 0 ? "released" : "left as a gap, a newer block exists");
+        });
+    }
 
-        sequence.setLastValue(next);
-        assetCodeCountRepository.save(sequence);
+    private int nextValue(String categoryPrefix) {
+        CodeBlock block = blocks.get(categoryPrefix);
+        if (block != null) {
+            int value = block.next();
+            if (value != CodeBlock.EXHAUSTED) {
+                return value;
+            }
+        }
 
-        return String.format(ASSET_CODE_FORMAT, categoryPrefix, next);
+        Lock lock = refillLocks.computeIfAbsent(categoryPrefix, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            while (true) {
+                block = blocks.get(categoryPrefix);
+                if (block != null) {
+                    int value = block.next();
+                    if (value != CodeBlock.EXHAUSTED) {
+                        return value;
+                    }
+                }
+                blocks.put(categoryPrefix, reserveBlock(categoryPrefix));
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
-    private AssetCodeCount createNewAssetCodeCount(String categoryPrefix) {
-        AssetCodeCount newAssetCodeCount = AssetCodeCount.builder().id(categoryPrefix).lastValue(0).build();
-        return assetCodeCountRepository.save(newAssetCodeCount);
+    private CodeBlock reserveBlock(String categoryPrefix) {
+        int end = assetCodeCountRepository.reserveBlock(categoryPrefix, blockSize);
+        log.debug("Reserved asset codes {}..{} for prefix {}", end - blockSize + 1, end, categoryPrefix);
+        return new CodeBlock(end - blockSize + 1, end);
+    }
+
+    private static final class CodeBlock {
+        static final int EXHAUSTED = -1;
+
+        private final AtomicInteger next;
+        private final int end;
+
+        CodeBlock(int start, int end) {
+            this.next = new AtomicInteger(start);
+            this.end = end;
+        }
+
+        int next() {
+            int value = next.getAndIncrement();
+            return value <= end ? value : EXHAUSTED;
+        }
+
+        int drain() {
+            return next.getAndSet(end + 1);
+        }
     }
 }
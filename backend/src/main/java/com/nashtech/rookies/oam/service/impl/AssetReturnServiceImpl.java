@@ -4,30 +4,39 @@ import com.nashtech.rookies.oam.constant.ErrorCode;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
 import com.nashtech.rookies.oam.dto.request.AssetReturnPageRequest;
 import com.nashtech.rookies.oam.dto.request.AssetReturnRequest;
+import com.nashtech.rookies.oam.dto.request.AssetReturnUpdateItem;
+import com.nashtech.rookies.oam.dto.response.AssetReturnClaimResponse;
 import com.nashtech.rookies.oam.dto.response.AssetReturnPageResponse;
 import com.nashtech.rookies.oam.dto.response.AssetReturnResponse;
+import com.nashtech.rookies.oam.dto.response.BulkAssetReturnItemResult;
+import com.nashtech.rookies.oam.dto.response.BulkAssetReturnResponse;
 import com.nashtech.rookies.oam.exception.*;
 import com.nashtech.rookies.oam.mapper.AssetReturnMapper;
 import com.nashtech.rookies.oam.model.AssetReturn;
 import com.nashtech.rookies.oam.model.Assignment;
 import com.nashtech.rookies.oam.model.AssignmentStatus;
+import com.nashtech.rookies.oam.model.ListCountKey;
 import com.nashtech.rookies.oam.model.User;
-import com.nashtech.rookies.oam.model.enums.AssetState;
 import com.nashtech.rookies.oam.model.enums.AssignmentStatusType;
 import com.nashtech.rookies.oam.model.enums.ReturnState;
 import com.nashtech.rookies.oam.model.enums.RoleName;
+import com.nashtech.rookies.oam.projection.AssetReturnTransitionTarget;
 import com.nashtech.rookies.oam.repository.AssetReturnRepository;
 import com.nashtech.rookies.oam.repository.AssignmentRepository;
-import com.nashtech.rookies.oam.repository.AssignmentStatusRepository;
 import com.nashtech.rookies.oam.service.AssetReturnService;
 import com.nashtech.rookies.oam.service.AssetService;
+import com.nashtech.rookies.oam.service.AssignmentStatusHistoryService;
 import com.nashtech.rookies.oam.service.AuthService;
+import com.nashtech.rookies.oam.service.ListCountService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
 import com.nashtech.rookies.oam.specification.AssetReturnSpecification;
+import com.nashtech.rookies.oam.util.KeysetPageUtil;
+import com.nashtech.rookies.oam.util.PageUtil;
 import com.nashtech.rookies.oam.util.SortUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -39,10 +48,20 @@ import org.springframework.util.CollectionUtils;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -50,11 +69,19 @@ import java.util.UUID;
 public class AssetReturnServiceImpl implements AssetReturnService {
     private final AssignmentRepository assignmentRepository;
     private final AssetReturnRepository assetReturnRepository;
-    private final AssignmentStatusRepository assignmentStatusRepository;
+    private final ReferenceDataService referenceDataService;
     private final AssetReturnMapper assetReturnMapper;
     private final AuthService authService;
     private final Clock clock;
     private final AssetService assetService;
+    private final ListCountService listCountService;
+    private final AssignmentStatusHistoryService assignmentStatusHistoryService;
+
+    @Value("${app.asset-return-claim.lease-seconds:300}")
+    private long CLAIM_LEASE_SECONDS;
+
+    private static final List<String> ASSET_RETURN_LIST_FETCH_PATHS =
+            List.of("assignment", "assignment.asset", "assignment.user");
 
     @Override
     @Transactional
@@ -79,6 +106,7 @@ public class AssetReturnServiceImpl implements AssetReturnService {
 
         AssetReturn assetReturn = initializeAssetReturn(assignment);
         assetReturn = assetReturnRepository.save(assetReturn);
+        assignment.trackCurrentReturn(assetReturn);
 
         return assetReturnMapper.toDTO(assetReturn);
     }
@@ -88,17 +116,192 @@ public class AssetReturnServiceImpl implements AssetReturnService {
     public AssetReturnResponse updateAssetReturn(UUID returnId, AssetReturnRequest request) {
         AssetReturn assetReturn = getAssetReturnById(returnId);
         validateUpdatable(assetReturn);
+        validateNotClaimedByOther(assetReturn);
 
         updateAssetReturnState(assetReturn, request);
 
         return assetReturnMapper.toDTO(assetReturn);
     }
 
+    @Override
+    @Transactional
+    public AssetReturnClaimResponse claimAssetReturns(int limit) {
+        User currentUser = authService.getAuthenticatedUser();
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime leaseUntil = now.plusSeconds(CLAIM_LEASE_SECONDS);
+
+        List<UUID> claimedIds = assetReturnRepository.claimWaiting(currentUser.getLocation().getId(),
+                currentUser.getUsername(), now, leaseUntil, limit);
+        List<AssetReturnPageResponse> items = claimedIds.isEmpty()
+                ? List.of()
+                : assetReturnRepository.findAllByIdInOrderByCreatedAtAsc(claimedIds).stream()
+                        .map(assetReturnMapper::toAssetReturnPageResponse)
+                        .toList();
+
+        log.info("User {} claimed {} asset returns until {}", currentUser.getUsername(), items.size(), leaseUntil);
+        return AssetReturnClaimResponse.builder()
+                .claimedUntil(leaseUntil)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * Applies every transition with a handful of set-based statements instead of the per-return round trips
+     * of {@link #updateAssetReturn}: one read of the targets, one conditional UPDATE per target state and
+     * version (returns rarely go past a version or two, so there are few groups), and one UPDATE each for the
+     * assignments and the assets. An item whose row changed between the read and its UPDATE is reported as
+     * being modified rather than failing the batch.
+     */
+    @Override
+    @Transactional
+    public BulkAssetReturnResponse updateAssetReturns(List<AssetReturnUpdateItem> items) {
+        String actor = authService.getAuthenticatedUser().getUsername();
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDate today = LocalDate.now(clock);
+        Map<UUID, AssetReturnTransitionTarget> targets = assetReturnRepository
+                .findTransitionTargets(items.stream().map(AssetReturnUpdateItem::getId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(AssetReturnTransitionTarget::getId, Function.identity()));
+
+        BulkAssetReturnItemResult[] results = new BulkAssetReturnItemResult[items.size()];
+        Map<ReturnState, Map<Long, List<PendingTransition>>> pending = new EnumMap<>(ReturnState.class);
+        Set<UUID> pendingIds = new HashSet<>();
+
+        for (int index = 0; index < items.size(); index++) {
+            AssetReturnUpdateItem item = items.get(index);
+            AssetReturnTransitionTarget target = targets.get(item.getId());
+            ReturnState newState = parseTargetState(item.getState());
+            String error = validateTransition(item, target, newState, pendingIds, actor, now);
+            if (error != null) {
+                results[index] = bulkItemResult(index, item.getId(), null, error);
+                continue;
+            }
+
+            pendingIds.add(item.getId());
+            pending.computeIfAbsent(newState, state -> new HashMap<>())
+                    .computeIfAbsent(versionOf(target), version -> new ArrayList<>())
+                    .add(new PendingTransition(index, target));
+        }
+
+        Map<ReturnState, List<PendingTransition>> applied = new EnumMap<>(ReturnState.class);
+        pending.forEach((newState, byVersion) -> byVersion.forEach((version, transitions) -> {
+            List<UUID> ids = transitions.stream().map(transition -> transition.target().getId()).toList();
+            Set<UUID> changed = new HashSet<>(newState == ReturnState.COMPLETED
+                    ? assetReturnRepository.completeWaiting(ids, version, today, actor, now)
+                    : assetReturnRepository.cancelWaiting(ids, version, actor, now));
+
+            for (PendingTransition transition : transitions) {
+                AssetReturnTransitionTarget target = transition.target();
+                if (!changed.contains(target.getId())) {
+                    results[transition.index()] = bulkItemResult(transition.index(), target.getId(), null,
+                            ErrorCode.RETURN_ASSET_BEING_MODIFIED.getMessage());
+                    continue;
+                }
+                applied.computeIfAbsent(newState, state -> new ArrayList<>()).add(transition);
+                results[transition.index()] = bulkItemResult(transition.index(), target.getId(),
+                        AssetReturnResponse.builder()
+                                .id(target.getId())
+                                .assignmentId(target.getAssignmentId())
+                                .state(newState)
+                                .returnedDate(newState == ReturnState.COMPLETED ? today : null)
+                                .version(version + 1)
+                                .build(),
+                        null);
+            }
+        }));
+
+        applyCompletions(applied.getOrDefault(ReturnState.COMPLETED, List.of()), today, actor, now);
+        applyCancellations(applied.getOrDefault(ReturnState.CANCELED, List.of()), actor, now);
+
+        int succeeded = applied.values().stream().mapToInt(List::size).sum();
+        if (succeeded > 0) {
+            listCountService.invalidate(AssetReturn.class);
+            listCountService.invalidate(Assignment.class);
+        }
+
+        log.info("User {} bulk updated {} of {} asset returns", actor, succeeded, items.size());
+        return BulkAssetReturnResponse.builder()
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .results(List.of(results))
+                .build();
+    }
+
+    private record PendingTransition(int index, AssetReturnTransitionTarget target) {
+    }
+
+    private ReturnState parseTargetState(String state) {
+        try {
+            ReturnState parsed = ReturnState.valueOf(state.toUpperCase(Locale.ROOT));
+            return parsed == ReturnState.WAITING_FOR_RETURNING ? null : parsed;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String validateTransition(AssetReturnUpdateItem item, AssetReturnTransitionTarget target,
+                                      ReturnState newState, Set<UUID> pendingIds, String actor, LocalDateTime now) {
+        if (newState == null) {
+            return ErrorCode.INVALID_ASSET_RETURN_STATE.getMessage();
+        }
+        if (target == null) {
+            return ErrorCode.REQUEST_RETURN_NOT_FOUND.getMessage();
+        }
+        if (target.getState() != ReturnState.WAITING_FOR_RETURNING || pendingIds.contains(target.getId())) {
+            return ErrorCode.ASSET_RETURN_NOT_UPDATABLE.getMessage();
+        }
+        if (AssetReturn.isClaimedByOtherThan(target.getClaimedBy(), target.getClaimedUntil(), actor, now)
+                || (item.getVersion() != null && item.getVersion() != versionOf(target))) {
+            return ErrorCode.RETURN_ASSET_BEING_MODIFIED.getMessage();
+        }
+        return null;
+    }
+
+    private long versionOf(AssetReturnTransitionTarget target) {
+        return target.getVersion() == null ? 0L : target.getVersion();
+    }
+
+    private void applyCompletions(List<PendingTransition> completed, LocalDate today, String actor,
+                                  LocalDateTime now) {
+        if (completed.isEmpty()) {
+            return;
+        }
+        AssignmentStatus completedStatus = getAssignmentStatus(AssignmentStatusType.COMPLETED);
+        List<UUID> assignmentIds = completed.stream().map(transition -> transition.target().getAssignmentId()).toList();
+
+        assignmentRepository.applyReturnOutcome(assignmentIds, completedStatus, ReturnState.COMPLETED, today,
+                now, actor);
+        assetService.releaseAssets(completed.stream().map(transition -> transition.target().getAssetId()).toList());
+        assignmentStatusHistoryService.recordStatusChanges(assignmentIds, completedStatus.getId());
+    }
+
+    private void applyCancellations(List<PendingTransition> canceled, String actor, LocalDateTime now) {
+        if (canceled.isEmpty()) {
+            return;
+        }
+        assignmentRepository.applyReturnOutcome(
+                canceled.stream().map(transition -> transition.target().getAssignmentId()).toList(),
+                getAssignmentStatus(AssignmentStatusType.ACCEPTED), ReturnState.CANCELED, null, now, actor);
+    }
+
+    private BulkAssetReturnItemResult bulkItemResult(int index, UUID returnId, AssetReturnResponse response,
+                                                     String error) {
+        return BulkAssetReturnItemResult.builder()
+                .index(index)
+                .returnId(returnId)
+                .success(error == null)
+                .assetReturn(response)
+                .error(error)
+                .build();
+    }
+
     private void updateAssetReturnState(AssetReturn assetReturn, AssetReturnRequest request) {
         Assignment assignment = getAssignmentFromReturn(assetReturn);
         ReturnState newState = parseReturnState(request.getState());
 
         applyStateTransition(assetReturn, assignment, newState);
+        assetReturn.releaseClaim();
+        assignment.trackCurrentReturn(assetReturn);
         saveEntities(assetReturn, assignment);
 
         log.info("Updated asset return and assignment for ID: {}", assetReturn.getId());
@@ -129,7 +332,8 @@ public class AssetReturnServiceImpl implements AssetReturnService {
         assignment.setStatus(getAssignmentStatus(AssignmentStatusType.COMPLETED));
         assetReturn.setReturnedDate(LocalDate.now(clock));
         assetReturn.setState(ReturnState.COMPLETED);
-        assetService.updateAssetState(assignment.getAsset(), AssetState.AVAILABLE);
+        assetService.releaseAsset(assignment.getAsset().getId());
+        assignmentStatusHistoryService.recordStatusChange(assignment);
     }
 
     private void handleCanceledState(AssetReturn assetReturn, Assignment assignment) {
@@ -148,13 +352,13 @@ public class AssetReturnServiceImpl implements AssetReturnService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public APIPageableResponseDTO<AssetReturnPageResponse> getAssetReturns(AssetReturnPageRequest request) {
         if (CollectionUtils.isEmpty(request.getStates())) {
             request.setStates(getDefaultReturnStates());
         }
 
         Sort sort = SortUtil.buildAssetReturnSort(request.getSort(), request.getSortOrder());
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 
         User currentUser = authService.getAuthenticatedUser();
 
@@ -166,10 +370,23 @@ public class AssetReturnServiceImpl implements AssetReturnService {
                 currentUser.getLocation().getId()
         );
 
-        Page<AssetReturn> page = assetReturnRepository.findAll(spec, pageable);
-        Page<AssetReturnPageResponse> dtoPage = page.map(assetReturnMapper::toAssetReturnPageResponse);
+        if (request.isCursorMode()) {
+            return KeysetPageUtil.fetch(assetReturnRepository, spec, sort, request.getCursor(), request.getSize(),
+                    ASSET_RETURN_LIST_FETCH_PATHS, assetReturnMapper::toAssetReturnPageResponse);
+        }
 
-        return new APIPageableResponseDTO<>(dtoPage);
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
+        ListCountKey countKey = ListCountKey.of(currentUser.getLocation().getId(), request.getSearch(),
+                request.getStates(), request.getReturnedDateFrom(), request.getReturnedDateTo());
+
+        return PageUtil.fetch(
+                request.getCountMode(),
+                pageable,
+                page -> assetReturnRepository.findAll(spec, page),
+                page -> assetReturnRepository.findSlice(spec, page),
+                () -> listCountService.count(AssetReturn.class, countKey, () -> assetReturnRepository.count(spec)),
+                assetReturnMapper::toAssetReturnPageResponse
+        );
     }
 
     private List<String> getDefaultReturnStates() {
@@ -187,9 +404,9 @@ public class AssetReturnServiceImpl implements AssetReturnService {
     }
 
     private void checkExistingReturnRequest(Assignment assignment) {
-        assetReturnRepository.findTopByAssignmentOrderByCreatedAtDesc(assignment)
-                .ifPresent(latest -> {
-                    switch (latest.getState()) {
+        Optional.ofNullable(assignment.getCurrentReturnState())
+                .ifPresent(latestState -> {
+                    switch (latestState) {
                         case WAITING_FOR_RETURNING ->
                                 throw new RequestReturnAssetAlreadyExistsException(ErrorCode.REQUEST_RETURN_ASSET_ALREADY_EXISTS.getMessage());
                         case COMPLETED ->
@@ -210,7 +427,7 @@ public class AssetReturnServiceImpl implements AssetReturnService {
     }
 
     private AssignmentStatus getAssignmentStatus (AssignmentStatusType status) {
-        return assignmentStatusRepository.findByName(status.getDbName())
+        return referenceDataService.findAssignmentStatusByName(status.getDbName())
                 .orElseThrow(() -> new AssignmentStatusNotFoundException(ErrorCode.ASSIGNMENT_STATUS_NOT_FOUND.getMessage()));
     }
 
@@ -227,6 +444,18 @@ public class AssetReturnServiceImpl implements AssetReturnService {
         }
     }
 
+    private void validateNotClaimedByOther(AssetReturn assetReturn) {
+        if (assetReturn.getClaimedBy() == null) {
+            return;
+        }
+        String currentUsername = authService.getAuthenticatedUser().getUsername();
+        if (assetReturn.isClaimedByOtherThan(currentUsername, LocalDateTime.now(clock))) {
+            log.warn("Asset return {} is claimed by {} until {}",
+                    assetReturn.getId(), assetReturn.getClaimedBy(), assetReturn.getClaimedUntil());
+            throw new ReturnAssetBeingModifiedException(ErrorCode.RETURN_ASSET_BEING_MODIFIED.getMessage());
+        }
+    }
+
     private boolean isAssetReturnWaitingForReturning(AssetReturn assetReturn) {
         return Objects.equals(assetReturn.getState().name(), ReturnState.WAITING_FOR_RETURNING.name());
     }
@@ -2,6 +2,7 @@ package com.nashtech.rookies.oam.service.impl;
 
 import com.nashtech.rookies.oam.constant.ErrorCode;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.pagination.CountMode;
 import com.nashtech.rookies.oam.dto.request.AssetRequest;
 import com.nashtech.rookies.oam.dto.request.UpdateAssetRequest;
 import com.nashtech.rookies.oam.dto.response.AssetPageResponse;
@@ -12,6 +13,7 @@ import com.nashtech.rookies.oam.mapper.AssetMapper;
 import com.nashtech.rookies.oam.mapper.AssignmentMapper;
 import com.nashtech.rookies.oam.model.Asset;
 import com.nashtech.rookies.oam.model.Category;
+import com.nashtech.rookies.oam.model.ListCountKey;
 import com.nashtech.rookies.oam.model.Location;
 import com.nashtech.rookies.oam.model.User;
 import com.nashtech.rookies.oam.model.enums.AssetState;
@@ -20,11 +22,14 @@ import com.nashtech.rookies.oam.projection.AssignmentWithReturnDate;
 import com.nashtech.rookies.oam.projection.EditAssetProjection;
 import com.nashtech.rookies.oam.repository.AssetRepository;
 import com.nashtech.rookies.oam.repository.AssignmentRepository;
-import com.nashtech.rookies.oam.repository.CategoryRepository;
 import com.nashtech.rookies.oam.service.AssetCodeGeneratorService;
 import com.nashtech.rookies.oam.service.AssetService;
 import com.nashtech.rookies.oam.service.AuthService;
+import com.nashtech.rookies.oam.service.ListCountService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
+import com.nashtech.rookies.oam.service.ReportViewService;
 import com.nashtech.rookies.oam.specification.AssetSpecification;
+import com.nashtech.rookies.oam.util.KeysetPageUtil;
 import com.nashtech.rookies.oam.util.PageUtil;
 import com.nashtech.rookies.oam.util.SortUtil;
 import lombok.AccessLevel;
@@ -36,11 +41,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -52,9 +61,13 @@ public class AssetServiceImpl implements AssetService {
     AssetRepository assetRepository;
     AssetMapper assetMapper;
     AssignmentMapper assignmentMapper;
-    CategoryRepository categoryRepository;
+    ReferenceDataService referenceDataService;
     AssignmentRepository assignmentRepository;
     AssetCodeGeneratorService assetCodeGeneratorService;
+    ListCountService listCountService;
+    ReportViewService reportViewService;
+
+    static final List<String> ASSET_LIST_FETCH_PATHS = List.of("category", "location");
 
     @Transactional
     @Override
@@ -121,16 +134,17 @@ public class AssetServiceImpl implements AssetService {
     @Override
     public APIPageableResponseDTO<AssignmentHistory> getAssignmentHistory(UUID assetId, Integer pageNo, Integer pageSize) {
         PageRequest pageRequest = PageUtil.buildPageRequest(pageNo, pageSize);
-        List<String> defaultStatuses = List.of(
+        List<Integer> defaultStatusIds = referenceDataService.findAssignmentStatusIds(List.of(
                 AssignmentStatusType.ACCEPTED.getDbName(),
                 AssignmentStatusType.COMPLETED.getDbName()
-        );
-        Page<AssignmentWithReturnDate> assignmentPage = assignmentRepository.findAllWithReturnDateByAsset_Id(assetId, defaultStatuses, pageRequest);
+        ));
+        Page<AssignmentWithReturnDate> assignmentPage = assignmentRepository.findAllWithReturnDateByAsset_Id(assetId, defaultStatusIds, pageRequest);
         Page<AssignmentHistory> historyPage = assignmentPage.map(assignmentMapper::toAssignmentHistory);
 
         return new APIPageableResponseDTO<>(historyPage);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public APIPageableResponseDTO<AssetPageResponse> getAssets(
             int pageNo,
@@ -139,7 +153,9 @@ public class AssetServiceImpl implements AssetService {
             String sortField,
             String sortOrder,
             List<String> categories,
-            List<String> states
+            List<String> states,
+            String cursor,
+            CountMode countMode
     ) {
         if (CollectionUtils.isEmpty(states)) {
             states = getDefaultFilterStates();
@@ -149,15 +165,25 @@ public class AssetServiceImpl implements AssetService {
 
         Sort sort = SortUtil.buildAssetSort(sortField, sortOrder);
 
+        Specification<Asset> spec = AssetSpecification.build(search, categories, states, currentUser.getLocation());
+
+        if (cursor != null) {
+            return KeysetPageUtil.fetch(assetRepository, spec, sort, cursor, pageSize,
+                    ASSET_LIST_FETCH_PATHS, assetMapper::toAssetPageResponseDto);
+        }
+
         Pageable pageable = PageRequest.of(Math.max(pageNo, 0), Math.max(pageSize, 1), sort);
 
-        Page<Asset> assetPage = assetRepository.findAll(
-                AssetSpecification.build(search, categories, states, currentUser.getLocation()),
-                pageable
-        );
+        ListCountKey countKey = ListCountKey.of(currentUser.getLocation().getId(), search, categories, states);
 
-        Page<AssetPageResponse> dtoPage = assetPage.map(assetMapper::toAssetPageResponseDto);
-        return new APIPageableResponseDTO<>(dtoPage);
+        return PageUtil.fetch(
+                countMode,
+                pageable,
+                page -> assetRepository.findAll(spec, page),
+                page -> assetRepository.findSlice(spec, page),
+                () -> listCountService.count(Asset.class, countKey, () -> assetRepository.count(spec)),
+                assetMapper::toAssetPageResponseDto
+        );
     }
 
     @Override
@@ -191,9 +217,65 @@ public class AssetServiceImpl implements AssetService {
 
     @Override
     @Transactional
-    public void updateAssetState(Asset asset, AssetState state) {
-        asset.setState(state);
-        assetRepository.save(asset);
+    public Asset claimAsset(UUID id) {
+        if (assetRepository.transitionState(id, AssetState.AVAILABLE, AssetState.ASSIGNED) == 0) {
+            if (!assetRepository.existsById(id)) {
+                throw new AssetNotFoundException(ErrorCode.ASSET_NOT_FOUND.getMessage());
+            }
+            log.info("Asset {} is no longer available, claim rejected", id);
+            throw new AssetNotAvailableException(ErrorCode.ASSET_NOT_AVAILABLE.getMessage());
+        }
+        assetRepository.refreshLoaded(List.of(id));
+        onBulkAssetWrite();
+
+        return assetRepository.findById(id)
+                .orElseThrow(() -> new AssetNotFoundException(ErrorCode.ASSET_NOT_FOUND.getMessage()));
+    }
+
+    @Override
+    @Transactional
+    public void releaseAsset(UUID id) {
+        if (assetRepository.transitionState(id, AssetState.ASSIGNED, AssetState.AVAILABLE) == 0) {
+            log.warn("Asset {} was not assigned when its assignment released it", id);
+            return;
+        }
+        assetRepository.refreshLoaded(List.of(id));
+        onBulkAssetWrite();
+    }
+
+    @Override
+    @Transactional
+    public void releaseAssets(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        int released = assetRepository.transitionStates(ids, AssetState.ASSIGNED, AssetState.AVAILABLE);
+        if (released < ids.size()) {
+            log.warn("Released {} of {} assets; the rest were not assigned", released, ids.size());
+        }
+        if (released > 0) {
+            assetRepository.refreshLoaded(ids);
+            onBulkAssetWrite();
+        }
+    }
+
+    @Override
+    @Transactional
+    public Set<UUID> claimAssets(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> claimed = new HashSet<>(assetRepository.claimAvailable(ids));
+        if (!claimed.isEmpty()) {
+            assetRepository.refreshLoaded(claimed);
+            onBulkAssetWrite();
+        }
+        return claimed;
+    }
+
+    @Override
+    public List<Asset> getAssetsByIds(Collection<UUID> ids) {
+        return assetRepository.findAllById(ids);
     }
 
     private List<String> getDefaultFilterStates() {
@@ -238,7 +320,7 @@ public class AssetServiceImpl implements AssetService {
 
 
     private Category findCategory(Integer categoryId) {
-        return categoryRepository.findById(categoryId)
+        return referenceDataService.findCategoryById(categoryId)
                 .orElseThrow(() -> {
                     log.debug("Category with id {} not found", categoryId);
                     return new CategoryNotFoundException(ErrorCode.CATEGORY_NOT_FOUND.getMessage());
@@ -256,4 +338,12 @@ public class AssetServiceImpl implements AssetService {
                 .version(request.getVersion())
                 .build();
     }
+
+    /**
+     * Bulk updates bypass the entity listeners, so the caches they would have invalidated are told here.
+     */
+    private void onBulkAssetWrite() {
+        listCountService.invalidate(Asset.class);
+        reportViewService.markDirty();
+    }
 }
@@ -0,0 +1,127 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.constant.ErrorCode;
+import com.nashtech.rookies.oam.exception.AssignmentStatusNotFoundException;
+import com.nashtech.rookies.oam.model.Assignment;
+import com.nashtech.rookies.oam.model.AssignmentStatus;
+import com.nashtech.rookies.oam.model.enums.AssignmentStatusType;
+import com.nashtech.rookies.oam.repository.AssignmentRepository;
+import com.nashtech.rookies.oam.service.AssetService;
+import com.nashtech.rookies.oam.service.AssignmentExpiryService;
+import com.nashtech.rookies.oam.service.AssignmentStatusHistoryService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Declines assignments left waiting for acceptance too long, so their assets do not stay
+ * {@code ASSIGNED} forever.
+ *
+ * <p>Work is done in small batches, each in its own short transaction. A batch locks its assignments
+ * and their assets with {@code SKIP LOCKED}, so the job never waits on rows held by an interactive
+ * request, and every node can run it at the same time without picking the same rows. Whatever is
+ * still pending after a run (locked elsewhere, or over the per-run cap) is reported by the
+ * {@code assignment.expiry.backlog} gauge and picked up next time.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AssignmentExpiryServiceImpl implements AssignmentExpiryService {
+    private final AssignmentRepository assignmentRepository;
+    private final ReferenceDataService referenceDataService;
+    private final AssetService assetService;
+    private final AssignmentStatusHistoryService assignmentStatusHistoryService;
+    private final PlatformTransactionManager transactionManager;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.assignment-expiry.after-days:14}")
+    private int EXPIRE_AFTER_DAYS;
+
+    @Value("${app.assignment-expiry.batch-size:100}")
+    private int BATCH_SIZE;
+
+    @Value("${app.assignment-expiry.max-batches:20}")
+    private int MAX_BATCHES;
+
+    private TransactionTemplate batchTransaction;
+    private Counter processedCounter;
+    private final AtomicLong backlog = new AtomicLong();
+    private Timer durationTimer;
+
+    @PostConstruct
+    public void init() {
+        batchTransaction = new TransactionTemplate(transactionManager);
+        batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        processedCounter = Counter.builder("assignment.expiry.processed")
+                .register(meterRegistry);
+        Gauge.builder("assignment.expiry.backlog", backlog, AtomicLong::get)
+                .register(meterRegistry);
+        durationTimer = Timer.builder("assignment.expiry.duration")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.assignment-expiry.interval-ms:900000}",
+            initialDelayString = "${app.assignment-expiry.initial-delay-ms:120000}")
+    public int expireStaleAssignments() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AssignmentStatus waiting = getStatus(AssignmentStatusType.WAITING_FOR_ACCEPTANCE);
+        AssignmentStatus declined = getStatus(AssignmentStatusType.DECLINED);
+        LocalDate cutoff = LocalDate.now(clock).minusDays(EXPIRE_AFTER_DAYS);
+
+        int expired = 0;
+        for (int batch = 0; batch < MAX_BATCHES; batch++) {
+            Integer declinedInBatch = batchTransaction.execute(status -> expireBatch(waiting, declined, cutoff));
+            expired += declinedInBatch;
+            if (declinedInBatch < BATCH_SIZE) {
+                break;
+            }
+        }
+        long skipped = assignmentRepository.countStaleByStatus(waiting.getId(), cutoff);
+
+        processedCounter.increment(expired);
+        backlog.set(skipped);
+        sample.stop(durationTimer);
+        if (expired > 0 || skipped > 0) {
+            log.info("Declined {} assignments waiting since before {}; {} left for a later run",
+                    expired, cutoff, skipped);
+        }
+        return expired;
+    }
+
+    private int expireBatch(AssignmentStatus waiting, AssignmentStatus declined, LocalDate cutoff) {
+        List<Assignment> stale = assignmentRepository.lockStaleByStatus(waiting.getId(), cutoff, BATCH_SIZE);
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        stale.forEach(assignment -> assignment.setStatus(declined));
+        assetService.releaseAssets(stale.stream().map(assignment -> assignment.getAsset().getId()).toList());
+        List<Assignment> saved = assignmentRepository.saveAll(stale);
+        assignmentStatusHistoryService.recordStatusChanges(saved);
+        return saved.size();
+    }
+
+    private AssignmentStatus getStatus(AssignmentStatusType type) {
+        return referenceDataService.findAssignmentStatusByName(type.getDbName())
+                .orElseThrow(() -> new AssignmentStatusNotFoundException(ErrorCode.ASSIGNMENT_STATUS_NOT_FOUND.getMessage()));
+    }
+}
@@ -4,51 +4,52 @@ import com.nashtech.rookies.oam.constant.ErrorCode;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
 import com.nashtech.rookies.oam.dto.request.AssignmentPageRequest;
 import com.nashtech.rookies.oam.dto.request.AssignmentRequest;
+import com.nashtech.rookies.oam.dto.request.AssignmentStatusUpdateItem;
 import com.nashtech.rookies.oam.dto.request.AssignmentUpdateRequest;
 import com.nashtech.rookies.oam.dto.request.UpdateAssignmentStatusRequest;
 import com.nashtech.rookies.oam.dto.response.AssignmentDetailResponse;
 import com.nashtech.rookies.oam.dto.response.AssignmentEditViewResponse;
 import com.nashtech.rookies.oam.dto.response.AssignmentPageResponse;
 import com.nashtech.rookies.oam.dto.response.AssignmentResponse;
+import com.nashtech.rookies.oam.dto.response.BulkAssignmentItemResult;
+import com.nashtech.rookies.oam.dto.response.BulkAssignmentResponse;
 import com.nashtech.rookies.oam.exception.*;
 import com.nashtech.rookies.oam.mapper.AssignmentMapper;
 import com.nashtech.rookies.oam.model.*;
-import com.nashtech.rookies.oam.model.enums.AssetState;
 import com.nashtech.rookies.oam.model.enums.AssignmentStatusType;
-import com.nashtech.rookies.oam.model.enums.ReturnState;
 import com.nashtech.rookies.oam.model.enums.RoleName;
 import com.nashtech.rookies.oam.projection.AssignmentEditViewProjection;
-import com.nashtech.rookies.oam.repository.AssetReturnRepository;
 import com.nashtech.rookies.oam.repository.AssignmentRepository;
-import com.nashtech.rookies.oam.repository.AssignmentStatusRepository;
 import com.nashtech.rookies.oam.service.AssetService;
 import com.nashtech.rookies.oam.service.AssignmentService;
+import com.nashtech.rookies.oam.service.AssignmentStatusHistoryService;
 import com.nashtech.rookies.oam.service.AuthService;
+import com.nashtech.rookies.oam.service.ListCountService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
 import com.nashtech.rookies.oam.service.UserService;
 import com.nashtech.rookies.oam.service.enums.AssignmentActionRule;
 import com.nashtech.rookies.oam.specification.AssignmentSpecification;
+import com.nashtech.rookies.oam.util.KeysetPageUtil;
+import com.nashtech.rookies.oam.util.PageUtil;
 import com.nashtech.rookies.oam.util.SortUtil;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.nashtech.rookies.oam.model.enums.AssignmentStatusType.*;
 
@@ -62,16 +63,19 @@ public class AssignmentServiceImpl implements AssignmentService {
     private final UserService userService;
 
     private final AssignmentRepository assignmentRepository;
-    private final AssignmentStatusRepository assignmentStatusRepository;
+    private final ReferenceDataService referenceDataService;
 
     private final AssignmentMapper assignmentMapper;
 
     private AssignmentStatus waitingForAcceptanceStatus;
-    private final AssetReturnRepository assetReturnRepository;
+    private final ListCountService listCountService;
+    private final AssignmentStatusHistoryService assignmentStatusHistoryService;
+
+    private static final List<String> ASSIGNMENT_LIST_FETCH_PATHS = List.of("asset", "user", "status", "asset.category");
 
     @PostConstruct
     public void cacheStatuses() {
-        this.waitingForAcceptanceStatus = assignmentStatusRepository.findByName(AssignmentStatusType.WAITING_FOR_ACCEPTANCE.getDbName())
+        this.waitingForAcceptanceStatus = referenceDataService.findAssignmentStatusByName(AssignmentStatusType.WAITING_FOR_ACCEPTANCE.getDbName())
                 .orElseThrow(() -> new AssignmentStatusNotFoundException(ErrorCode.ASSIGNMENT_STATUS_NOT_FOUND.getMessage()));
     }
 
@@ -79,19 +83,69 @@ public class AssignmentServiceImpl implements AssignmentService {
     @Transactional
     public AssignmentResponse createAssignment(AssignmentRequest request) {
         User user = userService.getUserById(request.getUserId());
-        Asset asset = assetService.getAssetByIdForUpdate(request.getAssetId());
-
-        validateAssetAvailability(asset);
+        Asset asset = assetService.claimAsset(request.getAssetId());
 
         Assignment assignment = assignmentMapper.toEntity(request, user, asset, waitingForAcceptanceStatus);
         assignment.setStatus(waitingForAcceptanceStatus);
 
         Assignment saved = assignmentRepository.save(assignment);
-        assetService.updateAssetState(asset, AssetState.ASSIGNED);
+        assignmentStatusHistoryService.recordStatusChange(saved);
 
         return assignmentMapper.toResponse(saved);
     }
 
+    @Override
+    @Transactional
+    public BulkAssignmentResponse createAssignments(List<AssignmentRequest> requests) {
+        Map<UUID, User> users = userService.getUsersByIds(distinctIds(requests, AssignmentRequest::getUserId))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<UUID> assetIds = distinctIds(
+                requests.stream().filter(request -> users.containsKey(request.getUserId())).toList(),
+                AssignmentRequest::getAssetId);
+        Set<UUID> claimedAssetIds = assetService.claimAssets(assetIds);
+        Map<UUID, Asset> assets = assetService.getAssetsByIds(assetIds).stream()
+                .collect(Collectors.toMap(Asset::getId, Function.identity()));
+
+        BulkAssignmentItemResult[] results = new BulkAssignmentItemResult[requests.size()];
+        List<Assignment> pending = new ArrayList<>();
+        List<Integer> pendingIndexes = new ArrayList<>();
+        Set<UUID> usedAssetIds = new HashSet<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            AssignmentRequest request = requests.get(index);
+            String error = validateBulkItem(request, users, assets, claimedAssetIds, usedAssetIds);
+            if (error != null) {
+                results[index] = bulkItemResult(index, request, null, error);
+                continue;
+            }
+
+            usedAssetIds.add(request.getAssetId());
+            Assignment assignment = assignmentMapper.toEntity(request, users.get(request.getUserId()),
+                    assets.get(request.getAssetId()), waitingForAcceptanceStatus);
+            assignment.setStatus(waitingForAcceptanceStatus);
+            pending.add(assignment);
+            pendingIndexes.add(index);
+        }
+
+        List<Assignment> saved = assignmentRepository.saveAll(pending);
+        assignmentStatusHistoryService.recordStatusChanges(saved);
+
+        for (int i = 0; i < saved.size(); i++) {
+            int index = pendingIndexes.get(i);
+            results[index] = bulkItemResult(index, requests.get(index),
+                    assignmentMapper.toResponse(saved.get(i)), null);
+        }
+
+        log.info("Bulk assignment created {} of {} assignments", saved.size(), requests.size());
+        return BulkAssignmentResponse.builder()
+                .succeeded(saved.size())
+                .failed(requests.size() - saved.size())
+                .results(List.of(results))
+                .build();
+    }
+
     @Override
     public AssignmentEditViewResponse getAssignmentEditView(UUID id) {
         AssignmentEditViewProjection projection = assignmentRepository.findProjectedById(id)
@@ -121,23 +175,77 @@ public class AssignmentServiceImpl implements AssignmentService {
 
     @Transactional
     @Override
-    @PreAuthorize("@assignmentSecurity.isCurrentUserAssigned(#id)")
     public AssignmentResponse updateAssignmentStatus(UUID id, UpdateAssignmentStatusRequest request){
-        Assignment assignment = getAssignmentById(id);
+        CustomUserDetails currentUser = authService.getAuthenticatedPrincipal();
+        Assignment assignment = getOwnedAssignment(id, currentUser.getId());
         validateAssignmentState(assignment, AssignmentActionRule.UPDATE);
 
-        AssignmentStatus status = getAssignmentStatus(AssignmentStatusType.valueOf(request.getStatus()));
-        assignment.setStatus(status);
+        AssignmentStatusType target = AssignmentStatusType.fromName(request.getStatus());
+        assignment.setStatus(getAssignmentStatus(target));
 
-        if (request.getStatus().equals(AssignmentStatusType.DECLINED.getDbName())) {
-            assetService.updateAssetState(assignment.getAsset(), AssetState.AVAILABLE);
+        if (target == DECLINED) {
+            assetService.releaseAsset(assignment.getAsset().getId());
         }
 
         Assignment persisted = assignmentRepository.save(assignment);
-        logAssignmentUpdate(assignment.getId());
+        assignmentStatusHistoryService.recordStatusChange(persisted);
+        log.info("User {} is updating assignment {}", currentUser.getUsername(), assignment.getId());
         return assignmentMapper.toResponse(persisted);
     }
 
+    @Override
+    @Transactional
+    public BulkAssignmentResponse updateAssignmentStatuses(List<AssignmentStatusUpdateItem> items) {
+        CustomUserDetails currentUser = authService.getAuthenticatedPrincipal();
+        List<UUID> ids = items.stream().map(AssignmentStatusUpdateItem::getId).distinct().toList();
+        Map<UUID, Assignment> owned = assignmentRepository.findAllOwnedByIdForUpdate(ids, currentUser.getId())
+                .stream()
+                .collect(Collectors.toMap(Assignment::getId, Function.identity()));
+
+        Map<AssignmentStatusType, AssignmentStatus> statuses = new EnumMap<>(AssignmentStatusType.class);
+        BulkAssignmentItemResult[] results = new BulkAssignmentItemResult[items.size()];
+        List<Assignment> updated = new ArrayList<>();
+        List<Integer> updatedIndexes = new ArrayList<>();
+        List<UUID> declinedAssetIds = new ArrayList<>();
+
+        for (int index = 0; index < items.size(); index++) {
+            AssignmentStatusUpdateItem item = items.get(index);
+            Assignment assignment = owned.get(item.getId());
+            AssignmentStatusType target = AssignmentStatusType.fromName(item.getStatus());
+            String error = validateStatusUpdate(assignment, target);
+            if (error != null) {
+                results[index] = statusItemResult(index, item.getId(), assignment, null, error);
+                continue;
+            }
+
+            assignment.setStatus(statuses.computeIfAbsent(target, this::getAssignmentStatus));
+            if (target == DECLINED) {
+                declinedAssetIds.add(assignment.getAsset().getId());
+            }
+            updated.add(assignment);
+            updatedIndexes.add(index);
+        }
+
+        assetService.releaseAssets(declinedAssetIds);
+        List<Assignment> saved = assignmentRepository.saveAll(updated);
+        assignmentStatusHistoryService.recordStatusChanges(saved);
+
+        for (int i = 0; i < saved.size(); i++) {
+            int index = updatedIndexes.get(i);
+            Assignment assignment = saved.get(i);
+            results[index] = statusItemResult(index, assignment.getId(), assignment,
+                    assignmentMapper.toResponse(assignment), null);
+        }
+
+        log.info("User {} updated the status of {} of {} assignments",
+                currentUser.getUsername(), saved.size(), items.size());
+        return BulkAssignmentResponse.builder()
+                .succeeded(saved.size())
+                .failed(items.size() - saved.size())
+                .results(List.of(results))
+                .build();
+    }
+
 
     @Override
     public Assignment getAssignmentById(UUID id) {
@@ -155,6 +263,7 @@ public class AssignmentServiceImpl implements AssignmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public APIPageableResponseDTO<AssignmentPageResponse> getAssignments(
             AssignmentPageRequest request
     ) {
@@ -175,38 +284,96 @@ public class AssignmentServiceImpl implements AssignmentService {
 
         Sort sort = SortUtil.buildAssignmentSort(request.getSort(), request.getSortOrder());
 
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
-
         UUID userId = request.getUserId();
 
         Specification<Assignment> spec = AssignmentSpecification.build(
                 request.getSearch(),
-                request.getStates(),
+                referenceDataService.findAssignmentStatusIds(request.getStates()),
                 request.getAssignedDateFrom(),
                 request.getAssignedDateTo(),
                 userId,
                 currentUser.getLocation().getId()
         );
 
+        if (request.isCursorMode()) {
+            return KeysetPageUtil.fetch(assignmentRepository, spec, sort, request.getCursor(), request.getSize(),
+                    ASSIGNMENT_LIST_FETCH_PATHS, this::toAssignmentPageResponse);
+        }
 
-        Page<Assignment> assignmentPage = assignmentRepository.findAll(spec, pageable);
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 
-        Page<AssignmentPageResponse> dtoPage = assignmentPage.map(assignment -> {
-            Optional<AssetReturn> latestReturn = assetReturnRepository
-                    .findTopByAssignmentOrderByCreatedAtDesc(assignment);
+        ListCountKey countKey = ListCountKey.of(currentUser.getLocation().getId(), request.getSearch(),
+                request.getStates(), request.getAssignedDateFrom(), request.getAssignedDateTo(), userId);
 
-            ReturnState latestState = latestReturn.map(AssetReturn::getState).orElse(null);
+        return PageUtil.fetch(
+                request.getCountMode(),
+                pageable,
+                page -> assignmentRepository.findAll(spec, page),
+                page -> assignmentRepository.findSlice(spec, page),
+                () -> listCountService.count(Assignment.class, countKey, () -> assignmentRepository.count(spec)),
+                this::toAssignmentPageResponse
+        );
+    }
 
-            return assignmentMapper.toAssignmentPageResponse(assignment, latestState);
-        });
+    private AssignmentPageResponse toAssignmentPageResponse(Assignment assignment) {
+        return assignmentMapper.toAssignmentPageResponse(assignment, assignment.getCurrentReturnState());
+    }
 
-        return new APIPageableResponseDTO<>(dtoPage);
+    private static List<UUID> distinctIds(List<AssignmentRequest> requests, Function<AssignmentRequest, UUID> idOf) {
+        return requests.stream().map(idOf).distinct().toList();
     }
 
-    private void validateAssetAvailability(Asset asset) {
-        if (!assetService.isAssetAvailable(asset)) {
-            throw new AssetNotAvailableException(ErrorCode.ASSET_NOT_AVAILABLE.getMessage());
+    private String validateBulkItem(AssignmentRequest request, Map<UUID, User> users, Map<UUID, Asset> assets,
+                                    Set<UUID> claimedAssetIds, Set<UUID> usedAssetIds) {
+        if (!users.containsKey(request.getUserId())) {
+            return ErrorCode.USER_NOT_FOUND.getMessage();
+        }
+        if (!assets.containsKey(request.getAssetId())) {
+            return ErrorCode.ASSET_NOT_FOUND.getMessage();
+        }
+        if (!claimedAssetIds.contains(request.getAssetId()) || usedAssetIds.contains(request.getAssetId())) {
+            return ErrorCode.ASSET_NOT_AVAILABLE.getMessage();
         }
+        return null;
+    }
+
+    private BulkAssignmentItemResult bulkItemResult(int index, AssignmentRequest request,
+                                                    AssignmentResponse assignment, String error) {
+        return BulkAssignmentItemResult.builder()
+                .index(index)
+                .assignmentId(assignment != null ? assignment.getId() : null)
+                .userId(request.getUserId())
+                .assetId(request.getAssetId())
+                .success(error == null)
+                .assignment(assignment)
+                .error(error)
+                .build();
+    }
+
+    private String validateStatusUpdate(Assignment assignment, AssignmentStatusType target) {
+        if (assignment == null) {
+            return ErrorCode.ACCESS_DENIED.getMessage();
+        }
+        if (target != ACCEPTED && target != DECLINED) {
+            return ErrorCode.ASSIGNMENT_STATUS_TRANSITION_INVALID.getMessage();
+        }
+        if (!isAssignmentWaitingForAcceptance(assignment)) {
+            return ErrorCode.ASSIGNMENT_NOT_UPDATABLE.getMessage();
+        }
+        return null;
+    }
+
+    private BulkAssignmentItemResult statusItemResult(int index, UUID assignmentId, Assignment assignment,
+                                                      AssignmentResponse response, String error) {
+        return BulkAssignmentItemResult.builder()
+                .index(index)
+                .assignmentId(assignmentId)
+                .userId(assignment != null ? assignment.getUser().getId() : null)
+                .assetId(assignment != null ? assignment.getAsset().getId() : null)
+                .success(error == null)
+                .assignment(response)
+                .error(error)
+                .build();
     }
 
     private List<String> getStaffAssignmentStates() {
@@ -219,6 +386,11 @@ public class AssignmentServiceImpl implements AssignmentService {
         }
     }
 
+    private Assignment getOwnedAssignment(UUID id, UUID currentUserId) {
+        return assignmentRepository.findByIdAndUser_Id(id, currentUserId)
+                .orElseThrow(() -> new AccessDeniedException(ErrorCode.ACCESS_DENIED.getMessage()));
+    }
+
     private boolean isUserAdmin(User currentUser) {
         return currentUser.getRoles().stream()
                 .anyMatch(role -> role.getName().equals(RoleName.ADMIN.getName()));
@@ -254,32 +426,20 @@ public class AssignmentServiceImpl implements AssignmentService {
     }
 
 
-    private Asset fetchAndValidateAssetForUpdate(Assignment assignment, UUID requestedAssetId) {
-        try {
-            Asset requestedAsset = assetService.getAssetByIdForUpdate(requestedAssetId);
-
-            if (isSameAssetDuringWaitingStatus(assignment, requestedAsset) || assetService.isAssetAvailable(requestedAsset)) {
-                return requestedAsset;
-            }
-
-            throw new AssetNotAvailableException(ErrorCode.ASSET_NOT_AVAILABLE.getMessage());
-        } catch (OptimisticLockingFailureException e) {
-            log.error("Asset with id {} is being modified by another transaction", requestedAssetId);
-            throw new AssetNotAvailableException(ErrorCode.ASSET_NOT_AVAILABLE.getMessage());
+    private Asset reassignAsset(Assignment assignment, UUID requestedAssetId) {
+        Asset currentAsset = assignment.getAsset();
+        if (currentAsset.getId().equals(requestedAssetId)) {
+            return currentAsset;
         }
-    }
 
-    private boolean isSameAssetDuringWaitingStatus(Assignment assignment, Asset asset) {
-        return assignment.getAsset().getId().equals(asset.getId()) &&
-                isAssignmentWaitingForAcceptance(assignment);
+        Asset requestedAsset = assetService.claimAsset(requestedAssetId);
+        assetService.releaseAsset(currentAsset.getId());
+        return requestedAsset;
     }
 
     private Assignment buildUpdatedAssignment(Assignment existing, AssignmentUpdateRequest request) {
         User newUser = userService.getUserById(request.getUserId());
-        Asset newAsset = fetchAndValidateAssetForUpdate(existing, request.getAssetId());
-
-        releaseAssetInAssignment(existing);
-        assetService.updateAssetState(newAsset, AssetState.ASSIGNED);
+        Asset newAsset = reassignAsset(existing, request.getAssetId());
 
         Assignment updatedAssignment = existing.toBuilder()
                 .user(newUser)
@@ -309,10 +469,11 @@ public class AssignmentServiceImpl implements AssignmentService {
     }
 
     private void releaseAssetInAssignment(Assignment assignment) {
-        assetService.updateAssetState(assignment.getAsset(), AssetState.AVAILABLE);
+        assetService.releaseAsset(assignment.getAsset().getId());
     }
 
     private void performDelete(Assignment assignment, UUID id) {
+        assignmentStatusHistoryService.deleteStatusHistory(id);
         assignmentRepository.delete(assignment);
         logUserDeletionAction(id);
     }
@@ -323,13 +484,13 @@ public class AssignmentServiceImpl implements AssignmentService {
     }
 
     private AssignmentStatus getAssignmentStatus (AssignmentStatusType status) {
-        return assignmentStatusRepository.findByName(status.getDbName())
+        return referenceDataService.findAssignmentStatusByName(status.getDbName())
                 .orElseThrow(() -> new AssignmentStatusNotFoundException(ErrorCode.ASSIGNMENT_STATUS_NOT_FOUND.getMessage()));
     }
 
     @Override
-    public List<AssignmentStatus> getAllAssignmentStatus() {
-        return assignmentStatusRepository.findAll();
+    public ReferenceDataSet<AssignmentStatus> getAllAssignmentStatus() {
+        return referenceDataService.getAssignmentStatuses();
     }
 
 }
@@ -0,0 +1,226 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.config.AuditorAwareProvider;
+import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.response.AssignmentStatusHistoryResponse;
+import com.nashtech.rookies.oam.mapper.AssignmentMapper;
+import com.nashtech.rookies.oam.model.Assignment;
+import com.nashtech.rookies.oam.model.AssignmentStatusChange;
+import com.nashtech.rookies.oam.repository.AssignmentStatusHistoryRepository;
+import com.nashtech.rookies.oam.service.AssignmentStatusHistoryService;
+import com.nashtech.rookies.oam.specification.AssignmentStatusHistorySpecification;
+import com.nashtech.rookies.oam.util.BatchingChannel;
+import com.nashtech.rookies.oam.util.KeysetPageUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only assignment status history.
+ *
+ * <p>Changes are handed to a bounded in-process buffer after the business transaction commits and
+ * written by a single background thread as JDBC batches, so a status change does not pay for its
+ * own history insert. When the buffer is above its high-water mark the row is instead inserted
+ * inside the business transaction, which commits or rolls back with the change. A periodic sweep
+ * appends the current status of any assignment whose history lags behind it, which covers events
+ * still buffered when the process stopped.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AssignmentStatusHistoryServiceImpl implements AssignmentStatusHistoryService {
+    private final AssignmentStatusHistoryRepository assignmentStatusHistoryRepository;
+    private final AssignmentMapper assignmentMapper;
+    private final AuditorAwareProvider auditorAwareProvider;
+    private final PlatformTransactionManager transactionManager;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.assignment-history.buffer-size:4096}")
+    private int BUFFER_SIZE;
+
+    @Value("${app.assignment-history.batch-size:200}")
+    private int BATCH_SIZE;
+
+    @Value("${app.assignment-history.high-water:0.8}")
+    private double HIGH_WATER;
+
+    @Value("${app.assignment-history.recovery-grace-ms:300000}")
+    private long RECOVERY_GRACE_MS;
+
+    private static final Sort HISTORY_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private BatchingChannel<AssignmentStatusChange> channel;
+    private TransactionTemplate writeTransaction;
+    private Counter inlineCounter;
+    private Counter overflowCounter;
+    private Counter failedCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void init() {
+        writeTransaction = new TransactionTemplate(transactionManager);
+        writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        channel = new BatchingChannel<>("assignment-history", BUFFER_SIZE, BATCH_SIZE, this::writeBatch);
+
+        Gauge.builder("assignment.status_history.buffered", channel, BatchingChannel::size)
+                .register(meterRegistry);
+        inlineCounter = Counter.builder("assignment.status_history.writes")
+                .tag("path", "inline")
+                .register(meterRegistry);
+        overflowCounter = Counter.builder("assignment.status_history.writes")
+                .tag("path", "overflow")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("assignment.status_history.failed")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("assignment.status_history.dropped")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channel.close();
+    }
+
+    @Override
+    public void recordStatusChange(Assignment assignment) {
+        recordStatusChanges(List.of(assignment));
+    }
+
+    @Override
+    public void recordStatusChanges(Collection<Assignment> assignments) {
+        record(assignments.stream()
+                .map(assignment -> Map.entry(assignment.getId(), assignment.getStatus().getId()))
+                .toList());
+    }
+
+    @Override
+    public void recordStatusChanges(Collection<UUID> assignmentIds, Integer statusId) {
+        record(assignmentIds.stream()
+                .map(assignmentId -> Map.entry(assignmentId, statusId))
+                .toList());
+    }
+
+    private void record(List<Map.Entry<UUID, Integer>> statuses) {
+        if (statuses.isEmpty()) {
+            return;
+        }
+        LocalDateTime changedAt = LocalDateTime.now(clock);
+        String changedBy = auditorAwareProvider.getCurrentAuditor().orElse(null);
+        List<AssignmentStatusChange> changes = statuses.stream()
+                .map(status -> new AssignmentStatusChange(
+                        UUID.randomUUID(),
+                        status.getKey(),
+                        status.getValue(),
+                        changedAt,
+                        changedBy))
+                .toList();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changes.forEach(this::enqueue);
+            return;
+        }
+
+        if (channel.fillRatio() >= HIGH_WATER) {
+            inlineCounter.increment(changes.size());
+            // The JDBC insert bypasses the persistence context, so pending assignment inserts must reach the database first
+            assignmentStatusHistoryRepository.flush();
+            assignmentStatusHistoryRepository.insertAll(changes);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                changes.forEach(AssignmentStatusHistoryServiceImpl.this::enqueue);
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void deleteStatusHistory(UUID assignmentId) {
+        assignmentStatusHistoryRepository.deleteByAssignmentId(assignmentId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public APIPageableResponseDTO<AssignmentStatusHistoryResponse> getStatusHistory(UUID assignmentId, String cursor,
+                                                                                   int size) {
+        return KeysetPageUtil.fetch(
+                assignmentStatusHistoryRepository,
+                AssignmentStatusHistorySpecification.forAssignment(assignmentId),
+                HISTORY_SORT,
+                cursor,
+                size,
+                List.of(),
+                assignmentMapper::toStatusHistoryResponse
+        );
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.assignment-history.recovery-interval-ms:3600000}",
+            initialDelayString = "${app.assignment-history.recovery-initial-delay-ms:60000}")
+    public int recoverMissingStatuses() {
+        LocalDateTime settledBefore = LocalDateTime.now(clock).minus(Duration.ofMillis(RECOVERY_GRACE_MS));
+        int recovered = assignmentStatusHistoryRepository.insertMissingLatestStatuses(settledBefore);
+        if (recovered > 0) {
+            log.warn("Recovered {} missing assignment status history rows", recovered);
+        }
+        return recovered;
+    }
+
+    private void enqueue(AssignmentStatusChange change) {
+        if (channel.offer(change)) {
+            return;
+        }
+        overflowCounter.increment();
+        writeBatch(List.of(change));
+    }
+
+    private void writeBatch(List<AssignmentStatusChange> batch) {
+        try {
+            writeTransaction.executeWithoutResult(status -> assignmentStatusHistoryRepository.insertAll(batch));
+        } catch (DataAccessException e) {
+            if (batch.size() == 1 && e instanceof DataIntegrityViolationException) {
+                // The assignment was deleted while its change waited in the buffer
+                droppedCounter.increment();
+                log.info("Dropped status history for deleted assignment {}", batch.getFirst().assignmentId());
+                return;
+            }
+            if (batch.size() == 1) {
+                failedCounter.increment();
+                log.error("Failed to write status history for assignment {}", batch.getFirst().assignmentId(), e);
+                return;
+            }
+            log.warn("Status history batch of {} failed, retrying row by row", batch.size(), e);
+            batch.forEach(change -> writeBatch(List.of(change)));
+        }
+    }
+}
@@ -38,6 +38,15 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public User getAuthenticatedUser() {
+        return getAuthenticatedPrincipal().getUser();
+    }
+
+    /**
+     * Returns the principal without loading the {@link User} entity, for callers that only need
+     * the id, username or roles.
+     */
+    @Override
+    public CustomUserDetails getAuthenticatedPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null) {
@@ -48,7 +57,7 @@ public class AuthServiceImpl implements AuthService {
             throw new InsufficientAuthenticationException(ErrorCode.AUTH_PRINCIPAL_TYPE_MISMATCH.getMessage());
         }
 
-        return userDetails.getUser();
+        return userDetails;
     }
 
     private LoginResponse buildLoginResponse(CustomUserDetails userDetails, String accessToken, boolean isFirstLogin) {
@@ -7,21 +7,22 @@ import com.nashtech.rookies.oam.exception.CategoryNameAlreadyExistsException;
 import com.nashtech.rookies.oam.exception.CategoryPrefixAlreadyExistsException;
 import com.nashtech.rookies.oam.mapper.CategoryMapper;
 import com.nashtech.rookies.oam.model.Category;
+import com.nashtech.rookies.oam.model.ReferenceDataSet;
 import com.nashtech.rookies.oam.repository.CategoryRepository;
 import com.nashtech.rookies.oam.service.CategoryService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final ReferenceDataService referenceDataService;
 
     @Transactional
     @Override
@@ -33,16 +34,16 @@ public class CategoryServiceImpl implements CategoryService {
 
         Category category = categoryMapper.toEntity(categoryRequest);
         category = categoryRepository.save(category);
+        referenceDataService.refreshAfterCommit();
 
         log.info("Category created with ID: {}", category.getId());
 
         return categoryMapper.toResponse(category);
     }
 
-    @Transactional(readOnly = true)
     @Override
-    public List<CategoryResponse> getAllCategories() {
-        return categoryMapper.toResponses(categoryRepository.findAll());
+    public ReferenceDataSet<CategoryResponse> getAllCategories() {
+        return referenceDataService.getCategories().map(categoryMapper::toResponses);
     }
 
     private void validateUniqueName(String name) {
@@ -65,9 +65,8 @@ public class ChangePasswordServiceImpl implements ChangePasswordService {
     private void validateUserHasCorrectIdOrIsAdmin(UUID id){
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         CustomUserDetails authUser = (CustomUserDetails) authentication.getPrincipal();
-        User authUserEntity = authUser.getUser();
         if(!isAdmin(authentication)) {
-            if (!authUserEntity.getId().equals(id)) {
+            if (!authUser.getId().equals(id)) {
                 throw new AccessDeniedException(UNAUTHORIZED_PASSWORD_CHANGE);
             }
         }
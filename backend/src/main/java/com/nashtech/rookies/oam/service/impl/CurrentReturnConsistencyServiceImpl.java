@@ -0,0 +1,77 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.model.Assignment;
+import com.nashtech.rookies.oam.repository.AssetReturnRepository;
+import com.nashtech.rookies.oam.service.CurrentReturnConsistencyService;
+import com.nashtech.rookies.oam.service.ListCountService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically compares {@code assignments.current_return_*} with the newest row in
+ * {@code asset_returns}. The return service keeps them in step; this catches anything
+ * written around it (manual SQL, partial restores).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CurrentReturnConsistencyServiceImpl implements CurrentReturnConsistencyService {
+    private final AssetReturnRepository assetReturnRepository;
+    private final ListCountService listCountService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.current-return-check.repair:true}")
+    private boolean REPAIR;
+
+    @Value("${app.current-return-check.batch-size:500}")
+    private int BATCH_SIZE;
+
+    private static final int LOGGED_IDS = 20;
+
+    private Counter driftCounter;
+
+    @PostConstruct
+    public void init() {
+        driftCounter = Counter.builder("assignment.current_return.drift")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.current-return-check.interval-ms:3600000}",
+            initialDelayString = "${app.current-return-check.interval-ms:3600000}")
+    public int reconcile() {
+        List<UUID> staleIds = assetReturnRepository.findAssignmentIdsWithStaleCurrentReturn();
+        if (staleIds.isEmpty()) {
+            log.debug("Assignment current return columns are consistent");
+            return 0;
+        }
+
+        driftCounter.increment(staleIds.size());
+        log.warn("{} assignments have a stale current return, e.g. {}",
+                staleIds.size(), staleIds.subList(0, Math.min(LOGGED_IDS, staleIds.size())));
+
+        if (!REPAIR) {
+            return staleIds.size();
+        }
+
+        int repaired = 0;
+        for (int from = 0; from < staleIds.size(); from += BATCH_SIZE) {
+            repaired += assetReturnRepository.refreshCurrentReturn(
+                    staleIds.subList(from, Math.min(from + BATCH_SIZE, staleIds.size())));
+        }
+        listCountService.invalidate(Assignment.class);
+        log.info("Repaired current return on {} assignments", repaired);
+        return staleIds.size();
+    }
+}
@@ -2,33 +2,49 @@ package com.nashtech.rookies.oam.service.impl;
 
 import com.nashtech.rookies.oam.exception.RefreshTokenMissingException;
 import com.nashtech.rookies.oam.exception.TokenExpiredException;
+import com.nashtech.rookies.oam.exception.TokenRevokedException;
 import com.nashtech.rookies.oam.model.CustomUserDetails;
-import com.nashtech.rookies.oam.model.Role;
+import com.nashtech.rookies.oam.model.RefreshedTokens;
+import com.nashtech.rookies.oam.model.VerifiedToken;
 import com.nashtech.rookies.oam.service.JwtService;
+import com.nashtech.rookies.oam.service.RefreshTokenRevocationService;
+import com.nashtech.rookies.oam.service.UserSnapshotService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.micrometer.common.util.StringUtils;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseCookie;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JwtServiceImpl implements JwtService {
-    private final CustomUserDetailsServiceImpl userService;
+    private final UserSnapshotService userSnapshotService;
+    private final RefreshTokenRevocationService refreshTokenRevocationService;
 
     @Value("${jwt.access-token-expiration-ms}")
     private long ACCESS_TOKEN_EXPIRATION_MS;
@@ -39,20 +55,75 @@ public class JwtServiceImpl implements JwtService {
     @Value("${jwt.secret-key}")
     private String SECRET_KEY;
 
+    @Value("${jwt.verified-token-cache.max-size:10000}")
+    private long VERIFIED_TOKEN_CACHE_MAX_SIZE;
+
+    @Value("${jwt.verified-token-cache.ttl-ms:300000}")
+    private long VERIFIED_TOKEN_CACHE_TTL_MS;
+
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private Cache<String, VerifiedToken> verifiedTokenCache;
+
     private static final String REFRESH_TOKEN_COOKIE_NAME = "refresh-token";
     private static final String CLAIM_NAME_USER_ID = "userId";
     private static final String CLAIM_NAME_ROLE = "role";
     private static final String CLAIM_NAME_JTI = "jti";
+    private static final String CLAIM_NAME_TOKEN_TYPE = "typ";
+    private static final String TOKEN_TYPE_ACCESS = "access";
+    private static final String TOKEN_TYPE_REFRESH = "refresh";
 
-    private static final String REFRESH_TOKEN_URL = "/api/v1/auth/token/refresh";
+    // Scoped to /auth rather than /auth/token/refresh so that /auth/logout receives the cookie and can revoke it
+    private static final String REFRESH_TOKEN_URL = "/api/v1/auth";
+    // Where refresh cookies were scoped before rotation; cleared so pre-rotation tokens stop being sent
+    private static final String LEGACY_REFRESH_TOKEN_URL = "/api/v1/auth/token/refresh";
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_TOKEN_CACHE_MAX_SIZE)
+                .expireAfterWrite(Duration.ofMillis(VERIFIED_TOKEN_CACHE_TTL_MS))
+                .build();
+    }
 
     @Override
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    @Override
+    public VerifiedToken verifyAccessToken(String token) {
+        String cacheKey = hashToken(token);
+        VerifiedToken cached = verifiedTokenCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpiredAt(Instant.now())) {
+                return cached;
+            }
+            verifiedTokenCache.invalidate(cacheKey);
+        }
+
+        Claims claims = extractAllClaims(token);
+        // Both token types share the signing key, so only the type claim keeps a refresh token out of here
+        if (!TOKEN_TYPE_ACCESS.equals(tokenTypeOf(claims))) {
+            throw new UnsupportedJwtException("Not an access token");
+        }
+
+        VerifiedToken verified = toVerifiedToken(claims);
+        verifiedTokenCache.put(cacheKey, verified);
+        return verified;
+    }
+
+    // Tokens issued before the typ claim existed are told apart by shape: only access tokens carry roles
+    private String tokenTypeOf(Claims claims) {
+        String type = claims.get(CLAIM_NAME_TOKEN_TYPE, String.class);
+        if (type != null) {
+            return type;
+        }
+        return claims.containsKey(CLAIM_NAME_ROLE) ? TOKEN_TYPE_ACCESS : TOKEN_TYPE_REFRESH;
     }
 
     @Override
@@ -69,16 +140,15 @@ public class JwtServiceImpl implements JwtService {
 
 
     private String generateToken(Map<String, Object> extraClaims, CustomUserDetails user) {
-        List<String> roleNames = user.getUser().getRoles().stream()
-                .map(Role::getName)
-                .collect(Collectors.toList());
+        List<String> roleNames = user.getSnapshot().roles();
 
         return Jwts.builder()
                 .claims(extraClaims)
                 .subject(user.getUsername())
+                .claim(CLAIM_NAME_TOKEN_TYPE, TOKEN_TYPE_ACCESS)
                 .claim(CLAIM_NAME_ROLE, roleNames)
                 .claim(CLAIM_NAME_JTI, UUID.randomUUID().toString())
-                .claim(CLAIM_NAME_USER_ID, user.getUser().getId())
+                .claim(CLAIM_NAME_USER_ID, user.getId())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION_MS))
                 .signWith(getSignInKey(), Jwts.SIG.HS256)
@@ -90,6 +160,8 @@ public class JwtServiceImpl implements JwtService {
 
         return Jwts.builder()
                 .claims(new HashMap<>())
+                .id(UUID.randomUUID().toString())
+                .claim(CLAIM_NAME_TOKEN_TYPE, TOKEN_TYPE_REFRESH)
                 .subject(user.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION_MS))
@@ -103,7 +175,7 @@ public class JwtServiceImpl implements JwtService {
     }
 
     public SecretKey getSignInKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        return signingKey;
     }
 
     public boolean isTokenExpired(String token) {
@@ -115,15 +187,33 @@ public class JwtServiceImpl implements JwtService {
     }
 
     @Override
-    public String generateAccessTokenFromCookie(HttpServletRequest request) {
+    public RefreshedTokens refreshTokensFromCookie(HttpServletRequest request) {
+        Claims claims = extractRotatableRefreshClaims(request.getCookies());
+
+        String jti = claims.getId();
+        if (refreshTokenRevocationService.isRevoked(jti)
+                || !refreshTokenRevocationService.revoke(jti, claims.getExpiration().toInstant())) {
+            log.warn("Rejected revoked refresh token for user: {}", claims.getSubject());
+            throw new TokenRevokedException("Refresh token has been revoked");
+        }
+
+        String username = claims.getSubject();
+        CustomUserDetails user = userSnapshotService.findByUsername(username)
+                .map(snapshot -> new CustomUserDetails(snapshot, () -> userSnapshotService.loadUser(snapshot)))
+                .orElseThrow(() -> new UsernameNotFoundException(username));
+        log.debug("Rotated refresh token for user: {}", username);
+
+        return new RefreshedTokens(generateAccessToken(user), generateRefreshTokenCookie(user));
+    }
+
+    @Override
+    public void revokeRefreshTokenFromCookie(HttpServletRequest request) {
         try {
-            String username = extractUsername(extractRefreshToken(request.getCookies()));
-            CustomUserDetails user = (CustomUserDetails) userService.loadUserByUsername(username);
-            log.debug("Successfully extracted user from refresh token: {}", username);
-            return generateAccessToken(user);
-        } catch (ExpiredJwtException e) {
-            log.error("Refresh token expired: {}", e.getMessage());
-            throw new TokenExpiredException("Refresh token is expired");
+            for (String token : extractRefreshTokens(request.getCookies())) {
+                revokeIfRotatable(token);
+            }
+        } catch (RefreshTokenMissingException e) {
+            log.debug("No revocable refresh token on logout: {}", e.getMessage());
         }
     }
 
@@ -138,6 +228,52 @@ public class JwtServiceImpl implements JwtService {
         return buildCookie(REFRESH_TOKEN_COOKIE_NAME, "", REFRESH_TOKEN_URL, 0);
     }
 
+    @Override
+    public ResponseCookie revokeLegacyRefreshTokenCookie() {
+        return buildCookie(REFRESH_TOKEN_COOKIE_NAME, "", LEGACY_REFRESH_TOKEN_URL, 0);
+    }
+
+    /**
+     * Picks the refresh token that can be rotated. A browser that still holds a cookie from the old
+     * path sends it together with the current one; tokens from before rotation carry no jti, cannot be
+     * revoked, and are therefore never accepted.
+     */
+    private Claims extractRotatableRefreshClaims(Cookie[] cookies) {
+        RuntimeException rejection = null;
+        for (String token : extractRefreshTokens(cookies)) {
+            Claims claims;
+            try {
+                claims = extractAllClaims(token);
+            } catch (ExpiredJwtException e) {
+                log.error("Refresh token expired: {}", e.getMessage());
+                rejection = new TokenExpiredException("Refresh token is expired");
+                continue;
+            }
+
+            if (!TOKEN_TYPE_REFRESH.equals(tokenTypeOf(claims))) {
+                log.warn("Rejected a non-refresh token on the refresh path for user: {}", claims.getSubject());
+                rejection = new TokenRevokedException("Refresh token is not valid");
+            } else if (claims.getId() == null) {
+                log.warn("Rejected a refresh token without jti for user: {}", claims.getSubject());
+                rejection = new TokenRevokedException("Refresh token is not valid");
+            } else {
+                return claims;
+            }
+        }
+        throw rejection;
+    }
+
+    private void revokeIfRotatable(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            if (claims.getId() != null) {
+                refreshTokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Skipped an unrevocable refresh token on logout: {}", e.getMessage());
+        }
+    }
+
     private ResponseCookie buildCookie(String name, String value, String path, long expirationMs) {
         return ResponseCookie.from(name, value)
                 .path(path)
@@ -148,15 +284,44 @@ public class JwtServiceImpl implements JwtService {
                 .build();
     }
 
-    private String extractRefreshToken(Cookie[] cookies) {
-        return Optional.ofNullable(cookies).stream().flatMap(Arrays::stream)
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        List<String> roles = Optional.ofNullable(claims.get(CLAIM_NAME_ROLE, List.class))
+                .map(list -> ((List<?>) list).stream().map(String::valueOf).toList())
+                .orElse(List.of());
+        UUID userId = Optional.ofNullable(claims.get(CLAIM_NAME_USER_ID, String.class))
+                .map(UUID::fromString)
+                .orElse(null);
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                userId,
+                roles,
+                claims.getId(),
+                Optional.ofNullable(claims.getIssuedAt()).map(Date::toInstant).orElse(null),
+                Optional.ofNullable(claims.getExpiration()).map(Date::toInstant).orElse(null)
+        );
+    }
+
+    private String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private List<String> extractRefreshTokens(Cookie[] cookies) {
+        List<String> tokens = Optional.ofNullable(cookies).stream().flatMap(Arrays::stream)
                 .filter(cookie -> REFRESH_TOKEN_COOKIE_NAME.equals(cookie.getName()))
                 .map(Cookie::getValue)
                 .filter(StringUtils::isNotBlank)
-                .findFirst()
-                .orElseThrow(() -> {
-                    log.error("Refresh token cookie is missing or empty");
-                    return new RefreshTokenMissingException("Refresh token is missing or empty");
-                });
+                .toList();
+        if (tokens.isEmpty()) {
+            log.error("Refresh token cookie is missing or empty");
+            throw new RefreshTokenMissingException("Refresh token is missing or empty");
+        }
+        return tokens;
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nashtech.rookies.oam.model.ListCountKey;
+import com.nashtech.rookies.oam.service.ListCountService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches list totals per entity type and normalized filters.
+ *
+ * <p>Each entity type has a generation number that is part of the cache key. A write bumps the
+ * generation, which orphans every cached total for that type at once; orphaned entries age out.
+ * The TTL bounds staleness from writes made by other instances.</p>
+ */
+@Service
+@Slf4j
+public class ListCountServiceImpl implements ListCountService {
+
+    @Value("${app.list-count-cache.max-size:10000}")
+    private long LIST_COUNT_CACHE_MAX_SIZE;
+
+    @Value("${app.list-count-cache.ttl-ms:60000}")
+    private long LIST_COUNT_CACHE_TTL_MS;
+
+    private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+    private Cache<CacheKey, Long> countCache;
+
+    @PostConstruct
+    public void init() {
+        countCache = Caffeine.newBuilder()
+                .maximumSize(LIST_COUNT_CACHE_MAX_SIZE)
+                .expireAfterWrite(Duration.ofMillis(LIST_COUNT_CACHE_TTL_MS))
+                .build();
+    }
+
+    @Override
+    public long count(Class<?> entityType, ListCountKey key, LongSupplier counter) {
+        CacheKey cacheKey = new CacheKey(entityType, generationOf(entityType).get(), key);
+        return countCache.get(cacheKey, ignored -> counter.getAsLong());
+    }
+
+    /**
+     * Bumps the generation now and again after the surrounding transaction commits, so a count
+     * computed against pre-commit data cannot outlive the write.
+     */
+    @Override
+    public void invalidate(Class<?> entityType) {
+        AtomicLong generation = generationOf(entityType);
+        generation.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                }
+            });
+        }
+        log.debug("Invalidated cached list counts for {}", entityType.getSimpleName());
+    }
+
+    private AtomicLong generationOf(Class<?> entityType) {
+        return generations.computeIfAbsent(entityType, type -> new AtomicLong());
+    }
+
+    private record CacheKey(Class<?> entityType, long generation, ListCountKey key) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.exception.TooManyLoginAttemptsException;
+import com.nashtech.rookies.oam.service.LoginThrottleService;
+import com.nashtech.rookies.oam.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket throttle for login attempts, keyed separately by username and client IP.
+ * Runs before any user lookup or password hashing so rejected attempts cost no DB or BCrypt work.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoginThrottleServiceImpl implements LoginThrottleService {
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.login-throttle.enabled:true}")
+    private boolean ENABLED;
+
+    @Value("${security.login-throttle.username.capacity:5}")
+    private long USERNAME_CAPACITY;
+
+    @Value("${security.login-throttle.username.refill-per-minute:5}")
+    private double USERNAME_REFILL_PER_MINUTE;
+
+    @Value("${security.login-throttle.ip.capacity:20}")
+    private long IP_CAPACITY;
+
+    @Value("${security.login-throttle.ip.refill-per-minute:20}")
+    private double IP_REFILL_PER_MINUTE;
+
+    @Value("${security.login-throttle.idle-eviction-ms:600000}")
+    private long IDLE_EVICTION_MS;
+
+    private static final String THROTTLED_MESSAGE = "Too many login attempts, please try again later";
+
+    private final Map<String, TokenBucket> usernameBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private Counter usernameThrottledCounter;
+    private Counter ipThrottledCounter;
+
+    @PostConstruct
+    public void init() {
+        usernameThrottledCounter = Counter.builder("login.throttled")
+                .tag("key", "username")
+                .register(meterRegistry);
+        ipThrottledCounter = Counter.builder("login.throttled")
+                .tag("key", "ip")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("login.throttle.buckets", Tags.of("key", "username"), usernameBuckets);
+        meterRegistry.gaugeMapSize("login.throttle.buckets", Tags.of("key", "ip"), ipBuckets);
+    }
+
+    @Override
+    public void acquire(String username, String clientIp) {
+        if (!ENABLED) {
+            return;
+        }
+        long now = System.nanoTime();
+
+        if (clientIp != null) {
+            TokenBucket ipBucket = ipBuckets.computeIfAbsent(clientIp,
+                    key -> new TokenBucket(IP_CAPACITY, IP_REFILL_PER_MINUTE / 60d, now));
+            if (!ipBucket.tryConsume(now)) {
+                ipThrottledCounter.increment();
+                log.warn("Throttled login attempt from {}", clientIp);
+                throw throttled(ipBucket, now);
+            }
+        }
+
+        if (username != null) {
+            TokenBucket usernameBucket = usernameBuckets.computeIfAbsent(username.trim().toLowerCase(Locale.ROOT),
+                    key -> new TokenBucket(USERNAME_CAPACITY, USERNAME_REFILL_PER_MINUTE / 60d, now));
+            if (!usernameBucket.tryConsume(now)) {
+                usernameThrottledCounter.increment();
+                log.warn("Throttled login attempt for username '{}' from {}", username, clientIp);
+                throw throttled(usernameBucket, now);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.login-throttle.idle-eviction-ms:600000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long idleSince = now - TimeUnit.MILLISECONDS.toNanos(IDLE_EVICTION_MS);
+
+        usernameBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleSince));
+        ipBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleSince));
+        log.debug("Login throttle buckets after sweep: {} usernames, {} IPs", usernameBuckets.size(), ipBuckets.size());
+    }
+
+    private TooManyLoginAttemptsException throttled(TokenBucket bucket, long now) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(bucket.nanosUntilNextToken(now)) + 1);
+        return new TooManyLoginAttemptsException(THROTTLED_MESSAGE, retryAfterSeconds);
+    }
+}
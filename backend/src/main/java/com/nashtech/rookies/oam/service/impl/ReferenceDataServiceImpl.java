@@ -0,0 +1,184 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.model.AssignmentStatus;
+import com.nashtech.rookies.oam.model.Category;
+import com.nashtech.rookies.oam.model.Location;
+import com.nashtech.rookies.oam.model.ReferenceDataSet;
+import com.nashtech.rookies.oam.model.Role;
+import com.nashtech.rookies.oam.repository.AssignmentStatusRepository;
+import com.nashtech.rookies.oam.repository.CategoryRepository;
+import com.nashtech.rookies.oam.repository.LocationRepository;
+import com.nashtech.rookies.oam.repository.RoleRepository;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the reference tables in an immutable snapshot that is swapped as a whole on every reload, so
+ * readers never lock and never see a half-built view. The snapshot is loaded at startup, reloaded on a
+ * schedule and after category writes. A lookup that misses reloads it too, at most once per
+ * {@code app.reference-data.miss-reload-interval-ms}, so rows added behind the application's back are
+ * picked up without letting unknown names trigger a reload per request.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataServiceImpl implements ReferenceDataService {
+    private final AssignmentStatusRepository assignmentStatusRepository;
+    private final RoleRepository roleRepository;
+    private final LocationRepository locationRepository;
+    private final CategoryRepository categoryRepository;
+    private final Clock clock;
+
+    @Value("${app.reference-data.miss-reload-interval-ms:5000}")
+    private long MISS_RELOAD_INTERVAL_MS;
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    @Override
+    public Optional<AssignmentStatus> findAssignmentStatusByName(String name) {
+        return lookup(name, Snapshot::statusesByName);
+    }
+
+    @Override
+    public ReferenceDataSet<AssignmentStatus> getAssignmentStatuses() {
+        return snapshot.statuses();
+    }
+
+    @Override
+    public List<Integer> findAssignmentStatusIds(Collection<String> names) {
+        return names.stream()
+                .map(this::findAssignmentStatusByName)
+                .flatMap(Optional::stream)
+                .map(AssignmentStatus::getId)
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public Optional<Role> findRoleByName(String name) {
+        return lookup(name, Snapshot::rolesByName);
+    }
+
+    @Override
+    public List<Role> getRoles() {
+        return snapshot.roles();
+    }
+
+    @Override
+    public Optional<Location> findLocationByCode(String code) {
+        return lookup(code, Snapshot::locationsByCode);
+    }
+
+    @Override
+    public Optional<Category> findCategoryById(Integer id) {
+        return lookup(id, Snapshot::categoriesById);
+    }
+
+    @Override
+    public ReferenceDataSet<Category> getCategories() {
+        return snapshot.categories();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.reference-data.refresh-interval-ms:600000}",
+            initialDelayString = "${app.reference-data.refresh-interval-ms:600000}")
+    public synchronized void refresh() {
+        List<AssignmentStatus> statuses = sorted(assignmentStatusRepository.findAll(),
+                Comparator.comparing(AssignmentStatus::getId));
+        List<Role> roles = sorted(roleRepository.findAll(), Comparator.comparing(Role::getName));
+        List<Location> locations = locationRepository.findAll();
+        List<Category> categories = sorted(categoryRepository.findAll(), Comparator.comparing(Category::getId));
+
+        snapshot = new Snapshot(
+                index(statuses, AssignmentStatus::getName),
+                new ReferenceDataSet<>(statuses, eTag(statuses, status -> status.getId() + ":" + status.getName())),
+                index(roles, Role::getName),
+                roles,
+                index(locations, Location::getCode),
+                index(categories, Category::getId),
+                new ReferenceDataSet<>(categories, eTag(categories, category -> category.getId() + ":"
+                        + category.getName() + ":" + category.getPrefix() + ":" + category.getVersion())),
+                clock.millis());
+
+        log.debug("Loaded reference data: {} statuses, {} roles, {} locations, {} categories",
+                statuses.size(), roles.size(), locations.size(), categories.size());
+    }
+
+    @Override
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    private <K, T> Optional<T> lookup(K key, Function<Snapshot, Map<K, T>> index) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        T found = index.apply(snapshot).get(key);
+        if (found == null) {
+            reloadIfOlderThan(MISS_RELOAD_INTERVAL_MS);
+            found = index.apply(snapshot).get(key);
+        }
+        return Optional.ofNullable(found);
+    }
+
+    private synchronized void reloadIfOlderThan(long ageMs) {
+        if (clock.millis() - snapshot.loadedAt() >= ageMs) {
+            refresh();
+        }
+    }
+
+    private static <T> List<T> sorted(List<T> rows, Comparator<T> order) {
+        return rows.stream().sorted(order).toList();
+    }
+
+    private static <K, T> Map<K, T> index(List<T> rows, Function<T, K> key) {
+        return rows.stream().collect(Collectors.toUnmodifiableMap(key, Function.identity()));
+    }
+
+    private static <T> String eTag(List<T> rows, Function<T, String> content) {
+        String joined = rows.stream().map(content).collect(Collectors.joining("\n"));
+        return DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Snapshot(Map<String, AssignmentStatus> statusesByName,
+                            ReferenceDataSet<AssignmentStatus> statuses,
+                            Map<String, Role> rolesByName,
+                            List<Role> roles,
+                            Map<String, Location> locationsByCode,
+                            Map<Integer, Category> categoriesById,
+                            ReferenceDataSet<Category> categories,
+                            long loadedAt) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.repository.RevokedRefreshTokenRepository;
+import com.nashtech.rookies.oam.service.RefreshTokenRevocationService;
+import com.nashtech.rookies.oam.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks revoked refresh token ids.
+ *
+ * <p>The table is the source of truth. Lookups first consult the ids revoked by this
+ * instance, then a Bloom filter built from the table; only a Bloom filter hit that is not
+ * in the exact set goes to the database, so valid tokens are answered from memory.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenRevocationServiceImpl implements RefreshTokenRevocationService {
+    private final RevokedRefreshTokenRepository revokedRefreshTokenRepository;
+
+    @Value("${jwt.refresh-token-revocation.expected-insertions:100000}")
+    private long EXPECTED_INSERTIONS;
+
+    @Value("${jwt.refresh-token-revocation.false-positive-rate:0.01}")
+    private double FALSE_POSITIVE_RATE;
+
+    private final Map<String, Instant> recentlyRevoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter revokedFilter;
+
+    @PostConstruct
+    public void init() {
+        List<String> activeJtis = revokedRefreshTokenRepository.findActiveJtis(Instant.now());
+        revokedFilter = buildFilter(activeJtis);
+        log.info("Loaded {} revoked refresh tokens", activeJtis.size());
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        if (recentlyRevoked.containsKey(jti)) {
+            return true;
+        }
+        if (!revokedFilter.mightContain(jti)) {
+            return false;
+        }
+        return revokedRefreshTokenRepository.existsById(jti);
+    }
+
+    @Override
+    @Transactional
+    public boolean revoke(String jti, Instant expiresAt) {
+        boolean inserted = revokedRefreshTokenRepository.insertIfAbsent(jti, expiresAt, Instant.now()) > 0;
+        recentlyRevoked.put(jti, expiresAt);
+        revokedFilter.put(jti);
+        return inserted;
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-revocation.rebuild-interval-ms:300000}",
+            initialDelayString = "${jwt.refresh-token-revocation.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        Instant now = Instant.now();
+        int pruned = revokedRefreshTokenRepository.deleteExpired(now);
+        List<String> activeJtis = revokedRefreshTokenRepository.findActiveJtis(now);
+
+        recentlyRevoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        revokedFilter = buildFilter(activeJtis);
+
+        log.debug("Rebuilt refresh token revocation filter: {} active, {} pruned", activeJtis.size(), pruned);
+    }
+
+    private BloomFilter buildFilter(List<String> activeJtis) {
+        BloomFilter filter = BloomFilter.create(Math.max(EXPECTED_INSERTIONS, activeJtis.size() * 2L), FALSE_POSITIVE_RATE);
+        activeJtis.forEach(filter::put);
+        recentlyRevoked.keySet().forEach(filter::put);
+        return filter;
+    }
+}
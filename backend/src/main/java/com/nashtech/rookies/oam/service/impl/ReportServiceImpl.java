@@ -1,11 +1,12 @@
 package com.nashtech.rookies.oam.service.impl;
 
-import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.response.AssetReportPageResponse;
 import com.nashtech.rookies.oam.dto.response.ExportResponse;
 import com.nashtech.rookies.oam.dto.response.ReportResponse;
 import com.nashtech.rookies.oam.model.Report;
 import com.nashtech.rookies.oam.repository.*;
 import com.nashtech.rookies.oam.service.ReportService;
+import com.nashtech.rookies.oam.service.ReportViewService;
 import com.nashtech.rookies.oam.specification.AssetSpecification;
 import com.nashtech.rookies.oam.specification.AssignmentSpecification;
 import com.nashtech.rookies.oam.specification.UserSpecification;
@@ -20,6 +21,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
@@ -39,11 +41,16 @@ public class ReportServiceImpl implements ReportService {
     AssetRepository assetRepo;
     UserRepository userRepo;
     AssignmentRepository assignmentRepo;
-    AssignmentStatusRepository assignmentStatusRepo;
+    ReportViewService reportViewService;
     ExcelBuilder excelBuilder;
 
+    /**
+     * Reads the page and its refresh time from one snapshot, so {@code asOf} describes the rows returned
+     * even when a refresh commits in between.
+     */
     @Override
-    public APIPageableResponseDTO<Report> getReport(int pageNo, int pageSize, String sortField,
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public AssetReportPageResponse getReport(int pageNo, int pageSize, String sortField,
             String sortOrder) {
         log.debug("Fetching report with pageNo: {}, pageSize: {}, sortField: {}, sortOrder: {}", pageNo,
                 pageSize,
@@ -52,8 +59,9 @@ public class ReportServiceImpl implements ReportService {
         int validPageSize = Math.max(1, pageSize);
         Sort sort = SortUtil.buildAssetReportSort(sortField, sortOrder);
         Pageable pageable = PageRequest.of(validPageNo, validPageSize, sort);
+        LocalDateTime asOf = reportViewService.getRefreshedAt().orElse(null);
         var reportPage = reportRepo.findAll(pageable);
-        return new APIPageableResponseDTO<>(reportPage);
+        return new AssetReportPageResponse(reportPage, asOf);
     }
 
     @Override
@@ -102,11 +110,7 @@ public class ReportServiceImpl implements ReportService {
                 "Generating dynamic assignment report with sortField: {}, sortOrder: {}, fileName: {}, startDate: {}, endDate: {}, statusIds: {}",
                 sortField, sortOrder, fileName, statusIds, startDate, endDate);
         System.out.println("Status IDs: " + statusIds);
-        var assignmentStatuses = statusIds.stream()
-                .map(assignmentStatusRepo::findById)
-                .map(Optional::get)
-                .toList();
-        var assignmentSpec = AssignmentSpecification.findByCriteria(assignmentStatuses, startDate, endDate);
+        var assignmentSpec = AssignmentSpecification.findByCriteria(statusIds, startDate, endDate);
         Sort sort = SortUtil.buildAssignmentReportSort(sortField, sortOrder);
         var reportAssignments = assignmentRepo.findAll(assignmentSpec, sort);
         var finalReportAssignments = reportAssignments.stream()
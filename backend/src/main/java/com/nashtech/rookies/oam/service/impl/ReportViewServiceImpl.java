@@ -0,0 +1,121 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.repository.ReportRepository;
+import com.nashtech.rookies.oam.service.ReportViewService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Refreshes {@code report_view} from a dirty flag instead of on every read.
+ *
+ * <p>Asset writes mark the view dirty after they commit. A frequent check refreshes it once no write
+ * has arrived for the debounce interval, so a burst of writes costs one refresh. Independently, the
+ * view is refreshed whenever it is older than the staleness bound, which covers a write stream that
+ * never settles and writes made by other instances or outside the application.</p>
+ *
+ * <p>The refresh runs {@code CONCURRENTLY}, so report reads are never blocked, and stamps the time it
+ * started into {@code report_view_refreshes}. Rows committed after that time may be missing, so the
+ * stamp is a safe lower bound for how fresh the view is.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportViewServiceImpl implements ReportViewService {
+    private final ReportRepository reportRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.report-view.debounce-ms:5000}")
+    private long DEBOUNCE_MS;
+
+    @Value("${app.report-view.max-staleness-ms:300000}")
+    private long MAX_STALENESS_MS;
+
+    // Clock millis of the first and the latest write not yet covered by a refresh; 0 while clean
+    private final AtomicLong dirtySince = new AtomicLong();
+    private final AtomicLong lastWriteAt = new AtomicLong();
+    private volatile long lastRefreshAt;
+
+    private TransactionTemplate refreshTransaction;
+    private Timer refreshTimer;
+
+    @PostConstruct
+    public void init() {
+        refreshTransaction = new TransactionTemplate(transactionManager);
+        refreshTimer = Timer.builder("report.view.refresh.duration")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void markDirty() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markDirtyNow();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markDirtyNow();
+            }
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.report-view.check-interval-ms:1000}",
+            initialDelayString = "${app.report-view.initial-delay-ms:30000}")
+    public synchronized boolean refreshIfDue() {
+        long now = clock.millis();
+        boolean settled = dirtySince.get() != 0 && now - lastWriteAt.get() >= DEBOUNCE_MS;
+        boolean stale = now - lastRefreshAt >= MAX_STALENESS_MS;
+        if (!settled && !stale) {
+            return false;
+        }
+
+        // Writes that land while the refresh runs set the flag again and get a refresh of their own
+        long clearedDirtySince = dirtySince.getAndSet(0);
+        LocalDateTime refreshedAt = LocalDateTime.now(clock);
+        try {
+            refreshTimer.record(() -> refreshTransaction.executeWithoutResult(status -> {
+                reportRepository.refreshView();
+                reportRepository.markRefreshed(refreshedAt);
+            }));
+        } catch (RuntimeException e) {
+            if (clearedDirtySince != 0) {
+                dirtySince.compareAndSet(0, clearedDirtySince);
+            }
+            log.warn("Refreshing report_view failed; will retry on the next check", e);
+            return false;
+        }
+
+        lastRefreshAt = now;
+        log.debug("Refreshed report_view ({})", settled ? "writes settled" : "staleness bound reached");
+        return true;
+    }
+
+    @Override
+    public Optional<LocalDateTime> getRefreshedAt() {
+        return reportRepository.findRefreshedAt();
+    }
+
+    private void markDirtyNow() {
+        long now = clock.millis();
+        lastWriteAt.set(now);
+        dirtySince.compareAndSet(0, now);
+    }
+}
@@ -2,6 +2,7 @@ package com.nashtech.rookies.oam.service.impl;
 
 import com.nashtech.rookies.oam.constant.ErrorCode;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.pagination.CountMode;
 import com.nashtech.rookies.oam.dto.request.EditUserRequest;
 import com.nashtech.rookies.oam.dto.request.UserRequestDto;
 import com.nashtech.rookies.oam.dto.response.CurrentUserResponseDto;
@@ -10,6 +11,7 @@ import com.nashtech.rookies.oam.dto.response.UserPageResponseDto;
 import com.nashtech.rookies.oam.dto.response.UserResponseDto;
 import com.nashtech.rookies.oam.exception.*;
 import com.nashtech.rookies.oam.mapper.UserMapper;
+import com.nashtech.rookies.oam.model.ListCountKey;
 import com.nashtech.rookies.oam.model.Location;
 import com.nashtech.rookies.oam.model.Role;
 import com.nashtech.rookies.oam.model.User;
@@ -18,14 +20,17 @@ import com.nashtech.rookies.oam.model.enums.Gender;
 import com.nashtech.rookies.oam.model.enums.RoleName;
 import com.nashtech.rookies.oam.model.enums.UserStatus;
 import com.nashtech.rookies.oam.repository.AssignmentRepository;
-import com.nashtech.rookies.oam.repository.LocationRepository;
-import com.nashtech.rookies.oam.repository.RoleRepository;
 import com.nashtech.rookies.oam.repository.UserRepository;
+import com.nashtech.rookies.oam.repository.UsernameSequenceRepository;
 import com.nashtech.rookies.oam.service.AuthService;
+import com.nashtech.rookies.oam.service.ListCountService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
 import com.nashtech.rookies.oam.service.StaffCodeGeneratorService;
 import com.nashtech.rookies.oam.service.UserService;
 import com.nashtech.rookies.oam.specification.UserSpecification;
 import com.nashtech.rookies.oam.util.EnumValidationUtils;
+import com.nashtech.rookies.oam.util.KeysetPageUtil;
+import com.nashtech.rookies.oam.util.PageUtil;
 import com.nashtech.rookies.oam.util.SortUtil;
 import com.nashtech.rookies.oam.util.StringUtil;
 import lombok.AccessLevel;
@@ -33,7 +38,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -59,19 +63,22 @@ import static com.nashtech.rookies.oam.constant.UserConstants.DEFAULT_PASSWORD_F
 public class UserServiceImpl implements UserService {
 
     UserRepository userRepository;
-    RoleRepository roleRepository;
-    LocationRepository locationRepository;
+    UsernameSequenceRepository usernameSequenceRepository;
+    ReferenceDataService referenceDataService;
     AuthService authService;
     PasswordEncoder passwordEncoder;
     StaffCodeGeneratorService staffCodeGeneratorService;
     UserMapper userMapper;
     AssignmentRepository assignmentRepository;
+    ListCountService listCountService;
 
     static final String DISABLE_USER_ERROR_MESSAGE = "There are valid assignments belonging to this user. " +
             "Please close all assignments before disabling user.";
 
     static final String INVALID_USER_STATUS_ERROR = "Allowed values are: ACTIVE, INACTIVE, FIRST_LOGIN";
 
+    static final String SORT_FIELD_TYPE = "type";
+
     static final List<UserStatus> DEFAULT_GET_USERS_STATUS = List.of(
             UserStatus.ACTIVE,
             UserStatus.FIRST_LOGIN);
@@ -136,6 +143,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public APIPageableResponseDTO<UserPageResponseDto> getUsers(
             int pageNo,
             int pageSize,
@@ -143,8 +151,14 @@ public class UserServiceImpl implements UserService {
             String sortField,
             String sortOrder,
             List<String> roles,
-            List<String> status
+            List<String> status,
+            String cursor,
+            CountMode countMode
     ) {
+        if (cursor != null && SORT_FIELD_TYPE.equals(sortField)) {
+            throw new IllegalArgumentException("Cursor pagination does not support sorting by type");
+        }
+
         User currentUser = authService.getAuthenticatedUser();
         UUID locationId = getCurrentUserLocationId(currentUser);
         Sort sort = SortUtil.buildUserSort(sortField, sortOrder);
@@ -154,8 +168,6 @@ public class UserServiceImpl implements UserService {
                 ? DEFAULT_GET_USERS_STATUS
                 : resolveUserStatuses(status);
 
-        Pageable pageable = PageRequest.of(Math.max(pageNo, 0), Math.max(pageSize, 1), sort);
-
         Specification<User> spec = UserSpecification.build(
                 search,
                 resolvedRoles,
@@ -165,15 +177,28 @@ public class UserServiceImpl implements UserService {
                 resolvedStatus
         );
 
-        Page<User> userPage = userRepository.findAll(spec, pageable);
-        Page<UserPageResponseDto> dtoPage = userPage.map(userMapper::toUserPageResponseDto);
+        if (cursor != null) {
+            return KeysetPageUtil.fetch(userRepository, spec, sort, cursor, pageSize,
+                    List.of(), userMapper::toUserPageResponseDto);
+        }
 
-        return new APIPageableResponseDTO<>(dtoPage);
+        Pageable pageable = PageRequest.of(Math.max(pageNo, 0), Math.max(pageSize, 1), sort);
+
+        ListCountKey countKey = ListCountKey.of(locationId, search, resolvedRoles, resolvedStatus, currentUser.getId());
+
+        return PageUtil.fetch(
+                countMode,
+                pageable,
+                page -> userRepository.findAll(spec, page),
+                page -> userRepository.findSlice(spec, page),
+                () -> listCountService.count(User.class, countKey, () -> userRepository.count(spec)),
+                userMapper::toUserPageResponseDto
+        );
     }
 
     private List<String> validateAndResolveRoles(List<String> roles) {
         if (CollectionUtils.isEmpty(roles)) {
-            return roleRepository.findAll().stream()
+            return referenceDataService.getRoles().stream()
                     .map(Role::getName)
                     .toList();
         }
@@ -239,6 +264,11 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND.getMessage()));
     }
 
+    @Override
+    public List<User> getUsersByIds(Collection<UUID> ids) {
+        return userRepository.findAllById(ids);
+    }
+
     private List<UserStatus> resolveUserStatuses(List<String> status) {
 
         List<String> invalidStatuses = status.stream()
@@ -254,12 +284,13 @@ public class UserServiceImpl implements UserService {
     }
 
     private void checkUserCanBeDisable(UUID userId) {
-        if (assignmentRepository.hasAssignmentsWithStatuses(userId, ASSIGNMENT_STATUSES_PREVENTING_USER_DISABLE))
+        List<Integer> statusIds = referenceDataService.findAssignmentStatusIds(ASSIGNMENT_STATUSES_PREVENTING_USER_DISABLE);
+        if (assignmentRepository.hasAssignmentsWithStatuses(userId, statusIds))
             throw new DisableUserException(DISABLE_USER_ERROR_MESSAGE);
     }
 
     private Location findLocationByCode(String locationCode) {
-        return locationRepository.findByCode(locationCode.toUpperCase())
+        return referenceDataService.findLocationByCode(locationCode.toUpperCase())
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.LOCATION_NOT_FOUND.getMessage()));
     }
     private User findUserById(UUID userId) {
@@ -272,13 +303,13 @@ public class UserServiceImpl implements UserService {
     }
 
     private Role findRoleByName(String roleName) {
-        return roleRepository.findByName(roleName.toUpperCase())
+        return referenceDataService.findRoleByName(roleName.toUpperCase())
                 .orElseThrow(() -> new RoleNotFoundException(ErrorCode.ROLE_NOT_FOUND.getMessage()));
     }
 
     private Location resolveLocation(Role role, String locationCode, User creator) {
         if (RoleName.ADMIN.getName().equals(role.getName())) {
-            return locationRepository.findByCode(locationCode.toUpperCase())
+            return referenceDataService.findLocationByCode(locationCode.toUpperCase())
                     .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.LOCATION_NOT_FOUND.getMessage()));
         }
         return creator.getLocation();
@@ -286,8 +317,8 @@ public class UserServiceImpl implements UserService {
 
     private String generateUsername(String firstName, String lastName) {
         String baseUsername = firstName.toLowerCase() + StringUtil.getInitialsFromWords(lastName).toLowerCase();
-        long count = userRepository.countByUsernameStartingWith(baseUsername);
-        return (count == 0) ? baseUsername : baseUsername + count;
+        int suffix = usernameSequenceRepository.allocateSuffix(baseUsername);
+        return (suffix == 0) ? baseUsername : baseUsername + suffix;
     }
 
     private String generateDefaultPassword(String username, LocalDate dateOfBirth) {
@@ -0,0 +1,78 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nashtech.rookies.oam.constant.ErrorCode;
+import com.nashtech.rookies.oam.exception.UserNotFoundException;
+import com.nashtech.rookies.oam.model.User;
+import com.nashtech.rookies.oam.model.UserSnapshot;
+import com.nashtech.rookies.oam.repository.UserRepository;
+import com.nashtech.rookies.oam.service.UserSnapshotService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserSnapshotServiceImpl implements UserSnapshotService {
+    private final UserRepository userRepository;
+
+    @Value("${security.user-snapshot-cache.max-size:10000}")
+    private long USER_SNAPSHOT_CACHE_MAX_SIZE;
+
+    @Value("${security.user-snapshot-cache.ttl-ms:300000}")
+    private long USER_SNAPSHOT_CACHE_TTL_MS;
+
+    private Cache<String, UserSnapshot> snapshotCache;
+
+    @PostConstruct
+    public void init() {
+        snapshotCache = Caffeine.newBuilder()
+                .maximumSize(USER_SNAPSHOT_CACHE_MAX_SIZE)
+                .expireAfterWrite(Duration.ofMillis(USER_SNAPSHOT_CACHE_TTL_MS))
+                .build();
+    }
+
+    @Override
+    public Optional<UserSnapshot> findByUsername(String username) {
+        return Optional.ofNullable(snapshotCache.get(username, key -> userRepository.findByUsername(key)
+                .map(UserSnapshot::from)
+                .orElse(null)));
+    }
+
+    @Override
+    public User loadUser(UserSnapshot snapshot) {
+        return userRepository.findById(snapshot.id())
+                .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND.getMessage()));
+    }
+
+    /**
+     * Drops the cached snapshot now and again once the surrounding transaction commits, so a
+     * request racing the update cannot re-cache the pre-commit row.
+     */
+    @Override
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        snapshotCache.invalidate(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshotCache.invalidate(username);
+                }
+            });
+        }
+        log.debug("Evicted user snapshot for '{}'", username);
+    }
+}
@@ -3,6 +3,7 @@ package com.nashtech.rookies.oam.specification;
 import com.nashtech.rookies.oam.model.Asset;
 import com.nashtech.rookies.oam.model.AssetReturn;
 import com.nashtech.rookies.oam.model.Assignment;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
 import org.apache.commons.lang3.StringUtils;
@@ -32,12 +33,12 @@ public class AssetReturnSpecification {
             Join<AssetReturn, Assignment> assignmentJoin = root.join(FIELD_ASSIGNMENT);
             Join<Assignment, Asset> assetJoin = assignmentJoin.join(FIELD_ASSET);
 
-            String like = "%" + search.trim().toLowerCase() + "%";
+            Expression<String> pattern = SearchPredicates.containsPattern(cb, search);
 
             return cb.or(
-                    cb.like(cb.lower(assetJoin.get(FIELD_CODE)), like),
-                    cb.like(cb.lower(assetJoin.get(FIELD_NAME)), like),
-                    cb.like(cb.lower(root.get(FIELD_CREATED_BY)), like)
+                    cb.like(SearchPredicates.normalized(cb, assetJoin.get(FIELD_CODE)), pattern),
+                    cb.like(SearchPredicates.normalized(cb, assetJoin.get(FIELD_NAME)), pattern),
+                    cb.like(SearchPredicates.normalized(cb, root.get(FIELD_CREATED_BY)), pattern)
             );
         };
     }
@@ -2,6 +2,7 @@ package com.nashtech.rookies.oam.specification;
 
 import com.nashtech.rookies.oam.model.Asset;
 import com.nashtech.rookies.oam.model.Location;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
 import org.apache.commons.lang3.StringUtils;
@@ -23,10 +24,10 @@ public class AssetSpecification {
     public static Specification<Asset> searchByCodeOrName(String search) {
         return (root, query, cb) -> {
             if (StringUtils.isBlank(search)) return null;
-            String like = "%" + search.toLowerCase() + "%";
+            Expression<String> pattern = SearchPredicates.containsPattern(cb, search);
             return cb.or(
-                    cb.like(cb.lower(root.get(FIELD_NAME)), like),
-                    cb.like(cb.lower(root.get(FIELD_CODE)), like)
+                    cb.like(SearchPredicates.normalized(cb, root.get(FIELD_NAME)), pattern),
+                    cb.like(SearchPredicates.normalized(cb, root.get(FIELD_CODE)), pattern)
             );
         };
     }
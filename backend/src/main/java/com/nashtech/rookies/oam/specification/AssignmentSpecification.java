@@ -2,8 +2,8 @@ package com.nashtech.rookies.oam.specification;
 
 import com.nashtech.rookies.oam.model.Asset;
 import com.nashtech.rookies.oam.model.Assignment;
-import com.nashtech.rookies.oam.model.AssignmentStatus;
 import com.nashtech.rookies.oam.model.User;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
 import org.apache.commons.lang3.StringUtils;
@@ -30,23 +30,28 @@ public class AssignmentSpecification {
     public static Specification<Assignment> searchByAssetCodeNameOrAssignee(String search) {
         return (root, query, cb) -> {
             if (StringUtils.isBlank(search)) return null;
-            String like = "%" + search.trim().toLowerCase() + "%";
+            Expression<String> pattern = SearchPredicates.containsPattern(cb, search);
 
             Join<Assignment, Asset> assetJoin = root.join(FIELD_ASSET);
             Join<Assignment, User> userJoin = root.join(FIELD_USER);
 
             return cb.or(
-                    cb.like(cb.lower(assetJoin.get(FIELD_CODE)), like),
-                    cb.like(cb.lower(assetJoin.get(FIELD_NAME)), like),
-                    cb.like(cb.lower(userJoin.get(FIELD_USERNAME)), like)
+                    cb.like(SearchPredicates.normalized(cb, assetJoin.get(FIELD_CODE)), pattern),
+                    cb.like(SearchPredicates.normalized(cb, assetJoin.get(FIELD_NAME)), pattern),
+                    cb.like(SearchPredicates.normalized(cb, userJoin.get(FIELD_USERNAME)), pattern)
             );
         };
     }
 
-    public static Specification<Assignment> filterByStates(List<String> states) {
+    /**
+     * Filters on the {@code status_id} foreign key, so no join to {@code assignment_statuses} is needed.
+     * {@code null} means no filter; an empty list matches nothing.
+     */
+    public static Specification<Assignment> filterByStatusIds(List<Integer> statusIds) {
         return (root, query, cb) -> {
-            if (CollectionUtils.isEmpty(states)) return null;
-            return root.get(FIELD_STATUS).get(FIELD_NAME).in(states);
+            if (statusIds == null) return null;
+            if (statusIds.isEmpty()) return cb.disjunction();
+            return root.get(FIELD_STATUS).get(FIELD_ID).in(statusIds);
         };
     }
 
@@ -79,23 +84,23 @@ public class AssignmentSpecification {
         };
     }
 
-    public static Specification<Assignment> build(String search, List<String> states, LocalDate assignedDateFrom, LocalDate assignedDateTo , UUID userId, UUID locationId) {
+    public static Specification<Assignment> build(String search, List<Integer> statusIds, LocalDate assignedDateFrom, LocalDate assignedDateTo , UUID userId, UUID locationId) {
         return Specification
                 .where(searchByAssetCodeNameOrAssignee(search))
-                .and(filterByStates(states))
+                .and(filterByStatusIds(statusIds))
                 .and(filterByAssignedDateAndUser(assignedDateFrom, assignedDateTo, userId))
                 .and(inLocation(locationId));
     }
 
     public static Specification<Assignment> findByCriteria(
-            List<AssignmentStatus> statuses,
+            List<Integer> statusIds,
             LocalDate startDate,
             LocalDate endDate
         ) {
         return (root, query, criteriaBuilder) -> {
              List<Predicate> predicates = new ArrayList<>();
-              if (statuses != null && !statuses.isEmpty()) {
-                predicates.add(root.get("status").in(statuses));
+              if (!CollectionUtils.isEmpty(statusIds)) {
+                predicates.add(root.get(FIELD_STATUS).get(FIELD_ID).in(statusIds));
             }
              if (startDate != null && endDate != null) {
                 predicates.add(criteriaBuilder.between(root.get("assignedDate"), startDate, endDate));
@@ -0,0 +1,20 @@
+package com.nashtech.rookies.oam.specification;
+
+import com.nashtech.rookies.oam.model.AssignmentStatusHistory;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public class AssignmentStatusHistorySpecification {
+
+    private static final String FIELD_ASSIGNMENT = "assignment";
+    private static final String FIELD_ID = "id";
+
+    private AssignmentStatusHistorySpecification() {
+        // Prevent instantiation
+    }
+
+    public static Specification<AssignmentStatusHistory> forAssignment(UUID assignmentId) {
+        return (root, query, cb) -> cb.equal(root.get(FIELD_ASSIGNMENT).get(FIELD_ID), assignmentId);
+    }
+}
@@ -0,0 +1,135 @@
+package com.nashtech.rookies.oam.specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.dialect.NullOrdering;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Seek predicate for keyset pagination: selects the rows that come strictly after a given
+ * position in the given sort.
+ *
+ * <p>The sort carries no null handling (Spring Data cannot apply it to criteria queries), so null
+ * keys land wherever the database puts them. The predicate follows the dialect's {@link NullOrdering}
+ * to decide whether null rows come before or after a given value.</p>
+ */
+public class KeysetSpecification {
+
+    private KeysetSpecification() {
+        // Prevent instantiation
+    }
+
+    public static <T> Specification<T> after(Sort sort, List<String> values) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != values.size()) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+
+        return (root, query, cb) -> {
+            NullOrdering nullOrdering = nullOrdering(cb);
+            List<Predicate> branches = new ArrayList<>();
+            List<Predicate> equalPrefix = new ArrayList<>();
+
+            for (int i = 0; i < orders.size(); i++) {
+                Sort.Order order = orders.get(i);
+                Path<Comparable<Object>> path = resolve(root, order.getProperty());
+                Comparable<Object> value = convert(values.get(i), path.getJavaType());
+
+                Predicate beyond = beyond(cb, path, value, order.isAscending(),
+                        nullsFirst(nullOrdering, order.isAscending()));
+                if (beyond != null) {
+                    List<Predicate> branch = new ArrayList<>(equalPrefix);
+                    branch.add(beyond);
+                    branches.add(cb.and(branch.toArray(new Predicate[0])));
+                }
+                equalPrefix.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+            }
+
+            return branches.isEmpty()
+                    ? cb.disjunction()
+                    : cb.or(branches.toArray(new Predicate[0]));
+        };
+    }
+
+    private static Predicate beyond(CriteriaBuilder cb, Expression<Comparable<Object>> path,
+                                    Comparable<Object> value, boolean ascending, boolean nullsFirst) {
+        if (value == null) {
+            return nullsFirst ? cb.isNotNull(path) : null;
+        }
+        Predicate past = ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+        return nullsFirst ? past : cb.or(past, cb.isNull(path));
+    }
+
+    private static boolean nullsFirst(NullOrdering nullOrdering, boolean ascending) {
+        return switch (nullOrdering) {
+            case GREATEST -> !ascending;
+            case SMALLEST -> ascending;
+            case FIRST -> true;
+            case LAST -> false;
+        };
+    }
+
+    private static NullOrdering nullOrdering(CriteriaBuilder cb) {
+        if (cb instanceof NodeBuilder nodeBuilder) {
+            return nodeBuilder.getSessionFactory().getJdbcServices().getDialect().getNullOrdering();
+        }
+        return NullOrdering.GREATEST;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Path<Comparable<Object>> resolve(Root<T> root, String property) {
+        Path<?> path = root;
+        for (String segment : property.split("\\.")) {
+            path = path.get(segment);
+        }
+        return (Path<Comparable<Object>>) path;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> convert(String value, Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+        Function<String, Object> parser = parserFor(type);
+        try {
+            return (Comparable<Object>) parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, Object> parserFor(Class<?> type) {
+        if (type == String.class) {
+            return value -> value;
+        } else if (type == UUID.class) {
+            return UUID::fromString;
+        } else if (type == LocalDate.class) {
+            return LocalDate::parse;
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime::parse;
+        } else if (type == Instant.class) {
+            return Instant::parse;
+        } else if (type == Long.class || type == long.class) {
+            return Long::valueOf;
+        } else if (type == Integer.class || type == int.class) {
+            return Integer::valueOf;
+        } else if (type.isEnum()) {
+            return value -> Enum.valueOf((Class) type, value);
+        }
+        throw new IllegalArgumentException("Cursor pagination is not supported for " + type.getSimpleName() + " keys");
+    }
+}
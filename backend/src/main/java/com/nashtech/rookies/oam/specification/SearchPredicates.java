@@ -0,0 +1,31 @@
+package com.nashtech.rookies.oam.specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+
+import java.util.Locale;
+
+import static com.nashtech.rookies.oam.config.SearchFunctionContributor.SEARCH_NORMALIZE;
+import static com.nashtech.rookies.oam.config.SearchFunctionContributor.SEARCH_NORMALIZE_FULL_NAME;
+
+/**
+ * Builds the case- and accent-insensitive expressions used by the search specifications.
+ * Columns and the search pattern go through the same function, which matches the trigram indexes on PostgreSQL.
+ */
+public final class SearchPredicates {
+
+    private SearchPredicates() {
+    }
+
+    public static Expression<String> normalized(CriteriaBuilder cb, Expression<String> expression) {
+        return cb.function(SEARCH_NORMALIZE, String.class, expression);
+    }
+
+    public static Expression<String> normalizedFullName(CriteriaBuilder cb, Expression<String> firstName, Expression<String> lastName) {
+        return cb.function(SEARCH_NORMALIZE_FULL_NAME, String.class, firstName, lastName);
+    }
+
+    public static Expression<String> containsPattern(CriteriaBuilder cb, String search) {
+        return normalized(cb, cb.literal("%" + search.trim().toLowerCase(Locale.ROOT) + "%"));
+    }
+}
@@ -4,6 +4,7 @@ import com.nashtech.rookies.oam.model.Role;
 import com.nashtech.rookies.oam.model.User;
 import com.nashtech.rookies.oam.model.enums.UserStatus;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
@@ -51,15 +52,14 @@ public class UserSpecification {
         return (root, query, cb) -> {
             if (search == null || search.trim().isEmpty()) return null;
 
-            String like = "%" + search.toLowerCase() + "%";
+            Expression<String> pattern = SearchPredicates.containsPattern(cb, search);
 
-            var fullName = cb.lower(cb.concat(cb.concat(root.get(FIELD_FIRST_NAME), " "), root.get(FIELD_LAST_NAME)));
+            // "first last" contains every first-name or last-name match, so one indexed full-name predicate covers both
+            Expression<String> fullName = SearchPredicates.normalizedFullName(cb, root.get(FIELD_FIRST_NAME), root.get(FIELD_LAST_NAME));
 
             return cb.or(
-                    cb.like(cb.lower(root.get(FIELD_FIRST_NAME)), like),
-                    cb.like(cb.lower(root.get(FIELD_LAST_NAME)), like),
-                    cb.like(cb.lower(root.get(FIELD_STAFF_CODE)), like),
-                    cb.like(fullName, like)
+                    cb.like(SearchPredicates.normalized(cb, root.get(FIELD_STAFF_CODE)), pattern),
+                    cb.like(fullName, pattern)
             );
         };
     }
@@ -0,0 +1,100 @@
+package com.nashtech.rookies.oam.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Hands log events to a single background writer through a {@link RingBuffer}.
+ *
+ * <p>Producers never block: when the buffer is full the event is dropped and counted. The
+ * writer reports the number of dropped events periodically instead of per event.</p>
+ */
+@Slf4j
+public final class AsyncLogChannel<E> implements AutoCloseable {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final String name;
+    private final RingBuffer<E> buffer;
+    private final Consumer<E> writer;
+    private final Thread drainer;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running = true;
+
+    public AsyncLogChannel(String name, int capacity, Consumer<E> writer) {
+        this.name = name;
+        this.buffer = new RingBuffer<>(capacity);
+        this.writer = writer;
+        this.drainer = Thread.ofPlatform()
+                .name(name + "-log-writer")
+                .daemon(true)
+                .start(this::drainLoop);
+    }
+
+    public boolean offer(E event) {
+        if (buffer.offer(event)) {
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    public double fillRatio() {
+        return (double) buffer.size() / buffer.capacity();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        long reportedDropped = 0;
+        long lastReport = System.nanoTime();
+
+        while (running || buffer.size() > 0) {
+            E event;
+            boolean wrote = false;
+            while ((event = buffer.poll()) != null) {
+                write(event);
+                wrote = true;
+            }
+
+            long now = System.nanoTime();
+            if (now - lastReport >= DROP_REPORT_INTERVAL_NANOS) {
+                long total = dropped.get();
+                if (total > reportedDropped) {
+                    log.warn("{} log channel dropped {} events under backpressure", name, total - reportedDropped);
+                    reportedDropped = total;
+                }
+                lastReport = now;
+            }
+
+            if (!wrote && running) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void write(E event) {
+        try {
+            writer.accept(event);
+        } catch (RuntimeException e) {
+            log.error("{} log channel failed to write event", name, e);
+        }
+    }
+}
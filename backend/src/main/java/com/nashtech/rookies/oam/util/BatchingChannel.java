@@ -0,0 +1,89 @@
+package com.nashtech.rookies.oam.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Hands events to a single background writer through a {@link RingBuffer}, in batches.
+ *
+ * <p>Unlike {@link AsyncLogChannel} nothing is dropped silently: {@link #offer} returns
+ * {@code false} when the buffer is full and the caller decides what to do with the event.
+ * The writer drains up to {@code maxBatch} events at a time; {@link #close()} flushes whatever
+ * is still buffered before returning.</p>
+ */
+@Slf4j
+public final class BatchingChannel<E> implements AutoCloseable {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final String name;
+    private final RingBuffer<E> buffer;
+    private final int maxBatch;
+    private final Consumer<List<E>> writer;
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    public BatchingChannel(String name, int capacity, int maxBatch, Consumer<List<E>> writer) {
+        this.name = name;
+        this.buffer = new RingBuffer<>(capacity);
+        this.maxBatch = Math.max(maxBatch, 1);
+        this.writer = writer;
+        this.drainer = Thread.ofPlatform()
+                .name(name + "-batch-writer")
+                .daemon(true)
+                .start(this::drainLoop);
+    }
+
+    public boolean offer(E event) {
+        return running && buffer.offer(event);
+    }
+
+    public double fillRatio() {
+        return (double) buffer.size() / buffer.capacity();
+    }
+
+    public int size() {
+        return buffer.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        List<E> batch = new ArrayList<>(maxBatch);
+
+        while (running || buffer.size() > 0) {
+            E event;
+            while (batch.size() < maxBatch && (event = buffer.poll()) != null) {
+                batch.add(event);
+            }
+
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch = new ArrayList<>(maxBatch);
+            } else if (running) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void write(List<E> batch) {
+        try {
+            writer.accept(batch);
+        } catch (RuntimeException e) {
+            log.error("{} channel failed to write a batch of {} events", name, batch.size(), e);
+        }
+    }
+}
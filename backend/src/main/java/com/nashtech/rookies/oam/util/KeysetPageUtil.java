@@ -0,0 +1,121 @@
+package com.nashtech.rookies.oam.util;
+
+import com.nashtech.rookies.oam.dto.pagination.APIPageableDTO;
+import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.pagination.KeysetCursor;
+import com.nashtech.rookies.oam.specification.KeysetSpecification;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Cursor (keyset) pagination over a {@link JpaSpecificationExecutor}.
+ *
+ * <p>Instead of {@code OFFSET}, each page seeks past the sort key of the last row it returned, so
+ * deep pages cost the same as the first one. The sort must end with a unique key; {@link SortUtil}
+ * appends {@code id} for that. No count query is issued: one extra row is fetched to tell whether
+ * another page exists.</p>
+ */
+public class KeysetPageUtil {
+
+    private KeysetPageUtil() {
+        // Prevent instantiation
+    }
+
+    public static <T, R> APIPageableResponseDTO<R> fetch(
+            JpaSpecificationExecutor<T> repository,
+            Specification<T> specification,
+            Sort sort,
+            String cursor,
+            int pageSize,
+            Collection<String> fetchPaths,
+            Function<T, R> mapper
+    ) {
+        int size = Math.max(pageSize, 1);
+        int signature = sort.toString().hashCode();
+
+        KeysetCursor position = StringUtils.isBlank(cursor) ? null : KeysetCursor.decode(cursor);
+        if (position != null && position.sortSignature() != signature) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+        boolean backward = position != null && position.backward();
+        Sort querySort = backward ? reverse(sort) : sort;
+
+        Specification<T> seekSpecification = position == null
+                ? specification
+                : Specification.where(specification).and(KeysetSpecification.after(querySort, position.values()));
+
+        List<T> rows = new ArrayList<>(repository.findBy(seekSpecification, query -> {
+            var fluent = query.sortBy(querySort);
+            if (!fetchPaths.isEmpty()) {
+                fluent = fluent.project(fetchPaths);
+            }
+            return fluent.limit(size + 1).all();
+        }));
+
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = new ArrayList<>(rows.subList(0, size));
+        }
+        if (backward) {
+            Collections.reverse(rows);
+        }
+
+        boolean hasNext = backward ? position != null : hasMore;
+        boolean hasPrevious = backward ? hasMore : position != null;
+
+        String nextCursor = hasNext && !rows.isEmpty()
+                ? cursorOf(rows.get(rows.size() - 1), sort, false, signature)
+                : null;
+        String prevCursor = hasPrevious && !rows.isEmpty()
+                ? cursorOf(rows.get(0), sort, true, signature)
+                : null;
+
+        List<R> content = rows.stream().map(mapper).toList();
+        APIPageableDTO pageable = new APIPageableDTO(size, content.size(), sort.isSorted(),
+                prevCursor == null, nextCursor == null);
+        return new APIPageableResponseDTO<>(content, pageable, nextCursor, prevCursor);
+    }
+
+    private static Sort reverse(Sort sort) {
+        return Sort.by(sort.stream()
+                .map(order -> order.isAscending()
+                        ? Sort.Order.desc(order.getProperty())
+                        : Sort.Order.asc(order.getProperty()))
+                .toList());
+    }
+
+    private static String cursorOf(Object row, Sort sort, boolean backward, int signature) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+        List<String> values = sort.stream()
+                .map(order -> keyToString(wrapper.getPropertyValue(order.getProperty())))
+                .toList();
+        return new KeysetCursor(values, backward, signature).encode();
+    }
+
+    private static String keyToString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        if (value instanceof CharSequence || value instanceof Number
+                || value instanceof TemporalAccessor || value instanceof UUID) {
+            return value.toString();
+        }
+        throw new IllegalArgumentException("Cursor pagination is not supported for "
+                + value.getClass().getSimpleName() + " keys");
+    }
+}
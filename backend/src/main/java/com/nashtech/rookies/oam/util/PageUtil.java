@@ -1,6 +1,15 @@
 package com.nashtech.rookies.oam.util;
 
+import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.pagination.CountMode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 public class PageUtil {
     private static final int DEFAULT_PAGE_NUMBER = 0;
@@ -15,4 +24,29 @@ public class PageUtil {
         int validPageSize = (pageSize != null && pageSize > 0) ? pageSize : DEFAULT_PAGE_SIZE;
         return PageRequest.of(validPageNo, validPageSize);
     }
+
+    /**
+     * Runs a list query in the requested count mode: a {@link Page} with an exact count, a
+     * {@link Slice} without one, or a slice combined with a cached total.
+     */
+    public static <T, R> APIPageableResponseDTO<R> fetch(
+            CountMode countMode,
+            Pageable pageable,
+            Function<Pageable, Page<T>> pageQuery,
+            Function<Pageable, Slice<T>> sliceQuery,
+            LongSupplier cachedTotal,
+            Function<T, R> mapper
+    ) {
+        return switch (countMode) {
+            case EXACT -> new APIPageableResponseDTO<>(pageQuery.apply(pageable).map(mapper));
+            case NONE -> new APIPageableResponseDTO<>(sliceQuery.apply(pageable).map(mapper));
+            case CACHED -> {
+                Slice<R> slice = sliceQuery.apply(pageable).map(mapper);
+                APIPageableResponseDTO<R> response = new APIPageableResponseDTO<>(
+                        new PageImpl<>(slice.getContent(), pageable, cachedTotal.getAsLong()));
+                response.getPageable().setCountMode(CountMode.CACHED);
+                yield response;
+            }
+        };
+    }
 }
@@ -0,0 +1,78 @@
+package com.nashtech.rookies.oam.util;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Precompiled set of path patterns.
+ *
+ * <p>Literal patterns go into a hash set and are answered with one lookup, and
+ * {@code /prefix/**} patterns become plain prefix checks. Only the remaining patterns are
+ * kept as parsed {@link PathPattern}s, and the request path is parsed at most once per
+ * {@link #matches} call, and only when such a pattern exists.</p>
+ */
+public final class PathLookup {
+    private static final String SUBTREE_SUFFIX = "/**";
+
+    private final Set<String> exactPaths;
+    private final List<String> subtreePrefixes;
+    private final List<PathPattern> patterns;
+
+    private PathLookup(Set<String> exactPaths, List<String> subtreePrefixes, List<PathPattern> patterns) {
+        this.exactPaths = exactPaths;
+        this.subtreePrefixes = subtreePrefixes;
+        this.patterns = patterns;
+    }
+
+    public static PathLookup of(String... paths) {
+        Set<String> exactPaths = new HashSet<>();
+        List<String> subtreePrefixes = new ArrayList<>();
+        List<PathPattern> patterns = new ArrayList<>();
+
+        for (String path : paths) {
+            if (!hasWildcard(path)) {
+                exactPaths.add(path);
+            } else if (path.endsWith(SUBTREE_SUFFIX)
+                    && !hasWildcard(path.substring(0, path.length() - SUBTREE_SUFFIX.length()))) {
+                subtreePrefixes.add(path.substring(0, path.length() - SUBTREE_SUFFIX.length()));
+            } else {
+                patterns.add(PathPatternParser.defaultInstance.parse(path));
+            }
+        }
+        return new PathLookup(Set.copyOf(exactPaths), List.copyOf(subtreePrefixes), List.copyOf(patterns));
+    }
+
+    private static boolean hasWildcard(String path) {
+        return path.indexOf('*') >= 0 || path.indexOf('{') >= 0;
+    }
+
+    public boolean matches(String path) {
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        for (String prefix : subtreePrefixes) {
+            // Same as PathPattern's "/**": the prefix itself or anything below it
+            if (path.startsWith(prefix)
+                    && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        if (patterns.isEmpty()) {
+            return false;
+        }
+
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package com.nashtech.rookies.oam.util;
+
+/**
+ * Accumulates JDBC execution time for the request running on the current thread.
+ */
+public final class RequestDbTimer {
+    private static final ThreadLocal<long[]> ELAPSED_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private RequestDbTimer() {
+        // Prevent instantiation
+    }
+
+    public static void reset() {
+        ELAPSED_NANOS.get()[0] = 0;
+    }
+
+    public static void add(long nanos) {
+        ELAPSED_NANOS.get()[0] += nanos;
+    }
+
+    public static long elapsedNanos() {
+        return ELAPSED_NANOS.get()[0];
+    }
+
+    public static void clear() {
+        ELAPSED_NANOS.remove();
+    }
+}
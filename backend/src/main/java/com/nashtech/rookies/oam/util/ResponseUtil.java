@@ -4,9 +4,13 @@ import com.nashtech.rookies.oam.constant.ErrorCode;
 import com.nashtech.rookies.oam.dto.api.ApiErrorResponse;
 import com.nashtech.rookies.oam.dto.api.ApiGenericResponse;
 import com.nashtech.rookies.oam.dto.api.ApiResult;
+import com.nashtech.rookies.oam.model.ReferenceDataSet;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 public final class ResponseUtil {
 
     private ResponseUtil() {}
@@ -19,6 +23,18 @@ public final class ResponseUtil {
         return ResponseEntity.ok(ApiResult.success(message));
     }
 
+    /**
+     * Tags the response with the data's ETag, so a client revalidating with {@code If-None-Match} gets a
+     * bodiless 304, and marks it no-cache so clients always revalidate and see a new category right away.
+     */
+    public static <T> ResponseEntity<ApiGenericResponse<List<T>>> referenceData(String message,
+                                                                               ReferenceDataSet<T> data) {
+        return ResponseEntity.ok()
+                .eTag(data.eTag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResult.success(message, data.items()));
+    }
+
     public static <T> ResponseEntity<ApiGenericResponse<T>> created(String message, T data) {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResult.success(message, data));
     }
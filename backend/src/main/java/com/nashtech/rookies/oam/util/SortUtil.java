@@ -47,13 +47,13 @@ public class SortUtil {
                 : Sort.Direction.ASC;
 
         if (SORT_FIELD_FULL_NAME.equals(sortField)) {
-            return Sort.by(
+            return withTieBreaker(Sort.by(
                     new Sort.Order(direction, SORT_FIELD_FIRST_NAME),
                     new Sort.Order(direction, SORT_FIELD_LAST_NAME)
-            );
+            ));
         }
 
-        return Sort.by(new Sort.Order(direction, mappedField));
+        return withTieBreaker(Sort.by(new Sort.Order(direction, mappedField)));
     }
 
     public static Sort buildAssetSort(String sortField, String sortOrder) {
@@ -65,7 +65,7 @@ public class SortUtil {
                 ? Sort.Direction.DESC
                 : Sort.Direction.ASC;
 
-        return Sort.by(new Sort.Order(direction, sortField));
+        return withTieBreaker(Sort.by(new Sort.Order(direction, sortField)));
     }
 
     public static Sort buildAssignmentSort(String sortField, String sortOrder) {
@@ -82,7 +82,7 @@ public class SortUtil {
             sortBy = sortField;
         }
 
-        return Sort.by(new Sort.Order(direction, sortBy));
+        return withTieBreaker(Sort.by(new Sort.Order(direction, sortBy)));
     }
 
     public static Sort buildAssetReturnSort(String sortField, String sortOrder) {
@@ -95,7 +95,15 @@ public class SortUtil {
         }
 
         Sort.Direction direction = DESC.equalsIgnoreCase(sortOrder) ? Sort.Direction.DESC : Sort.Direction.ASC;
-        return Sort.by(new Sort.Order(direction, mappedField));
+        return withTieBreaker(Sort.by(new Sort.Order(direction, mappedField)));
+    }
+
+    /**
+     * Appends the unique {@code id} as a secondary key so rows with equal sort values keep a stable
+     * order across pages; keyset pagination relies on the sort being unique.
+     */
+    private static Sort withTieBreaker(Sort sort) {
+        return sort.and(Sort.by(Sort.Direction.ASC, SORT_FIELD_ID));
     }
     private static final Set<String> ALLOWED_REPORT_SORT_FIELDS = Stream.of(Report.class.getDeclaredFields()).filter(field -> field.getName() != "id").map(field -> field.getName())
             .collect(Collectors.toSet());
@@ -0,0 +1,64 @@
+package com.nashtech.rookies.oam.util;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket.
+ *
+ * <p>The token count and last refill time live in one immutable state object swapped with
+ * compare-and-set, so concurrent attempts on the same key never block each other.</p>
+ */
+public final class TokenBucket {
+    private record State(double tokens, long refilledAtNanos) {
+    }
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, double tokensPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @param nowNanos current {@link System#nanoTime()} reading
+     * @return {@code true} if a token was taken
+     */
+    public boolean tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double available = refill(current, nowNanos);
+            if (available < 1d) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(available - 1d, Math.max(nowNanos, current.refilledAtNanos())))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return nanoseconds until the next token is available, zero if one is available now
+     */
+    public long nanosUntilNextToken(long nowNanos) {
+        double available = refill(state.get(), nowNanos);
+        return available >= 1d ? 0 : (long) Math.ceil((1d - available) / tokensPerNano);
+    }
+
+    /**
+     * @return {@code true} if the bucket has refilled completely and was not touched since {@code idleSinceNanos}
+     */
+    public boolean isIdle(long nowNanos, long idleSinceNanos) {
+        State current = state.get();
+        return current.refilledAtNanos() <= idleSinceNanos && refill(current, nowNanos) >= capacity;
+    }
+
+    private double refill(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.refilledAtNanos());
+        return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+    }
+}
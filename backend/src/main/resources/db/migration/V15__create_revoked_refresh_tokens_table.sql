@@ -0,0 +1,9 @@
+create TABLE revoked_refresh_tokens
+(
+    jti        VARCHAR(64)                 NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE    NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE    NOT NULL,
+    CONSTRAINT pk_revoked_refresh_tokens PRIMARY KEY (jti)
+);
+
+create INDEX idx_revoked_refresh_tokens_expires_at ON revoked_refresh_tokens (expires_at);
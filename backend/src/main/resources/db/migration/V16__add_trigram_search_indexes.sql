@@ -0,0 +1,19 @@
+create EXTENSION IF NOT EXISTS pg_trgm;
+create EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() is only STABLE, so it cannot back an expression index; pin the dictionary in an IMMUTABLE wrapper.
+create OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS
+$$
+SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$;
+
+create INDEX idx_assets_name_trgm ON assets USING gin (lower(f_unaccent(name)) gin_trgm_ops);
+create INDEX idx_assets_code_trgm ON assets USING gin (lower(f_unaccent(code)) gin_trgm_ops);
+
+create INDEX idx_users_staff_code_trgm ON users USING gin (lower(f_unaccent(staff_code)) gin_trgm_ops);
+create INDEX idx_users_username_trgm ON users USING gin (lower(f_unaccent(username)) gin_trgm_ops);
+create INDEX idx_users_full_name_trgm ON users USING gin (lower(f_unaccent(first_name || ' ' || last_name)) gin_trgm_ops);
+
+create INDEX idx_asset_returns_created_by_trgm ON asset_returns USING gin (lower(f_unaccent(created_by)) gin_trgm_ops);
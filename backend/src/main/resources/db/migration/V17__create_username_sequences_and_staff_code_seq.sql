@@ -0,0 +1,21 @@
+create TABLE username_sequences
+(
+    base_username VARCHAR(50) NOT NULL,
+    last_suffix   INTEGER     NOT NULL,
+    CONSTRAINT pk_username_sequences PRIMARY KEY (base_username)
+);
+
+-- Seed from existing usernames: "anhn", "anhn1", "anhn2" -> ('anhn', 2)
+insert into username_sequences (base_username, last_suffix)
+select regexp_replace(username, '[0-9]+$', ''),
+       max(coalesce(substring(username from '[0-9]+$')::INTEGER, 0))
+from users
+group by regexp_replace(username, '[0-9]+$', '');
+
+create SEQUENCE staff_code_seq START WITH 1 INCREMENT BY 1;
+
+select setval('staff_code_seq',
+              coalesce((select last_value from staff_code_count where id = 'SD'), 0) + 1,
+              false);
+
+drop TABLE staff_code_count;
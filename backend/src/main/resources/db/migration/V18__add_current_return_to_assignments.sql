@@ -0,0 +1,18 @@
+alter table assignments
+    add COLUMN current_return_id     UUID,
+    add COLUMN current_return_state  VARCHAR(50),
+    add COLUMN current_returned_date DATE;
+
+update assignments a
+set current_return_id     = l.id,
+    current_return_state  = l.state,
+    current_returned_date = l.returned_date
+from (select distinct on (r.assignment_id) r.assignment_id, r.id, r.state, r.returned_date
+      from asset_returns r
+      order by r.assignment_id, r.created_at desc) l
+where l.assignment_id = a.id;
+
+alter table assignments
+    add CONSTRAINT FK_ASSIGNMENTS_ON_CURRENT_RETURN FOREIGN KEY (current_return_id) REFERENCES asset_returns (id) ON delete SET NULL;
+
+create INDEX idx_assignments_current_return_state ON assignments (current_return_state);
@@ -0,0 +1,3 @@
+-- Keyset reads: newest first per assignment
+CREATE INDEX idx_assignment_status_histories_assignment_created
+    ON assignment_status_histories (assignment_id, created_at DESC, id DESC);
@@ -0,0 +1,35 @@
+-- At most one open (waiting or accepted) assignment per asset. Backs the conditional
+-- AVAILABLE -> ASSIGNED claim on assets.state. Status ids are identity values, so the
+-- predicate is built from their names.
+DO
+$$
+DECLARE
+    waiting_status_id  INTEGER;
+    accepted_status_id INTEGER;
+    duplicates         TEXT;
+BEGIN
+    SELECT id INTO waiting_status_id FROM assignment_statuses WHERE name = 'Waiting for acceptance';
+    SELECT id INTO accepted_status_id FROM assignment_statuses WHERE name = 'Accepted';
+
+    IF waiting_status_id IS NULL OR accepted_status_id IS NULL THEN
+        RAISE EXCEPTION 'Assignment statuses are missing, cannot build uq_assignments_open_asset';
+    END IF;
+
+    -- Which of several open assignments of one asset stands is a business decision; resolve them by hand
+    SELECT string_agg(format('asset %s: assignments %s', asset_id, assignment_ids), E'\n')
+    INTO duplicates
+    FROM (SELECT asset_id, string_agg(id::TEXT, ', ' ORDER BY assigned_date, created_at, id) AS assignment_ids
+          FROM assignments
+          WHERE status_id IN (waiting_status_id, accepted_status_id)
+          GROUP BY asset_id
+          HAVING count(*) > 1) duplicated;
+
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION E'Assets with more than one open assignment:\n%', duplicates;
+    END IF;
+
+    EXECUTE format(
+            'CREATE UNIQUE INDEX uq_assignments_open_asset ON assignments (asset_id) WHERE status_id IN (%s, %s)',
+            waiting_status_id, accepted_status_id);
+END
+$$;
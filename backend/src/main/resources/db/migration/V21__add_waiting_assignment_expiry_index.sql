@@ -0,0 +1,17 @@
+-- Serves the expiry job, which scans waiting assignments oldest first. Status ids are
+-- identity values, so the predicate is built from the status name.
+DO
+$$
+DECLARE
+    waiting_status_id INTEGER;
+BEGIN
+    SELECT id
+    INTO waiting_status_id
+    FROM assignment_statuses
+    WHERE name = 'Waiting for acceptance';
+
+    EXECUTE format(
+            'CREATE INDEX idx_assignments_waiting_assigned_date ON assignments (assigned_date, id) WHERE status_id = %s',
+            waiting_status_id);
+END
+$$;
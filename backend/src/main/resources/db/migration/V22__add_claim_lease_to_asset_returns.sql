@@ -0,0 +1,7 @@
+-- Admins claim waiting returns for a short lease so they work on disjoint requests.
+alter table asset_returns
+    add COLUMN claimed_by    VARCHAR(255),
+    add COLUMN claimed_until TIMESTAMP;
+
+-- Serves the claim queue, which takes waiting returns oldest first.
+create INDEX idx_asset_returns_waiting_created_at ON asset_returns (created_at, id) WHERE state = 'WAITING_FOR_RETURNING';
@@ -0,0 +1,6 @@
+-- Assignment filters compare assignments.status_id against ids resolved in memory
+-- instead of joining assignment_statuses by name. These back the two hot shapes:
+-- an asset's history by status and a user's assignments by status and date.
+CREATE INDEX idx_assignments_asset_status ON assignments (asset_id, status_id);
+
+CREATE INDEX idx_assignments_user_status_assigned_date ON assignments (user_id, status_id, assigned_date);
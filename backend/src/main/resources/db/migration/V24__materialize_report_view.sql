@@ -0,0 +1,30 @@
+-- report_view was a plain view, so every report page re-ran the GROUP BY over all assets.
+-- It is now materialized and refreshed by the application when assets change.
+DROP VIEW report_view;
+
+CREATE MATERIALIZED VIEW report_view AS
+SELECT c.id,
+    c.name AS category,
+    COUNT(a.id) AS total,
+    COUNT(a.id) FILTER(WHERE a.state = 'ASSIGNED') AS assigned,
+    COUNT(a.id) FILTER(WHERE a.state = 'AVAILABLE') AS available,
+    COUNT(a.id) FILTER(WHERE a.state = 'NOT_AVAILABLE') AS not_available,
+    COUNT(a.id) FILTER(WHERE a.state = 'WAITING_FOR_RECYCLING') AS waiting_for_recycling,
+    COUNT(a.id) FILTER(WHERE a.state = 'RECYCLED') AS recycled
+FROM categories AS c
+INNER JOIN assets AS a
+ON a.category_id = c.id
+GROUP BY c.id;
+
+-- REFRESH MATERIALIZED VIEW CONCURRENTLY requires a unique index over all rows
+CREATE UNIQUE INDEX uq_report_view_id ON report_view (id);
+
+-- When each materialized view was last refreshed, so responses can state how fresh they are
+CREATE TABLE report_view_refreshes
+(
+    view_name    VARCHAR(63) PRIMARY KEY,
+    refreshed_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO report_view_refreshes (view_name, refreshed_at)
+VALUES ('report_view', now());
@@ -0,0 +1,52 @@
+package com.nashtech.rookies.oam.config;
+
+import com.nashtech.rookies.oam.exception.handler.AuthEntryPoint;
+import com.nashtech.rookies.oam.exception.handler.CustomAccessDeniedHandler;
+import com.nashtech.rookies.oam.filter.RequestPathClassifier;
+import com.nashtech.rookies.oam.service.impl.CustomUserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Loads the application's {@link SecurityConfig} into a {@code @WebMvcTest} slice, so role rules
+ * are enforced the same way as in the running application.
+ */
+@TestConfiguration
+@Import({SecurityConfig.class, RequestPathClassifier.class, AuthEntryPoint.class, CustomAccessDeniedHandler.class})
+public class SecurityTestConfig {
+
+    @Bean
+    public CustomUserDetailsServiceImpl customUserDetailsService() {
+        return mock(CustomUserDetailsServiceImpl.class);
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    /**
+     * Makes mocked JWT and first-login filters hand the request on, so the mock user set up by the
+     * test reaches the authorization rules.
+     */
+    public static void passThrough(Filter... filters) throws Exception {
+        for (Filter filter : filters) {
+            doAnswer(invocation -> {
+                invocation.<FilterChain>getArgument(2).doFilter(
+                        invocation.<ServletRequest>getArgument(0), invocation.<ServletResponse>getArgument(1));
+                return null;
+            }).when(filter).doFilter(any(), any(), any());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.nashtech.rookies.oam.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableDTO;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.pagination.CountMode;
 import com.nashtech.rookies.oam.dto.request.AssetRequest;
 import com.nashtech.rookies.oam.dto.request.UpdateAssetRequest;
 import com.nashtech.rookies.oam.dto.response.AssetPageResponse;
@@ -38,6 +39,7 @@ import java.util.UUID;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -285,7 +287,7 @@ class AssetControllerTest {
 
         APIPageableResponseDTO<AssetPageResponse> response = new APIPageableResponseDTO<>(page);
 
-        when(assetService.getAssets(eq(0), eq(10), eq(""), eq("assetCode"), eq("ASC"), any(), any()))
+        when(assetService.getAssets(eq(0), eq(10), eq(""), eq("assetCode"), eq("ASC"), any(), any(), isNull(), eq(CountMode.EXACT)))
                 .thenReturn(response);
 
         mockMvc.perform(get("/api/v1/assets")
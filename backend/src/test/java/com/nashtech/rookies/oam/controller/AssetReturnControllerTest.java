@@ -1,10 +1,16 @@
 package com.nashtech.rookies.oam.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nashtech.rookies.oam.config.SecurityTestConfig;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
 import com.nashtech.rookies.oam.dto.request.AssetReturnRequest;
+import com.nashtech.rookies.oam.dto.request.AssetReturnUpdateItem;
+import com.nashtech.rookies.oam.dto.request.BulkUpdateAssetReturnRequest;
+import com.nashtech.rookies.oam.dto.response.AssetReturnClaimResponse;
 import com.nashtech.rookies.oam.dto.response.AssetReturnPageResponse;
 import com.nashtech.rookies.oam.dto.response.AssetReturnResponse;
+import com.nashtech.rookies.oam.dto.response.BulkAssetReturnItemResult;
+import com.nashtech.rookies.oam.dto.response.BulkAssetReturnResponse;
 import com.nashtech.rookies.oam.filter.FirstLoginFilter;
 import com.nashtech.rookies.oam.filter.JwtAuthFilter;
 import com.nashtech.rookies.oam.model.enums.ReturnState;
@@ -14,6 +20,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
@@ -27,6 +34,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,10 +44,12 @@ import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AssetReturnController.class)
+@Import(SecurityTestConfig.class)
 class AssetReturnControllerTest {
 
     @Autowired
@@ -68,7 +78,8 @@ class AssetReturnControllerTest {
     private AssetReturnPageResponse response;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws Exception {
+        SecurityTestConfig.passThrough(jwtAuthFilter, firstLoginFilter);
         mockMvc = MockMvcBuilders
                 .webAppContextSetup(context)
                 .apply(springSecurity())
@@ -178,4 +189,62 @@ class AssetReturnControllerTest {
                         .with(SecurityMockMvcRequestPostProcessors.csrf()))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should bulk update return requests and report per-item results")
+    @WithMockUser(roles = "ADMIN")
+    void shouldBulkUpdateReturnRequests() throws Exception {
+        AssetReturnUpdateItem item = new AssetReturnUpdateItem();
+        item.setId(returnId);
+        item.setState("COMPLETED");
+        BulkUpdateAssetReturnRequest request = new BulkUpdateAssetReturnRequest();
+        request.setItems(List.of(item));
+
+        BulkAssetReturnResponse bulkResponse = BulkAssetReturnResponse.builder()
+                .succeeded(1)
+                .failed(0)
+                .results(List.of(BulkAssetReturnItemResult.builder()
+                        .index(0)
+                        .returnId(returnId)
+                        .success(true)
+                        .assetReturn(assetReturnResponse)
+                        .build()))
+                .build();
+        when(assetReturnService.updateAssetReturns(any())).thenReturn(bulkResponse);
+
+        mockMvc.perform(patch("/api/v1/asset-returns")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.succeeded").value(1))
+                .andExpect(jsonPath("$.data.results[0].returnId").value(returnId.toString()));
+    }
+
+    @Test
+    @DisplayName("Should claim waiting return requests for admin")
+    @WithMockUser(roles = "ADMIN")
+    void shouldClaimReturnRequests() throws Exception {
+        AssetReturnClaimResponse claimResponse = AssetReturnClaimResponse.builder()
+                .claimedUntil(LocalDateTime.of(2025, 6, 1, 10, 5))
+                .items(List.of(response))
+                .build();
+        when(assetReturnService.claimAssetReturns(5)).thenReturn(claimResponse);
+
+        mockMvc.perform(post("/api/v1/asset-returns/claims")
+                        .param("limit", "5")
+                        .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Return requests claimed successfully"))
+                .andExpect(jsonPath("$.data.items.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("Should forbid staff from claiming return requests")
+    @WithMockUser(roles = "STAFF")
+    void shouldForbidStaffFromClaimingReturnRequests() throws Exception {
+        mockMvc.perform(post("/api/v1/asset-returns/claims")
+                        .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -1,10 +1,14 @@
 package com.nashtech.rookies.oam.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nashtech.rookies.oam.config.SecurityTestConfig;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
 import com.nashtech.rookies.oam.dto.request.AssignmentPageRequest;
 import com.nashtech.rookies.oam.dto.request.AssignmentRequest;
+import com.nashtech.rookies.oam.dto.request.AssignmentStatusUpdateItem;
 import com.nashtech.rookies.oam.dto.request.AssignmentUpdateRequest;
+import com.nashtech.rookies.oam.dto.request.BulkAssignmentRequest;
+import com.nashtech.rookies.oam.dto.request.BulkUpdateAssignmentStatusRequest;
 import com.nashtech.rookies.oam.dto.request.UpdateAssignmentStatusRequest;
 import com.nashtech.rookies.oam.dto.response.*;
 import com.nashtech.rookies.oam.exception.AssignmentNotFoundException;
@@ -12,19 +16,23 @@ import com.nashtech.rookies.oam.exception.RequestReturnAssetAlreadyExistsExcepti
 import com.nashtech.rookies.oam.filter.FirstLoginFilter;
 import com.nashtech.rookies.oam.filter.JwtAuthFilter;
 import com.nashtech.rookies.oam.model.AssignmentStatus;
+import com.nashtech.rookies.oam.model.ReferenceDataSet;
 import com.nashtech.rookies.oam.projection.AssetAssignmentEditViewProjection;
 import com.nashtech.rookies.oam.service.AssetReturnService;
 import com.nashtech.rookies.oam.service.AssignmentService;
+import com.nashtech.rookies.oam.service.AssignmentStatusHistoryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -35,6 +43,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -48,6 +57,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(AssignmentController.class)
 @AutoConfigureMockMvc
+@Import(SecurityTestConfig.class)
 class AssignmentControllerTest {
 
     @Autowired
@@ -65,6 +75,9 @@ class AssignmentControllerTest {
     @MockitoBean
     private AssetReturnService assetReturnService;
 
+    @MockitoBean
+    private AssignmentStatusHistoryService assignmentStatusHistoryService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -76,7 +89,8 @@ class AssignmentControllerTest {
     private UUID assignmentId;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws Exception {
+        SecurityTestConfig.passThrough(jwtAuthFilter, firstLoginFilter);
         mockMvc = MockMvcBuilders.webAppContextSetup(context)
                 .apply(springSecurity())
                 .build();
@@ -90,7 +104,7 @@ class AssignmentControllerTest {
         assignmentRequest = new AssignmentRequest();
         assignmentRequest.setUserId(userId);
         assignmentRequest.setAssetId(assetId);
-        assignmentRequest.setAssignedDate(LocalDate.of(2026, 1, 1));
+        assignmentRequest.setAssignedDate(LocalDate.now().plusDays(1));
         assignmentRequest.setNote("Test assignment");
 
         assignmentResponse = AssignmentResponse.builder()
@@ -306,7 +320,7 @@ class AssignmentControllerTest {
         AssignmentRequest updateRequest = new AssignmentRequest();
         updateRequest.setUserId(UUID.randomUUID());
         updateRequest.setAssetId(UUID.randomUUID());
-        updateRequest.setAssignedDate(LocalDate.of(2026, 1, 1));
+        updateRequest.setAssignedDate(LocalDate.now().plusDays(1));
         updateRequest.setNote("Test assignment");
 
         mockMvc.perform(patch("/api/v1/assignments/{id}", assignmentId)
@@ -325,7 +339,7 @@ class AssignmentControllerTest {
         AssignmentRequest updateRequest = new AssignmentRequest();
         updateRequest.setUserId(UUID.randomUUID());
         updateRequest.setAssetId(UUID.randomUUID());
-        updateRequest.setAssignedDate(LocalDate.of(2026, 1, 1));
+        updateRequest.setAssignedDate(LocalDate.now().plusDays(1));
         updateRequest.setNote("Test assignment");
 
         mockMvc.perform(put("/api/v1/assignments/{id}", assignmentId)
@@ -583,4 +597,141 @@ class AssignmentControllerTest {
                 )
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @DisplayName("Should report per-item results when creating assignments in bulk")
+    @WithMockUser(roles = "ADMIN")
+    void shouldCreateAssignmentsInBulk() throws Exception {
+        BulkAssignmentResponse bulkResponse = BulkAssignmentResponse.builder()
+                .succeeded(1)
+                .failed(1)
+                .results(List.of(
+                        BulkAssignmentItemResult.builder().index(0).success(true).assignment(assignmentResponse).build(),
+                        BulkAssignmentItemResult.builder().index(1).success(false).error("Asset is not available").build()))
+                .build();
+        when(assignmentService.createAssignments(anyList())).thenReturn(bulkResponse);
+
+        mockMvc.perform(post("/api/v1/assignments/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest(assignmentRequest, assignmentRequest)))
+                        .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("1 of 2 assignments created"))
+                .andExpect(jsonPath("$.data.results[0].assignment.id").value(assignmentId.toString()))
+                .andExpect(jsonPath("$.data.results[1].error").value("Asset is not available"));
+    }
+
+    @Test
+    @DisplayName("Should return 403 Forbidden when staff creates assignments in bulk")
+    @WithMockUser(roles = "STAFF")
+    void shouldReturnForbiddenWhenStaffCreatesAssignmentsInBulk() throws Exception {
+        mockMvc.perform(post("/api/v1/assignments/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest(assignmentRequest)))
+                        .with(SecurityMockMvcRequestPostProcessors.csrf()))
+                .andExpect(status().isForbidden());
+
+        verify(assignmentService, never()).createAssignments(anyList());
+    }
+
+    private BulkAssignmentRequest bulkRequest(AssignmentRequest... items) {
+        BulkAssignmentRequest request = new BulkAssignmentRequest();
+        request.setItems(List.of(items));
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should let staff accept or decline several assignments at once")
+    @WithMockUser(roles = "STAFF")
+    void shouldUpdateAssignmentStatusesInBulk() throws Exception {
+        AssignmentStatusUpdateItem item = new AssignmentStatusUpdateItem();
+        item.setId(assignmentId);
+        item.setStatus("ACCEPTED");
+        BulkUpdateAssignmentStatusRequest request = new BulkUpdateAssignmentStatusRequest();
+        request.setItems(List.of(item));
+        BulkAssignmentResponse bulkResponse = BulkAssignmentResponse.builder()
+                .succeeded(1)
+                .failed(0)
+                .results(List.of(BulkAssignmentItemResult.builder()
+                        .index(0).assignmentId(assignmentId).success(true).assignment(assignmentResponse).build()))
+                .build();
+        when(assignmentService.updateAssignmentStatuses(anyList())).thenReturn(bulkResponse);
+
+        mockMvc.perform(put("/api/v1/assignments/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("1 of 1 assignment statuses updated"))
+                .andExpect(jsonPath("$.data.results[0].assignmentId").value(assignmentId.toString()));
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when a bulk status item has no id")
+    @WithMockUser(roles = "STAFF")
+    void shouldReturnBadRequestWhenBulkStatusItemHasNoId() throws Exception {
+        AssignmentStatusUpdateItem item = new AssignmentStatusUpdateItem();
+        item.setStatus("ACCEPTED");
+        BulkUpdateAssignmentStatusRequest request = new BulkUpdateAssignmentStatusRequest();
+        request.setItems(List.of(item));
+
+        mockMvc.perform(put("/api/v1/assignments/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(assignmentService);
+    }
+
+    @Test
+    @DisplayName("Should return assignment status history page for admin")
+    @WithMockUser(roles = "ADMIN")
+    void shouldReturnStatusHistoryForAdmin() throws Exception {
+        AssignmentStatusHistoryResponse entry = AssignmentStatusHistoryResponse.builder()
+                .id(UUID.randomUUID())
+                .status("Accepted")
+                .changedAt(LocalDateTime.of(2025, 6, 1, 10, 0))
+                .changedBy("johndoe")
+                .build();
+        APIPageableResponseDTO<AssignmentStatusHistoryResponse> page =
+                new APIPageableResponseDTO<>(List.of(entry), null, "next-cursor", null);
+        when(assignmentStatusHistoryService.getStatusHistory(assignmentId, null, 20)).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/assignments/{id}/status-history", assignmentId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Assignment status history retrieved successfully"))
+                .andExpect(jsonPath("$.data.content[0].status").value("Accepted"))
+                .andExpect(jsonPath("$.data.content[0].changedBy").value("johndoe"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"));
+    }
+
+    @Test
+    @DisplayName("Should return 403 Forbidden when staff reads assignment status history")
+    @WithMockUser(roles = "STAFF")
+    void shouldReturnForbiddenWhenStaffReadsStatusHistory() throws Exception {
+        mockMvc.perform(get("/api/v1/assignments/{id}/status-history", assignmentId))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(assignmentStatusHistoryService);
+    }
+
+    @Test
+    @DisplayName("Should serve assignment statuses with an ETag and revalidate them with 304")
+    @WithMockUser(roles = "STAFF")
+    void shouldServeAssignmentStatusesWithETag() throws Exception {
+        AssignmentStatus accepted = AssignmentStatus.builder().id(2).name("Accepted").build();
+        when(assignmentService.getAllAssignmentStatus())
+                .thenReturn(new ReferenceDataSet<>(List.of(accepted), "5f2b"));
+
+        mockMvc.perform(get("/api/v1/assignments/assignment-statuses"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5f2b\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$.data[0].name").value("Accepted"));
+
+        mockMvc.perform(get("/api/v1/assignments/assignment-statuses")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"5f2b\""))
+                .andExpect(status().isNotModified());
+    }
 }
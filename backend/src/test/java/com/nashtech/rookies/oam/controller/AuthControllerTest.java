@@ -13,12 +13,14 @@ import com.nashtech.rookies.oam.exception.UserNotFoundException;
 import com.nashtech.rookies.oam.exception.handler.ChangePasswordExceptionHandler;
 import com.nashtech.rookies.oam.exception.handler.GlobalExceptionHandler;
 import com.nashtech.rookies.oam.model.CustomUserDetails;
+import com.nashtech.rookies.oam.model.RefreshedTokens;
 import com.nashtech.rookies.oam.model.Role;
 import com.nashtech.rookies.oam.model.User;
 import com.nashtech.rookies.oam.model.enums.UserStatus;
 import com.nashtech.rookies.oam.service.AuthService;
 import com.nashtech.rookies.oam.service.ChangePasswordService;
 import com.nashtech.rookies.oam.service.JwtService;
+import com.nashtech.rookies.oam.service.LoginThrottleService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +62,9 @@ class AuthControllerTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private LoginThrottleService loginThrottleService;
+
     @InjectMocks
     private AuthController authController;
 
@@ -67,6 +72,7 @@ class AuthControllerTest {
     private LoginResponse userInfoResponse;
     private CustomUserDetails customUserDetails;
     private ResponseCookie refreshTokenCookie;
+    private ResponseCookie legacyRefreshTokenCookie;
     private User user;
     private Role role;
     private UUID userId;
@@ -125,6 +131,12 @@ class AuthControllerTest {
                 .build();
 
 
+        legacyRefreshTokenCookie = ResponseCookie.from("refresh-token", "")
+                .path("/api/v1/auth/token/refresh")
+                .maxAge(0)
+                .build();
+        lenient().when(jwtService.revokeLegacyRefreshTokenCookie()).thenReturn(legacyRefreshTokenCookie);
+
         lenient().when(securityContext.getAuthentication()).thenReturn(authentication);
         lenient().when(authentication.getPrincipal()).thenReturn(customUserDetails);
         SecurityContextHolder.setContext(securityContext);
@@ -146,7 +158,7 @@ class AuthControllerTest {
         when(jwtService.generateRefreshTokenCookie(any(CustomUserDetails.class))).thenReturn(refreshTokenCookie);
 
 
-        ResponseEntity<ApiGenericResponse<LoginResponse>> response = authController.login(loginRequest);
+        ResponseEntity<ApiGenericResponse<LoginResponse>> response = authController.login(loginRequest, mock(HttpServletRequest.class));
 
         assertNotNull(response);
         assertEquals(200, response.getStatusCode().value());
@@ -176,7 +188,7 @@ class AuthControllerTest {
         when(jwtService.generateRefreshTokenCookie(any(CustomUserDetails.class))).thenReturn(refreshTokenCookie);
 
 
-        ResponseEntity<ApiGenericResponse<LoginResponse>> response = authController.login(loginRequest);
+        ResponseEntity<ApiGenericResponse<LoginResponse>> response = authController.login(loginRequest, mock(HttpServletRequest.class));
 
 
         assertNotNull(response);
@@ -197,7 +209,7 @@ class AuthControllerTest {
         when(jwtService.generateRefreshTokenCookie(any(CustomUserDetails.class))).thenReturn(refreshTokenCookie);
 
 
-        ResponseEntity<ApiGenericResponse<LoginResponse>> response = authController.login(loginRequest);
+        ResponseEntity<ApiGenericResponse<LoginResponse>> response = authController.login(loginRequest, mock(HttpServletRequest.class));
 
 
         assertNotNull(response);
@@ -230,7 +242,9 @@ class AuthControllerTest {
 
         when(jwtService.revokeRefreshTokenCookie()).thenReturn(revokedCookie);
 
-        ResponseEntity<ApiGenericResponse<Void>> response = authController.logout();
+        HttpServletRequest mockRequest = mock(HttpServletRequest.class);
+
+        ResponseEntity<ApiGenericResponse<Void>> response = authController.logout(mockRequest);
         
         assertNotNull(response);
         assertEquals(200, response.getStatusCode().value());
@@ -244,6 +258,9 @@ class AuthControllerTest {
         assertTrue(cookieString.contains("Max-Age=0"));
         assertTrue(cookieString.contains("SameSite=Strict"));
 
+        assertEquals(legacyRefreshTokenCookie.toString(), response.getHeaders().get(HttpHeaders.SET_COOKIE).get(1));
+
+        verify(jwtService).revokeRefreshTokenFromCookie(mockRequest);
         verify(jwtService).revokeRefreshTokenCookie();
     }
 
@@ -253,7 +270,8 @@ class AuthControllerTest {
         HttpServletRequest mockRequest = mock(HttpServletRequest.class);
         String expectedToken = "mocked-token";
 
-        when(jwtService.generateAccessTokenFromCookie(mockRequest)).thenReturn(expectedToken);
+        when(jwtService.refreshTokensFromCookie(mockRequest))
+                .thenReturn(new RefreshedTokens(expectedToken, refreshTokenCookie));
 
         // Act
         ResponseEntity<ApiGenericResponse<RefreshAccessTokenResponse>> response = authController.refreshToken(mockRequest);
@@ -271,7 +289,9 @@ class AuthControllerTest {
         assertNotNull(data);
         assertEquals(expectedToken, data.getAccessToken());
 
-        verify(jwtService).generateAccessTokenFromCookie(mockRequest);
+        assertEquals(refreshTokenCookie.toString(), response.getHeaders().getFirst(HttpHeaders.SET_COOKIE));
+        assertEquals(legacyRefreshTokenCookie.toString(), response.getHeaders().get(HttpHeaders.SET_COOKIE).get(1));
+        verify(jwtService).refreshTokensFromCookie(mockRequest);
     }
 
 
@@ -5,6 +5,7 @@ import com.nashtech.rookies.oam.dto.request.CategoryRequest;
 import com.nashtech.rookies.oam.dto.response.CategoryResponse;
 import com.nashtech.rookies.oam.filter.FirstLoginFilter;
 import com.nashtech.rookies.oam.filter.JwtAuthFilter;
+import com.nashtech.rookies.oam.model.ReferenceDataSet;
 import com.nashtech.rookies.oam.service.CategoryService;
 import com.nashtech.rookies.oam.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.test.context.support.WithAnonymousUser;
@@ -30,6 +32,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -86,17 +89,32 @@ class CategoryControllerTest {
     @WithMockUser(roles = "ADMIN")
     void shouldGetAllCategoriesSuccessfully() throws Exception {
         List<CategoryResponse> categories = List.of(categoryResponse);
-        when(categoryService.getAllCategories()).thenReturn(categories);
+        when(categoryService.getAllCategories()).thenReturn(new ReferenceDataSet<>(categories, "abc123"));
 
         mockMvc.perform(get("/api/v1/categories")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
                 .andExpect(jsonPath("$.message").value("Retrieved category list successfully"))
                 .andExpect(jsonPath("$.data[0].id").value(categoryResponse.getId()))
                 .andExpect(jsonPath("$.data[0].name").value(categoryResponse.getName()))
                 .andExpect(jsonPath("$.data[0].prefix").value(categoryResponse.getPrefix()));
     }
 
+    @Test
+    @DisplayName("Should return 304 not modified when the client's category list is current")
+    @WithMockUser(roles = "ADMIN")
+    void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        when(categoryService.getAllCategories())
+                .thenReturn(new ReferenceDataSet<>(List.of(categoryResponse), "abc123"));
+
+        mockMvc.perform(get("/api/v1/categories")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""));
+    }
+
     @Test
     @DisplayName("Should create category successfully when valid request is provided")
     @WithMockUser(roles = "ADMIN")
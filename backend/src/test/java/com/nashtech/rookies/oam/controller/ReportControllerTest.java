@@ -1,6 +1,6 @@
 package com.nashtech.rookies.oam.controller;
 
-import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.response.AssetReportPageResponse;
 import com.nashtech.rookies.oam.dto.response.ExportResponse;
 import com.nashtech.rookies.oam.filter.FirstLoginFilter;
 import com.nashtech.rookies.oam.filter.JwtAuthFilter;
@@ -24,6 +24,7 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -53,7 +54,7 @@ class ReportControllerTest {
     private FirstLoginFilter firstLoginFilter;
 
     private Report mockReport;
-    private APIPageableResponseDTO<Report> mockPageableResponse;
+    private AssetReportPageResponse mockPageableResponse;
     private byte[] mockExcelData;
     private ExportResponse mockExportResponse;
 
@@ -76,7 +77,7 @@ class ReportControllerTest {
         mockReport.setRecycled(5);
 
         Page<Report> page = new PageImpl<>(List.of(mockReport), PageRequest.of(0, 20), 1);
-        mockPageableResponse = new APIPageableResponseDTO<>(page);
+        mockPageableResponse = new AssetReportPageResponse(page, LocalDateTime.of(2024, 6, 1, 8, 30));
 
         mockExcelData = "mock excel data".getBytes();
         
@@ -108,7 +109,8 @@ class ReportControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Report data retrieved successfully"))
                 .andExpect(jsonPath("$.data.content[0].category").value("Laptops"))
-                .andExpect(jsonPath("$.data.content[0].total").value(100));
+                .andExpect(jsonPath("$.data.content[0].total").value(100))
+                .andExpect(jsonPath("$.data.asOf").value("2024-06-01T08:30:00"));
 
         verify(reportService).getReport(0, 20, "category", "asc");
     }
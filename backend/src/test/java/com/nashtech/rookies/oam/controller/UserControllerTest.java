@@ -2,6 +2,7 @@ package com.nashtech.rookies.oam.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.pagination.CountMode;
 import com.nashtech.rookies.oam.dto.request.UserRequestDto;
 import com.nashtech.rookies.oam.dto.response.*;
 import com.nashtech.rookies.oam.filter.FirstLoginFilter;
@@ -204,7 +205,7 @@ class UserControllerTest {
 
         APIPageableResponseDTO<UserPageResponseDto> responseDTO = new APIPageableResponseDTO<>(page);
 
-        when(userService.getUsers(0, 1, "", "firstName", "ASC", null,null))
+        when(userService.getUsers(0, 1, "", "firstName", "ASC", null, null, null, CountMode.EXACT))
                 .thenReturn(responseDTO);
 
         // When & Then
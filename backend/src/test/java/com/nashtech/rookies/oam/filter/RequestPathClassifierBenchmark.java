@@ -0,0 +1,125 @@
+package com.nashtech.rookies.oam.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Compares the per-request path checks of the security chain before and after
+ * {@link RequestPathClassifier}. Not a test; run it by hand:
+ * <pre>
+ * mvn test-compile
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.nashtech.rookies.oam.filter.RequestPathClassifierBenchmark
+ * </pre>
+ */
+public class RequestPathClassifierBenchmark {
+
+    private static final String[] PATHS = {
+            "/api/v1/assignments",
+            "/api/v1/users/8f14e45f-ceea-467f-a0e6-1a3c0b6c9e20",
+            "/api/v1/assets",
+            "/api/v1/users/me",
+            "/api/v1/auth/login",
+            "/api/v1/auth/token/refresh",
+            "/api/v1/assignments/8f14e45f-ceea-467f-a0e6-1a3c0b6c9e20/status",
+            "/swagger-ui/index.html",
+    };
+
+    private static final int OPERATIONS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 15;
+
+    // The permitAll matchers SecurityConfig evaluated in order before the classifier existed
+    private static final List<RequestMatcher> LEGACY_PERMIT_ALL = List.of(
+            new AntPathRequestMatcher("/v3/api-docs/**"),
+            new AntPathRequestMatcher("/v3/api-docs.yaml"),
+            new AntPathRequestMatcher("/swagger-ui/**"),
+            new AntPathRequestMatcher("/swagger-ui.html"),
+            new AntPathRequestMatcher("/api/v1/auth/**"),
+            new AntPathRequestMatcher("/actuator/health")
+    );
+
+    // FirstLoginFilter's excluded paths, streamed through AntPathMatcher on every request
+    private static final List<String> LEGACY_FIRST_LOGIN_EXCLUDED = List.of(
+            "/api/v1/users/me",
+            "/api/v1/auth/token/refresh",
+            "/api/v1/auth/login",
+            "/api/v1/auth/change-password"
+    );
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final RequestPathClassifier CLASSIFIER = new RequestPathClassifier();
+
+    public static void main(String[] args) {
+        Map<String, ToIntFunction<HttpServletRequest>> variants = new LinkedHashMap<>();
+        variants.put("request only", RequestPathClassifierBenchmark::requestOnly);
+        variants.put("legacy matchers", RequestPathClassifierBenchmark::legacy);
+        variants.put("classifier", RequestPathClassifierBenchmark::classified);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            variants.values().forEach(RequestPathClassifierBenchmark::run);
+        }
+
+        // Rounds are interleaved so that JIT and machine drift hit every variant alike
+        Map<String, double[]> nanosPerOp = new LinkedHashMap<>();
+        variants.keySet().forEach(name -> nanosPerOp.put(name, new double[MEASURED_ROUNDS]));
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            for (Map.Entry<String, ToIntFunction<HttpServletRequest>> variant : variants.entrySet()) {
+                nanosPerOp.get(variant.getKey())[i] = run(variant.getValue());
+            }
+        }
+
+        nanosPerOp.forEach((name, results) -> {
+            Arrays.sort(results);
+            System.out.printf("%-16s median %7.1f ns/op  (min %7.1f, max %7.1f)%n",
+                    name, results[MEASURED_ROUNDS / 2], results[0], results[MEASURED_ROUNDS - 1]);
+        });
+    }
+
+    private static int requestOnly(HttpServletRequest request) {
+        return request.getRequestURI().length();
+    }
+
+    private static int legacy(HttpServletRequest request) {
+        boolean permitAll = LEGACY_PERMIT_ALL.stream().anyMatch(matcher -> matcher.matches(request));
+        String path = request.getRequestURI();
+        boolean excluded = LEGACY_FIRST_LOGIN_EXCLUDED.stream()
+                .anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+        return (permitAll ? 1 : 0) + (excluded ? 2 : 0);
+    }
+
+    // SecurityConfig's matcher, JwtAuthFilter and FirstLoginFilter each ask the classifier once
+    private static int classified(HttpServletRequest request) {
+        boolean permitAll = CLASSIFIER.isPermitAll(request);
+        boolean tokenProcessing = CLASSIFIER.classify(request).requiresTokenProcessing();
+        boolean excluded = CLASSIFIER.classify(request).isFirstLoginExempt();
+        return (permitAll ? 1 : 0) + (tokenProcessing ? 2 : 0) + (excluded ? 4 : 0);
+    }
+
+    private static double run(ToIntFunction<HttpServletRequest> check) {
+        int sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            // A fresh request per operation, so the classifier's request attribute starts empty
+            String path = PATHS[i % PATHS.length];
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+            request.setServletPath(path);
+            sink += check.applyAsInt(request);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.print("");
+        }
+        return (double) elapsed / OPERATIONS;
+    }
+}
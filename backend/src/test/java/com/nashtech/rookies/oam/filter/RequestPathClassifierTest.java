@@ -0,0 +1,50 @@
+package com.nashtech.rookies.oam.filter;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RequestPathClassifierTest {
+
+    private final RequestPathClassifier classifier = new RequestPathClassifier();
+
+    private static Stream<Arguments> providePaths() {
+        return Stream.of(
+                Arguments.of("/api/v1/auth/login", RequestPathCategory.AUTH),
+                Arguments.of("/api/v1/auth/token/refresh", RequestPathCategory.AUTH),
+                Arguments.of("/api/v1/auth/change-password", RequestPathCategory.AUTH),
+                Arguments.of("/api/v1/users/me", RequestPathCategory.FIRST_LOGIN_EXEMPT),
+                Arguments.of("/swagger-ui/index.html", RequestPathCategory.PUBLIC_RESOURCE),
+                Arguments.of("/swagger-ui.html", RequestPathCategory.PUBLIC_RESOURCE),
+                Arguments.of("/v3/api-docs/swagger-config", RequestPathCategory.PUBLIC_RESOURCE),
+                Arguments.of("/actuator/health", RequestPathCategory.PUBLIC_RESOURCE),
+                Arguments.of("/api/v1/users", RequestPathCategory.STANDARD),
+                Arguments.of("/api/v1/users/me/extra", RequestPathCategory.STANDARD),
+                Arguments.of("/api/v1/assignments", RequestPathCategory.STANDARD)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("providePaths")
+    void classify_ReturnsExpectedCategory(String path, RequestPathCategory expected) {
+        assertEquals(expected, classifier.classify(path));
+    }
+
+    @Test
+    void classify_CachesCategoryOnRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/login");
+
+        RequestPathCategory first = classifier.classify(request);
+        request.setRequestURI("/api/v1/users");
+
+        assertSame(first, classifier.classify(request));
+        assertSame(first, request.getAttribute(RequestPathClassifier.ATTRIBUTE));
+    }
+}
@@ -2,21 +2,28 @@ package com.nashtech.rookies.oam.service.impl;
 
 import com.nashtech.rookies.oam.constant.ErrorCode;
 import com.nashtech.rookies.oam.exception.CategoryEmptyException;
-import com.nashtech.rookies.oam.model.AssetCodeCount;
+import com.nashtech.rookies.oam.model.enums.AssetCodeGapPolicy;
 import com.nashtech.rookies.oam.repository.AssetCodeCountRepository;
-import jakarta.persistence.OptimisticLockException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,41 +35,63 @@ class AssetCodeGeneratorServiceImplTest {
     @InjectMocks
     private AssetCodeGeneratorServiceImpl assetCodeGeneratorService;
 
-    private AssetCodeCount existingSequence;
-
     @BeforeEach
     void setUp() {
-        existingSequence = AssetCodeCount.builder()
-                .id("LP")
-                .lastValue(1)
-                .build();
+        configure(3, AssetCodeGapPolicy.RELEASE_ON_SHUTDOWN);
+    }
+
+    private void configure(int blockSize, AssetCodeGapPolicy gapPolicy) {
+        ReflectionTestUtils.setField(assetCodeGeneratorService, "BLOCK_SIZE", blockSize);
+        ReflectionTestUtils.setField(assetCodeGeneratorService, "GAP_POLICY", gapPolicy);
+        assetCodeGeneratorService.init();
+    }
+
+    @Test
+    void generateAssetCode_WithNewPrefix_ShouldReserveBlockAndStartAtOne() {
+        when(assetCodeCountRepository.reserveBlock("MON", 3)).thenReturn(3);
+
+        assertEquals("MON000001", assetCodeGeneratorService.generateAssetCode("MON"));
+        verify(assetCodeCountRepository).reserveBlock("MON", 3);
+    }
+
+    @Test
+    void generateAssetCode_WithinBlock_ShouldNotHitRepositoryAgain() {
+        when(assetCodeCountRepository.reserveBlock("LP", 3)).thenReturn(6);
+
+        assertEquals("LP000004", assetCodeGeneratorService.generateAssetCode("LP"));
+        assertEquals("LP000005", assetCodeGeneratorService.generateAssetCode("LP"));
+        assertEquals("LP000006", assetCodeGeneratorService.generateAssetCode("LP"));
+
+        verify(assetCodeCountRepository, times(1)).reserveBlock("LP", 3);
     }
 
     @Test
-    void generateAssetCode_WithValidCategoryPrefixAndExistingSequence_ShouldGenerateCodeSuccessfully() {
-        when(assetCodeCountRepository.findByIdForUpdate("LP")).thenReturn(Optional.of(existingSequence));
-        when(assetCodeCountRepository.save(any(AssetCodeCount.class))).thenReturn(existingSequence);
+    void generateAssetCode_WhenBlockExhausted_ShouldReserveNextBlock() {
+        when(assetCodeCountRepository.reserveBlock("LP", 3)).thenReturn(3, 9);
 
-        String result = assetCodeGeneratorService.generateAssetCode("LP");
+        for (int i = 0; i < 3; i++) {
+            assetCodeGeneratorService.generateAssetCode("LP");
+        }
 
-        assertEquals("LP000002", result);
-        verify(assetCodeCountRepository).findByIdForUpdate("LP");
-        verify(assetCodeCountRepository).save(existingSequence);
-        assertEquals(2, existingSequence.getLastValue());
+        assertEquals("LP000007", assetCodeGeneratorService.generateAssetCode("LP"));
+        verify(assetCodeCountRepository, times(2)).reserveBlock("LP", 3);
     }
 
     @Test
-    void generateAssetCode_WithValidCategoryPrefixAndNoSequence_ShouldCreateNewSequenceAndGenerateCode() {
-        when(assetCodeCountRepository.findByIdForUpdate("MON")).thenReturn(Optional.empty());
-        AssetCodeCount newSequence = AssetCodeCount.builder().id("MON").lastValue(0).build();
-        when(assetCodeCountRepository.save(any(AssetCodeCount.class))).thenReturn(newSequence);
+    void generateAssetCode_WithGapPolicyNone_ShouldReserveOneCodeAtATime() {
+        configure(50, AssetCodeGapPolicy.NONE);
+        when(assetCodeCountRepository.reserveBlock("LP", 1)).thenReturn(1, 2);
 
-        String result = assetCodeGeneratorService.generateAssetCode("MON");
+        assertEquals("LP000001", assetCodeGeneratorService.generateAssetCode("LP"));
+        assertEquals("LP000002", assetCodeGeneratorService.generateAssetCode("LP"));
+        verify(assetCodeCountRepository, times(2)).reserveBlock("LP", 1);
+    }
+
+    @Test
+    void generateAssetCode_WithLargeValue_ShouldFormatCodeCorrectly() {
+        when(assetCodeCountRepository.reserveBlock("LP", 3)).thenReturn(1000002);
 
-        assertEquals("MON000001", result);
-        verify(assetCodeCountRepository).findByIdForUpdate("MON");
-        verify(assetCodeCountRepository, times(2)).save(any(AssetCodeCount.class));
-        assertEquals(1, newSequence.getLastValue());
+        assertEquals("LP1000000", assetCodeGeneratorService.generateAssetCode("LP"));
     }
 
     @Test
@@ -71,87 +100,83 @@ class AssetCodeGeneratorServiceImplTest {
                 () -> assetCodeGeneratorService.generateAssetCode(null));
 
         assertEquals(ErrorCode.CATEGORY_EMPTY.getMessage(), exception.getMessage());
-        verify(assetCodeCountRepository, never()).findByIdForUpdate(anyString());
-        verify(assetCodeCountRepository, never()).save(any(AssetCodeCount.class));
+        verifyNoInteractions(assetCodeCountRepository);
     }
 
     @Test
-    void generateAssetCode_WithEmptyCategoryPrefix_ShouldThrowCategoryEmptyException() {
-        CategoryEmptyException exception = assertThrows(CategoryEmptyException.class,
-                () -> assetCodeGeneratorService.generateAssetCode(""));
+    void generateAssetCode_WithBlankCategoryPrefix_ShouldThrowCategoryEmptyException() {
+        assertThrows(CategoryEmptyException.class, () -> assetCodeGeneratorService.generateAssetCode(""));
+        assertThrows(CategoryEmptyException.class, () -> assetCodeGeneratorService.generateAssetCode("   "));
 
-        assertEquals(ErrorCode.CATEGORY_EMPTY.getMessage(), exception.getMessage());
-        verify(assetCodeCountRepository, never()).findByIdForUpdate(anyString());
-        verify(assetCodeCountRepository, never()).save(any(AssetCodeCount.class));
+        verifyNoInteractions(assetCodeCountRepository);
     }
 
     @Test
-    void generateAssetCode_WithBlankCategoryPrefix_ShouldThrowCategoryEmptyException() {
-        CategoryEmptyException exception = assertThrows(CategoryEmptyException.class,
-                () -> assetCodeGeneratorService.generateAssetCode("   "));
+    void generateAssetCode_WithRepositoryFailure_ShouldThrowException() {
+        when(assetCodeCountRepository.reserveBlock("LP", 3)).thenThrow(new RuntimeException("Database error"));
 
-        assertEquals(ErrorCode.CATEGORY_EMPTY.getMessage(), exception.getMessage());
-        verify(assetCodeCountRepository, never()).findByIdForUpdate(anyString());
-        verify(assetCodeCountRepository, never()).save(any(AssetCodeCount.class));
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> assetCodeGeneratorService.generateAssetCode("LP"));
+
+        assertEquals("Database error", exception.getMessage());
     }
 
     @Test
-    void generateAssetCode_WithNullLastValueInSequence_ShouldHandleNullAndGenerateCode() {
-        AssetCodeCount sequenceWithNull = AssetCodeCount.builder()
-                .id("LP")
-                .lastValue(null)
-                .build();
-        when(assetCodeCountRepository.findByIdForUpdate("LP")).thenReturn(Optional.of(sequenceWithNull));
-        when(assetCodeCountRepository.save(any(AssetCodeCount.class))).thenReturn(sequenceWithNull);
-
-        String result = assetCodeGeneratorService.generateAssetCode("LP");
-
-        assertEquals("LP000001", result);
-        verify(assetCodeCountRepository).findByIdForUpdate("LP");
-        verify(assetCodeCountRepository).save(sequenceWithNull);
-        assertEquals(1, sequenceWithNull.getLastValue());
+    void generateAssetCode_WithConcurrentCallers_ShouldNeverRepeatCodes() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        when(assetCodeCountRepository.reserveBlock(eq("LP"), anyInt()))
+                .thenAnswer(invocation -> counter.addAndGet(invocation.getArgument(1)));
+
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        codes.add(assetCodeGeneratorService.generateAssetCode("LP"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(800, codes.size());
+        // Blocks of three leave at most one partly used block behind
+        assertTrue(counter.get() >= 800 && counter.get() < 803, "reserved " + counter.get());
     }
 
     @Test
-    void generateAssetCode_WithOptimisticLockException_ShouldThrowException() {
-        when(assetCodeCountRepository.findByIdForUpdate("LP"))
-                .thenThrow(new OptimisticLockException("Lock error"));
+    void releaseUnusedCodes_ShouldGiveBackUnusedTail() {
+        when(assetCodeCountRepository.reserveBlock("LP", 3)).thenReturn(3);
+        assetCodeGeneratorService.generateAssetCode("LP");
 
-        OptimisticLockException exception = assertThrows(OptimisticLockException.class,
-                () -> assetCodeGeneratorService.generateAssetCode("LP"));
+        assetCodeGeneratorService.releaseUnusedCodes();
 
-        assertEquals("Lock error", exception.getMessage());
-        verify(assetCodeCountRepository, times(1)).findByIdForUpdate("LP");
-        verify(assetCodeCountRepository, never()).save(any(AssetCodeCount.class));
+        verify(assetCodeCountRepository).releaseBlock("LP", 3, 1);
     }
 
     @Test
-    void generateAssetCode_WithLargeLastValue_ShouldFormatCodeCorrectly() {
-        AssetCodeCount largeSequence = AssetCodeCount.builder()
-                .id("LP")
-                .lastValue(999999)
-                .build();
-        when(assetCodeCountRepository.findByIdForUpdate("LP")).thenReturn(Optional.of(largeSequence));
-        when(assetCodeCountRepository.save(any(AssetCodeCount.class))).thenReturn(largeSequence);
-
-        String result = assetCodeGeneratorService.generateAssetCode("LP");
-
-        assertEquals("LP1000000", result);
-        verify(assetCodeCountRepository).findByIdForUpdate("LP");
-        verify(assetCodeCountRepository).save(largeSequence);
-        assertEquals(1000000, largeSequence.getLastValue());
+    void releaseUnusedCodes_ShouldSkipExhaustedBlocks() {
+        when(assetCodeCountRepository.reserveBlock("LP", 3)).thenReturn(3);
+        for (int i = 0; i < 3; i++) {
+            assetCodeGeneratorService.generateAssetCode("LP");
+        }
+
+        assetCodeGeneratorService.releaseUnusedCodes();
+
+        verify(assetCodeCountRepository, never()).releaseBlock(anyString(), anyInt(), anyInt());
     }
 
     @Test
-    void generateAssetCode_WithRepositorySaveFailure_ShouldThrowException() {
-        when(assetCodeCountRepository.findByIdForUpdate("LP")).thenReturn(Optional.of(existingSequence));
-        when(assetCodeCountRepository.save(any(AssetCodeCount.class))).thenThrow(new RuntimeException("Database error"));
+    void releaseUnusedCodes_WithGapPolicyAllow_ShouldKeepGap() {
+        configure(3, AssetCodeGapPolicy.ALLOW);
+        when(assetCodeCountRepository.reserveBlock("LP", 3)).thenReturn(3);
+        assetCodeGeneratorService.generateAssetCode("LP");
 
-        RuntimeException exception = assertThrows(RuntimeException.class,
-                () -> assetCodeGeneratorService.generateAssetCode("LP"));
+        assetCodeGeneratorService.releaseUnusedCodes();
 
-        assertEquals("Database error", exception.getMessage());
-        verify(assetCodeCountRepository).findByIdForUpdate("LP");
-        verify(assetCodeCountRepository).save(any(AssetCodeCount.class));
+        verify(assetCodeCountRepository, never()).releaseBlock(anyString(), anyInt(), anyInt());
     }
-}
\ No newline at end of file
+}
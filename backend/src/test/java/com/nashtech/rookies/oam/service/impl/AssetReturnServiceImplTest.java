@@ -4,18 +4,24 @@ import com.nashtech.rookies.oam.constant.ErrorCode;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
 import com.nashtech.rookies.oam.dto.request.AssetReturnPageRequest;
 import com.nashtech.rookies.oam.dto.request.AssetReturnRequest;
+import com.nashtech.rookies.oam.dto.request.AssetReturnUpdateItem;
+import com.nashtech.rookies.oam.dto.response.AssetReturnClaimResponse;
 import com.nashtech.rookies.oam.dto.response.AssetReturnPageResponse;
 import com.nashtech.rookies.oam.dto.response.AssetReturnResponse;
+import com.nashtech.rookies.oam.dto.response.BulkAssetReturnItemResult;
+import com.nashtech.rookies.oam.dto.response.BulkAssetReturnResponse;
 import com.nashtech.rookies.oam.exception.*;
 import com.nashtech.rookies.oam.mapper.AssetReturnMapper;
 import com.nashtech.rookies.oam.model.*;
-import com.nashtech.rookies.oam.model.enums.AssetState;
 import com.nashtech.rookies.oam.model.enums.AssignmentStatusType;
 import com.nashtech.rookies.oam.model.enums.ReturnState;
 import com.nashtech.rookies.oam.model.enums.RoleName;
+import com.nashtech.rookies.oam.projection.AssetReturnTransitionTarget;
 import com.nashtech.rookies.oam.repository.AssetReturnRepository;
 import com.nashtech.rookies.oam.repository.AssignmentRepository;
-import com.nashtech.rookies.oam.repository.AssignmentStatusRepository;
+import com.nashtech.rookies.oam.service.AssignmentStatusHistoryService;
+import com.nashtech.rookies.oam.service.ListCountService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
 import com.nashtech.rookies.oam.util.SortUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,9 +35,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
 
@@ -47,7 +56,7 @@ class AssetReturnServiceImplTest {
     private AssetReturnRepository assetReturnRepository;
 
     @Mock
-    private AssignmentStatusRepository assignmentStatusRepository;
+    private ReferenceDataService referenceDataService;
 
     @Mock
     private AssetReturnMapper assetReturnMapper;
@@ -66,6 +75,12 @@ class AssetReturnServiceImplTest {
     @Mock
     private AssetServiceImpl assetService;
 
+    @Mock
+    private AssignmentStatusHistoryService assignmentStatusHistoryService;
+
+    @Mock
+    private ListCountService listCountService;
+
     @BeforeEach
     void setUp() {
         closeable = MockitoAnnotations.openMocks(this);
@@ -108,13 +123,13 @@ class AssetReturnServiceImplTest {
 
         when(assignmentRepository.findById(assignmentId)).thenReturn(Optional.of(assignment));
         when(authService.getAuthenticatedUser()).thenReturn(user);
-        when(assetReturnRepository.findTopByAssignmentOrderByCreatedAtDesc(assignment)).thenReturn(Optional.empty());
         when(assetReturnRepository.save(any())).thenReturn(assetReturn);
         when(assetReturnMapper.toDTO(assetReturn)).thenReturn(expectedResponse);
 
         AssetReturnResponse result = assetReturnService.createAssetReturn(assignmentId);
 
         assertEquals(expectedResponse, result);
+        assertEquals(ReturnState.WAITING_FOR_RETURNING, assignment.getCurrentReturnState());
     }
 
     @Test
@@ -163,14 +178,10 @@ class AssetReturnServiceImplTest {
         User user = createUser(UUID.randomUUID(), RoleName.ADMIN);
         Assignment assignment = createAssignment(user, "Accepted");
 
-        AssetReturn latestReturn = AssetReturn.builder()
-                .state(ReturnState.WAITING_FOR_RETURNING)
-                .build();
+        assignment.setCurrentReturnState(ReturnState.WAITING_FOR_RETURNING);
 
         when(assignmentRepository.findById(assignmentId)).thenReturn(Optional.of(assignment));
         when(authService.getAuthenticatedUser()).thenReturn(user);
-        when(assetReturnRepository.findTopByAssignmentOrderByCreatedAtDesc(assignment))
-                .thenReturn(Optional.of(latestReturn));
 
         assertThrows(RequestReturnAssetAlreadyExistsException.class,
                 () -> assetReturnService.createAssetReturn(assignmentId));
@@ -182,14 +193,10 @@ class AssetReturnServiceImplTest {
         User user = createUser(UUID.randomUUID(), RoleName.ADMIN);
         Assignment assignment = createAssignment(user, "Accepted");
 
-        AssetReturn latestReturn = AssetReturn.builder()
-                .state(ReturnState.COMPLETED)
-                .build();
+        assignment.setCurrentReturnState(ReturnState.COMPLETED);
 
         when(assignmentRepository.findById(assignmentId)).thenReturn(Optional.of(assignment));
         when(authService.getAuthenticatedUser()).thenReturn(user);
-        when(assetReturnRepository.findTopByAssignmentOrderByCreatedAtDesc(assignment))
-                .thenReturn(Optional.of(latestReturn));
 
         assertThrows(AssetAlreadyReturnedException.class,
                 () -> assetReturnService.createAssetReturn(assignmentId));
@@ -221,23 +228,26 @@ class AssetReturnServiceImplTest {
         when(clock.instant()).thenReturn(today.atStartOfDay(ZoneId.systemDefault()).toInstant());
         when(clock.getZone()).thenReturn(ZoneId.systemDefault());
         when(assetReturnRepository.findById(returnId)).thenReturn(Optional.of(assetReturn));
-        when(assignmentStatusRepository.findByName(AssignmentStatusType.COMPLETED.getDbName()))
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.COMPLETED.getDbName()))
                 .thenReturn(Optional.of(completedStatus));
         when(assignmentRepository.save(any(Assignment.class))).thenReturn(assignment);
         when(assetReturnRepository.save(any(AssetReturn.class))).thenReturn(assetReturn);
         when(assetReturnMapper.toDTO(assetReturn)).thenReturn(expectedResponse);
 
-        doNothing().when(assetService).updateAssetState(asset, AssetState.AVAILABLE);
+        doNothing().when(assetService).releaseAsset(asset.getId());
         AssetReturnResponse result = assetReturnService.updateAssetReturn(returnId, request);
 
         assertEquals(expectedResponse, result);
         assertEquals(ReturnState.COMPLETED, assetReturn.getState());
         assertEquals(today, assetReturn.getReturnedDate());
         assertEquals("Completed", assignment.getStatus().getName());
+        assertEquals(ReturnState.COMPLETED, assignment.getCurrentReturnState());
+        assertEquals(today, assignment.getCurrentReturnedDate());
         verify(assignmentRepository).save(assignment);
         verify(assetReturnRepository).save(assetReturn);
-        verify(assignmentStatusRepository).findByName(AssignmentStatusType.COMPLETED.getDbName());
-        verify(assetService).updateAssetState(asset, AssetState.AVAILABLE);
+        verify(referenceDataService).findAssignmentStatusByName(AssignmentStatusType.COMPLETED.getDbName());
+        verify(assetService).releaseAsset(asset.getId());
+        verify(assignmentStatusHistoryService).recordStatusChange(assignment);
     }
 
     @Test
@@ -261,7 +271,7 @@ class AssetReturnServiceImplTest {
         acceptedStatus.setName(AssignmentStatusType.ACCEPTED.getDbName());
 
         when(assetReturnRepository.findById(returnId)).thenReturn(Optional.of(assetReturn));
-        when(assignmentStatusRepository.findByName(AssignmentStatusType.ACCEPTED.getDbName()))
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.ACCEPTED.getDbName()))
                 .thenReturn(Optional.of(acceptedStatus));
         when(assignmentRepository.save(any(Assignment.class))).thenReturn(assignment);
         when(assetReturnRepository.save(any(AssetReturn.class))).thenReturn(assetReturn);
@@ -274,7 +284,7 @@ class AssetReturnServiceImplTest {
         assertEquals("Accepted", assignment.getStatus().getName());
         verify(assignmentRepository).save(assignment);
         verify(assetReturnRepository).save(assetReturn);
-        verify(assignmentStatusRepository).findByName(AssignmentStatusType.ACCEPTED.getDbName());
+        verify(referenceDataService).findAssignmentStatusByName(AssignmentStatusType.ACCEPTED.getDbName());
     }
 
     @Test
@@ -333,6 +343,7 @@ class AssetReturnServiceImplTest {
         // Create Assignment
         Assignment assignment = createAssignment(user, "Accepted");
         assignment.setStatus(acceptedStatus); // Ensure status is set to avoid null
+        assignment.setAsset(Asset.builder().id(UUID.randomUUID()).build());
 
         // Create AssetReturn
         AssetReturn assetReturn = AssetReturn.builder()
@@ -352,7 +363,7 @@ class AssetReturnServiceImplTest {
 
         // Mock dependencies
         when(assetReturnRepository.findById(returnId)).thenReturn(Optional.of(assetReturn));
-        when(assignmentStatusRepository.findByName(AssignmentStatusType.COMPLETED.getDbName()))
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.COMPLETED.getDbName()))
                 .thenReturn(Optional.of(completedStatus));
         when(assignmentRepository.save(any(Assignment.class)))
                 .thenThrow(new ObjectOptimisticLockingFailureException(AssetReturn.class, returnId));
@@ -369,7 +380,7 @@ class AssetReturnServiceImplTest {
         );
 
         assertEquals(ErrorCode.RETURN_ASSET_BEING_MODIFIED.getMessage(), ex.getMessage());
-        verify(assignmentStatusRepository).findByName(AssignmentStatusType.COMPLETED.getDbName());
+        verify(referenceDataService).findAssignmentStatusByName(AssignmentStatusType.COMPLETED.getDbName());
         verify(assignmentRepository).save(any(Assignment.class));
     }
 
@@ -509,4 +520,202 @@ class AssetReturnServiceImplTest {
         verify(assetReturnRepository).findAll(any(Specification.class), eq(pageable));
         verify(authService).getAuthenticatedUser();
     }
+
+    @Test
+    void testClaimAssetReturns_ShouldLeaseWaitingReturnsInCurrentLocation() {
+        ReflectionTestUtils.setField(assetReturnService, "CLAIM_LEASE_SECONDS", 300L);
+        when(clock.instant()).thenReturn(Instant.parse("2025-06-01T10:00:00Z"));
+        when(clock.getZone()).thenReturn(ZoneId.of("UTC"));
+
+        Location location = new Location();
+        location.setId(UUID.randomUUID());
+        User admin = createUser(UUID.randomUUID(), RoleName.ADMIN);
+        admin.setUsername("admin");
+        admin.setLocation(location);
+        when(authService.getAuthenticatedUser()).thenReturn(admin);
+
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 10, 0);
+        UUID returnId = UUID.randomUUID();
+        AssetReturn assetReturn = AssetReturn.builder().id(returnId).state(ReturnState.WAITING_FOR_RETURNING).build();
+        AssetReturnPageResponse dto = AssetReturnPageResponse.builder().id(returnId).build();
+        when(assetReturnRepository.claimWaiting(location.getId(), "admin", now, now.plusSeconds(300), 10))
+                .thenReturn(List.of(returnId));
+        when(assetReturnRepository.findAllByIdInOrderByCreatedAtAsc(List.of(returnId))).thenReturn(List.of(assetReturn));
+        when(assetReturnMapper.toAssetReturnPageResponse(assetReturn)).thenReturn(dto);
+
+        AssetReturnClaimResponse result = assetReturnService.claimAssetReturns(10);
+
+        assertEquals(now.plusSeconds(300), result.getClaimedUntil());
+        assertEquals(List.of(dto), result.getItems());
+    }
+
+    @Test
+    void testClaimAssetReturns_NothingClaimed_ShouldSkipLoad() {
+        when(clock.instant()).thenReturn(Instant.parse("2025-06-01T10:00:00Z"));
+        when(clock.getZone()).thenReturn(ZoneId.of("UTC"));
+
+        Location location = new Location();
+        location.setId(UUID.randomUUID());
+        User admin = createUser(UUID.randomUUID(), RoleName.ADMIN);
+        admin.setUsername("admin");
+        admin.setLocation(location);
+        when(authService.getAuthenticatedUser()).thenReturn(admin);
+        when(assetReturnRepository.claimWaiting(any(), any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        AssetReturnClaimResponse result = assetReturnService.claimAssetReturns(10);
+
+        assertTrue(result.getItems().isEmpty());
+        verify(assetReturnRepository, never()).findAllByIdInOrderByCreatedAtAsc(any());
+    }
+
+    @Test
+    void testUpdateAssetReturn_ClaimedByAnotherAdmin() {
+        when(clock.instant()).thenReturn(Instant.parse("2025-06-01T10:00:00Z"));
+        when(clock.getZone()).thenReturn(ZoneId.of("UTC"));
+
+        UUID returnId = UUID.randomUUID();
+        User admin = createUser(UUID.randomUUID(), RoleName.ADMIN);
+        admin.setUsername("admin");
+        AssetReturn assetReturn = AssetReturn.builder()
+                .id(returnId)
+                .assignment(createAssignment(admin, "Accepted"))
+                .state(ReturnState.WAITING_FOR_RETURNING)
+                .claimedBy("other")
+                .claimedUntil(LocalDateTime.of(2025, 6, 1, 10, 5))
+                .version(0L)
+                .build();
+        AssetReturnRequest request = new AssetReturnRequest();
+        request.setState("COMPLETED");
+
+        when(assetReturnRepository.findById(returnId)).thenReturn(Optional.of(assetReturn));
+        when(authService.getAuthenticatedUser()).thenReturn(admin);
+
+        ReturnAssetBeingModifiedException ex = assertThrows(
+                ReturnAssetBeingModifiedException.class,
+                () -> assetReturnService.updateAssetReturn(returnId, request)
+        );
+
+        assertEquals(ErrorCode.RETURN_ASSET_BEING_MODIFIED.getMessage(), ex.getMessage());
+        assertEquals(ReturnState.WAITING_FOR_RETURNING, assetReturn.getState());
+        verify(assetReturnRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateAssetReturns_ShouldApplyTransitionsInSetBasedUpdates() {
+        stubBulkUpdateContext();
+        AssetReturnTransitionTarget toComplete = transitionTarget(ReturnState.WAITING_FOR_RETURNING, 0L, null);
+        AssetReturnTransitionTarget toCancel = transitionTarget(ReturnState.WAITING_FOR_RETURNING, 2L, null);
+        AssignmentStatus completedStatus = AssignmentStatus.builder().id(3).name("Completed").build();
+        AssignmentStatus acceptedStatus = AssignmentStatus.builder().id(2).name("Accepted").build();
+        LocalDate today = LocalDate.of(2025, 6, 1);
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 10, 0);
+        UUID completeId = toComplete.getId();
+        UUID cancelId = toCancel.getId();
+
+        when(assetReturnRepository.findTransitionTargets(List.of(completeId, cancelId)))
+                .thenReturn(List.of(toComplete, toCancel));
+        when(assetReturnRepository.completeWaiting(List.of(completeId), 0L, today, "admin", now))
+                .thenReturn(List.of(completeId));
+        when(assetReturnRepository.cancelWaiting(List.of(cancelId), 2L, "admin", now))
+                .thenReturn(List.of(cancelId));
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.COMPLETED.getDbName()))
+                .thenReturn(Optional.of(completedStatus));
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.ACCEPTED.getDbName()))
+                .thenReturn(Optional.of(acceptedStatus));
+
+        BulkAssetReturnResponse result = assetReturnService.updateAssetReturns(List.of(
+                updateItem(toComplete.getId(), "COMPLETED"),
+                updateItem(toCancel.getId(), "CANCELED")));
+
+        assertEquals(2, result.getSucceeded());
+        assertEquals(0, result.getFailed());
+        assertEquals(ReturnState.COMPLETED, result.getResults().get(0).getAssetReturn().getState());
+        assertEquals(today, result.getResults().get(0).getAssetReturn().getReturnedDate());
+        assertEquals(3L, result.getResults().get(1).getAssetReturn().getVersion());
+        verify(assignmentRepository).applyReturnOutcome(List.of(toComplete.getAssignmentId()), completedStatus,
+                ReturnState.COMPLETED, today, now, "admin");
+        verify(assignmentRepository).applyReturnOutcome(List.of(toCancel.getAssignmentId()), acceptedStatus,
+                ReturnState.CANCELED, null, now, "admin");
+        verify(assetService).releaseAssets(List.of(toComplete.getAssetId()));
+        verify(assignmentStatusHistoryService).recordStatusChanges(List.of(toComplete.getAssignmentId()), 3);
+        verify(assetReturnRepository, never()).save(any());
+        verify(assignmentRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateAssetReturns_ShouldReportFailedItemsAndUpdateTheRest() {
+        stubBulkUpdateContext();
+        UUID missingId = UUID.randomUUID();
+        AssetReturnTransitionTarget completed = transitionTarget(ReturnState.COMPLETED, 1L, null);
+        AssetReturnTransitionTarget claimed = transitionTarget(ReturnState.WAITING_FOR_RETURNING, 0L, "other");
+        AssetReturnTransitionTarget stale = transitionTarget(ReturnState.WAITING_FOR_RETURNING, 4L, null);
+        AssetReturnTransitionTarget raced = transitionTarget(ReturnState.WAITING_FOR_RETURNING, 0L, null);
+        AssetReturnTransitionTarget waiting = transitionTarget(ReturnState.WAITING_FOR_RETURNING, 0L, null);
+        UUID waitingId = waiting.getId();
+
+        when(assetReturnRepository.findTransitionTargets(anyList()))
+                .thenReturn(List.of(completed, claimed, stale, raced, waiting));
+        when(assetReturnRepository.completeWaiting(anyList(), eq(0L), any(), any(), any()))
+                .thenReturn(List.of(waitingId));
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.COMPLETED.getDbName()))
+                .thenReturn(Optional.of(new AssignmentStatus()));
+        AssetReturnUpdateItem staleItem = updateItem(stale.getId(), "COMPLETED");
+        staleItem.setVersion(3L);
+
+        BulkAssetReturnResponse result = assetReturnService.updateAssetReturns(List.of(
+                updateItem(missingId, "COMPLETED"),
+                updateItem(completed.getId(), "CANCELED"),
+                updateItem(claimed.getId(), "COMPLETED"),
+                staleItem,
+                updateItem(waiting.getId(), "WAITING_FOR_RETURNING"),
+                updateItem(raced.getId(), "COMPLETED"),
+                updateItem(waiting.getId(), "COMPLETED"),
+                updateItem(waiting.getId(), "COMPLETED")));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(7, result.getFailed());
+        assertEquals(List.of(
+                        ErrorCode.REQUEST_RETURN_NOT_FOUND.getMessage(),
+                        ErrorCode.ASSET_RETURN_NOT_UPDATABLE.getMessage(),
+                        ErrorCode.RETURN_ASSET_BEING_MODIFIED.getMessage(),
+                        ErrorCode.RETURN_ASSET_BEING_MODIFIED.getMessage(),
+                        ErrorCode.INVALID_ASSET_RETURN_STATE.getMessage(),
+                        ErrorCode.RETURN_ASSET_BEING_MODIFIED.getMessage()),
+                result.getResults().subList(0, 6).stream().map(BulkAssetReturnItemResult::getError).toList());
+        assertTrue(result.getResults().get(6).isSuccess());
+        assertEquals(ErrorCode.ASSET_RETURN_NOT_UPDATABLE.getMessage(), result.getResults().get(7).getError());
+        verify(assetReturnRepository).completeWaiting(eq(List.of(raced.getId(), waiting.getId())), eq(0L), any(),
+                any(), any());
+        verify(assetReturnRepository, never()).cancelWaiting(any(), anyLong(), any(), any());
+    }
+
+    private void stubBulkUpdateContext() {
+        when(clock.instant()).thenReturn(Instant.parse("2025-06-01T10:00:00Z"));
+        when(clock.getZone()).thenReturn(ZoneId.of("UTC"));
+        User admin = createUser(UUID.randomUUID(), RoleName.ADMIN);
+        admin.setUsername("admin");
+        when(authService.getAuthenticatedUser()).thenReturn(admin);
+    }
+
+    private AssetReturnTransitionTarget transitionTarget(ReturnState state, Long version, String claimedBy) {
+        AssetReturnTransitionTarget target = mock(AssetReturnTransitionTarget.class);
+        UUID id = UUID.randomUUID();
+        UUID assignmentId = UUID.randomUUID();
+        UUID assetId = UUID.randomUUID();
+        when(target.getId()).thenReturn(id);
+        when(target.getState()).thenReturn(state);
+        when(target.getVersion()).thenReturn(version);
+        when(target.getClaimedBy()).thenReturn(claimedBy);
+        when(target.getClaimedUntil()).thenReturn(claimedBy == null ? null : LocalDateTime.of(2025, 6, 1, 10, 5));
+        when(target.getAssignmentId()).thenReturn(assignmentId);
+        when(target.getAssetId()).thenReturn(assetId);
+        return target;
+    }
+
+    private AssetReturnUpdateItem updateItem(UUID id, String state) {
+        AssetReturnUpdateItem item = new AssetReturnUpdateItem();
+        item.setId(id);
+        item.setState(state);
+        return item;
+    }
 }
@@ -5,6 +5,7 @@ import com.nashtech.rookies.oam.dto.request.AssetRequest;
 import com.nashtech.rookies.oam.dto.request.UpdateAssetRequest;
 import com.nashtech.rookies.oam.dto.response.AssetResponse;
 import com.nashtech.rookies.oam.dto.response.AssignmentHistory;
+import com.nashtech.rookies.oam.exception.AssetNotAvailableException;
 import com.nashtech.rookies.oam.exception.AssetNotDeletableException;
 import com.nashtech.rookies.oam.exception.AssetNotEditableException;
 import com.nashtech.rookies.oam.exception.AssetNotFoundException;
@@ -18,9 +19,11 @@ import com.nashtech.rookies.oam.projection.AssignmentWithReturnDate;
 import com.nashtech.rookies.oam.projection.EditAssetProjection;
 import com.nashtech.rookies.oam.repository.AssetRepository;
 import com.nashtech.rookies.oam.repository.AssignmentRepository;
-import com.nashtech.rookies.oam.repository.CategoryRepository;
 import com.nashtech.rookies.oam.service.AssetCodeGeneratorService;
 import com.nashtech.rookies.oam.service.AuthService;
+import com.nashtech.rookies.oam.service.ListCountService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
+import com.nashtech.rookies.oam.service.ReportViewService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +39,7 @@ import org.springframework.data.domain.PageRequest;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -59,7 +63,7 @@ class AssetServiceImplTest {
     private AssignmentMapper assignmentMapper;
 
     @Mock
-    private CategoryRepository categoryRepository;
+    private ReferenceDataService referenceDataService;
 
     @Mock
     private AssignmentRepository assignmentRepository;
@@ -67,6 +71,12 @@ class AssetServiceImplTest {
     @Mock
     private AssetCodeGeneratorService assetCodeGeneratorService;
 
+    @Mock
+    private ListCountService listCountService;
+
+    @Mock
+    private ReportViewService reportViewService;
+
     @InjectMocks
     private AssetServiceImpl assetService;
 
@@ -140,7 +150,7 @@ class AssetServiceImplTest {
     @DisplayName("Should create asset successfully")
     void createAsset_ShouldReturnAssetResponse_WhenValidRequest() {
         when(authService.getAuthenticatedUser()).thenReturn(mockUser);
-        when(categoryRepository.findById(1)).thenReturn(Optional.of(mockCategory));
+        when(referenceDataService.findCategoryById(1)).thenReturn(Optional.of(mockCategory));
         when(assetCodeGeneratorService.generateAssetCode("LA")).thenReturn("LA000001");
         when(assetMapper.toEntity(mockAssetRequest)).thenReturn(mockAsset);
         when(assetRepository.save(any(Asset.class))).thenReturn(mockAsset);
@@ -154,7 +164,7 @@ class AssetServiceImplTest {
         assertEquals(mockAssetResponse.getName(), result.getName());
 
         verify(authService).getAuthenticatedUser();
-        verify(categoryRepository).findById(1);
+        verify(referenceDataService).findCategoryById(1);
         verify(assetCodeGeneratorService).generateAssetCode("LA");
         verify(assetMapper).toEntity(mockAssetRequest);
         verify(assetRepository).save(any(Asset.class));
@@ -165,7 +175,7 @@ class AssetServiceImplTest {
     @DisplayName("Should throw CategoryNotFoundException when category not found during creation")
     void createAsset_ShouldThrowCategoryNotFoundException_WhenCategoryNotFound() {
         when(authService.getAuthenticatedUser()).thenReturn(mockUser);
-        when(categoryRepository.findById(1)).thenReturn(Optional.empty());
+        when(referenceDataService.findCategoryById(1)).thenReturn(Optional.empty());
 
         CategoryNotFoundException exception = assertThrows(
                 CategoryNotFoundException.class,
@@ -174,7 +184,7 @@ class AssetServiceImplTest {
 
         assertEquals(ErrorCode.CATEGORY_NOT_FOUND.getMessage(), exception.getMessage());
         verify(authService).getAuthenticatedUser();
-        verify(categoryRepository).findById(1);
+        verify(referenceDataService).findCategoryById(1);
         verify(assetCodeGeneratorService, never()).generateAssetCode(any());
         verify(assetRepository, never()).save(any());
     }
@@ -314,7 +324,7 @@ class AssetServiceImplTest {
     @DisplayName("Should verify asset properties are set correctly during creation")
     void createAsset_ShouldSetAssetPropertiesCorrectly() {
         when(authService.getAuthenticatedUser()).thenReturn(mockUser);
-        when(categoryRepository.findById(1)).thenReturn(Optional.of(mockCategory));
+        when(referenceDataService.findCategoryById(1)).thenReturn(Optional.of(mockCategory));
         when(assetCodeGeneratorService.generateAssetCode("LA")).thenReturn("LA000001");
         when(assetMapper.toEntity(mockAssetRequest)).thenReturn(mockAsset);
         when(assetRepository.save(any(Asset.class))).thenReturn(mockAsset);
@@ -366,10 +376,11 @@ class AssetServiceImplTest {
         Integer pageNo = 0;
         Integer pageSize = 10;
         PageRequest expectedPageRequest = PageRequest.of(pageNo, pageSize);
-        List<String> defaultStatuses = List.of(
+        List<Integer> defaultStatuses = List.of(2, 4);
+        when(referenceDataService.findAssignmentStatusIds(List.of(
                 AssignmentStatusType.ACCEPTED.getDbName(),
                 AssignmentStatusType.COMPLETED.getDbName()
-        );
+        ))).thenReturn(defaultStatuses);
         List<AssignmentWithReturnDate> assignments = List.of(mockAssignmentWithReturnDate);
         Page<AssignmentWithReturnDate> assignmentPage = new PageImpl<>(assignments, expectedPageRequest, 1);
         Page<AssignmentHistory> historyPage = new PageImpl<>(List.of(mockAssignmentHistory), expectedPageRequest, 1);
@@ -399,10 +410,11 @@ class AssetServiceImplTest {
 
         Page<AssignmentWithReturnDate> emptyAssignmentPage = new PageImpl<>(List.of(), expectedPageRequest, 0);
         Page<AssignmentHistory> emptyHistoryPage = new PageImpl<>(List.of(), expectedPageRequest, 0);
-        List<String> defaultStatuses = List.of(
+        List<Integer> defaultStatuses = List.of(2, 4);
+        when(referenceDataService.findAssignmentStatusIds(List.of(
                 AssignmentStatusType.ACCEPTED.getDbName(),
                 AssignmentStatusType.COMPLETED.getDbName()
-        );
+        ))).thenReturn(defaultStatuses);
         when(assignmentRepository.findAllWithReturnDateByAsset_Id(assetId, defaultStatuses, expectedPageRequest))
                 .thenReturn(emptyAssignmentPage);
 
@@ -438,7 +450,7 @@ class AssetServiceImplTest {
     void createAsset_ShouldMapCategoryAndLocationProperly() {
         // Given
         when(authService.getAuthenticatedUser()).thenReturn(mockUser);
-        when(categoryRepository.findById(1)).thenReturn(Optional.of(mockCategory));
+        when(referenceDataService.findCategoryById(1)).thenReturn(Optional.of(mockCategory));
         when(assetCodeGeneratorService.generateAssetCode("LA")).thenReturn("LA000001");
         when(assetMapper.toEntity(mockAssetRequest)).thenReturn(mockAsset);
         when(assetRepository.save(any(Asset.class))).thenReturn(mockAsset);
@@ -783,18 +795,105 @@ class AssetServiceImplTest {
     }
 
     @Test
-    @DisplayName("Should update asset state successfully")
-    void updateAssetState_ShouldUpdateStateAndSaveAsset() {
+    @DisplayName("Should claim an available asset with a single conditional update")
+    void claimAsset_ShouldReturnAsset_WhenAssetIsAvailable() {
         // Given
-        AssetState newState = AssetState.ASSIGNED;
-        when(assetRepository.save(mockAsset)).thenReturn(mockAsset);
+        UUID assetId = mockAsset.getId();
+        when(assetRepository.transitionState(assetId, AssetState.AVAILABLE, AssetState.ASSIGNED)).thenReturn(1);
+        when(assetRepository.findById(assetId)).thenReturn(Optional.of(mockAsset));
 
         // When
-        assetService.updateAssetState(mockAsset, newState);
+        Asset result = assetService.claimAsset(assetId);
 
         // Then
-        assertEquals(AssetState.ASSIGNED, mockAsset.getState());
-        verify(assetRepository).save(mockAsset);
+        assertEquals(mockAsset, result);
+        verify(assetRepository, never()).save(any());
+        verify(assetRepository).refreshLoaded(List.of(assetId));
+        verify(listCountService).invalidate(Asset.class);
+    }
+
+    @Test
+    @DisplayName("Should reject the claim when the asset is no longer available")
+    void claimAsset_ShouldThrowAssetNotAvailableException_WhenAlreadyClaimed() {
+        // Given
+        UUID assetId = mockAsset.getId();
+        when(assetRepository.transitionState(assetId, AssetState.AVAILABLE, AssetState.ASSIGNED)).thenReturn(0);
+        when(assetRepository.existsById(assetId)).thenReturn(true);
+
+        // When & Then
+        assertThrows(AssetNotAvailableException.class, () -> assetService.claimAsset(assetId));
+        verify(assetRepository, never()).findById(any());
+        verifyNoInteractions(listCountService, reportViewService);
+    }
+
+    @Test
+    @DisplayName("Should throw AssetNotFoundException when claiming a missing asset")
+    void claimAsset_ShouldThrowAssetNotFoundException_WhenAssetDoesNotExist() {
+        // Given
+        UUID assetId = UUID.randomUUID();
+        when(assetRepository.transitionState(assetId, AssetState.AVAILABLE, AssetState.ASSIGNED)).thenReturn(0);
+        when(assetRepository.existsById(assetId)).thenReturn(false);
+
+        // When & Then
+        assertThrows(AssetNotFoundException.class, () -> assetService.claimAsset(assetId));
+    }
+
+    @Test
+    @DisplayName("Should release an assigned asset with a single conditional update")
+    void releaseAsset_ShouldMoveAssignedAssetBackToAvailable() {
+        // Given
+        UUID assetId = mockAsset.getId();
+        when(assetRepository.transitionState(assetId, AssetState.ASSIGNED, AssetState.AVAILABLE)).thenReturn(1);
+
+        // When
+        assetService.releaseAsset(assetId);
+
+        // Then
+        verify(assetRepository, never()).save(any());
+        verify(assetRepository).refreshLoaded(List.of(assetId));
+        verify(listCountService).invalidate(Asset.class);
+    }
+
+    @Test
+    @DisplayName("Should release all listed assets with a single update")
+    void releaseAssets_ShouldReleaseInOneStatement() {
+        // Given
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(assetRepository.transitionStates(ids, AssetState.ASSIGNED, AssetState.AVAILABLE)).thenReturn(2);
+
+        // When
+        assetService.releaseAssets(ids);
+
+        // Then
+        verify(assetRepository, never()).transitionState(any(), any(), any());
+        verify(assetRepository).refreshLoaded(ids);
+        verify(listCountService).invalidate(Asset.class);
+        verify(reportViewService).markDirty();
+    }
+
+    @Test
+    @DisplayName("Should claim only the assets that were still available in one statement")
+    void claimAssets_ShouldReturnClaimedIds() {
+        // Given
+        UUID available = UUID.randomUUID();
+        UUID taken = UUID.randomUUID();
+        when(assetRepository.claimAvailable(List.of(available, taken))).thenReturn(List.of(available));
+
+        // When
+        Set<UUID> claimed = assetService.claimAssets(List.of(available, taken));
+
+        // Then
+        assertEquals(Set.of(available), claimed);
+        verify(assetRepository).refreshLoaded(Set.of(available));
+        verify(listCountService).invalidate(Asset.class);
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when there is nothing to claim")
+    void claimAssets_ShouldSkipQuery_WhenNoIdsGiven() {
+        assertTrue(assetService.claimAssets(List.of()).isEmpty());
+
+        verifyNoInteractions(assetRepository, listCountService);
     }
 
     @Test
@@ -0,0 +1,138 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.config.AuditorAwareProvider;
+import com.nashtech.rookies.oam.config.AuditorAwareTestConfig;
+import com.nashtech.rookies.oam.config.SpringContext;
+import com.nashtech.rookies.oam.mapper.AssetMapper;
+import com.nashtech.rookies.oam.mapper.AssignmentMapper;
+import com.nashtech.rookies.oam.model.Asset;
+import com.nashtech.rookies.oam.model.Category;
+import com.nashtech.rookies.oam.model.Location;
+import com.nashtech.rookies.oam.model.enums.AssetState;
+import com.nashtech.rookies.oam.repository.AssetRepository;
+import com.nashtech.rookies.oam.repository.CategoryRepository;
+import com.nashtech.rookies.oam.repository.LocationRepository;
+import com.nashtech.rookies.oam.service.AssetCodeGeneratorService;
+import com.nashtech.rookies.oam.service.AuthService;
+import com.nashtech.rookies.oam.service.ListCountService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
+import com.nashtech.rookies.oam.service.ReportViewService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the conditional asset state updates against a persistence context that already holds the
+ * asset, as the assignment flows do.
+ */
+@DataJpaTest
+@Import({SpringContext.class, AuditorAwareTestConfig.class, AuditorAwareProvider.class, AssetServiceImpl.class})
+class AssetStateTransitionTest {
+
+    @Autowired
+    private AssetServiceImpl assetService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private AuthService authService;
+
+    @MockitoBean
+    private AssetMapper assetMapper;
+
+    @MockitoBean
+    private AssignmentMapper assignmentMapper;
+
+    @MockitoBean
+    private ReferenceDataService referenceDataService;
+
+    @MockitoBean
+    private AssetCodeGeneratorService assetCodeGeneratorService;
+
+    @MockitoBean
+    private ListCountService listCountService;
+
+    @MockitoBean
+    private ReportViewService reportViewService;
+
+    private UUID assetId;
+
+    @BeforeEach
+    void setUp() {
+        Location location = locationRepository.save(Location.builder()
+                .code("LOC001")
+                .name("Test Location")
+                .build());
+
+        Category category = categoryRepository.save(Category.builder()
+                .name("Electronics")
+                .prefix("EL")
+                .build());
+
+        assetId = assetRepository.saveAndFlush(Asset.builder()
+                .code("EL000001")
+                .name("Laptop")
+                .specification("Dell XPS 13")
+                .installedDate(LocalDate.now())
+                .state(AssetState.AVAILABLE)
+                .category(category)
+                .location(location)
+                .build()).getId();
+        entityManager.clear();
+    }
+
+    @Test
+    void claimAsset_WhenAssetIsAlreadyLoaded_ShouldReturnClaimedState() {
+        Asset loaded = assetRepository.findById(assetId).orElseThrow();
+        long versionBeforeClaim = loaded.getVersion();
+
+        Asset claimed = assetService.claimAsset(assetId);
+
+        assertThat(claimed).isSameAs(loaded);
+        assertThat(claimed.getState()).isEqualTo(AssetState.ASSIGNED);
+        assertThat(claimed.getVersion()).isEqualTo(versionBeforeClaim + 1);
+    }
+
+    @Test
+    void claimAsset_WhenLoadedAssetIsEditedAfterwards_ShouldKeepClaimedState() {
+        Asset loaded = assetRepository.findById(assetId).orElseThrow();
+
+        assetService.claimAsset(assetId);
+        loaded.setName("Laptop 2");
+        assetRepository.saveAndFlush(loaded);
+        entityManager.clear();
+
+        Asset stored = assetRepository.findById(assetId).orElseThrow();
+        assertThat(stored.getName()).isEqualTo("Laptop 2");
+        assertThat(stored.getState()).isEqualTo(AssetState.ASSIGNED);
+    }
+
+    @Test
+    void releaseAsset_WhenAssetIsAlreadyLoaded_ShouldShowAvailableState() {
+        assetService.claimAsset(assetId);
+        Asset loaded = assetRepository.findById(assetId).orElseThrow();
+
+        assetService.releaseAsset(assetId);
+
+        assertThat(loaded.getState()).isEqualTo(AssetState.AVAILABLE);
+    }
+}
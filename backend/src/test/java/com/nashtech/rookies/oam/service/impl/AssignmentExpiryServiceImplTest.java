@@ -0,0 +1,136 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.model.Asset;
+import com.nashtech.rookies.oam.model.Assignment;
+import com.nashtech.rookies.oam.model.AssignmentStatus;
+import com.nashtech.rookies.oam.model.enums.AssignmentStatusType;
+import com.nashtech.rookies.oam.repository.AssignmentRepository;
+import com.nashtech.rookies.oam.service.AssetService;
+import com.nashtech.rookies.oam.service.AssignmentStatusHistoryService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssignmentExpiryServiceImplTest {
+
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    @Mock
+    private AssetService assetService;
+
+    @Mock
+    private AssignmentStatusHistoryService assignmentStatusHistoryService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-06-15T10:00:00Z"), ZoneId.of("UTC"));
+    private final LocalDate cutoff = LocalDate.of(2025, 6, 1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AssignmentExpiryServiceImpl service;
+    private AssignmentStatus waiting;
+    private AssignmentStatus declined;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new AssignmentExpiryServiceImpl(assignmentRepository, referenceDataService, assetService,
+                assignmentStatusHistoryService, transactionManager, clock, meterRegistry);
+        ReflectionTestUtils.setField(service, "EXPIRE_AFTER_DAYS", 14);
+        ReflectionTestUtils.setField(service, "BATCH_SIZE", 2);
+        ReflectionTestUtils.setField(service, "MAX_BATCHES", 3);
+        service.init();
+
+        waiting = AssignmentStatus.builder().id(1).name(AssignmentStatusType.WAITING_FOR_ACCEPTANCE.getDbName()).build();
+        declined = AssignmentStatus.builder().id(3).name(AssignmentStatusType.DECLINED.getDbName()).build();
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.WAITING_FOR_ACCEPTANCE.getDbName()))
+                .thenReturn(Optional.of(waiting));
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.DECLINED.getDbName()))
+                .thenReturn(Optional.of(declined));
+    }
+
+    @Test
+    void expireStaleAssignments_ShouldDeclineBatchesUntilOneComesBackShort() {
+        List<Assignment> firstBatch = List.of(staleAssignment(), staleAssignment());
+        List<Assignment> secondBatch = List.of(staleAssignment());
+        when(assignmentRepository.lockStaleByStatus(1, cutoff, 2)).thenReturn(firstBatch, secondBatch);
+        when(assignmentRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(assignmentRepository.countStaleByStatus(1, cutoff)).thenReturn(0L);
+
+        int expired = service.expireStaleAssignments();
+
+        assertEquals(3, expired);
+        assertEquals(declined, firstBatch.getFirst().getStatus());
+        assertEquals(declined, secondBatch.getFirst().getStatus());
+        verify(assignmentRepository, times(2)).lockStaleByStatus(1, cutoff, 2);
+        verify(assetService).releaseAssets(firstBatch.stream().map(a -> a.getAsset().getId()).toList());
+        verify(assetService).releaseAssets(secondBatch.stream().map(a -> a.getAsset().getId()).toList());
+        verify(assignmentStatusHistoryService).recordStatusChanges(firstBatch);
+        verify(assignmentStatusHistoryService).recordStatusChanges(secondBatch);
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3.0, meterRegistry.counter("assignment.expiry.processed").count());
+        assertEquals(1, meterRegistry.timer("assignment.expiry.duration").count());
+    }
+
+    @Test
+    void expireStaleAssignments_ShouldStopAtMaxBatchesAndReportWhatIsLeft() {
+        when(assignmentRepository.lockStaleByStatus(1, cutoff, 2))
+                .thenAnswer(invocation -> List.of(staleAssignment(), staleAssignment()));
+        when(assignmentRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(assignmentRepository.countStaleByStatus(1, cutoff)).thenReturn(5L);
+
+        int expired = service.expireStaleAssignments();
+
+        assertEquals(6, expired);
+        verify(assignmentRepository, times(3)).lockStaleByStatus(1, cutoff, 2);
+        assertEquals(5.0, meterRegistry.get("assignment.expiry.backlog").gauge().value());
+
+        // The backlog is a level, a second run reporting the same rows must not add them up
+        service.expireStaleAssignments();
+        assertEquals(5.0, meterRegistry.get("assignment.expiry.backlog").gauge().value());
+    }
+
+    @Test
+    void expireStaleAssignments_WhenNothingIsStale_ShouldNotTouchAssets() {
+        when(assignmentRepository.lockStaleByStatus(1, cutoff, 2)).thenReturn(List.of());
+        when(assignmentRepository.countStaleByStatus(1, cutoff)).thenReturn(1L);
+
+        assertEquals(0, service.expireStaleAssignments());
+
+        verifyNoInteractions(assetService, assignmentStatusHistoryService);
+        assertEquals(1.0, meterRegistry.get("assignment.expiry.backlog").gauge().value());
+    }
+
+    private Assignment staleAssignment() {
+        return Assignment.builder()
+                .id(UUID.randomUUID())
+                .asset(Asset.builder().id(UUID.randomUUID()).build())
+                .status(waiting)
+                .assignedDate(cutoff.minusDays(1))
+                .build();
+    }
+}
@@ -4,23 +4,28 @@ import com.nashtech.rookies.oam.constant.ErrorCode;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
 import com.nashtech.rookies.oam.dto.request.AssignmentPageRequest;
 import com.nashtech.rookies.oam.dto.request.AssignmentRequest;
+import com.nashtech.rookies.oam.dto.request.AssignmentStatusUpdateItem;
 import com.nashtech.rookies.oam.dto.request.AssignmentUpdateRequest;
 import com.nashtech.rookies.oam.dto.request.UpdateAssignmentStatusRequest;
 import com.nashtech.rookies.oam.dto.response.AssignmentEditViewResponse;
 import com.nashtech.rookies.oam.dto.response.AssignmentPageResponse;
 import com.nashtech.rookies.oam.dto.response.AssignmentResponse;
+import com.nashtech.rookies.oam.dto.response.BulkAssignmentItemResult;
+import com.nashtech.rookies.oam.dto.response.BulkAssignmentResponse;
 import com.nashtech.rookies.oam.exception.*;
 import com.nashtech.rookies.oam.mapper.AssignmentMapper;
 import com.nashtech.rookies.oam.model.*;
 import com.nashtech.rookies.oam.model.enums.AssetState;
 import com.nashtech.rookies.oam.model.enums.AssignmentStatusType;
+import com.nashtech.rookies.oam.model.enums.ReturnState;
 import com.nashtech.rookies.oam.model.enums.RoleName;
 import com.nashtech.rookies.oam.projection.AssignmentEditViewProjection;
-import com.nashtech.rookies.oam.repository.AssetReturnRepository;
 import com.nashtech.rookies.oam.repository.AssignmentRepository;
-import com.nashtech.rookies.oam.repository.AssignmentStatusRepository;
 import com.nashtech.rookies.oam.service.AssetService;
+import com.nashtech.rookies.oam.service.AssignmentStatusHistoryService;
 import com.nashtech.rookies.oam.service.AuthService;
+import com.nashtech.rookies.oam.service.ListCountService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
 import com.nashtech.rookies.oam.service.UserService;
 import com.nashtech.rookies.oam.service.enums.AssignmentActionRule;
 import org.apache.coyote.BadRequestException;
@@ -30,7 +35,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -63,13 +67,17 @@ class AssignmentServiceImplTest {
     private AssignmentRepository assignmentRepository;
 
     @Mock
-    private AssignmentStatusRepository assignmentStatusRepository;
+    private ReferenceDataService referenceDataService;
 
     @Mock
     private AssignmentMapper assignmentMapper;
 
+
+    @Mock
+    private ListCountService listCountService;
+
     @Mock
-    private AssetReturnRepository assetReturnRepository;
+    private AssignmentStatusHistoryService assignmentStatusHistoryService;
 
     @InjectMocks
     private AssignmentServiceImpl assignmentService;
@@ -160,25 +168,27 @@ class AssignmentServiceImplTest {
     void cacheStatuses_WhenStatusExists_ShouldCacheSuccessfully() {
         AssignmentServiceImpl newService = new AssignmentServiceImpl(
                 authService, assetService, userService, assignmentRepository,
-                assignmentStatusRepository, assignmentMapper, assetReturnRepository
+                referenceDataService, assignmentMapper, listCountService,
+                assignmentStatusHistoryService
         );
 
-        when(assignmentStatusRepository.findByName(AssignmentStatusType.WAITING_FOR_ACCEPTANCE.getDbName()))
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.WAITING_FOR_ACCEPTANCE.getDbName()))
                 .thenReturn(Optional.of(waitingForAcceptanceStatus));
 
         assertDoesNotThrow(() -> newService.cacheStatuses());
 
-        verify(assignmentStatusRepository).findByName(AssignmentStatusType.WAITING_FOR_ACCEPTANCE.getDbName());
+        verify(referenceDataService).findAssignmentStatusByName(AssignmentStatusType.WAITING_FOR_ACCEPTANCE.getDbName());
     }
 
     @Test
     void cacheStatuses_WhenStatusNotFound_ShouldThrowException() {
         AssignmentServiceImpl newService = new AssignmentServiceImpl(
                 authService, assetService, userService, assignmentRepository,
-                assignmentStatusRepository, assignmentMapper, assetReturnRepository
+                referenceDataService, assignmentMapper, listCountService,
+                assignmentStatusHistoryService
         );
 
-        when(assignmentStatusRepository.findByName(AssignmentStatusType.WAITING_FOR_ACCEPTANCE.getDbName()))
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.WAITING_FOR_ACCEPTANCE.getDbName()))
                 .thenReturn(Optional.empty());
 
         AssignmentStatusNotFoundException exception = assertThrows(
@@ -192,11 +202,8 @@ class AssignmentServiceImplTest {
     @Test
     void createAssignment_WithValidData_ShouldCreateSuccessfully() {
 
-        asset.setState(AssetState.AVAILABLE);
-
         when(userService.getUserById(assignmentRequest.getUserId())).thenReturn(user);
-        when(assetService.getAssetByIdForUpdate(assignmentRequest.getAssetId())).thenReturn(asset);
-        when(assetService.isAssetAvailable(asset)).thenReturn(true);
+        when(assetService.claimAsset(assignmentRequest.getAssetId())).thenReturn(asset);
         when(assignmentMapper.toEntity(assignmentRequest, user, asset, waitingForAcceptanceStatus)).thenReturn(assignmentEntity);
         when(assignmentRepository.save(any(Assignment.class))).thenReturn(savedAssignment);
         when(assignmentMapper.toResponse(savedAssignment)).thenReturn(assignmentResponse);
@@ -207,18 +214,16 @@ class AssignmentServiceImplTest {
         Assignment capturedAssignment = assignmentCaptor.getValue();
 
         assertEquals(waitingForAcceptanceStatus, capturedAssignment.getStatus());
-        verify(assetService).updateAssetState(asset, AssetState.ASSIGNED);
+        verify(assetService).claimAsset(assignmentRequest.getAssetId());
+        verify(assignmentStatusHistoryService).recordStatusChange(savedAssignment);
         assertEquals(assignmentResponse, response);
     }
 
     @Test
-    void createAssignment_WhenAssetNotAvailable_ShouldThrowException() {
-
-        asset.setState(AssetState.ASSIGNED);
-
+    void createAssignment_WhenAssetAlreadyClaimed_ShouldNotSaveOrRecordHistory() {
         when(userService.getUserById(assignmentRequest.getUserId())).thenReturn(user);
-        when(assetService.getAssetByIdForUpdate(assignmentRequest.getAssetId())).thenReturn(asset);
-        when(assetService.isAssetAvailable(asset)).thenReturn(false);
+        when(assetService.claimAsset(assignmentRequest.getAssetId()))
+                .thenThrow(new AssetNotAvailableException(ErrorCode.ASSET_NOT_AVAILABLE.getMessage()));
 
         AssetNotAvailableException exception = assertThrows(
                 AssetNotAvailableException.class,
@@ -228,7 +233,7 @@ class AssignmentServiceImplTest {
         assertEquals(ErrorCode.ASSET_NOT_AVAILABLE.getMessage(), exception.getMessage());
 
         verify(assignmentRepository, never()).save(any());
-        verify(assetService, never()).updateAssetState(any(), any());
+        verifyNoInteractions(assignmentStatusHistoryService);
     }
 
     @Test
@@ -246,7 +251,7 @@ class AssignmentServiceImplTest {
     @Test
     void createAssignment_WhenAssetNotFound_ShouldThrowAssetNotFoundException() {
         when(userService.getUserById(assignmentRequest.getUserId())).thenReturn(user);
-        when(assetService.getAssetByIdForUpdate(assignmentRequest.getAssetId()))
+        when(assetService.claimAsset(assignmentRequest.getAssetId()))
                 .thenThrow(new AssetNotFoundException(ErrorCode.ASSET_NOT_FOUND.getMessage()));
 
         AssetNotFoundException exception = assertThrows(AssetNotFoundException.class,
@@ -259,7 +264,7 @@ class AssignmentServiceImplTest {
     @Test
     void createAssignment_WhenAssetNotAvailable_ShouldThrowAssetNotAvailableException() {
         when(userService.getUserById(assignmentRequest.getUserId())).thenReturn(user);
-        when(assetService.getAssetByIdForUpdate(assignmentRequest.getAssetId()))
+        when(assetService.claimAsset(assignmentRequest.getAssetId()))
                 .thenThrow(new AssetNotAvailableException(ErrorCode.ASSET_NOT_AVAILABLE.getMessage()));
 
         AssetNotAvailableException exception = assertThrows(AssetNotAvailableException.class,
@@ -270,16 +275,75 @@ class AssignmentServiceImplTest {
     }
 
     @Test
-    void createAssignment_WithOptimisticLockingFailure_ShouldThrowAssetNotAvailableException() {
-        when(userService.getUserById(assignmentRequest.getUserId())).thenReturn(user);
-        when(assetService.getAssetByIdForUpdate(assignmentRequest.getAssetId()))
-                .thenThrow(new OptimisticLockingFailureException("Concurrent modification"));
+    void createAssignments_WithAllItemsValid_ShouldSaveInOneBatch() {
+        Asset secondAsset = Asset.builder().id(UUID.randomUUID()).code("ASSET002").build();
+        AssignmentRequest secondRequest = bulkRequest(user.getId(), secondAsset.getId());
+        Assignment secondEntity = Assignment.builder().user(user).asset(secondAsset).build();
+        List<AssignmentRequest> requests = List.of(assignmentRequest, secondRequest);
+
+        when(userService.getUsersByIds(List.of(user.getId()))).thenReturn(List.of(user));
+        when(assetService.claimAssets(List.of(asset.getId(), secondAsset.getId())))
+                .thenReturn(Set.of(asset.getId(), secondAsset.getId()));
+        when(assetService.getAssetsByIds(List.of(asset.getId(), secondAsset.getId())))
+                .thenReturn(List.of(asset, secondAsset));
+        when(assignmentMapper.toEntity(assignmentRequest, user, asset, waitingForAcceptanceStatus))
+                .thenReturn(assignmentEntity);
+        when(assignmentMapper.toEntity(secondRequest, user, secondAsset, waitingForAcceptanceStatus))
+                .thenReturn(secondEntity);
+        when(assignmentRepository.saveAll(List.of(assignmentEntity, secondEntity)))
+                .thenReturn(List.of(savedAssignment, secondEntity));
+        when(assignmentMapper.toResponse(any(Assignment.class))).thenReturn(assignmentResponse);
+
+        BulkAssignmentResponse response = assignmentService.createAssignments(requests);
+
+        assertEquals(2, response.getSucceeded());
+        assertEquals(0, response.getFailed());
+        assertTrue(response.getResults().stream().allMatch(BulkAssignmentItemResult::isSuccess));
+        verify(assignmentRepository, never()).save(any());
+        verify(assignmentStatusHistoryService).recordStatusChanges(List.of(savedAssignment, secondEntity));
+    }
 
-        OptimisticLockingFailureException exception = assertThrows(OptimisticLockingFailureException.class,
-                () -> assignmentService.createAssignment(assignmentRequest));
+    @Test
+    void createAssignments_WithInvalidItems_ShouldReportThemAndCreateTheRest() {
+        UUID unknownUserId = UUID.randomUUID();
+        UUID unknownAssetId = UUID.randomUUID();
+        Asset takenAsset = Asset.builder().id(UUID.randomUUID()).build();
+
+        AssignmentRequest unknownUser = bulkRequest(unknownUserId, UUID.randomUUID());
+        AssignmentRequest unknownAsset = bulkRequest(user.getId(), unknownAssetId);
+        AssignmentRequest duplicateAsset = bulkRequest(user.getId(), asset.getId());
+        AssignmentRequest alreadyTaken = bulkRequest(user.getId(), takenAsset.getId());
+        List<AssignmentRequest> requests =
+                List.of(unknownUser, unknownAsset, assignmentRequest, duplicateAsset, alreadyTaken);
+        List<UUID> assetIds = List.of(unknownAssetId, asset.getId(), takenAsset.getId());
+
+        when(userService.getUsersByIds(List.of(unknownUserId, user.getId()))).thenReturn(List.of(user));
+        when(assetService.claimAssets(assetIds)).thenReturn(Set.of(asset.getId()));
+        when(assetService.getAssetsByIds(assetIds)).thenReturn(List.of(asset, takenAsset));
+        when(assignmentMapper.toEntity(assignmentRequest, user, asset, waitingForAcceptanceStatus))
+                .thenReturn(assignmentEntity);
+        when(assignmentRepository.saveAll(List.of(assignmentEntity))).thenReturn(List.of(savedAssignment));
+        when(assignmentMapper.toResponse(savedAssignment)).thenReturn(assignmentResponse);
 
-        assertEquals("Concurrent modification", exception.getMessage());
-        verifyNoInteractions(assignmentMapper, assignmentRepository);
+        BulkAssignmentResponse response = assignmentService.createAssignments(requests);
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(4, response.getFailed());
+        List<BulkAssignmentItemResult> results = response.getResults();
+        assertEquals(ErrorCode.USER_NOT_FOUND.getMessage(), results.get(0).getError());
+        assertEquals(ErrorCode.ASSET_NOT_FOUND.getMessage(), results.get(1).getError());
+        assertTrue(results.get(2).isSuccess());
+        assertEquals(assignmentResponse, results.get(2).getAssignment());
+        assertEquals(ErrorCode.ASSET_NOT_AVAILABLE.getMessage(), results.get(3).getError());
+        assertEquals(ErrorCode.ASSET_NOT_AVAILABLE.getMessage(), results.get(4).getError());
+    }
+
+    private AssignmentRequest bulkRequest(UUID userId, UUID assetId) {
+        AssignmentRequest request = new AssignmentRequest();
+        request.setUserId(userId);
+        request.setAssetId(assetId);
+        request.setAssignedDate(LocalDate.now());
+        return request;
     }
 
     @Test
@@ -346,8 +410,7 @@ class AssignmentServiceImplTest {
         updateRequest.setNote("Updated note");
 
         when(assignmentRepository.findById(assignmentId)).thenReturn(Optional.of(existingAssignment));
-        when(assetService.getAssetByIdForUpdate(newAssetId)).thenReturn(newAsset);
-        when(assetService.isAssetAvailable(newAsset)).thenReturn(true);
+        when(assetService.claimAsset(newAssetId)).thenReturn(newAsset);
         when(userService.getUserById(newUserId)).thenReturn(newUser);
         when(assignmentRepository.save(any(Assignment.class))).thenReturn(existingAssignment);
         when(assignmentMapper.toUpdatedResponse(existingAssignment)).thenReturn(assignmentResponse);
@@ -362,8 +425,8 @@ class AssignmentServiceImplTest {
         assertEquals(newAsset, capturedAssignment.getAsset());
         assertEquals(newDate, capturedAssignment.getAssignedDate());
         assertEquals("Updated note", capturedAssignment.getNote());
-        verify(assetService).updateAssetState(asset, AssetState.AVAILABLE);
-        verify(assetService).updateAssetState(newAsset, AssetState.ASSIGNED);
+        verify(assetService).claimAsset(newAssetId);
+        verify(assetService).releaseAsset(asset.getId());
         assertEquals(assignmentResponse, response);
     }
 
@@ -468,7 +531,6 @@ class AssignmentServiceImplTest {
         updateRequest.setNote("Updated note");
 
         when(assignmentRepository.findById(assignmentId)).thenReturn(Optional.of(existingAssignment));
-        when(assetService.getAssetByIdForUpdate(asset.getId())).thenReturn(asset);
         when(userService.getUserById(newUserId)).thenReturn(newUser);
         when(assignmentRepository.save(any(Assignment.class))).thenReturn(existingAssignment);
         when(assignmentMapper.toUpdatedResponse(existingAssignment)).thenReturn(assignmentResponse);
@@ -483,9 +545,9 @@ class AssignmentServiceImplTest {
         assertEquals(asset, capturedAssignment.getAsset());
         assertEquals(newDate, capturedAssignment.getAssignedDate());
         assertEquals("Updated note", capturedAssignment.getNote());
-        // When same asset, should still update asset states
-        verify(assetService).updateAssetState(asset, AssetState.AVAILABLE);
-        verify(assetService).updateAssetState(asset, AssetState.ASSIGNED);
+        // The assignment already holds the asset, so its state is left alone
+        verify(assetService, never()).claimAsset(any());
+        verify(assetService, never()).releaseAsset(any());
         assertEquals(assignmentResponse, response);
     }
 
@@ -495,40 +557,6 @@ class AssignmentServiceImplTest {
         UUID newAssetId = UUID.randomUUID();
         LocalDate originalDate = LocalDate.now();
 
-        Assignment existingAssignment = Assignment.builder()
-                .id(assignmentId)
-                .user(user)
-                .asset(asset)
-                .status(waitingForAcceptanceStatus)
-                .assignedDate(originalDate)
-                .build();
-
-        Asset unavailableAsset = Asset.builder()
-                .id(newAssetId)
-                .state(AssetState.NOT_AVAILABLE)
-                .build();
-
-        AssignmentUpdateRequest updateRequest = new AssignmentUpdateRequest();
-        updateRequest.setUserId(user.getId());
-        updateRequest.setAssetId(newAssetId);
-        updateRequest.setAssignedDate(originalDate);
-
-        when(assignmentRepository.findById(assignmentId)).thenReturn(Optional.of(existingAssignment));
-        when(assetService.getAssetByIdForUpdate(newAssetId)).thenReturn(unavailableAsset);
-        when(assetService.isAssetAvailable(unavailableAsset)).thenReturn(false);
-
-        AssetNotAvailableException exception = assertThrows(AssetNotAvailableException.class,
-                () -> assignmentService.updateAssignment(assignmentId, updateRequest));
-
-        assertEquals(ErrorCode.ASSET_NOT_AVAILABLE.getMessage(), exception.getMessage());
-    }
-
-    @Test
-    void updateAssignment_WithOptimisticLockingFailure_ShouldThrowAssetNotAvailableException() {
-        UUID assignmentId = UUID.randomUUID();
-        UUID newAssetId = UUID.randomUUID();
-        LocalDate originalDate = LocalDate.now();
-
         Assignment existingAssignment = Assignment.builder()
                 .id(assignmentId)
                 .user(user)
@@ -543,13 +571,15 @@ class AssignmentServiceImplTest {
         updateRequest.setAssignedDate(originalDate);
 
         when(assignmentRepository.findById(assignmentId)).thenReturn(Optional.of(existingAssignment));
-        when(assetService.getAssetByIdForUpdate(newAssetId))
-                .thenThrow(new OptimisticLockingFailureException("Concurrent modification"));
+        when(assetService.claimAsset(newAssetId))
+                .thenThrow(new AssetNotAvailableException(ErrorCode.ASSET_NOT_AVAILABLE.getMessage()));
 
         AssetNotAvailableException exception = assertThrows(AssetNotAvailableException.class,
                 () -> assignmentService.updateAssignment(assignmentId, updateRequest));
 
         assertEquals(ErrorCode.ASSET_NOT_AVAILABLE.getMessage(), exception.getMessage());
+        verify(assetService, never()).releaseAsset(any());
+        verify(assignmentRepository, never()).save(any());
     }
 
     @Test
@@ -655,11 +685,11 @@ class AssignmentServiceImplTest {
     }
 
     @Test
-    void fetchAndValidateAssetForUpdate_WithAvailableAsset_ShouldReturnAsset() {
+    void reassignAsset_WithDifferentAsset_ShouldClaimNewAndReleaseCurrent() {
         UUID assetId = UUID.randomUUID();
-        Asset availableAsset = Asset.builder()
+        Asset claimedAsset = Asset.builder()
                 .id(assetId)
-                .state(AssetState.AVAILABLE)
+                .state(AssetState.ASSIGNED)
                 .build();
 
         Assignment assignment = Assignment.builder()
@@ -667,103 +697,63 @@ class AssignmentServiceImplTest {
                 .status(waitingForAcceptanceStatus)
                 .build();
 
-        when(assetService.getAssetByIdForUpdate(assetId)).thenReturn(availableAsset);
-        when(assetService.isAssetAvailable(availableAsset)).thenReturn(true);
+        when(assetService.claimAsset(assetId)).thenReturn(claimedAsset);
 
         Asset result = (Asset) ReflectionTestUtils.invokeMethod(
                 assignmentService,
-                "fetchAndValidateAssetForUpdate",
+                "reassignAsset",
                 assignment,
                 assetId
         );
 
-        assertEquals(availableAsset, result);
+        assertEquals(claimedAsset, result);
+        InOrder inOrder = inOrder(assetService);
+        inOrder.verify(assetService).claimAsset(assetId);
+        inOrder.verify(assetService).releaseAsset(asset.getId());
     }
 
     @Test
-    void fetchAndValidateAssetForUpdate_WithSameAssetDuringWaiting_ShouldReturnAsset() {
+    void reassignAsset_WithSameAsset_ShouldKeepCurrentAsset() {
         Assignment assignment = Assignment.builder()
                 .asset(asset)
                 .status(waitingForAcceptanceStatus)
                 .build();
 
-        when(assetService.getAssetByIdForUpdate(asset.getId())).thenReturn(asset);
-
         Asset result = (Asset) ReflectionTestUtils.invokeMethod(
                 assignmentService,
-                "fetchAndValidateAssetForUpdate",
+                "reassignAsset",
                 assignment,
                 asset.getId()
         );
 
         assertEquals(asset, result);
+        verifyNoInteractions(assetService);
     }
 
     @Test
-    void fetchAndValidateAssetForUpdate_WithUnavailableAsset_ShouldThrowException() {
+    void reassignAsset_WhenClaimFails_ShouldNotReleaseCurrentAsset() {
         UUID assetId = UUID.randomUUID();
-        Asset unavailableAsset = Asset.builder()
-                .id(assetId)
-                .state(AssetState.NOT_AVAILABLE)
-                .build();
 
         Assignment assignment = Assignment.builder()
                 .asset(asset)
                 .status(waitingForAcceptanceStatus)
                 .build();
 
-        when(assetService.getAssetByIdForUpdate(assetId)).thenReturn(unavailableAsset);
-        when(assetService.isAssetAvailable(unavailableAsset)).thenReturn(false);
+        when(assetService.claimAsset(assetId))
+                .thenThrow(new AssetNotAvailableException(ErrorCode.ASSET_NOT_AVAILABLE.getMessage()));
 
         AssetNotAvailableException exception = assertThrows(
                 AssetNotAvailableException.class,
                 () -> ReflectionTestUtils.invokeMethod(
                         assignmentService,
-                        "fetchAndValidateAssetForUpdate",
+                        "reassignAsset",
                         assignment,
                         assetId
                 )
         );
 
         assertEquals(ErrorCode.ASSET_NOT_AVAILABLE.getMessage(), exception.getMessage());
-    }
-
-    @Test
-    void isSameAssetDuringWaitingStatus_WithSameAssetAndWaitingStatus_ShouldReturnTrue() {
-        Assignment assignment = Assignment.builder()
-                .asset(asset)
-                .status(waitingForAcceptanceStatus)
-                .build();
-
-        boolean result = (boolean) ReflectionTestUtils.invokeMethod(
-                assignmentService,
-                "isSameAssetDuringWaitingStatus",
-                assignment,
-                asset
-        );
-
-        assertTrue(result);
-    }
-
-    @Test
-    void isSameAssetDuringWaitingStatus_WithDifferentAsset_ShouldReturnFalse() {
-        Asset differentAsset = Asset.builder()
-                .id(UUID.randomUUID())
-                .build();
-
-        Assignment assignment = Assignment.builder()
-                .asset(asset)
-                .status(waitingForAcceptanceStatus)
-                .build();
-
-        boolean result = (boolean) ReflectionTestUtils.invokeMethod(
-                assignmentService,
-                "isSameAssetDuringWaitingStatus",
-                assignment,
-                differentAsset
-        );
-
-        assertFalse(result);
+        verify(assetService, never()).releaseAsset(any());
     }
 
     @Test
@@ -793,6 +783,7 @@ class AssignmentServiceImplTest {
         request.setSearch("Dell");
         request.setStates(List.of("Accepted"));
         request.setAssignedDateTo(LocalDate.of(2025, 6, 2));
+        when(referenceDataService.findAssignmentStatusIds(List.of("Accepted"))).thenReturn(List.of(2));
 
         Role adminRole = Role.builder()
                 .name(RoleName.ADMIN.getName())
@@ -829,8 +820,6 @@ class AssignmentServiceImplTest {
         when(assignmentRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(assignmentPage);
 
-        when(assetReturnRepository.findTopByAssignmentOrderByCreatedAtDesc(eq(assignment)))
-                .thenReturn(Optional.empty());
 
 
         when(assignmentMapper.toAssignmentPageResponse(eq(assignment), isNull()))
@@ -901,8 +890,6 @@ class AssignmentServiceImplTest {
         when(authService.getAuthenticatedUser()).thenReturn(adminUser);
         when(assignmentRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(assignmentPage);
-        when(assetReturnRepository.findTopByAssignmentOrderByCreatedAtDesc(eq(assignment)))
-                .thenReturn(Optional.empty());
 
 
         when(assignmentMapper.toAssignmentPageResponse(eq(assignment), isNull()))
@@ -924,6 +911,42 @@ class AssignmentServiceImplTest {
         verify(assignmentMapper, times(1)).toAssignmentPageResponse(eq(assignment), isNull());
     }
 
+    @Test
+    void getAssignments_shouldMapCurrentReturnStateFromAssignmentRow() {
+        AssignmentPageRequest request = new AssignmentPageRequest();
+        request.setPage(0);
+        request.setSize(10);
+        request.setSort("assetCode");
+        request.setSortOrder("asc");
+        request.setStates(List.of("Accepted"));
+
+        User adminUser = User.builder()
+                .id(UUID.randomUUID())
+                .username("adminUser")
+                .roles(Set.of(Role.builder().name(RoleName.ADMIN.getName()).build()))
+                .location(new Location(UUID.randomUUID(), "HCM", "Ho Chi Minh"))
+                .build();
+
+        Assignment returned = Assignment.builder().id(UUID.randomUUID()).asset(asset).user(user)
+                .currentReturnState(ReturnState.WAITING_FOR_RETURNING).build();
+        Assignment notReturned = Assignment.builder().id(UUID.randomUUID()).asset(asset).user(user).build();
+
+        when(authService.getAuthenticatedUser()).thenReturn(adminUser);
+        when(assignmentRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(returned, notReturned)));
+        when(assignmentMapper.toAssignmentPageResponse(any(Assignment.class), any()))
+                .thenAnswer(invocation -> AssignmentPageResponse.builder()
+                        .id(invocation.<Assignment>getArgument(0).getId())
+                        .returnState(invocation.getArgument(1))
+                        .build());
+
+        APIPageableResponseDTO<AssignmentPageResponse> result = assignmentService.getAssignments(request);
+
+        assertEquals(2, result.getContent().size());
+        assertEquals(ReturnState.WAITING_FOR_RETURNING, result.getContent().get(0).getReturnState());
+        assertNull(result.getContent().get(1).getReturnState());
+    }
+
     @Test
     void getAssignments_withRegularUserAccessingOtherUserAssignments_shouldThrowAccessDeniedException() {
         // Arrange
@@ -1096,9 +1119,9 @@ class AssignmentServiceImplTest {
                 .name(AssignmentStatusType.ACCEPTED.getDbName())
                 .build();
 
-        when(assignmentRepository.findById(assignmentId)).thenReturn(Optional.of(existingAssignment));
-        when(authService.getAuthenticatedUser()).thenReturn(user); // User is assigned
-        when(assignmentStatusRepository.findByName(AssignmentStatusType.ACCEPTED.getDbName()))
+        when(authService.getAuthenticatedPrincipal()).thenReturn(principalOf(user));
+        when(assignmentRepository.findByIdAndUser_Id(assignmentId, user.getId())).thenReturn(Optional.of(existingAssignment));
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.ACCEPTED.getDbName()))
                 .thenReturn(Optional.of(acceptedStatus));
         when(assignmentRepository.save(any(Assignment.class))).thenReturn(existingAssignment);
         when(assignmentMapper.toResponse(existingAssignment)).thenReturn(assignmentResponse);
@@ -1110,28 +1133,29 @@ class AssignmentServiceImplTest {
 
         assertEquals(acceptedStatus, capturedAssignment.getStatus());
         assertEquals(assignmentResponse, response);
-        verify(authService).getAuthenticatedUser();
-        verify(assignmentStatusRepository).findByName(AssignmentStatusType.ACCEPTED.getDbName());
+        verify(assignmentRepository, never()).findById(any());
+        verify(referenceDataService).findAssignmentStatusByName(AssignmentStatusType.ACCEPTED.getDbName());
         verify(assignmentMapper).toResponse(existingAssignment);
+        verify(assignmentStatusHistoryService).recordStatusChange(existingAssignment);
     }
 
     @Test
-    @DisplayName("Should throw AssignmentNotFoundException when assignment not found")
-    void updateAssignmentStatus_WithInvalidId_ShouldThrowAssignmentNotFoundException() {
+    @DisplayName("Should deny access when the assignment is missing or belongs to another user")
+    void updateAssignmentStatus_WhenNotOwnedByCurrentUser_ShouldThrowAccessDeniedException() {
         UUID assignmentId = UUID.randomUUID();
         UpdateAssignmentStatusRequest statusRequest = new UpdateAssignmentStatusRequest();
         statusRequest.setStatus(AssignmentStatusType.ACCEPTED.name());
 
-        when(assignmentRepository.findById(assignmentId)).thenReturn(Optional.empty());
+        when(authService.getAuthenticatedPrincipal()).thenReturn(principalOf(user));
+        when(assignmentRepository.findByIdAndUser_Id(assignmentId, user.getId())).thenReturn(Optional.empty());
 
-        AssignmentNotFoundException exception = assertThrows(
-                AssignmentNotFoundException.class,
+        AccessDeniedException exception = assertThrows(
+                AccessDeniedException.class,
                 () -> assignmentService.updateAssignmentStatus(assignmentId, statusRequest)
         );
 
-        assertEquals(ErrorCode.ASSIGNMENT_NOT_FOUND.getMessage(), exception.getMessage());
-        verify(assignmentRepository).findById(assignmentId);
-        verifyNoInteractions(authService, assignmentStatusRepository, assignmentMapper);
+        assertEquals(ErrorCode.ACCESS_DENIED.getMessage(), exception.getMessage());
+        verifyNoInteractions(referenceDataService, assignmentMapper, assetService);
     }
 
     @Test
@@ -1154,7 +1178,8 @@ class AssignmentServiceImplTest {
                 .note("Sample note")
                 .build();
 
-        when(assignmentRepository.findById(assignmentId)).thenReturn(Optional.of(existingAssignment));
+        when(authService.getAuthenticatedPrincipal()).thenReturn(principalOf(user));
+        when(assignmentRepository.findByIdAndUser_Id(assignmentId, user.getId())).thenReturn(Optional.of(existingAssignment));
 
         AssignmentNotUpdatableException exception = assertThrows(
                 AssignmentNotUpdatableException.class,
@@ -1162,8 +1187,8 @@ class AssignmentServiceImplTest {
         );
 
         assertEquals(ErrorCode.ASSIGNMENT_NOT_UPDATABLE.getMessage(), exception.getMessage());
-        verify(assignmentRepository).findById(assignmentId);
-        verifyNoInteractions(assignmentStatusRepository, assignmentMapper, authService);
+        verify(assignmentRepository).findByIdAndUser_Id(assignmentId, user.getId());
+        verifyNoInteractions(referenceDataService, assignmentMapper);
     }
 
     @Test
@@ -1181,8 +1206,9 @@ class AssignmentServiceImplTest {
                 .note("Sample note")
                 .build();
 
-        when(assignmentRepository.findById(assignmentId)).thenReturn(Optional.of(existingAssignment));
-        when(assignmentStatusRepository.findByName(AssignmentStatusType.ACCEPTED.getDbName()))
+        when(authService.getAuthenticatedPrincipal()).thenReturn(principalOf(user));
+        when(assignmentRepository.findByIdAndUser_Id(assignmentId, user.getId())).thenReturn(Optional.of(existingAssignment));
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.ACCEPTED.getDbName()))
                 .thenReturn(Optional.empty());
 
         AssignmentStatusNotFoundException exception = assertThrows(
@@ -1191,11 +1217,135 @@ class AssignmentServiceImplTest {
         );
 
         assertEquals(ErrorCode.ASSIGNMENT_STATUS_NOT_FOUND.getMessage(), exception.getMessage());
-        verify(assignmentRepository).findById(assignmentId);
-        verify(assignmentStatusRepository).findByName(AssignmentStatusType.ACCEPTED.getDbName());
+        verify(assignmentRepository).findByIdAndUser_Id(assignmentId, user.getId());
+        verify(referenceDataService).findAssignmentStatusByName(AssignmentStatusType.ACCEPTED.getDbName());
         verifyNoInteractions(assignmentMapper);
     }
 
+    @Test
+    @DisplayName("Should release the asset when the assignment is declined")
+    void updateAssignmentStatus_WhenDeclined_ShouldReleaseAsset() {
+        UUID assignmentId = UUID.randomUUID();
+        UpdateAssignmentStatusRequest statusRequest = new UpdateAssignmentStatusRequest();
+        statusRequest.setStatus(AssignmentStatusType.DECLINED.name());
+
+        Assignment existingAssignment = Assignment.builder()
+                .id(assignmentId)
+                .user(user)
+                .asset(asset)
+                .status(waitingForAcceptanceStatus)
+                .build();
+        AssignmentStatus declinedStatus = AssignmentStatus.builder()
+                .id(3)
+                .name(AssignmentStatusType.DECLINED.getDbName())
+                .build();
+
+        when(authService.getAuthenticatedPrincipal()).thenReturn(principalOf(user));
+        when(assignmentRepository.findByIdAndUser_Id(assignmentId, user.getId())).thenReturn(Optional.of(existingAssignment));
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.DECLINED.getDbName()))
+                .thenReturn(Optional.of(declinedStatus));
+        when(assignmentRepository.save(existingAssignment)).thenReturn(existingAssignment);
+
+        assignmentService.updateAssignmentStatus(assignmentId, statusRequest);
+
+        assertEquals(declinedStatus, existingAssignment.getStatus());
+        verify(assetService).releaseAsset(asset.getId());
+    }
+
+    @Test
+    @DisplayName("Should accept the status in any letter case, as the request validator does")
+    void updateAssignmentStatus_WithLowerCaseStatus_ShouldUpdateSuccessfully() {
+        UUID assignmentId = UUID.randomUUID();
+        UpdateAssignmentStatusRequest statusRequest = new UpdateAssignmentStatusRequest();
+        statusRequest.setStatus("accepted");
+
+        Assignment existingAssignment = Assignment.builder()
+                .id(assignmentId)
+                .user(user)
+                .asset(asset)
+                .status(waitingForAcceptanceStatus)
+                .build();
+        AssignmentStatus acceptedStatus = AssignmentStatus.builder()
+                .id(2)
+                .name(AssignmentStatusType.ACCEPTED.getDbName())
+                .build();
+
+        when(authService.getAuthenticatedPrincipal()).thenReturn(principalOf(user));
+        when(assignmentRepository.findByIdAndUser_Id(assignmentId, user.getId())).thenReturn(Optional.of(existingAssignment));
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.ACCEPTED.getDbName()))
+                .thenReturn(Optional.of(acceptedStatus));
+        when(assignmentRepository.save(existingAssignment)).thenReturn(existingAssignment);
+
+        assignmentService.updateAssignmentStatus(assignmentId, statusRequest);
+
+        assertEquals(acceptedStatus, existingAssignment.getStatus());
+        verify(assetService, never()).releaseAsset(any());
+    }
+
+    @Test
+    @DisplayName("Should apply owned waiting assignments in one batch and report the rest per item")
+    void updateAssignmentStatuses_ShouldUpdateOwnedWaitingAssignmentsAndReportOthers() {
+        AssignmentStatus acceptedStatus = AssignmentStatus.builder()
+                .id(2)
+                .name(AssignmentStatusType.ACCEPTED.getDbName())
+                .build();
+        AssignmentStatus declinedStatus = AssignmentStatus.builder()
+                .id(3)
+                .name(AssignmentStatusType.DECLINED.getDbName())
+                .build();
+        Asset declinedAsset = Asset.builder().id(UUID.randomUUID()).build();
+
+        Assignment toAccept = Assignment.builder().id(UUID.randomUUID()).user(user).asset(asset)
+                .status(waitingForAcceptanceStatus).build();
+        Assignment toDecline = Assignment.builder().id(UUID.randomUUID()).user(user).asset(declinedAsset)
+                .status(waitingForAcceptanceStatus).build();
+        Assignment alreadyAccepted = Assignment.builder().id(UUID.randomUUID()).user(user)
+                .asset(Asset.builder().id(UUID.randomUUID()).build()).status(acceptedStatus).build();
+        UUID notOwnedId = UUID.randomUUID();
+
+        List<AssignmentStatusUpdateItem> items = List.of(
+                statusItem(toAccept.getId(), "accepted"),
+                statusItem(toDecline.getId(), "DECLINED"),
+                statusItem(notOwnedId, "ACCEPTED"),
+                statusItem(alreadyAccepted.getId(), "DECLINED"),
+                statusItem(toAccept.getId(), "WAITING_FOR_ACCEPTANCE"));
+        List<UUID> ids = List.of(toAccept.getId(), toDecline.getId(), notOwnedId, alreadyAccepted.getId());
+
+        when(authService.getAuthenticatedPrincipal()).thenReturn(principalOf(user));
+        when(assignmentRepository.findAllOwnedByIdForUpdate(ids, user.getId()))
+                .thenReturn(List.of(toAccept, toDecline, alreadyAccepted));
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.ACCEPTED.getDbName()))
+                .thenReturn(Optional.of(acceptedStatus));
+        when(referenceDataService.findAssignmentStatusByName(AssignmentStatusType.DECLINED.getDbName()))
+                .thenReturn(Optional.of(declinedStatus));
+        when(assignmentRepository.saveAll(List.of(toAccept, toDecline))).thenReturn(List.of(toAccept, toDecline));
+        when(assignmentMapper.toResponse(any(Assignment.class))).thenReturn(assignmentResponse);
+
+        BulkAssignmentResponse response = assignmentService.updateAssignmentStatuses(items);
+
+        assertEquals(2, response.getSucceeded());
+        assertEquals(3, response.getFailed());
+        List<BulkAssignmentItemResult> results = response.getResults();
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals(ErrorCode.ACCESS_DENIED.getMessage(), results.get(2).getError());
+        assertEquals(ErrorCode.ASSIGNMENT_NOT_UPDATABLE.getMessage(), results.get(3).getError());
+        assertEquals(ErrorCode.ASSIGNMENT_STATUS_TRANSITION_INVALID.getMessage(), results.get(4).getError());
+        assertEquals(acceptedStatus, toAccept.getStatus());
+        assertEquals(declinedStatus, toDecline.getStatus());
+        verify(assignmentRepository, never()).findById(any());
+        verify(assetService, never()).getAssetsByIds(any());
+        verify(assetService).releaseAssets(List.of(declinedAsset.getId()));
+        verify(assignmentStatusHistoryService).recordStatusChanges(List.of(toAccept, toDecline));
+    }
+
+    private AssignmentStatusUpdateItem statusItem(UUID id, String status) {
+        AssignmentStatusUpdateItem item = new AssignmentStatusUpdateItem();
+        item.setId(id);
+        item.setStatus(status);
+        return item;
+    }
+
     @Test
     @DisplayName("Should delete assignment successfully when assignment is waiting for acceptance")
     void shouldDeleteAssignmentSuccessfully() {
@@ -1217,7 +1367,8 @@ class AssignmentServiceImplTest {
         assertDoesNotThrow(() -> assignmentService.deleteAssignment(assignmentId));
 
         verify(assignmentRepository).getAssignmentByIdForDelete(assignmentId);
-        verify(assetService).updateAssetState(asset, AssetState.AVAILABLE);
+        verify(assetService).releaseAsset(asset.getId());
+        verify(assignmentStatusHistoryService).deleteStatusHistory(assignmentId);
         verify(assignmentRepository).delete(assignment);
         verify(authService).getAuthenticatedUser();
     }
@@ -1331,7 +1482,7 @@ class AssignmentServiceImplTest {
         assignmentService.deleteAssignment(assignmentId);
 
         InOrder inOrder = inOrder(assetService, assignmentRepository);
-        inOrder.verify(assetService).updateAssetState(asset, AssetState.AVAILABLE);
+        inOrder.verify(assetService).releaseAsset(asset.getId());
         inOrder.verify(assignmentRepository).delete(assignment);
     }
 
@@ -1392,7 +1543,7 @@ class AssignmentServiceImplTest {
         when(assignmentRepository.getAssignmentByIdForDelete(assignmentId))
                 .thenReturn(Optional.of(assignment));
         doThrow(new RuntimeException("Asset service failure"))
-                .when(assetService).updateAssetState(asset, AssetState.AVAILABLE);
+                .when(assetService).releaseAsset(asset.getId());
 
         RuntimeException exception = assertThrows(
                 RuntimeException.class,
@@ -1401,7 +1552,7 @@ class AssignmentServiceImplTest {
 
         assertEquals("Asset service failure", exception.getMessage());
         verify(assignmentRepository).getAssignmentByIdForDelete(assignmentId);
-        verify(assetService).updateAssetState(asset, AssetState.AVAILABLE);
+        verify(assetService).releaseAsset(asset.getId());
         verify(assignmentRepository, never()).delete((Assignment) any());
         verifyNoInteractions(authService);
     }
@@ -1504,7 +1655,7 @@ class AssignmentServiceImplTest {
                 assignment
         );
 
-        verify(assetService).updateAssetState(asset, AssetState.AVAILABLE);
+        verify(assetService).releaseAsset(asset.getId());
     }
 
     @Test
@@ -1543,4 +1694,10 @@ class AssignmentServiceImplTest {
 
         verify(authService).getAuthenticatedUser();
     }
-}
\ No newline at end of file
+
+    private CustomUserDetails principalOf(User user) {
+        return new CustomUserDetails(UserSnapshot.from(user), () -> {
+            throw new AssertionError("The user entity should not be loaded");
+        });
+    }
+}
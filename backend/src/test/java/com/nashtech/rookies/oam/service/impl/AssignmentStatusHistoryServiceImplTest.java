@@ -0,0 +1,179 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.config.AuditorAwareProvider;
+import com.nashtech.rookies.oam.mapper.AssignmentMapper;
+import com.nashtech.rookies.oam.model.Assignment;
+import com.nashtech.rookies.oam.model.AssignmentStatus;
+import com.nashtech.rookies.oam.model.AssignmentStatusChange;
+import com.nashtech.rookies.oam.repository.AssignmentStatusHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssignmentStatusHistoryServiceImplTest {
+
+    @Mock
+    private AssignmentStatusHistoryRepository assignmentStatusHistoryRepository;
+
+    @Mock
+    private AssignmentMapper assignmentMapper;
+
+    @Mock
+    private AuditorAwareProvider auditorAwareProvider;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-06-01T10:00:00Z"), ZoneId.of("UTC"));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AssignmentStatusHistoryServiceImpl service;
+    private Assignment assignment;
+
+    @BeforeEach
+    void setUp() {
+        service = new AssignmentStatusHistoryServiceImpl(assignmentStatusHistoryRepository, assignmentMapper,
+                auditorAwareProvider, transactionManager, clock, meterRegistry);
+        ReflectionTestUtils.setField(service, "BUFFER_SIZE", 16);
+        ReflectionTestUtils.setField(service, "BATCH_SIZE", 8);
+        ReflectionTestUtils.setField(service, "HIGH_WATER", 0.8);
+        ReflectionTestUtils.setField(service, "RECOVERY_GRACE_MS", 60_000L);
+        service.init();
+
+        assignment = Assignment.builder()
+                .id(UUID.randomUUID())
+                .status(AssignmentStatus.builder().id(2).name("Accepted").build())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void recordStatusChange_OutsideTransaction_ShouldBatchInsertInBackground() {
+        when(auditorAwareProvider.getCurrentAuditor()).thenReturn(Optional.of("admin"));
+
+        service.recordStatusChange(assignment);
+
+        AssignmentStatusChange change = captureInsertedChange();
+        assertEquals(assignment.getId(), change.assignmentId());
+        assertEquals(2, change.statusId());
+        assertEquals(LocalDateTime.now(clock), change.changedAt());
+        assertEquals("admin", change.changedBy());
+    }
+
+    @Test
+    void recordStatusChange_InTransaction_ShouldWaitForCommit() {
+        when(auditorAwareProvider.getCurrentAuditor()).thenReturn(Optional.of("admin"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.recordStatusChange(assignment);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        verify(assignmentStatusHistoryRepository, after(100).never()).insertAll(anyList());
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(assignment.getId(), captureInsertedChange().assignmentId());
+    }
+
+    @Test
+    void recordStatusChange_AboveHighWater_ShouldInsertInCallerTransaction() {
+        ReflectionTestUtils.setField(service, "HIGH_WATER", 0.0);
+        when(auditorAwareProvider.getCurrentAuditor()).thenReturn(Optional.empty());
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.recordStatusChange(assignment);
+
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        AssignmentStatusChange change = captureInsertedChange();
+        assertEquals(assignment.getId(), change.assignmentId());
+        assertNull(change.changedBy());
+        verifyNoInteractions(transactionManager);
+        InOrder inOrder = inOrder(assignmentStatusHistoryRepository);
+        inOrder.verify(assignmentStatusHistoryRepository).flush();
+        inOrder.verify(assignmentStatusHistoryRepository).insertAll(anyList());
+    }
+
+    @Test
+    void recordStatusChange_ForDeletedAssignment_ShouldDropRow() {
+        when(auditorAwareProvider.getCurrentAuditor()).thenReturn(Optional.empty());
+        doThrow(new DataIntegrityViolationException("fk_assignment_status_histories_on_assignment"))
+                .when(assignmentStatusHistoryRepository).insertAll(anyList());
+
+        service.recordStatusChange(assignment);
+        captureInsertedChange();
+        service.shutdown();
+
+        assertEquals(1.0, meterRegistry.counter("assignment.status_history.dropped").count());
+        assertEquals(0.0, meterRegistry.counter("assignment.status_history.failed").count());
+    }
+
+    @Test
+    void deleteStatusHistory_ShouldDeleteRowsOfAssignment() {
+        service.deleteStatusHistory(assignment.getId());
+
+        verify(assignmentStatusHistoryRepository).deleteByAssignmentId(assignment.getId());
+    }
+
+    @Test
+    void recordStatusChanges_ByIds_ShouldRecordTheGivenStatus() {
+        when(auditorAwareProvider.getCurrentAuditor()).thenReturn(Optional.of("admin"));
+        UUID assignmentId = UUID.randomUUID();
+
+        service.recordStatusChanges(List.of(assignmentId), 4);
+
+        AssignmentStatusChange change = captureInsertedChange();
+        assertEquals(assignmentId, change.assignmentId());
+        assertEquals(4, change.statusId());
+        assertEquals("admin", change.changedBy());
+    }
+
+    @Test
+    void recoverMissingStatuses_ShouldOnlyConsiderSettledAssignments() {
+        when(assignmentStatusHistoryRepository.insertMissingLatestStatuses(LocalDateTime.now(clock).minusMinutes(1)))
+                .thenReturn(3);
+
+        assertEquals(3, service.recoverMissingStatuses());
+    }
+
+    @SuppressWarnings("unchecked")
+    private AssignmentStatusChange captureInsertedChange() {
+        ArgumentCaptor<List<AssignmentStatusChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(assignmentStatusHistoryRepository, timeout(2000)).insertAll(captor.capture());
+        return captor.getValue().getFirst();
+    }
+}
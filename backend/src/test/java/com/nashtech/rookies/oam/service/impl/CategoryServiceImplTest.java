@@ -7,7 +7,9 @@ import com.nashtech.rookies.oam.exception.CategoryNameAlreadyExistsException;
 import com.nashtech.rookies.oam.exception.CategoryPrefixAlreadyExistsException;
 import com.nashtech.rookies.oam.mapper.CategoryMapper;
 import com.nashtech.rookies.oam.model.Category;
+import com.nashtech.rookies.oam.model.ReferenceDataSet;
 import com.nashtech.rookies.oam.repository.CategoryRepository;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +33,9 @@ class CategoryServiceImplTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private ReferenceDataService referenceDataService;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -70,6 +75,7 @@ class CategoryServiceImplTest {
         verify(categoryRepository).save(category);
         verify(categoryMapper).toEntity(categoryRequest);
         verify(categoryMapper).toResponse(category);
+        verify(referenceDataService).refreshAfterCommit();
         assertEquals(categoryResponse, result);
     }
 
@@ -97,6 +103,7 @@ class CategoryServiceImplTest {
         verify(categoryRepository).existsByName("Electronics");
         verify(categoryRepository).existsByPrefix("EL");
         verify(categoryRepository, never()).save(any(Category.class));
+        verifyNoInteractions(referenceDataService);
     }
 
     @Test
@@ -121,16 +128,17 @@ class CategoryServiceImplTest {
         response2.setPrefix("BK");
         List<CategoryResponse> expectedResponses = Arrays.asList(response1, response2);
 
-        when(categoryRepository.findAll()).thenReturn(categories);
+        when(referenceDataService.getCategories()).thenReturn(new ReferenceDataSet<>(categories, "etag"));
         when(categoryMapper.toResponses(categories)).thenReturn(expectedResponses);
 
-        List<CategoryResponse> result = categoryService.getAllCategories();
+        ReferenceDataSet<CategoryResponse> result = categoryService.getAllCategories();
 
-        assertFalse(result.isEmpty());
-        assertEquals(2, result.size());
-        assertEquals(expectedResponses, result);
-        verify(categoryRepository).findAll();
+        assertFalse(result.items().isEmpty());
+        assertEquals(2, result.items().size());
+        assertEquals(expectedResponses, result.items());
+        assertEquals("etag", result.eTag());
         verify(categoryMapper).toResponses(categories);
+        verifyNoInteractions(categoryRepository);
     }
 
     @Test
@@ -138,15 +146,14 @@ class CategoryServiceImplTest {
         List<Category> categories = Arrays.asList(category);
         List<CategoryResponse> expectedResponses = Arrays.asList(categoryResponse);
 
-        when(categoryRepository.findAll()).thenReturn(categories);
+        when(referenceDataService.getCategories()).thenReturn(new ReferenceDataSet<>(categories, "etag"));
         when(categoryMapper.toResponses(categories)).thenReturn(expectedResponses);
 
-        List<CategoryResponse> result = categoryService.getAllCategories();
+        ReferenceDataSet<CategoryResponse> result = categoryService.getAllCategories();
 
-        assertFalse(result.isEmpty());
-        assertEquals(expectedResponses.size(), result.size());
-        assertEquals(expectedResponses, result);
-        verify(categoryRepository).findAll();
+        assertFalse(result.items().isEmpty());
+        assertEquals(expectedResponses.size(), result.items().size());
+        assertEquals(expectedResponses, result.items());
         verify(categoryMapper).toResponses(categories);
     }
 }
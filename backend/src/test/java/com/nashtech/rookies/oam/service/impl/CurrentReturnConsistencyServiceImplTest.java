@@ -0,0 +1,75 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.model.Assignment;
+import com.nashtech.rookies.oam.repository.AssetReturnRepository;
+import com.nashtech.rookies.oam.service.ListCountService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentReturnConsistencyServiceImplTest {
+
+    @Mock
+    private AssetReturnRepository assetReturnRepository;
+
+    @Mock
+    private ListCountService listCountService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CurrentReturnConsistencyServiceImpl consistencyService;
+
+    @BeforeEach
+    void setUp() {
+        consistencyService = new CurrentReturnConsistencyServiceImpl(assetReturnRepository, listCountService, meterRegistry);
+        ReflectionTestUtils.setField(consistencyService, "REPAIR", true);
+        ReflectionTestUtils.setField(consistencyService, "BATCH_SIZE", 2);
+        consistencyService.init();
+    }
+
+    @Test
+    void reconcile_DoesNothingWhenConsistent() {
+        when(assetReturnRepository.findAssignmentIdsWithStaleCurrentReturn()).thenReturn(List.of());
+
+        assertEquals(0, consistencyService.reconcile());
+
+        verify(assetReturnRepository, never()).refreshCurrentReturn(any());
+        verifyNoInteractions(listCountService);
+    }
+
+    @Test
+    void reconcile_RepairsDriftInBatches() {
+        List<UUID> staleIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(assetReturnRepository.findAssignmentIdsWithStaleCurrentReturn()).thenReturn(staleIds);
+        when(assetReturnRepository.refreshCurrentReturn(any())).thenAnswer(i -> i.<List<?>>getArgument(0).size());
+
+        assertEquals(3, consistencyService.reconcile());
+
+        verify(assetReturnRepository).refreshCurrentReturn(staleIds.subList(0, 2));
+        verify(assetReturnRepository).refreshCurrentReturn(staleIds.subList(2, 3));
+        verify(listCountService).invalidate(Assignment.class);
+        assertEquals(3, meterRegistry.counter("assignment.current_return.drift").count());
+    }
+
+    @Test
+    void reconcile_OnlyReportsWhenRepairDisabled() {
+        ReflectionTestUtils.setField(consistencyService, "REPAIR", false);
+        when(assetReturnRepository.findAssignmentIdsWithStaleCurrentReturn()).thenReturn(List.of(UUID.randomUUID()));
+
+        assertEquals(1, consistencyService.reconcile());
+
+        verify(assetReturnRepository, never()).refreshCurrentReturn(any());
+    }
+}
@@ -10,10 +10,11 @@ import com.nashtech.rookies.oam.model.User;
 import com.nashtech.rookies.oam.model.enums.RoleName;
 import com.nashtech.rookies.oam.model.enums.UserStatus;
 import com.nashtech.rookies.oam.repository.AssignmentRepository;
-import com.nashtech.rookies.oam.repository.LocationRepository;
-import com.nashtech.rookies.oam.repository.RoleRepository;
 import com.nashtech.rookies.oam.repository.UserRepository;
+import com.nashtech.rookies.oam.repository.UsernameSequenceRepository;
 import com.nashtech.rookies.oam.service.AuthService;
+import com.nashtech.rookies.oam.service.ListCountService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
 import com.nashtech.rookies.oam.service.StaffCodeGeneratorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,30 +38,32 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class EditUserServiceImplTest {
     @Mock
-    private RoleRepository roleRepository;
+    private ReferenceDataService referenceDataService;
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UsernameSequenceRepository usernameSequenceRepository;
+    @Mock
     private AuthService authService;
     @Mock
     private UserMapper userMapper;
     @InjectMocks
     private UserServiceImpl userServiceImpl;
     @Mock
-    private LocationRepository locationRepository;
-    @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
     private StaffCodeGeneratorService staffCodeGeneratorService;
     @Mock
     private AssignmentRepository assignmentRepository;
+    @Mock
+    private ListCountService listCountService;
     @BeforeEach
     void setUp() {
-        roleRepository = mock(RoleRepository.class);
+        referenceDataService = mock(ReferenceDataService.class);
         userRepository = mock(UserRepository.class);
         authService = mock(AuthService.class);
         userMapper = mock(UserMapper.class);
-        userServiceImpl = new UserServiceImpl(userRepository, roleRepository, locationRepository, authService, passwordEncoder,staffCodeGeneratorService, userMapper, assignmentRepository);
+        userServiceImpl = new UserServiceImpl(userRepository, usernameSequenceRepository, referenceDataService, authService, passwordEncoder,staffCodeGeneratorService, userMapper, assignmentRepository, listCountService);
     }
 
     @Test
@@ -97,7 +100,7 @@ public class EditUserServiceImplTest {
 
         when(authService.getAuthenticatedUser()).thenReturn(authenticatedUser);
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
-        when(roleRepository.findByName("STAFF")).thenReturn(Optional.of(staffRole));
+        when(referenceDataService.findRoleByName("STAFF")).thenReturn(Optional.of(staffRole));
         when(userRepository.save(updatedUserEntity)).thenReturn(savedUser);
         when(userMapper.toResponseDto(savedUser)).thenReturn(responseDto);
 
@@ -112,7 +115,7 @@ public class EditUserServiceImplTest {
 
         verify(authService).getAuthenticatedUser();
         verify(userRepository).findById(userId);
-        verify(roleRepository).findByName("STAFF");
+        verify(referenceDataService).findRoleByName("STAFF");
         verify(userRepository).save(updatedUserEntity);
         verify(userMapper).toResponseDto(savedUser);
     }
@@ -146,7 +149,7 @@ public class EditUserServiceImplTest {
 
         when(authService.getAuthenticatedUser()).thenReturn(new User());
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
-        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.empty());
+        when(referenceDataService.findRoleByName("ADMIN")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> userServiceImpl.updateUser(request, userId))
                 .isInstanceOf(RoleNotFoundException.class)
@@ -2,10 +2,19 @@ package com.nashtech.rookies.oam.service.impl;
 
 import com.nashtech.rookies.oam.exception.RefreshTokenMissingException;
 import com.nashtech.rookies.oam.exception.TokenExpiredException;
+import com.nashtech.rookies.oam.exception.TokenRevokedException;
 import com.nashtech.rookies.oam.model.CustomUserDetails;
+import com.nashtech.rookies.oam.model.RefreshedTokens;
 import com.nashtech.rookies.oam.model.Role;
 import com.nashtech.rookies.oam.model.User;
+import com.nashtech.rookies.oam.model.UserSnapshot;
+import com.nashtech.rookies.oam.model.VerifiedToken;
+import com.nashtech.rookies.oam.service.RefreshTokenRevocationService;
+import com.nashtech.rookies.oam.service.UserSnapshotService;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
 import io.jsonwebtoken.io.Encoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.Cookie;
@@ -21,17 +30,25 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class JwtServiceImplTest {
 
     @Mock
-    private CustomUserDetailsServiceImpl userDetailsService;
+    private UserSnapshotService userSnapshotService;
+
+    @Mock
+    private RefreshTokenRevocationService refreshTokenRevocationService;
 
     @Mock
     private HttpServletRequest request;
@@ -54,6 +71,9 @@ class JwtServiceImplTest {
         ReflectionTestUtils.setField(jwtService, "SECRET_KEY", base64Key);
         ReflectionTestUtils.setField(jwtService, "ACCESS_TOKEN_EXPIRATION_MS", 1000 * 60 * 15);
         ReflectionTestUtils.setField(jwtService, "REFRESH_TOKEN_EXPIRATION_MS", 1000 * 60 * 60 * 24);
+        ReflectionTestUtils.setField(jwtService, "VERIFIED_TOKEN_CACHE_MAX_SIZE", 100);
+        ReflectionTestUtils.setField(jwtService, "VERIFIED_TOKEN_CACHE_TTL_MS", 1000 * 60);
+        jwtService.init();
 
         Role role = new Role();
         role.setName("ADMIN");
@@ -85,17 +105,206 @@ class JwtServiceImplTest {
     }
 
     @Test
-    void testGenerateAccessTokenFromCookie_Valid() throws TokenExpiredException {
+    void testVerifyAccessToken_ReturnsClaimsSnapshot() {
+        String token = jwtService.generateAccessToken(userDetails);
+
+        VerifiedToken verified = jwtService.verifyAccessToken(token);
+
+        assertEquals(userDetails.getUsername(), verified.subject());
+        assertEquals(userDetails.getUser().getId(), verified.userId());
+        assertEquals(List.of("ADMIN"), verified.roles());
+        assertNotNull(verified.jti());
+        assertNotNull(verified.expiresAt());
+    }
+
+    @Test
+    void testVerifyAccessToken_ReusesCachedSnapshot() {
+        String token = jwtService.generateAccessToken(userDetails);
+
+        VerifiedToken first = jwtService.verifyAccessToken(token);
+        VerifiedToken second = jwtService.verifyAccessToken(token);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void testVerifyAccessToken_WithTamperedSignature() {
+        String token = jwtService.generateAccessToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(SignatureException.class, () -> jwtService.verifyAccessToken(tampered));
+    }
+
+    @Test
+    void testVerifyAccessToken_WithRefreshToken_ShouldReject() {
         String refreshToken = jwtService.generateRefreshToken(userDetails);
 
+        assertThrows(UnsupportedJwtException.class, () -> jwtService.verifyAccessToken(refreshToken));
+        assertThrows(UnsupportedJwtException.class, () -> jwtService.verifyAccessToken(refreshToken));
+    }
+
+    @Test
+    void testVerifyAccessToken_WithLegacyAccessTokenWithoutType_ShouldAccept() {
+        String legacyToken = Jwts.builder()
+                .subject(userDetails.getUsername())
+                .claim("role", List.of("ADMIN"))
+                .claim("userId", userDetails.getUser().getId())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+
+        VerifiedToken verified = jwtService.verifyAccessToken(legacyToken);
+
+        assertEquals(userDetails.getUsername(), verified.subject());
+        assertEquals(List.of("ADMIN"), verified.roles());
+    }
+
+    @Test
+    void testVerifyAccessToken_WithLegacyRefreshTokenWithoutType_ShouldReject() {
+        String legacyToken = Jwts.builder()
+                .subject(userDetails.getUsername())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+
+        assertThrows(UnsupportedJwtException.class, () -> jwtService.verifyAccessToken(legacyToken));
+    }
+
+    @Test
+    void testVerifyAccessToken_WithExpiredToken() {
+        String expiredToken = Jwts.builder()
+                .subject(userDetails.getUsername())
+                .expiration(new Date(System.currentTimeMillis() - 1000))
+                .issuedAt(new Date(System.currentTimeMillis() - 2000))
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verifyAccessToken(expiredToken));
+    }
+
+    @Test
+    void testRefreshTokensFromCookie_Valid() throws TokenExpiredException {
+        String refreshToken = jwtService.generateRefreshToken(userDetails);
+        String jti = jwtService.extractAllClaims(refreshToken).getId();
+
         Cookie cookie = new Cookie("refresh-token", refreshToken);
         when(request.getCookies()).thenReturn(new Cookie[]{cookie});
-        when(userDetailsService.loadUserByUsername(userDetails.getUsername())).thenReturn(userDetails);
+        when(refreshTokenRevocationService.isRevoked(jti)).thenReturn(false);
+        when(refreshTokenRevocationService.revoke(eq(jti), any())).thenReturn(true);
+        when(userSnapshotService.findByUsername(userDetails.getUsername()))
+                .thenReturn(Optional.of(UserSnapshot.from(userDetails.getUser())));
+
+        RefreshedTokens tokens = jwtService.refreshTokensFromCookie(request);
 
-        String newAccessToken = jwtService.generateAccessTokenFromCookie(request);
+        assertNotNull(tokens.accessToken());
+        assertEquals(userDetails.getUsername(), jwtService.extractUsername(tokens.accessToken()));
+        assertNotEquals(refreshToken, tokens.refreshTokenCookie().getValue());
+        verify(refreshTokenRevocationService).revoke(eq(jti), any());
+    }
+
+    @Test
+    void testRefreshTokensFromCookie_WithAccessToken_ShouldReject() {
+        String accessToken = jwtService.generateAccessToken(userDetails);
+
+        Cookie cookie = new Cookie("refresh-token", accessToken);
+        when(request.getCookies()).thenReturn(new Cookie[]{cookie});
+
+        assertThrows(TokenRevokedException.class, () -> jwtService.refreshTokensFromCookie(request));
+        verifyNoInteractions(refreshTokenRevocationService, userSnapshotService);
+    }
+
+    @Test
+    void testRefreshTokensFromCookie_WithoutJti_ShouldReject() {
+        String legacyToken = Jwts.builder()
+                .subject(userDetails.getUsername())
+                .claim("typ", "refresh")
+                .expiration(new Date(System.currentTimeMillis() + 60 * 1000))
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+
+        Cookie cookie = new Cookie("refresh-token", legacyToken);
+        when(request.getCookies()).thenReturn(new Cookie[]{cookie});
+
+        assertThrows(TokenRevokedException.class, () -> jwtService.refreshTokensFromCookie(request));
+        verifyNoInteractions(refreshTokenRevocationService, userSnapshotService);
+    }
+
+    @Test
+    void testRefreshTokensFromCookie_WithLegacyCookieAlongside_ShouldRotateCurrentToken() {
+        String legacyToken = Jwts.builder()
+                .subject(userDetails.getUsername())
+                .expiration(new Date(System.currentTimeMillis() + 60 * 1000))
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+        String refreshToken = jwtService.generateRefreshToken(userDetails);
+        String jti = jwtService.extractAllClaims(refreshToken).getId();
+
+        when(request.getCookies()).thenReturn(new Cookie[]{
+                new Cookie("refresh-token", legacyToken), new Cookie("refresh-token", refreshToken)});
+        when(refreshTokenRevocationService.isRevoked(jti)).thenReturn(false);
+        when(refreshTokenRevocationService.revoke(eq(jti), any())).thenReturn(true);
+        when(userSnapshotService.findByUsername(userDetails.getUsername()))
+                .thenReturn(Optional.of(UserSnapshot.from(userDetails.getUser())));
+
+        assertNotNull(jwtService.refreshTokensFromCookie(request).accessToken());
+        verify(refreshTokenRevocationService).revoke(eq(jti), any());
+    }
+
+    @Test
+    void testRevokeLegacyRefreshTokenCookie_ShouldExpireOldPath() {
+        var cookie = jwtService.revokeLegacyRefreshTokenCookie();
+
+        assertEquals("/api/v1/auth/token/refresh", cookie.getPath());
+        assertEquals(0, cookie.getMaxAge().getSeconds());
+    }
+
+    @Test
+    void testRefreshTokensFromCookie_Revoked() {
+        String refreshToken = jwtService.generateRefreshToken(userDetails);
+
+        Cookie cookie = new Cookie("refresh-token", refreshToken);
+        when(request.getCookies()).thenReturn(new Cookie[]{cookie});
+        when(refreshTokenRevocationService.isRevoked(anyString())).thenReturn(true);
+
+        assertThrows(TokenRevokedException.class, () -> jwtService.refreshTokensFromCookie(request));
+        verify(refreshTokenRevocationService, never()).revoke(anyString(), any());
+        verifyNoInteractions(userSnapshotService);
+    }
+
+    @Test
+    void testRefreshTokensFromCookie_ConcurrentReuse() {
+        String refreshToken = jwtService.generateRefreshToken(userDetails);
+
+        Cookie cookie = new Cookie("refresh-token", refreshToken);
+        when(request.getCookies()).thenReturn(new Cookie[]{cookie});
+        when(refreshTokenRevocationService.isRevoked(anyString())).thenReturn(false);
+        when(refreshTokenRevocationService.revoke(anyString(), any())).thenReturn(false);
+
+        assertThrows(TokenRevokedException.class, () -> jwtService.refreshTokensFromCookie(request));
+    }
+
+    @Test
+    void testRevokeRefreshTokenFromCookie() {
+        String refreshToken = jwtService.generateRefreshToken(userDetails);
+        String jti = jwtService.extractAllClaims(refreshToken).getId();
+
+        Cookie cookie = new Cookie("refresh-token", refreshToken);
+        when(request.getCookies()).thenReturn(new Cookie[]{cookie});
+
+        jwtService.revokeRefreshTokenFromCookie(request);
+
+        verify(refreshTokenRevocationService).revoke(eq(jti), any());
+    }
+
+    @Test
+    void testRevokeRefreshTokenFromCookie_MissingCookie() {
+        when(request.getCookies()).thenReturn(null);
 
-        assertNotNull(newAccessToken);
-        assertEquals(userDetails.getUsername(), jwtService.extractUsername(newAccessToken));
+        assertDoesNotThrow(() -> jwtService.revokeRefreshTokenFromCookie(request));
+        verifyNoInteractions(refreshTokenRevocationService);
     }
 
     @Test
@@ -123,7 +332,7 @@ class JwtServiceImplTest {
     }
 
     @Test
-    void testGenerateAccessTokenFromCookie_Expired() {
+    void testRefreshTokensFromCookie_Expired() {
         String expiredToken = Jwts.builder()
                 .subject(userDetails.getUsername())
                 .expiration(new Date(System.currentTimeMillis() - 1000))
@@ -134,39 +343,39 @@ class JwtServiceImplTest {
         Cookie cookie = new Cookie("refresh-token", expiredToken);
         when(request.getCookies()).thenReturn(new Cookie[]{cookie});
 
-        assertThrows(TokenExpiredException.class, () -> jwtService.generateAccessTokenFromCookie(request));
+        assertThrows(TokenExpiredException.class, () -> jwtService.refreshTokensFromCookie(request));
     }
 
     @Test
-    void testGenerateAccessTokenFromCookie_NullCookies() {
+    void testRefreshTokensFromCookie_NullCookies() {
         when(request.getCookies()).thenReturn(null);
 
         assertThrows(RefreshTokenMissingException.class, () ->
-                jwtService.generateAccessTokenFromCookie(request));
+                jwtService.refreshTokensFromCookie(request));
     }
 
     @Test
-    void testGenerateAccessTokenFromCookie_EmptyCookies() {
+    void testRefreshTokensFromCookie_EmptyCookies() {
         when(request.getCookies()).thenReturn(new Cookie[0]);
 
         assertThrows(RefreshTokenMissingException.class, () ->
-                jwtService.generateAccessTokenFromCookie(request));
+                jwtService.refreshTokensFromCookie(request));
     }
     @Test
-    void testGenerateAccessTokenFromCookie_BlankToken() {
+    void testRefreshTokensFromCookie_BlankToken() {
         Cookie cookie = new Cookie("refresh-token", "   "); // blank string
         when(request.getCookies()).thenReturn(new Cookie[]{cookie});
 
         assertThrows(RefreshTokenMissingException.class, () ->
-                jwtService.generateAccessTokenFromCookie(request));
+                jwtService.refreshTokensFromCookie(request));
     }
     @Test
-    void testGenerateAccessTokenFromCookie_WrongCookieName() {
+    void testRefreshTokensFromCookie_WrongCookieName() {
         Cookie cookie = new Cookie("some-other-cookie", "valid.token.here");
         when(request.getCookies()).thenReturn(new Cookie[]{cookie});
 
         assertThrows(RefreshTokenMissingException.class, () ->
-                jwtService.generateAccessTokenFromCookie(request));
+                jwtService.refreshTokensFromCookie(request));
     }
 
 }
@@ -0,0 +1,71 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.model.Asset;
+import com.nashtech.rookies.oam.model.Assignment;
+import com.nashtech.rookies.oam.model.ListCountKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListCountServiceImplTest {
+
+    private ListCountServiceImpl listCountService;
+    private final UUID locationId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        listCountService = new ListCountServiceImpl();
+        ReflectionTestUtils.setField(listCountService, "LIST_COUNT_CACHE_MAX_SIZE", 100L);
+        ReflectionTestUtils.setField(listCountService, "LIST_COUNT_CACHE_TTL_MS", 60_000L);
+        listCountService.init();
+    }
+
+    @Test
+    void count_ReusesTotalForEquivalentFilters() {
+        AtomicInteger queries = new AtomicInteger();
+
+        long first = listCountService.count(Asset.class,
+                ListCountKey.of(locationId, " Laptop ", List.of("B", "A")),
+                () -> { queries.incrementAndGet(); return 42; });
+        long second = listCountService.count(Asset.class,
+                ListCountKey.of(locationId, "laptop", List.of("A", "B")),
+                () -> { queries.incrementAndGet(); return 7; });
+
+        assertEquals(42, first);
+        assertEquals(42, second);
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    void count_RecomputesAfterInvalidate() {
+        ListCountKey key = ListCountKey.of(locationId, "laptop");
+        listCountService.count(Asset.class, key, () -> 42);
+
+        listCountService.invalidate(Asset.class);
+
+        assertEquals(43, listCountService.count(Asset.class, key, () -> 43));
+    }
+
+    @Test
+    void invalidate_LeavesOtherEntityTypesCached() {
+        ListCountKey key = ListCountKey.of(locationId, "laptop");
+        listCountService.count(Assignment.class, key, () -> 5);
+
+        listCountService.invalidate(Asset.class);
+
+        assertEquals(5, listCountService.count(Assignment.class, key, () -> 6));
+    }
+
+    @Test
+    void count_SeparatesLocations() {
+        listCountService.count(Asset.class, ListCountKey.of(locationId, "laptop"), () -> 5);
+
+        assertEquals(9, listCountService.count(Asset.class, ListCountKey.of(UUID.randomUUID(), "laptop"), () -> 9));
+    }
+}
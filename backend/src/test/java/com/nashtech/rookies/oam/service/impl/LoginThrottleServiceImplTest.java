@@ -0,0 +1,69 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.exception.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleServiceImplTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottleServiceImpl loginThrottleService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottleService = new LoginThrottleServiceImpl(meterRegistry);
+        ReflectionTestUtils.setField(loginThrottleService, "ENABLED", true);
+        ReflectionTestUtils.setField(loginThrottleService, "USERNAME_CAPACITY", 3);
+        ReflectionTestUtils.setField(loginThrottleService, "USERNAME_REFILL_PER_MINUTE", 1d);
+        ReflectionTestUtils.setField(loginThrottleService, "IP_CAPACITY", 5);
+        ReflectionTestUtils.setField(loginThrottleService, "IP_REFILL_PER_MINUTE", 1d);
+        ReflectionTestUtils.setField(loginThrottleService, "IDLE_EVICTION_MS", 0);
+        loginThrottleService.init();
+    }
+
+    @Test
+    void acquire_ThrottlesUsernameAfterCapacity() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottleService.acquire("johnd", "10.0.0." + i);
+        }
+
+        TooManyLoginAttemptsException ex = assertThrows(TooManyLoginAttemptsException.class,
+                () -> loginThrottleService.acquire("JohnD ", "10.0.0.9"));
+        assertTrue(ex.getRetryAfterSeconds() >= 1);
+        assertEquals(1, meterRegistry.get("login.throttled").tag("key", "username").counter().count());
+    }
+
+    @Test
+    void acquire_ThrottlesIpAcrossUsernames() {
+        for (int i = 0; i < 5; i++) {
+            loginThrottleService.acquire("user" + i, "10.0.0.1");
+        }
+
+        assertThrows(TooManyLoginAttemptsException.class,
+                () -> loginThrottleService.acquire("another", "10.0.0.1"));
+        assertEquals(1, meterRegistry.get("login.throttled").tag("key", "ip").counter().count());
+    }
+
+    @Test
+    void acquire_DoesNothingWhenDisabled() {
+        ReflectionTestUtils.setField(loginThrottleService, "ENABLED", false);
+
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> loginThrottleService.acquire("johnd", "10.0.0.1"));
+        }
+    }
+
+    @Test
+    void evictIdleBuckets_KeepsBucketsThatAreNotFull() {
+        loginThrottleService.acquire("johnd", "10.0.0.1");
+
+        loginThrottleService.evictIdleBuckets();
+
+        assertEquals(1, meterRegistry.get("login.throttle.buckets").tag("key", "username").gauge().value());
+    }
+}
@@ -0,0 +1,130 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.model.AssignmentStatus;
+import com.nashtech.rookies.oam.model.Category;
+import com.nashtech.rookies.oam.model.Location;
+import com.nashtech.rookies.oam.model.Role;
+import com.nashtech.rookies.oam.repository.AssignmentStatusRepository;
+import com.nashtech.rookies.oam.repository.CategoryRepository;
+import com.nashtech.rookies.oam.repository.LocationRepository;
+import com.nashtech.rookies.oam.repository.RoleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataServiceImplTest {
+
+    @Mock
+    private AssignmentStatusRepository assignmentStatusRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private Clock clock;
+
+    private ReferenceDataServiceImpl service;
+
+    private final AssignmentStatus accepted = AssignmentStatus.builder().id(2).name("Accepted").build();
+    private final Role admin = Role.builder().id(UUID.randomUUID()).name("ADMIN").build();
+    private final Location hcm = Location.builder().id(UUID.randomUUID()).code("HCM").name("Ho Chi Minh").build();
+    private final Category laptop = Category.builder().id(1).name("Laptop").prefix("LA").version(0L).build();
+
+    @BeforeEach
+    void setUp() {
+        service = new ReferenceDataServiceImpl(assignmentStatusRepository, roleRepository, locationRepository,
+                categoryRepository, clock);
+        ReflectionTestUtils.setField(service, "MISS_RELOAD_INTERVAL_MS", 5_000L);
+
+        when(assignmentStatusRepository.findAll()).thenReturn(List.of(accepted));
+        when(roleRepository.findAll()).thenReturn(List.of(admin));
+        when(locationRepository.findAll()).thenReturn(List.of(hcm));
+        when(categoryRepository.findAll()).thenReturn(List.of(laptop));
+        when(clock.millis()).thenReturn(0L);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void lookups_AfterInit_ShouldBeServedFromMemory() {
+        assertEquals(accepted, service.findAssignmentStatusByName("Accepted").orElseThrow());
+        assertEquals(admin, service.findRoleByName("ADMIN").orElseThrow());
+        assertEquals(hcm, service.findLocationByCode("HCM").orElseThrow());
+        assertEquals(laptop, service.findCategoryById(1).orElseThrow());
+        assertEquals(List.of(admin), service.getRoles());
+        assertEquals(List.of(accepted), service.getAssignmentStatuses().items());
+
+        verify(categoryRepository, times(1)).findAll();
+        verify(assignmentStatusRepository, times(1)).findAll();
+    }
+
+    @Test
+    void findAssignmentStatusIds_ShouldDropUnknownNames() {
+        assertEquals(List.of(2), service.findAssignmentStatusIds(List.of("Accepted", "Unknown", "Accepted")));
+    }
+
+    @Test
+    void categoriesETag_ShouldOnlyChangeWithContent() {
+        String initial = service.getCategories().eTag();
+
+        service.refresh();
+        assertEquals(initial, service.getCategories().eTag());
+
+        when(categoryRepository.findAll()).thenReturn(List.of(laptop.toBuilder().name("Laptops").version(1L).build()));
+        service.refresh();
+        assertNotEquals(initial, service.getCategories().eTag());
+    }
+
+    @Test
+    void lookupMiss_ShouldReloadAtMostOncePerInterval() {
+        when(clock.millis()).thenReturn(1_000L);
+        assertTrue(service.findRoleByName("MANAGER").isEmpty());
+        verify(roleRepository, times(1)).findAll();
+
+        Role manager = Role.builder().id(UUID.randomUUID()).name("MANAGER").build();
+        when(roleRepository.findAll()).thenReturn(List.of(admin, manager));
+        when(clock.millis()).thenReturn(6_000L);
+
+        assertEquals(manager, service.findRoleByName("MANAGER").orElseThrow());
+        verify(roleRepository, times(2)).findAll();
+    }
+
+    @Test
+    void refreshAfterCommit_InTransaction_ShouldWaitForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(categoryRepository.findAll()).thenReturn(List.of(laptop, Category.builder().id(2).name("Monitor")
+                .prefix("MO").version(0L).build()));
+
+        service.refreshAfterCommit();
+        assertEquals(1, service.getCategories().items().size());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(2, service.getCategories().items().size());
+    }
+}
@@ -0,0 +1,91 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.repository.RevokedRefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenRevocationServiceImplTest {
+
+    @Mock
+    private RevokedRefreshTokenRepository revokedRefreshTokenRepository;
+
+    @InjectMocks
+    private RefreshTokenRevocationServiceImpl revocationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(revocationService, "EXPECTED_INSERTIONS", 1000);
+        ReflectionTestUtils.setField(revocationService, "FALSE_POSITIVE_RATE", 0.01);
+        when(revokedRefreshTokenRepository.findActiveJtis(any())).thenReturn(List.of("revoked-at-startup"));
+        revocationService.init();
+    }
+
+    @Test
+    void isRevoked_UnknownJtiDoesNotTouchDatabase() {
+        assertFalse(revocationService.isRevoked("fresh-jti"));
+
+        verify(revokedRefreshTokenRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    void isRevoked_ConfirmsFilterHitAgainstDatabase() {
+        when(revokedRefreshTokenRepository.existsById("revoked-at-startup")).thenReturn(true);
+
+        assertTrue(revocationService.isRevoked("revoked-at-startup"));
+    }
+
+    @Test
+    void revoke_IsVisibleWithoutDatabaseLookup() {
+        when(revokedRefreshTokenRepository.insertIfAbsent(eq("jti-1"), any(), any())).thenReturn(1);
+
+        assertTrue(revocationService.revoke("jti-1", Instant.now().plusSeconds(60)));
+        assertTrue(revocationService.isRevoked("jti-1"));
+
+        verify(revokedRefreshTokenRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    void revoke_ReturnsFalseWhenAlreadyRevoked() {
+        when(revokedRefreshTokenRepository.insertIfAbsent(eq("jti-1"), any(), any())).thenReturn(0);
+
+        assertFalse(revocationService.revoke("jti-1", Instant.now().plusSeconds(60)));
+    }
+
+    @Test
+    void rebuild_PrunesExpiredRowsAndKeepsRecentRevocations() {
+        when(revokedRefreshTokenRepository.insertIfAbsent(eq("jti-1"), any(), any())).thenReturn(1);
+        revocationService.revoke("jti-1", Instant.now().plusSeconds(60));
+        when(revokedRefreshTokenRepository.findActiveJtis(any())).thenReturn(List.of());
+
+        revocationService.rebuild();
+
+        verify(revokedRefreshTokenRepository).deleteExpired(any());
+        assertTrue(revocationService.isRevoked("jti-1"));
+    }
+
+    @Test
+    void rebuild_DropsExpiredRecentRevocations() {
+        when(revokedRefreshTokenRepository.insertIfAbsent(eq("jti-1"), any(), any())).thenReturn(1);
+        revocationService.revoke("jti-1", Instant.now().minusSeconds(1));
+        when(revokedRefreshTokenRepository.findActiveJtis(any())).thenReturn(List.of());
+
+        revocationService.rebuild();
+
+        assertFalse(revocationService.isRevoked("jti-1"));
+    }
+}
@@ -1,12 +1,14 @@
 package com.nashtech.rookies.oam.service.impl;
 
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.response.AssetReportPageResponse;
 import com.nashtech.rookies.oam.model.*;
 import com.nashtech.rookies.oam.model.enums.AssetState;
 import com.nashtech.rookies.oam.model.enums.AssignmentStatusType;
 import com.nashtech.rookies.oam.model.enums.Gender;
 import com.nashtech.rookies.oam.model.enums.RoleName;
 import com.nashtech.rookies.oam.repository.*;
+import com.nashtech.rookies.oam.service.ReportViewService;
 import com.nashtech.rookies.oam.util.ExcelBuilder;
 import com.nashtech.rookies.oam.util.SortUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +28,7 @@ import org.springframework.data.jpa.domain.Specification;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -49,7 +52,7 @@ class ReportServiceImplTest {
     private AssignmentRepository assignmentRepo;
 
     @Mock
-    private AssignmentStatusRepository assignmentStatusRepo;
+    private ReportViewService reportViewService;
 
     @Mock
     private ExcelBuilder excelBuilder;
@@ -144,16 +147,19 @@ class ReportServiceImplTest {
         String sortOrder = "asc";
 
         Page<Report> mockPage = new PageImpl<>(List.of(mockReport), PageRequest.of(pageNo, pageSize, mockSort), 1);
+        LocalDateTime refreshedAt = LocalDateTime.of(2024, 6, 1, 8, 30);
 
         try (MockedStatic<SortUtil> sortUtilMock = mockStatic(SortUtil.class)) {
             sortUtilMock.when(() -> SortUtil.buildAssetReportSort(sortField, sortOrder)).thenReturn(mockSort);
             when(reportRepo.findAll(any(PageRequest.class))).thenReturn(mockPage);
+            when(reportViewService.getRefreshedAt()).thenReturn(Optional.of(refreshedAt));
 
             // When
-            APIPageableResponseDTO<Report> result = reportService.getReport(pageNo, pageSize, sortField, sortOrder);
+            AssetReportPageResponse result = reportService.getReport(pageNo, pageSize, sortField, sortOrder);
 
             // Then
             assertNotNull(result);
+            assertEquals(refreshedAt, result.getAsOf());
             assertEquals(1, result.getContent().size());
             assertEquals("Laptops", result.getContent().get(0).getCategory());
             assertEquals(100, result.getContent().get(0).getTotal());
@@ -324,19 +330,6 @@ class ReportServiceImplTest {
         List<Assignment> assignmentList = List.of(mockAssignment);
 
         try (MockedStatic<SortUtil> sortUtilMock = mockStatic(SortUtil.class)) {
-            // Mock assignment status lookups
-            AssignmentStatus acceptedStatus = AssignmentStatus.builder()
-                    .id(1)
-                    .name(AssignmentStatusType.ACCEPTED.getDbName())
-                    .build();
-            AssignmentStatus waitingStatus = AssignmentStatus.builder()
-                    .id(3)
-                    .name(AssignmentStatusType.WAITING_FOR_ACCEPTANCE.getDbName())
-                    .build();
-            
-            when(assignmentStatusRepo.findById(1)).thenReturn(Optional.of(acceptedStatus));
-            when(assignmentStatusRepo.findById(3)).thenReturn(Optional.of(waitingStatus));
-            
             sortUtilMock.when(() -> SortUtil.buildAssignmentReportSort(sortField, sortOrder)).thenReturn(mockSort);
             when(assignmentRepo.findAll(ArgumentMatchers.<Specification<Assignment>>any(), eq(mockSort))).thenReturn(assignmentList);
             when(excelBuilder.build(any(), eq(fileName), eq("Assignment Report"), 
@@ -369,14 +362,6 @@ class ReportServiceImplTest {
         List<Assignment> assignmentList = List.of(mockAssignment);
 
         try (MockedStatic<SortUtil> sortUtilMock = mockStatic(SortUtil.class)) {
-            // Mock assignment status lookup
-            AssignmentStatus acceptedStatus = AssignmentStatus.builder()
-                    .id(1)
-                    .name(AssignmentStatusType.ACCEPTED.getDbName())
-                    .build();
-            
-            when(assignmentStatusRepo.findById(1)).thenReturn(Optional.of(acceptedStatus));
-            
             sortUtilMock.when(() -> SortUtil.buildAssignmentReportSort(sortField, sortOrder)).thenReturn(mockSort);
             when(assignmentRepo.findAll(ArgumentMatchers.<Specification<Assignment>>any(), eq(mockSort))).thenReturn(assignmentList);
             when(excelBuilder.build(any(), anyString(), anyString(), any(), any()))
@@ -0,0 +1,142 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.repository.ReportRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportViewServiceImplTest {
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-06-01T10:00:00Z"));
+
+    private ReportViewServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReportViewServiceImpl(reportRepository, transactionManager, clock, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "DEBOUNCE_MS", 5_000L);
+        ReflectionTestUtils.setField(service, "MAX_STALENESS_MS", 300_000L);
+        service.init();
+
+        // Nothing is known about the view at startup, so the first check refreshes it
+        assertTrue(service.refreshIfDue());
+        clearInvocations(reportRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void refreshIfDue_ShouldWaitUntilWritesSettle() {
+        service.markDirty();
+        clock.advanceMillis(1_000);
+        service.markDirty();
+
+        clock.advanceMillis(4_000);
+        assertFalse(service.refreshIfDue());
+
+        clock.advanceMillis(1_000);
+        assertTrue(service.refreshIfDue());
+        verify(reportRepository).refreshView();
+        verify(reportRepository).markRefreshed(LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC));
+
+        assertFalse(service.refreshIfDue());
+    }
+
+    @Test
+    void refreshIfDue_ShouldRefreshAtStalenessBound_WhenWritesNeverSettle() {
+        for (int i = 0; i < 300; i++) {
+            service.markDirty();
+            clock.advanceMillis(1_000);
+            if (i < 299) {
+                assertFalse(service.refreshIfDue());
+            }
+        }
+
+        assertTrue(service.refreshIfDue());
+        verify(reportRepository).refreshView();
+    }
+
+    @Test
+    void markDirty_InTransaction_ShouldWaitForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.markDirty();
+        clock.advanceMillis(10_000);
+        assertFalse(service.refreshIfDue());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        clock.advanceMillis(5_000);
+        assertTrue(service.refreshIfDue());
+    }
+
+    @Test
+    void refreshIfDue_WhenRefreshFails_ShouldKeepViewDirty() {
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(reportRepository).refreshView();
+
+        service.markDirty();
+        clock.advanceMillis(5_000);
+        assertFalse(service.refreshIfDue());
+
+        assertTrue(service.refreshIfDue());
+        verify(reportRepository, times(2)).refreshView();
+        verify(reportRepository, times(1)).markRefreshed(any());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advanceMillis(long millis) {
+            instant = instant.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.nashtech.rookies.oam.service.impl;
 
 import com.nashtech.rookies.oam.constant.ErrorCode;
 import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.dto.pagination.CountMode;
 import com.nashtech.rookies.oam.dto.request.UserRequestDto;
 import com.nashtech.rookies.oam.dto.response.CurrentUserResponseDto;
 import com.nashtech.rookies.oam.dto.response.UserPageResponseDto;
@@ -15,10 +16,10 @@ import com.nashtech.rookies.oam.model.Role;
 import com.nashtech.rookies.oam.model.User;
 import com.nashtech.rookies.oam.model.enums.Gender;
 import com.nashtech.rookies.oam.model.enums.UserStatus;
-import com.nashtech.rookies.oam.repository.LocationRepository;
-import com.nashtech.rookies.oam.repository.RoleRepository;
 import com.nashtech.rookies.oam.repository.UserRepository;
+import com.nashtech.rookies.oam.repository.UsernameSequenceRepository;
 import com.nashtech.rookies.oam.service.AuthService;
+import com.nashtech.rookies.oam.service.ReferenceDataService;
 import com.nashtech.rookies.oam.service.StaffCodeGeneratorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,10 +49,10 @@ class UserServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private RoleRepository roleRepository;
+    private UsernameSequenceRepository usernameSequenceRepository;
 
     @Mock
-    private LocationRepository locationRepository;
+    private ReferenceDataService referenceDataService;
 
     @Mock
     private AuthService authService;
@@ -112,10 +113,10 @@ class UserServiceImplTest {
     @Test
     void createUser_WithValidData_ShouldCreateUserSuccessfully() {
         when(authService.getAuthenticatedUser()).thenReturn(authenticatedUser);
-        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(role));
-        when(locationRepository.findByCode("HCM")).thenReturn(Optional.of(location));
+        when(referenceDataService.findRoleByName("ADMIN")).thenReturn(Optional.of(role));
+        when(referenceDataService.findLocationByCode("HCM")).thenReturn(Optional.of(location));
         when(staffCodeGeneratorService.generateStaffCode()).thenReturn("SD0001");
-        when(userRepository.countByUsernameStartingWith("johnd")).thenReturn(0L);
+        when(usernameSequenceRepository.allocateSuffix("johnd")).thenReturn(0);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
 
         User userBeforeSave = User.builder().build();
@@ -153,9 +154,9 @@ class UserServiceImplTest {
                 .build();
 
         when(authService.getAuthenticatedUser()).thenReturn(authenticatedUser);
-        when(roleRepository.findByName("STAFF")).thenReturn(Optional.of(staffRole));
+        when(referenceDataService.findRoleByName("STAFF")).thenReturn(Optional.of(staffRole));
         when(staffCodeGeneratorService.generateStaffCode()).thenReturn("SD0001");
-        when(userRepository.countByUsernameStartingWith("johnd")).thenReturn(0L);
+        when(usernameSequenceRepository.allocateSuffix("johnd")).thenReturn(0);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
 
         User userBeforeSave = User.builder().build();
@@ -174,16 +175,16 @@ class UserServiceImplTest {
         User capturedUser = userCaptor.getValue();
 
         assertEquals(authenticatedUser.getLocation(), capturedUser.getLocation());
-        verify(locationRepository, never()).findByCode(anyString());
+        verify(referenceDataService, never()).findLocationByCode(anyString());
     }
 
     @Test
     void createUser_WithExistingUsername_ShouldAppendCounter() {
         when(authService.getAuthenticatedUser()).thenReturn(authenticatedUser);
-        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(role));
-        when(locationRepository.findByCode("HCM")).thenReturn(Optional.of(location));
+        when(referenceDataService.findRoleByName("ADMIN")).thenReturn(Optional.of(role));
+        when(referenceDataService.findLocationByCode("HCM")).thenReturn(Optional.of(location));
         when(staffCodeGeneratorService.generateStaffCode()).thenReturn("SD0001");
-        when(userRepository.countByUsernameStartingWith("johnd")).thenReturn(1L);
+        when(usernameSequenceRepository.allocateSuffix("johnd")).thenReturn(1);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
 
         User userBeforeSave = User.builder().build();
@@ -208,7 +209,7 @@ class UserServiceImplTest {
     @Test
     void createUser_WithInvalidRole_ShouldThrowResourceNotFoundException() {
         when(authService.getAuthenticatedUser()).thenReturn(authenticatedUser);
-        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.empty());
+        when(referenceDataService.findRoleByName("ADMIN")).thenReturn(Optional.empty());
 
         RoleNotFoundException exception = assertThrows(RoleNotFoundException.class,
                 () -> userService.createUser(userRequestDto));
@@ -220,8 +221,8 @@ class UserServiceImplTest {
     @Test
     void createUser_WithInvalidLocation_ShouldThrowResourceNotFoundException() {
         when(authService.getAuthenticatedUser()).thenReturn(authenticatedUser);
-        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(role));
-        when(locationRepository.findByCode("HCM")).thenReturn(Optional.empty());
+        when(referenceDataService.findRoleByName("ADMIN")).thenReturn(Optional.of(role));
+        when(referenceDataService.findLocationByCode("HCM")).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
                 () -> userService.createUser(userRequestDto));
@@ -234,10 +235,10 @@ class UserServiceImplTest {
     void generateDefaultPassword_ShouldGenerateCorrectFormat() {
 
         when(authService.getAuthenticatedUser()).thenReturn(authenticatedUser);
-        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(role));
-        when(locationRepository.findByCode("HCM")).thenReturn(Optional.of(location));
+        when(referenceDataService.findRoleByName("ADMIN")).thenReturn(Optional.of(role));
+        when(referenceDataService.findLocationByCode("HCM")).thenReturn(Optional.of(location));
         when(staffCodeGeneratorService.generateStaffCode()).thenReturn("SD0001");
-        when(userRepository.countByUsernameStartingWith("johnd")).thenReturn(0L);
+        when(usernameSequenceRepository.allocateSuffix("johnd")).thenReturn(0);
 
         ArgumentCaptor<String> passwordCaptor = ArgumentCaptor.forClass(String.class);
         when(passwordEncoder.encode(passwordCaptor.capture())).thenReturn("encodedPassword");
@@ -276,7 +277,7 @@ class UserServiceImplTest {
         when(authService.getAuthenticatedUser()).thenReturn(currentUser);
 
         // Mock RoleRepository to resolve roles (simulate validateAndResolveRoles)
-        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(role));
+        when(referenceDataService.findRoleByName("ADMIN")).thenReturn(Optional.of(role));
 
 
         // Build Specification and Pageable is created internally, we mock the userRepository call
@@ -293,7 +294,7 @@ class UserServiceImplTest {
         when(userMapper.toUserPageResponseDto(user)).thenReturn(dto);
 
         APIPageableResponseDTO<UserPageResponseDto> response = userService.getUsers(
-                pageNo, pageSize, search, sortField, sortOrder, roles, null);
+                pageNo, pageSize, search, sortField, sortOrder, roles, null, null, CountMode.EXACT);
 
         assertNotNull(response);
         assertEquals(1, response.getContent().size());
@@ -322,18 +323,26 @@ class UserServiceImplTest {
                 Role.builder().name("ADMIN").build(),
                 Role.builder().name("STAFF").build()
         );
-        when(roleRepository.findAll()).thenReturn(allRoles);
+        when(referenceDataService.getRoles()).thenReturn(allRoles);
 
         Pageable pageable = PageRequest.of(0, 20, Sort.by("lastName").descending());
         Page<User> emptyPage = new PageImpl<>(List.of(), pageable, 0);
         when(userRepository.findAll(anySpecification(), any(Pageable.class))).thenReturn(emptyPage);
 
         APIPageableResponseDTO<UserPageResponseDto> response = userService.getUsers(
-                0, 20, "", "lastName", "DESC", null, null);
+                0, 20, "", "lastName", "DESC", null, null, null, CountMode.EXACT);
 
         assertNotNull(response);
         assertTrue(response.getContent().isEmpty());
-        verify(roleRepository).findAll();
+        verify(referenceDataService).getRoles();
+    }
+
+    @Test
+    void getUsers_InCursorModeSortedByType_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.getUsers(0, 20, null, "type", "ASC", null, null, "", CountMode.EXACT));
+
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -346,7 +355,7 @@ class UserServiceImplTest {
         when(authService.getAuthenticatedUser()).thenReturn(currentUser);
 
         InternalErrorException ex = assertThrows(InternalErrorException.class,
-                () -> userService.getUsers(0, 20, null, null, null, List.of("ADMIN"),null));
+                () -> userService.getUsers(0, 20, null, null, null, List.of("ADMIN"), null, null, CountMode.EXACT));
 
         assertEquals(ErrorCode.LOCATION_NOT_FOUND.getMessage(), ex.getMessage());
     }
@@ -359,14 +368,14 @@ class UserServiceImplTest {
                 .build();
 
         when(authService.getAuthenticatedUser()).thenReturn(currentUser);
-        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(role));
+        when(referenceDataService.findRoleByName("ADMIN")).thenReturn(Optional.of(role));
 
         Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "firstName"));
         Page<User> emptyPage = new PageImpl<>(List.of(), pageable, 0);
         when(userRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(emptyPage);
 
         APIPageableResponseDTO<UserPageResponseDto> response = userService.getUsers(
-                0, 20, null, "fullName", "DESC", List.of("ADMIN"),null);
+                0, 20, null, "fullName", "DESC", List.of("ADMIN"), null, null, CountMode.EXACT);
 
         assertNotNull(response);
         verify(userRepository).findAll(any(Specification.class), any(Pageable.class));
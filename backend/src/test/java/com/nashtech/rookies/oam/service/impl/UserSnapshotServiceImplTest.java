@@ -0,0 +1,124 @@
+package com.nashtech.rookies.oam.service.impl;
+
+import com.nashtech.rookies.oam.exception.UserNotFoundException;
+import com.nashtech.rookies.oam.model.CustomUserDetails;
+import com.nashtech.rookies.oam.model.Location;
+import com.nashtech.rookies.oam.model.Role;
+import com.nashtech.rookies.oam.model.User;
+import com.nashtech.rookies.oam.model.UserSnapshot;
+import com.nashtech.rookies.oam.model.enums.UserStatus;
+import com.nashtech.rookies.oam.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSnapshotServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserSnapshotServiceImpl userSnapshotService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userSnapshotService, "USER_SNAPSHOT_CACHE_MAX_SIZE", 100);
+        ReflectionTestUtils.setField(userSnapshotService, "USER_SNAPSHOT_CACHE_TTL_MS", 1000 * 60);
+        userSnapshotService.init();
+
+        Role role = new Role();
+        role.setName("STAFF");
+
+        Location location = new Location();
+        location.setId(UUID.randomUUID());
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("johnd");
+        user.setStatus(UserStatus.ACTIVE);
+        user.setRoles(Set.of(role));
+        user.setLocation(location);
+        user.setVersion(3L);
+    }
+
+    @Test
+    void findByUsername_BuildsSnapshotFromUser() {
+        when(userRepository.findByUsername("johnd")).thenReturn(Optional.of(user));
+
+        UserSnapshot snapshot = userSnapshotService.findByUsername("johnd").orElseThrow();
+
+        assertEquals(user.getId(), snapshot.id());
+        assertEquals(user.getLocation().getId(), snapshot.locationId());
+        assertEquals(UserStatus.ACTIVE, snapshot.status());
+        assertEquals(List.of("STAFF"), snapshot.roles());
+        assertEquals(3L, snapshot.version());
+    }
+
+    @Test
+    void findByUsername_QueriesRepositoryOnceWhileCached() {
+        when(userRepository.findByUsername("johnd")).thenReturn(Optional.of(user));
+
+        userSnapshotService.findByUsername("johnd");
+        userSnapshotService.findByUsername("johnd");
+
+        verify(userRepository, times(1)).findByUsername("johnd");
+    }
+
+    @Test
+    void findByUsername_ReloadsAfterEvict() {
+        when(userRepository.findByUsername("johnd")).thenReturn(Optional.of(user));
+
+        userSnapshotService.findByUsername("johnd");
+        userSnapshotService.evict("johnd");
+        userSnapshotService.findByUsername("johnd");
+
+        verify(userRepository, times(2)).findByUsername("johnd");
+    }
+
+    @Test
+    void findByUsername_ReturnsEmptyWhenUserMissing() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertTrue(userSnapshotService.findByUsername("ghost").isEmpty());
+    }
+
+    @Test
+    void principal_LoadsUserOnlyWhenRequested() {
+        when(userRepository.findByUsername("johnd")).thenReturn(Optional.of(user));
+        UserSnapshot snapshot = userSnapshotService.findByUsername("johnd").orElseThrow();
+
+        CustomUserDetails principal = new CustomUserDetails(snapshot, () -> userSnapshotService.loadUser(snapshot));
+
+        assertEquals("johnd", principal.getUsername());
+        assertEquals(UserStatus.ACTIVE, principal.getStatus());
+        verify(userRepository, never()).findById(any());
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        assertSame(user, principal.getUser());
+        assertSame(user, principal.getUser());
+        verify(userRepository, times(1)).findById(user.getId());
+    }
+
+    @Test
+    void loadUser_ThrowsWhenUserMissing() {
+        UserSnapshot snapshot = UserSnapshot.from(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> userSnapshotService.loadUser(snapshot));
+    }
+}
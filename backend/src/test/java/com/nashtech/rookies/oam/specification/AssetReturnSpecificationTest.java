@@ -61,12 +61,16 @@ class AssetReturnSpecificationTest {
         when(assetJoin.<String>get("code")).thenReturn(codePath);
         when(assetJoin.<String>get("name")).thenReturn(namePath);
         when(root.<String>get("createdBy")).thenReturn(createdByPath);
-        when(cb.lower(codePath)).thenReturn(lowerCode);
-        when(cb.lower(namePath)).thenReturn(lowerName);
-        when(cb.lower(createdByPath)).thenReturn(lowerCreatedBy);
-        when(cb.like(lowerCode, like)).thenReturn(p1);
-        when(cb.like(lowerName, like)).thenReturn(p2);
-        when(cb.like(lowerCreatedBy, like)).thenReturn(p3);
+        when(cb.function("search_normalize", String.class, codePath)).thenReturn(lowerCode);
+        when(cb.function("search_normalize", String.class, namePath)).thenReturn(lowerName);
+        when(cb.function("search_normalize", String.class, createdByPath)).thenReturn(lowerCreatedBy);
+        Expression<String> literal = mock(Expression.class);
+        Expression<String> pattern = mock(Expression.class);
+        when(cb.literal(like)).thenReturn(literal);
+        when(cb.function("search_normalize", String.class, literal)).thenReturn(pattern);
+        when(cb.like(lowerCode, pattern)).thenReturn(p1);
+        when(cb.like(lowerName, pattern)).thenReturn(p2);
+        when(cb.like(lowerCreatedBy, pattern)).thenReturn(p3);
         when(cb.or(p1, p2, p3)).thenReturn(orPredicate);
 
         Predicate result = AssetReturnSpecification
@@ -95,6 +95,14 @@ class AssetSpecificationTest {
         assertThat(results.getFirst().getName()).isEqualTo("Desk");
     }
 
+    @Test
+    void searchByCodeOrName_ShouldIgnoreCaseAndSurroundingSpaces() {
+        Specification<Asset> spec = AssetSpecification.searchByCodeOrName("  DeSK ");
+        List<Asset> results = assetRepository.findAll(spec);
+
+        assertThat(results).extracting(Asset::getName).containsExactly("Desk");
+    }
+
     @Test
     void filterByCategories_ShouldReturnMatchingAssets() {
         Specification<Asset> spec = AssetSpecification.filterByCategories(List.of("Electronics"));
@@ -75,15 +75,19 @@ class AssignmentSpecificationTest {
         when(assetJoin.<String>get("name")).thenReturn(namePath);
         when(userJoin.<String>get("username")).thenReturn(usernamePath);
 
-        // Set up lower(...) expressions
-        when(cb.lower(codePath)).thenReturn(lowerCode);
-        when(cb.lower(namePath)).thenReturn(lowerName);
-        when(cb.lower(usernamePath)).thenReturn(lowerUsername);
+        // Set up normalized search expressions
+        when(cb.function("search_normalize", String.class, codePath)).thenReturn(lowerCode);
+        when(cb.function("search_normalize", String.class, namePath)).thenReturn(lowerName);
+        when(cb.function("search_normalize", String.class, usernamePath)).thenReturn(lowerUsername);
+        Expression<String> literal = mock(Expression.class);
+        Expression<String> pattern = mock(Expression.class);
+        when(cb.literal(like)).thenReturn(literal);
+        when(cb.function("search_normalize", String.class, literal)).thenReturn(pattern);
 
         // Set up like(...) predicates
-        when(cb.like(lowerCode, like)).thenReturn(p1);
-        when(cb.like(lowerName, like)).thenReturn(p2);
-        when(cb.like(lowerUsername, like)).thenReturn(p3);
+        when(cb.like(lowerCode, pattern)).thenReturn(p1);
+        when(cb.like(lowerName, pattern)).thenReturn(p2);
+        when(cb.like(lowerUsername, pattern)).thenReturn(p3);
 
         // Set up or(...) predicate
         when(cb.or(p1, p2, p3)).thenReturn(orPredicate);
@@ -99,36 +103,40 @@ class AssignmentSpecificationTest {
     }
 
     @Test
-    void filterByStates_shouldReturnNull_whenEmptyOrNull() {
-        assertNull(AssignmentSpecification.filterByStates(null).toPredicate(root, query, cb));
-        assertNull(AssignmentSpecification.filterByStates(Collections.emptyList()).toPredicate(root, query, cb));
+    void filterByStatusIds_shouldReturnNull_whenNull() {
+        assertNull(AssignmentSpecification.filterByStatusIds(null).toPredicate(root, query, cb));
     }
 
     @Test
-    void filterByStates_shouldBuildPredicate() {
-        List<String> states = Arrays.asList("Accepted", "Declined");
+    void filterByStatusIds_shouldMatchNothing_whenEmpty() {
+        Predicate disjunction = mock(Predicate.class);
+        when(cb.disjunction()).thenReturn(disjunction);
+
+        assertEquals(disjunction, AssignmentSpecification.filterByStatusIds(Collections.emptyList())
+                .toPredicate(root, query, cb));
+    }
+
+    @Test
+    void filterByStatusIds_shouldCompareForeignKeyWithoutJoin() {
+        List<Integer> statusIds = Arrays.asList(2, 3);
 
-        // Mock path and subpath
         @SuppressWarnings("unchecked")
         Path<Object> statusPath = mock(Path.class);
         @SuppressWarnings("unchecked")
-        Path<String> namePath = mock(Path.class);
+        Path<Integer> idPath = mock(Path.class);
 
-        // status.get("name") -> namePath
         when(root.get("status")).thenReturn(statusPath);
-        when(statusPath.<String>get("name")).thenReturn(namePath);
+        when(statusPath.<Integer>get("id")).thenReturn(idPath);
 
-        // namePath.in(states) returns a predicate
         Predicate inPredicate = mock(Predicate.class);
-        when(namePath.in(states)).thenReturn(inPredicate);
+        when(idPath.in(statusIds)).thenReturn(inPredicate);
 
-        // Call the actual method
         Predicate result = AssignmentSpecification
-                .filterByStates(states)
+                .filterByStatusIds(statusIds)
                 .toPredicate(root, query, cb);
 
-        // Validate
         assertEquals(inPredicate, result);
+        verify(root, never()).join("status");
     }
 
     @Test
@@ -262,7 +270,7 @@ class AssignmentSpecificationTest {
     @Test
     void build_shouldChainSpecifications() {
         String search = "laptop";
-        List<String> states = List.of("Accepted");
+        List<Integer> statusIds = List.of(2);
         LocalDate fromDate = LocalDate.of(2025, 6, 1);
         LocalDate toDate = LocalDate.of(2025, 6, 30);
         UUID userId = UUID.randomUUID();
@@ -283,33 +291,37 @@ class AssignmentSpecificationTest {
         when(assetJoin.<String>get("name")).thenReturn(namePath);
         when(userJoin.<String>get("username")).thenReturn(usernamePath);
 
-        // Expressions for lower(...)
+        // Normalized search expressions
         Expression<String> lowerCode = mock(Expression.class);
         Expression<String> lowerName = mock(Expression.class);
         Expression<String> lowerUsername = mock(Expression.class);
 
-        when(cb.lower(codePath)).thenReturn(lowerCode);
-        when(cb.lower(namePath)).thenReturn(lowerName);
-        when(cb.lower(usernamePath)).thenReturn(lowerUsername);
+        when(cb.function("search_normalize", String.class, codePath)).thenReturn(lowerCode);
+        when(cb.function("search_normalize", String.class, namePath)).thenReturn(lowerName);
+        when(cb.function("search_normalize", String.class, usernamePath)).thenReturn(lowerUsername);
+        Expression<String> literal = mock(Expression.class);
+        Expression<String> pattern = mock(Expression.class);
+        when(cb.literal("%laptop%")).thenReturn(literal);
+        when(cb.function("search_normalize", String.class, literal)).thenReturn(pattern);
 
         Predicate p1 = mock(Predicate.class);
         Predicate p2 = mock(Predicate.class);
         Predicate p3 = mock(Predicate.class);
         Predicate orPredicate = mock(Predicate.class);
 
-        when(cb.like(lowerCode, "%laptop%")).thenReturn(p1);
-        when(cb.like(lowerName, "%laptop%")).thenReturn(p2);
-        when(cb.like(lowerUsername, "%laptop%")).thenReturn(p3);
+        when(cb.like(lowerCode, pattern)).thenReturn(p1);
+        when(cb.like(lowerName, pattern)).thenReturn(p2);
+        when(cb.like(lowerUsername, pattern)).thenReturn(p3);
         when(cb.or(p1, p2, p3)).thenReturn(orPredicate);
 
         Path<Object> statusPath = mock(Path.class);
-        Path<String> statusNamePath = mock(Path.class);
+        Path<Integer> statusIdPath = mock(Path.class);
 
         when(root.<Object>get("status")).thenReturn(statusPath);
-        when(statusPath.<String>get("name")).thenReturn(statusNamePath);
+        when(statusPath.<Integer>get("id")).thenReturn(statusIdPath);
 
         Predicate inPredicate = mock(Predicate.class);
-        when(statusNamePath.in(states)).thenReturn(inPredicate);
+        when(statusIdPath.in(statusIds)).thenReturn(inPredicate);
 
         Path<LocalDate> datePath = mock(Path.class);
         Path<Object> userPath = mock(Path.class);
@@ -332,7 +344,7 @@ class AssignmentSpecificationTest {
 
         // Build final predicate
         Predicate finalPredicate = AssignmentSpecification
-                .build(search, states, fromDate, toDate, userId, any())
+                .build(search, statusIds, fromDate, toDate, userId, any())
                 .toPredicate(root, query, cb);
 
         assertNotNull(finalPredicate);
@@ -369,17 +381,21 @@ class AssignmentSpecificationTest {
         Expression<String> lowerCode = mock(Expression.class);
         Expression<String> lowerName = mock(Expression.class);
         Expression<String> lowerUsername = mock(Expression.class);
-        when(cb.lower(codePath)).thenReturn(lowerCode);
-        when(cb.lower(namePath)).thenReturn(lowerName);
-        when(cb.lower(usernamePath)).thenReturn(lowerUsername);
+        when(cb.function("search_normalize", String.class, codePath)).thenReturn(lowerCode);
+        when(cb.function("search_normalize", String.class, namePath)).thenReturn(lowerName);
+        when(cb.function("search_normalize", String.class, usernamePath)).thenReturn(lowerUsername);
+        Expression<String> literal = mock(Expression.class);
+        Expression<String> pattern = mock(Expression.class);
+        when(cb.literal("%laptop%")).thenReturn(literal);
+        when(cb.function("search_normalize", String.class, literal)).thenReturn(pattern);
 
         Predicate p1 = mock(Predicate.class);
         Predicate p2 = mock(Predicate.class);
         Predicate p3 = mock(Predicate.class);
         Predicate orPredicate = mock(Predicate.class);
-        when(cb.like(lowerCode, "%laptop%")).thenReturn(p1);
-        when(cb.like(lowerName, "%laptop%")).thenReturn(p2);
-        when(cb.like(lowerUsername, "%laptop%")).thenReturn(p3);
+        when(cb.like(lowerCode, pattern)).thenReturn(p1);
+        when(cb.like(lowerName, pattern)).thenReturn(p2);
+        when(cb.like(lowerUsername, pattern)).thenReturn(p3);
         when(cb.or(p1, p2, p3)).thenReturn(orPredicate);
 
         // Test with only search parameter (others are null)
@@ -0,0 +1,117 @@
+package com.nashtech.rookies.oam.specification;
+
+import com.nashtech.rookies.oam.config.AuditorAwareProvider;
+import com.nashtech.rookies.oam.config.AuditorAwareTestConfig;
+import com.nashtech.rookies.oam.config.SpringContext;
+import com.nashtech.rookies.oam.dto.pagination.APIPageableResponseDTO;
+import com.nashtech.rookies.oam.model.Asset;
+import com.nashtech.rookies.oam.model.Category;
+import com.nashtech.rookies.oam.model.Location;
+import com.nashtech.rookies.oam.model.enums.AssetState;
+import com.nashtech.rookies.oam.repository.AssetRepository;
+import com.nashtech.rookies.oam.repository.CategoryRepository;
+import com.nashtech.rookies.oam.repository.LocationRepository;
+import com.nashtech.rookies.oam.util.KeysetPageUtil;
+import com.nashtech.rookies.oam.util.SortUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({SpringContext.class, AuditorAwareTestConfig.class, AuditorAwareProvider.class})
+class KeysetSpecificationTest {
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    private Specification<Asset> inLocation;
+
+    @BeforeEach
+    void setUp() {
+        Location location = locationRepository.save(Location.builder()
+                .code("LOC001")
+                .name("Test Location")
+                .build());
+
+        Category category = categoryRepository.save(Category.builder()
+                .name("Electronics")
+                .prefix("EL")
+                .build());
+
+        List<String> names = List.of("Monitor", "Laptop", "Laptop", "Keyboard", "Mouse");
+        for (int i = 0; i < names.size(); i++) {
+            assetRepository.save(Asset.builder()
+                    .code("EL00000" + i)
+                    .name(names.get(i))
+                    .specification("spec")
+                    .installedDate(LocalDate.now())
+                    .state(AssetState.AVAILABLE)
+                    .category(category)
+                    .location(location)
+                    .build());
+        }
+
+        inLocation = AssetSpecification.inLocation(location);
+    }
+
+    @Test
+    void fetch_WalksForwardAndBackwardWithoutGapsOrDuplicates() {
+        Sort sort = SortUtil.buildAssetSort("name", "asc");
+
+        APIPageableResponseDTO<String> first = fetch(sort, "");
+        APIPageableResponseDTO<String> second = fetch(sort, first.getNextCursor());
+        APIPageableResponseDTO<String> third = fetch(sort, second.getNextCursor());
+
+        assertThat(first.getContent()).containsExactly("Keyboard", "Laptop");
+        assertThat(first.getPrevCursor()).isNull();
+        assertThat(second.getContent()).containsExactly("Laptop", "Monitor");
+        assertThat(third.getContent()).containsExactly("Mouse");
+        assertThat(third.getNextCursor()).isNull();
+        assertThat(third.getPageable().isLast()).isTrue();
+
+        APIPageableResponseDTO<String> back = fetch(sort, third.getPrevCursor());
+        assertThat(back.getContent()).containsExactly("Laptop", "Monitor");
+        assertThat(back.getNextCursor()).isNotNull();
+        assertThat(back.getPrevCursor()).isNotNull();
+    }
+
+    @Test
+    void fetch_SupportsDescendingSort() {
+        Sort sort = SortUtil.buildAssetSort("name", "desc");
+
+        APIPageableResponseDTO<String> first = fetch(sort, "");
+        APIPageableResponseDTO<String> second = fetch(sort, first.getNextCursor());
+
+        assertThat(first.getContent()).containsExactly("Mouse", "Monitor");
+        assertThat(second.getContent()).containsExactly("Laptop", "Laptop");
+    }
+
+    @Test
+    void fetch_RejectsCursorFromAnotherSort() {
+        String cursor = fetch(SortUtil.buildAssetSort("name", "asc"), "").getNextCursor();
+        Sort otherSort = SortUtil.buildAssetSort("code", "asc");
+
+        assertThatThrownBy(() -> fetch(otherSort, cursor))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private APIPageableResponseDTO<String> fetch(Sort sort, String cursor) {
+        return KeysetPageUtil.fetch(assetRepository, inLocation, sort, cursor, 2, List.of("category"), Asset::getName);
+    }
+}
@@ -124,62 +124,40 @@ class UserSpecificationTest {
         Path<String> firstNamePath = mock(Path.class);
         Path<String> lastNamePath = mock(Path.class);
         Path<String> staffCodePath = mock(Path.class);
-        Path<String> lowerFirstName = mock(Path.class);
-        Path<String> lowerLastName = mock(Path.class);
-        Path<String> lowerStaffCode = mock(Path.class);
-        Path<String> concat1 = mock(Path.class);
-        Path<String> fullName = mock(Path.class);
+        Expression<String> normalizedStaffCode = mock(Expression.class);
+        Expression<String> fullName = mock(Expression.class);
+        Expression<String> literal = mock(Expression.class);
+        Expression<String> pattern = mock(Expression.class);
 
-        // Allow get("...") multiple times
         when(root.<String>get("firstName")).thenReturn(firstNamePath);
         when(root.<String>get("lastName")).thenReturn(lastNamePath);
         when(root.<String>get("staffCode")).thenReturn(staffCodePath);
 
-        // Lowercase mocks
-        when(cb.lower(firstNamePath)).thenReturn(lowerFirstName);
-        when(cb.lower(lastNamePath)).thenReturn(lowerLastName);
-        when(cb.lower(staffCodePath)).thenReturn(lowerStaffCode);
-
-        // Concat + lower(fullName)
-        when(cb.concat(firstNamePath, " ")).thenReturn(concat1);
-        when(cb.concat(concat1, lastNamePath)).thenReturn(fullName);
-        when(cb.lower(fullName)).thenReturn(fullName);
+        // Normalized column and pattern expressions
+        when(cb.function("search_normalize", String.class, staffCodePath)).thenReturn(normalizedStaffCode);
+        when(cb.function("search_normalize_full_name", String.class, firstNamePath, lastNamePath)).thenReturn(fullName);
+        when(cb.literal(likePattern)).thenReturn(literal);
+        when(cb.function("search_normalize", String.class, literal)).thenReturn(pattern);
 
         // like predicates
         Predicate p1 = mock(Predicate.class);
         Predicate p2 = mock(Predicate.class);
-        Predicate p3 = mock(Predicate.class);
-        Predicate p4 = mock(Predicate.class);
-        when(cb.like(lowerFirstName, likePattern)).thenReturn(p1);
-        when(cb.like(lowerLastName, likePattern)).thenReturn(p2);
-        when(cb.like(lowerStaffCode, likePattern)).thenReturn(p3);
-        when(cb.like(fullName, likePattern)).thenReturn(p4);
+        when(cb.like(normalizedStaffCode, pattern)).thenReturn(p1);
+        when(cb.like(fullName, pattern)).thenReturn(p2);
 
         // OR predicate
         Predicate finalPredicate = mock(Predicate.class);
-        when(cb.or(p1, p2, p3, p4)).thenReturn(finalPredicate);
+        when(cb.or(p1, p2)).thenReturn(finalPredicate);
 
         // Execute
         Specification<User> spec = UserSpecification.searchByNameOrStaffCode(search);
         Predicate result = spec.toPredicate(root, query, cb);
 
-        // Verify no unnecessary interactions
-        verify(root, atLeastOnce()).get("firstName");
-        verify(root, atLeastOnce()).get("lastName");
-        verify(root).get("staffCode");
-
-        verify(cb).lower(firstNamePath);
-        verify(cb).lower(lastNamePath);
-        verify(cb).lower(staffCodePath);
-        verify(cb).concat(firstNamePath, " ");
-        verify(cb).concat(concat1, lastNamePath);
-        verify(cb).lower(fullName);
-
-        verify(cb).like(lowerFirstName, likePattern);
-        verify(cb).like(lowerLastName, likePattern);
-        verify(cb).like(lowerStaffCode, likePattern);
-        verify(cb).like(fullName, likePattern);
-        verify(cb).or(p1, p2, p3, p4);
+        verify(cb).function("search_normalize_full_name", String.class, firstNamePath, lastNamePath);
+        verify(cb).like(normalizedStaffCode, pattern);
+        verify(cb).like(fullName, pattern);
+        verify(cb).or(p1, p2);
+        verify(cb, never()).lower(any());
 
         assertEquals(finalPredicate, result);
     }
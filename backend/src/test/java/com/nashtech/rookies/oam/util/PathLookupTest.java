@@ -0,0 +1,42 @@
+package com.nashtech.rookies.oam.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PathLookupTest {
+
+    private static final String[] PATTERNS = {
+            "/api/v1/auth/**",
+            "/swagger-ui.html",
+            "/api/v1/assets/{id}/history",
+    };
+
+    private final PathLookup lookup = PathLookup.of(PATTERNS);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/v1/auth",
+            "/api/v1/auth/",
+            "/api/v1/auth/login",
+            "/api/v1/auth/token/refresh",
+            "/api/v1/authx",
+            "/api/v1/aut",
+            "/swagger-ui.html",
+            "/swagger-ui.htm",
+            "/api/v1/assets/42/history",
+            "/api/v1/assets/42",
+            "/",
+    })
+    void matches_AgreesWithPathPattern(String path) {
+        boolean expected = false;
+        for (String pattern : PATTERNS) {
+            expected |= PathPatternParser.defaultInstance.parse(pattern).matches(PathContainer.parsePath(path));
+        }
+
+        assertEquals(expected, lookup.matches(path));
+    }
+}
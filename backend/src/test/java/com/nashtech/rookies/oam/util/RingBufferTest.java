@@ -0,0 +1,65 @@
+package com.nashtech.rookies.oam.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTest {
+
+    @Test
+    void constructor_RoundsCapacityUpToPowerOfTwo() {
+        assertEquals(8, new RingBuffer<String>(5).capacity());
+        assertEquals(8, new RingBuffer<String>(8).capacity());
+    }
+
+    @Test
+    void offer_RejectsWhenFullAndPollReturnsInOrder() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(2);
+
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+        assertFalse(buffer.offer(3));
+        assertEquals(2, buffer.size());
+
+        assertEquals(1, buffer.poll());
+        assertTrue(buffer.offer(3));
+        assertEquals(2, buffer.poll());
+        assertEquals(3, buffer.poll());
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    void offer_ConcurrentProducersLoseNoAcceptedElements() throws InterruptedException {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4096);
+        int producers = 4;
+        int perProducer = 1000;
+        CountDownLatch done = new CountDownLatch(producers);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        assertTrue(buffer.offer(base + i));
+                    }
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        Integer value;
+        while ((value = buffer.poll()) != null) {
+            seen.add(value);
+        }
+        assertEquals(producers * perProducer, seen.size());
+    }
+}
@@ -0,0 +1,42 @@
+package com.nashtech.rookies.oam.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryConsume_AllowsUpToCapacityThenRefills() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+
+        assertTrue(bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0));
+        assertFalse(bucket.tryConsume(0));
+        assertEquals(SECOND, bucket.nanosUntilNextToken(0), SECOND / 1000);
+
+        assertTrue(bucket.tryConsume(2 * SECOND));
+    }
+
+    @Test
+    void tryConsume_NeverExceedsCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+
+        assertTrue(bucket.tryConsume(100 * SECOND));
+        assertTrue(bucket.tryConsume(100 * SECOND));
+        assertFalse(bucket.tryConsume(100 * SECOND));
+    }
+
+    @Test
+    void isIdle_OnlyWhenFullAndUntouched() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+        bucket.tryConsume(SECOND);
+
+        assertFalse(bucket.isIdle(SECOND, 0));
+        assertTrue(bucket.isIdle(10 * SECOND, 5 * SECOND));
+    }
+}